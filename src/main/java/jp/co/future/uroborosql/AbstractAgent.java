@@ -16,9 +16,12 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -43,6 +46,7 @@ import jp.co.future.uroborosql.fluent.SqlUpdate;
 import jp.co.future.uroborosql.mapping.EntityHandler;
 import jp.co.future.uroborosql.mapping.TableMetadata;
 import jp.co.future.uroborosql.parser.ContextTransformer;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 import jp.co.future.uroborosql.parser.SqlParser;
 import jp.co.future.uroborosql.parser.SqlParserImpl;
 import jp.co.future.uroborosql.store.SqlManager;
@@ -252,19 +256,18 @@ public abstract class AbstractAgent implements SqlAgent {
 			}
 		}
 		originalSql = getSqlFilterManager().doTransformSql(sqlContext, originalSql);
-		sqlContext.setSql(originalSql);
+		sqlContext.setFilteredSql(originalSql);
 
-		// SQL-IDの付与
+		// SQL-IDは解析結果を共有するため、SQLの解析後に実行時SQLへ付与する
+		String sqlId = null;
 		if (originalSql.contains(keySqlId)) {
-			String sqlId = sqlContext.getSqlId();
+			sqlId = sqlContext.getSqlId();
 			if (StringUtils.isEmpty(sqlId)) {
 				sqlId = sqlContext.getSqlName();
 			}
 			if (StringUtils.isEmpty(sqlId)) {
 				sqlId = String.valueOf(originalSql.hashCode());
 			}
-
-			originalSql = originalSql.replace(keySqlId, sqlId);
 		}
 
 		// ユーザファンクション登録
@@ -286,10 +289,24 @@ public abstract class AbstractAgent implements SqlAgent {
 		if (StringUtils.isEmpty(sqlContext.getExecutableSql())) {
 			boolean outputBindComment = (boolean) sqlContext.contextAttrs().getOrDefault(
 					CTX_ATTR_KEY_OUTPUT_BIND_COMMENT, true);
-			SqlParser sqlParser = new SqlParserImpl(originalSql, sqlConfig.getDialect().isRemoveTerminator(),
-					outputBindComment);
-			ContextTransformer contextTransformer = sqlParser.parse();
+			ContextTransformer contextTransformer = null;
+			ContextTransformerCache cache = coverageHandlerRef.get() == null && getSqlManager() != null
+					? getSqlManager().getContextTransformerCache()
+					: null;
+			if (cache != null) {
+				// 解析結果はキャッシュから取得する
+				contextTransformer = cache.get(sqlContext.getSqlName(), originalSql,
+						sqlConfig.getDialect().isRemoveTerminator(), outputBindComment);
+			} else {
+				// SQLカバレッジ取得時はノードに通過情報を保持するため、都度解析を行う（キャッシュを持たないSQL管理クラスの場合も同様）
+				SqlParser sqlParser = new SqlParserImpl(originalSql, sqlConfig.getDialect().isRemoveTerminator(),
+						outputBindComment);
+				contextTransformer = sqlParser.parse();
+			}
 			contextTransformer.transform(sqlContext);
+			if (sqlId != null) {
+				sqlContext.setExecutableSql(sqlContext.getExecutableSql().replace(keySqlId, sqlId));
+			}
 
 			if (coverageHandlerRef.get() != null) {
 				// SQLカバレッジ用のログを出力する
@@ -596,6 +613,41 @@ public abstract class AbstractAgent implements SqlAgent {
 		return new ProcedureImpl(this, contextWith(sql));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgent#findAsync(java.lang.Class, java.lang.Object[])
+	 */
+	@Override
+	public <E> CompletableFuture<Optional<E>> findAsync(final Class<? extends E> entityType, final Object... keys) {
+		return supplyAsync(this, agent -> agent.<E> find(entityType, keys));
+	}
+
+	/**
+	 * SqlAgentを生成して処理を非同期に実行する<br>
+	 * 処理は{@link SqlAgentFactory#getAsyncExecutor()}で実行し、生成したSqlAgentは処理の終了時にクローズする。
+	 * そのため、処理は呼び出し元のSqlAgentとは別のコネクション、別のトランザクションで実行される。
+	 * 生成したSqlAgentには、呼び出し時点での呼び出し元SqlAgentのフェッチサイズとクエリータイムアウト制限値を引き継ぐ
+	 *
+	 * @param <R> 処理結果の型
+	 * @param caller 呼び出し元のSqlAgent
+	 * @param task 生成したSqlAgentを使用する処理
+	 * @return 処理結果を返すCompletableFuture
+	 */
+	static <R> CompletableFuture<R> supplyAsync(final SqlAgent caller, final Function<SqlAgent, R> task) {
+		SqlConfig sqlConfig = caller.getSqlConfig();
+		// 呼び出し元のスレッドで設定値を取得し、実行するスレッドで生成したSqlAgentに設定する
+		int fetchSize = caller.getFetchSize();
+		int queryTimeout = caller.getQueryTimeout();
+		return CompletableFuture.supplyAsync(() -> {
+			try (SqlAgent agent = sqlConfig.agent()) {
+				agent.setFetchSize(fetchSize);
+				agent.setQueryTimeout(queryTimeout);
+				return task.apply(agent);
+			}
+		}, sqlConfig.getSqlAgentFactory().getAsyncExecutor());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -15,7 +15,7 @@ import java.util.function.Supplier;
 
 import jp.co.future.uroborosql.context.SqlContext;
 import jp.co.future.uroborosql.fluent.SqlFluent;
-import jp.co.future.uroborosql.utils.BeanAccessor;
+import jp.co.future.uroborosql.utils.PropertyAccessor;
 
 abstract class AbstractSqlFluent<T extends SqlFluent<T>> implements SqlFluent<T> {
 	protected final SqlAgent agent;
@@ -107,8 +107,8 @@ abstract class AbstractSqlFluent<T extends SqlFluent<T>> implements SqlFluent<T>
 	@Override
 	public <V> T paramBean(final V bean) {
 		if (bean != null) {
-			BeanAccessor.fields(bean.getClass()).stream()
-					.forEach(f -> param(f.getName(), BeanAccessor.value(f, bean)));
+			PropertyAccessor.fieldsOf(bean.getClass())
+					.forEach(f -> param(f.getName(), f.get(bean)));
 		}
 		return (T) this;
 	}
@@ -336,4 +336,16 @@ abstract class AbstractSqlFluent<T extends SqlFluent<T>> implements SqlFluent<T>
 		context().setSqlId(sqlId);
 		return (T) this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlFluent#reset()
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T reset() {
+		context().reset();
+		return (T) this;
+	}
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import jp.co.future.uroborosql.config.SqlConfig;
@@ -340,6 +341,18 @@ public interface SqlAgent extends AutoCloseable, TransactionManager {
 	 */
 	<E> Optional<E> find(Class<? extends E> entityType, Object... keys);
 
+	/**
+	 * キーを指定したエンティティの1件取得を非同期に実行<br>
+	 * 検索は{@link SqlAgentFactory#getAsyncExecutor()}で新たに生成したSqlAgentを使って実行するため、
+	 * このSqlAgentとは別のコネクション、別のトランザクションとなり、このSqlAgentで未コミットの更新内容は参照できない
+	 *
+	 * @param entityType エンティティタイプ
+	 * @param keys キー
+	 * @param <E> エンティティ型
+	 * @return SQL実行結果を返すCompletableFuture
+	 */
+	<E> CompletableFuture<Optional<E>> findAsync(Class<? extends E> entityType, Object... keys);
+
 	/**
 	 * エンティティを指定して Query処理の実行
 	 *
@@ -7,6 +7,8 @@
 package jp.co.future.uroborosql;
 
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import jp.co.future.uroborosql.config.SqlConfig;
 import jp.co.future.uroborosql.connection.ConnectionSupplier;
@@ -15,6 +17,7 @@ import jp.co.future.uroborosql.exception.UroborosqlTransactionException;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.mapping.EntityHandler;
 import jp.co.future.uroborosql.store.SqlManager;
+import jp.co.future.uroborosql.tx.StatementCacheStatistics;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
 /**
@@ -86,6 +89,12 @@ public interface SqlAgentFactory {
 	 */
 	String PROPS_KEY_DEFAULT_FOR_UPDATE_WAIT_SECONDS = "defaultForUpdateWaitSeconds";
 
+	/**
+	 * プロパティ:トランザクションごとにキャッシュするPreparedStatementの最大件数<br>
+	 * デフォルトは<code>0</code>（キャッシュしない）
+	 */
+	String PROPS_KEY_STATEMENT_CACHE_SIZE = "statementCacheSize";
+
 	/**
 	 * SQL実行クラス生成。
 	 *
@@ -295,4 +304,74 @@ public interface SqlAgentFactory {
 	 */
 	SqlAgentFactory setDefaultForUpdateWaitSeconds(final int defaultForUpdateWaitSeconds);
 
+	/**
+	 * トランザクションごとにキャッシュするPreparedStatementの最大件数を取得します<br>
+	 * デフォルト実装はキャッシュしないため<code>0</code>を返す
+	 *
+	 * @return キャッシュするPreparedStatementの最大件数. <code>0</code>の場合はキャッシュしない
+	 */
+	default int getStatementCacheSize() {
+		return 0;
+	}
+
+	/**
+	 * トランザクションごとにキャッシュするPreparedStatementの最大件数を設定する<br>
+	 * <code>1</code>以上を指定すると、トランザクション内で同じSQLを実行する際にPreparedStatementを再利用する。
+	 * キャッシュしたPreparedStatementはトランザクションのコミット、ロールバック時にクローズする。<br>
+	 * ドライバやコネクションプールがステートメントキャッシュを持たない場合に利用する<br>
+	 * 実装はオプション。APIを提供しない場合は{@link UnsupportedOperationException}をスローすること
+	 *
+	 * @param statementCacheSize キャッシュするPreparedStatementの最大件数. <code>0</code>の場合はキャッシュしない
+	 * @return SqlAgentFactory
+	 */
+	default SqlAgentFactory setStatementCacheSize(final int statementCacheSize) {
+		throw new UnsupportedOperationException("PreparedStatement cache is not supported. [" + getClass().getName() + "]");
+	}
+
+	/**
+	 * PreparedStatementキャッシュの統計情報を取得します<br>
+	 * このファクトリから生成したSqlAgentの統計情報を累積する。
+	 * デフォルト実装はキャッシュしないため、件数が常に<code>0</code>の統計情報を返す
+	 *
+	 * @return PreparedStatementキャッシュの統計情報
+	 */
+	default StatementCacheStatistics getStatementCacheStatistics() {
+		return new StatementCacheStatistics();
+	}
+
+	/**
+	 * 非同期実行（<code>collectAsync</code>など）で使用するExecutorを取得します<br>
+	 * 設定していない場合、仮想スレッドが利用可能なJDKでは仮想スレッドを使用し、それ以外ではデーモンスレッドのキャッシュスレッドプールを使用する。
+	 * デフォルトのExecutorは{@link #shutdownAsyncExecutor()}で終了する。
+	 * デフォルト実装は{@link ForkJoinPool#commonPool()}を返す
+	 *
+	 * @return 非同期実行で使用するExecutor
+	 */
+	default Executor getAsyncExecutor() {
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * 非同期実行（<code>collectAsync</code>など）で使用するExecutorを設定する<br>
+	 * 非同期実行ではSQLごとにSqlAgentを生成して専用のコネクションを取得するため、コネクションプールの最大接続数に合わせて並列数を制限したExecutorを指定すること<br>
+	 * 実装はオプション。APIを提供しない場合は{@link UnsupportedOperationException}をスローすること
+	 *
+	 * @param asyncExecutor 非同期実行で使用するExecutor. <code>null</code>の場合はデフォルトのExecutorを使用する
+	 * @return SqlAgentFactory
+	 */
+	default SqlAgentFactory setAsyncExecutor(final Executor asyncExecutor) {
+		throw new UnsupportedOperationException("Async executor can not be changed. [" + getClass().getName() + "]");
+	}
+
+	/**
+	 * デフォルトの非同期実行用Executorを終了する<br>
+	 * 実行中の処理は継続し、新たな処理は受け付けない。終了後に非同期実行を行った場合は、デフォルトのExecutorを生成しなおす。
+	 * {@link #setAsyncExecutor(Executor)}で設定したExecutorは終了しないため、設定した側で終了すること。<br>
+	 * アプリケーションの停止時やクラスローダの破棄時に呼び出すこと。
+	 * デフォルト実装は共有の{@link ForkJoinPool#commonPool()}を使用するため、何もしない
+	 */
+	default void shutdownAsyncExecutor() {
+		// do nothing
+	}
+
 }
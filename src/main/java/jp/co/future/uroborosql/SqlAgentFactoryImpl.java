@@ -6,11 +6,16 @@
  */
 package jp.co.future.uroborosql;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jp.co.future.uroborosql.config.SqlConfig;
 import jp.co.future.uroborosql.connection.ConnectionSupplier;
@@ -18,6 +23,7 @@ import jp.co.future.uroborosql.enums.InsertsType;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.mapping.EntityHandler;
 import jp.co.future.uroborosql.store.SqlManager;
+import jp.co.future.uroborosql.tx.StatementCacheStatistics;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
 /**
@@ -38,6 +44,15 @@ public class SqlAgentFactoryImpl implements SqlAgentFactory {
 	/** SqlConfig */
 	private SqlConfig sqlConfig;
 
+	/** PreparedStatementキャッシュの統計情報 */
+	private final StatementCacheStatistics statementCacheStatistics = new StatementCacheStatistics();
+
+	/** 非同期実行で使用するExecutor */
+	private volatile Executor asyncExecutor;
+
+	/** 生成したデフォルトの非同期実行用Executor. 生成していない場合は<code>null</code> */
+	private ExecutorService defaultAsyncExecutor;
+
 	/**
 	 * コンストラクタ。
 	 *
@@ -367,4 +382,111 @@ public class SqlAgentFactoryImpl implements SqlAgentFactory {
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#getStatementCacheSize()
+	 */
+	@Override
+	public int getStatementCacheSize() {
+		return Integer.parseInt(getDefaultProps().getOrDefault(PROPS_KEY_STATEMENT_CACHE_SIZE, "0"));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#setStatementCacheSize(int)
+	 */
+	@Override
+	public SqlAgentFactory setStatementCacheSize(final int statementCacheSize) {
+		getDefaultProps().put(PROPS_KEY_STATEMENT_CACHE_SIZE, String.valueOf(statementCacheSize));
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#getStatementCacheStatistics()
+	 */
+	@Override
+	public StatementCacheStatistics getStatementCacheStatistics() {
+		return statementCacheStatistics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#getAsyncExecutor()
+	 */
+	@Override
+	public Executor getAsyncExecutor() {
+		Executor executor = asyncExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = asyncExecutor;
+				if (executor == null) {
+					defaultAsyncExecutor = createDefaultAsyncExecutor();
+					executor = defaultAsyncExecutor;
+					asyncExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#setAsyncExecutor(java.util.concurrent.Executor)
+	 */
+	@Override
+	public SqlAgentFactory setAsyncExecutor(final Executor asyncExecutor) {
+		synchronized (this) {
+			ExecutorService executor = defaultAsyncExecutor;
+			defaultAsyncExecutor = null;
+			this.asyncExecutor = asyncExecutor;
+			if (executor != null && executor != asyncExecutor) {
+				executor.shutdown();
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.SqlAgentFactory#shutdownAsyncExecutor()
+	 */
+	@Override
+	public void shutdownAsyncExecutor() {
+		synchronized (this) {
+			ExecutorService executor = defaultAsyncExecutor;
+			if (executor != null) {
+				defaultAsyncExecutor = null;
+				asyncExecutor = null;
+				executor.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * デフォルトの非同期実行用Executorを生成する<br>
+	 * 仮想スレッドが利用可能なJDKでは仮想スレッドを使用し、それ以外ではデーモンスレッドのキャッシュスレッドプールを使用する
+	 *
+	 * @return 非同期実行用Executor
+	 */
+	private static ExecutorService createDefaultAsyncExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException ex) {
+			AtomicInteger threadCount = new AtomicInteger();
+			return Executors.newCachedThreadPool(r -> {
+				Thread thread = new Thread(r, "uroborosql-async-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
 }
@@ -115,10 +115,12 @@ final class SqlBatchImpl extends AbstractSqlFluent<SqlBatch> implements SqlBatch
 	public int count() {
 		try (Stream<?> paramStream = stream) {
 			int count = paramStream.map(r -> {
-				Map<String, Object> m = toMap(r);
-				paramMap(m);
-				context().addBatch();
-				return condition.test(context(), m) ? executeBatch() : 0;
+				// Beanはフィールド値を直接バッチパラメータに格納する
+				context().addBatch(r);
+				if (condition == DEFAULT_BATCH_WHEN_CONDITION) {
+					return condition.test(context(), null) ? executeBatch() : 0;
+				}
+				return condition.test(context(), toMap(r)) ? executeBatch() : 0;
 			}).reduce(0, (joined, element) -> joined + element);
 			return count + (context().batchCount() != 0 ? executeBatch() : 0);
 		} finally {
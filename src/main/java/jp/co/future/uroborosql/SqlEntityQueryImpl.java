@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -114,18 +115,70 @@ final class SqlEntityQueryImpl<E> extends AbstractExtractionCondition<SqlEntityQ
 	 */
 	@Override
 	public Stream<E> stream() {
-		try {
-			StringBuilder sql = new StringBuilder(context().getSql()).append(getWhereClause())
-					.append(getOrderByClause());
-			Dialect dialect = agent().getSqlConfig().getDialect();
-			if (dialect.supportsLimitClause()) {
-				sql.append(dialect.getLimitClause(this.limit, this.offset));
+		buildSelectSql();
+		return doSelect(agent(), context());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlEntityQuery#collectAsync()
+	 */
+	@Override
+	public CompletableFuture<List<E>> collectAsync() {
+		buildSelectSql();
+		// 呼び出し元のスレッドで複製したSQLコンテキストを実行するスレッドに渡す
+		SqlContext asyncContext = context().copy();
+		return AbstractAgent.supplyAsync(agent(), asyncAgent -> {
+			try (Stream<E> stream = doSelect(asyncAgent, asyncContext)) {
+				return stream.collect(Collectors.toList());
 			}
-			if (this.forUpdateType != null) {
-				sql = dialect.addForUpdateClause(sql, this.forUpdateType, this.waitSeconds);
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlEntityQuery#firstAsync()
+	 */
+	@Override
+	public CompletableFuture<Optional<E>> firstAsync() {
+		buildSelectSql();
+		// 呼び出し元のスレッドで複製したSQLコンテキストを実行するスレッドに渡す
+		SqlContext asyncContext = context().copy();
+		return AbstractAgent.supplyAsync(agent(), asyncAgent -> {
+			try (Stream<E> stream = doSelect(asyncAgent, asyncContext)) {
+				return stream.findFirst();
 			}
-			context().setSql(sql.toString());
-			return this.entityHandler.doSelect(agent(), context(), this.entityType);
+		});
+	}
+
+	/**
+	 * 抽出条件、ソート順、LIMIT句、行ロックの指定を付加した検索SQLをSqlContextに設定する
+	 */
+	private void buildSelectSql() {
+		StringBuilder sql = new StringBuilder(context().getSql()).append(getWhereClause())
+				.append(getOrderByClause());
+		Dialect dialect = agent().getSqlConfig().getDialect();
+		if (dialect.supportsLimitClause()) {
+			sql.append(dialect.getLimitClause(this.limit, this.offset));
+		}
+		if (this.forUpdateType != null) {
+			sql = dialect.addForUpdateClause(sql, this.forUpdateType, this.waitSeconds);
+		}
+		context().setSql(sql.toString());
+	}
+
+	/**
+	 * 検索の実行
+	 *
+	 * @param sqlAgent 検索を実行するSqlAgent
+	 * @param sqlContext 検索を実行するSqlContext
+	 * @return 検索結果を順次取得するStream
+	 */
+	private Stream<E> doSelect(final SqlAgent sqlAgent, final SqlContext sqlContext) {
+		try {
+			return this.entityHandler.doSelect(sqlAgent, sqlContext, this.entityType);
 		} catch (final SQLException e) {
 			throw new EntitySqlRuntimeException(SqlKind.SELECT, e);
 		}
@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -217,6 +218,42 @@ final class SqlQueryImpl extends AbstractSqlFluent<SqlQuery> implements SqlQuery
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlQuery#collectAsync()
+	 */
+	@Override
+	public CompletableFuture<List<Map<String, Object>>> collectAsync() {
+		return collectAsync(agent().getDefaultMapKeyCaseFormat());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlQuery#collectAsync(jp.co.future.uroborosql.utils.CaseFormat)
+	 */
+	@Override
+	public CompletableFuture<List<Map<String, Object>>> collectAsync(final CaseFormat caseFormat) {
+		// 呼び出し元のスレッドで複製したSQLコンテキストを実行するスレッドに渡す
+		SqlContext asyncContext = context().copy();
+		return AbstractAgent.supplyAsync(agent(),
+				asyncAgent -> new SqlQueryImpl(asyncAgent, asyncContext).collect(caseFormat));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlQuery#collectAsync(java.lang.Class)
+	 */
+	@Override
+	public <T> CompletableFuture<List<T>> collectAsync(final Class<T> type) {
+		// 呼び出し元のスレッドで複製したSQLコンテキストを実行するスレッドに渡す
+		SqlContext asyncContext = context().copy();
+		return AbstractAgent.supplyAsync(agent(),
+				asyncAgent -> new SqlQueryImpl(asyncAgent, asyncContext).collect(type));
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
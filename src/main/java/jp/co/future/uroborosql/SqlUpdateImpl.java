@@ -7,6 +7,7 @@
 package jp.co.future.uroborosql;
 
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 import jp.co.future.uroborosql.context.SqlContext;
 import jp.co.future.uroborosql.exception.UroborosqlSQLException;
@@ -62,6 +63,23 @@ final class SqlUpdateImpl extends AbstractSqlFluent<SqlUpdate> implements SqlUpd
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlUpdate#countAsync()
+	 */
+	@Override
+	public CompletableFuture<Integer> countAsync() {
+		if (batch) {
+			throw new IllegalStateException(
+					"Since the parameter has already been set with addBatch() method, please call batch() method.");
+		}
+		// 呼び出し元のスレッドで複製したSQLコンテキストを実行するスレッドに渡す
+		SqlContext asyncContext = context().copy();
+		return AbstractAgent.supplyAsync(agent(),
+				asyncAgent -> asyncAgent.required(() -> new SqlUpdateImpl(asyncAgent, asyncContext).count()));
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -83,4 +101,15 @@ final class SqlUpdateImpl extends AbstractSqlFluent<SqlUpdate> implements SqlUpd
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.AbstractSqlFluent#reset()
+	 */
+	@Override
+	public SqlUpdate reset() {
+		batch = false;
+		return super.reset();
+	}
+
 }
@@ -22,6 +22,7 @@ import jp.co.future.uroborosql.context.SqlContextFactory;
 import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
 import jp.co.future.uroborosql.dialect.DefaultDialect;
 import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.expr.ExpressionEngine;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
 import jp.co.future.uroborosql.mapping.DefaultEntityHandler;
@@ -102,6 +103,7 @@ public final class UroboroSQL {
 		private SqlAgentFactory sqlAgentFactory;
 		private EntityHandler<?> entityHandler;
 		private Dialect dialect;
+		private ExpressionEngine expressionEngine;
 
 		UroboroSQLBuilder() {
 			this.connectionSupplier = null;
@@ -111,6 +113,7 @@ public final class UroboroSQL {
 			this.sqlAgentFactory = new SqlAgentFactoryImpl();
 			this.entityHandler = new DefaultEntityHandler();
 			this.dialect = null;
+			this.expressionEngine = null;
 		}
 
 		/**
@@ -190,6 +193,17 @@ public final class UroboroSQL {
 			return this;
 		}
 
+		/**
+		 * ExpressionEngineの設定
+		 *
+		 * @param expressionEngine expressionEngine
+		 * @return UroboroSQLBuilder
+		 */
+		public UroboroSQLBuilder setExpressionEngine(final ExpressionEngine expressionEngine) {
+			this.expressionEngine = expressionEngine;
+			return this;
+		}
+
 		/**
 		 * Builderに設定された内容を元にSqlConfigを構築する
 		 *
@@ -201,6 +215,10 @@ public final class UroboroSQL {
 						"ConnectionSupplier is mandatory. Please set ConnectionSupplier instance before calling build() method.");
 			}
 
+			if (this.expressionEngine != null) {
+				this.sqlContextFactory.setExpressionEngine(this.expressionEngine);
+			}
+
 			return new InternalConfig(this.connectionSupplier, this.sqlManager, this.sqlContextFactory,
 					this.sqlAgentFactory, this.sqlFilterManager, this.entityHandler, this.dialect);
 		}
@@ -370,6 +388,16 @@ public final class UroboroSQL {
 			return sqlAgentFactory;
 		}
 
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.config.SqlConfig#getExpressionEngine()
+		 */
+		@Override
+		public ExpressionEngine getExpressionEngine() {
+			return sqlContextFactory.getExpressionEngine();
+		}
+
 		/**
 		 * {@inheritDoc}
 		 *
@@ -19,6 +19,7 @@ import jp.co.future.uroborosql.context.SqlContextFactory;
 import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
 import jp.co.future.uroborosql.dialect.DefaultDialect;
 import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.expr.ExpressionEngine;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
 import jp.co.future.uroborosql.mapping.DefaultEntityHandler;
@@ -332,6 +333,16 @@ public class DefaultSqlConfig implements SqlConfig {
 		return sqlAgentFactory;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.config.SqlConfig#getExpressionEngine()
+	 */
+	@Override
+	public ExpressionEngine getExpressionEngine() {
+		return sqlContextFactory.getExpressionEngine();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -15,6 +15,7 @@ import jp.co.future.uroborosql.connection.ConnectionSupplier;
 import jp.co.future.uroborosql.context.SqlContext;
 import jp.co.future.uroborosql.context.SqlContextFactory;
 import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.expr.ExpressionEngine;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.mapping.EntityHandler;
 import jp.co.future.uroborosql.store.SqlManager;
@@ -101,6 +102,16 @@ public interface SqlConfig {
 	 */
 	SqlAgentFactory getSqlAgentFactory();
 
+	/**
+	 * expressionEngine を取得します<br>
+	 * デフォルト実装は{@link SqlContextFactory#getExpressionEngine()}を返却する
+	 *
+	 * @return expressionEngine
+	 */
+	default ExpressionEngine getExpressionEngine() {
+		return getSqlContextFactory().getExpressionEngine();
+	}
+
 	/**
 	 * dialect を取得します
 	 *
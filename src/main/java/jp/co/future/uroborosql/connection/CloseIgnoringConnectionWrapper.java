@@ -43,44 +43,55 @@ public class CloseIgnoringConnectionWrapper implements Connection {
 		this.original = original;
 	}
 
+	/**
+	 * 委譲先のコネクションの取得<br>
+	 * close以外の操作はこのメソッドで取得したコネクションに委譲する
+	 *
+	 * @return 元となるコネクション
+	 * @throws SQLException 委譲先のコネクションを使用できない場合
+	 */
+	protected Connection getOriginal() throws SQLException {
+		return original;
+	}
+
 	@Override
 	public Statement createStatement() throws SQLException {
-		return original.createStatement();
+		return getOriginal().createStatement();
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(final String sql) throws SQLException {
-		return original.prepareStatement(sql);
+		return getOriginal().prepareStatement(sql);
 	}
 
 	@Override
 	public CallableStatement prepareCall(final String sql) throws SQLException {
-		return original.prepareCall(sql);
+		return getOriginal().prepareCall(sql);
 	}
 
 	@Override
 	public String nativeSQL(final String sql) throws SQLException {
-		return original.nativeSQL(sql);
+		return getOriginal().nativeSQL(sql);
 	}
 
 	@Override
 	public void setAutoCommit(final boolean autoCommit) throws SQLException {
-		original.setAutoCommit(autoCommit);
+		getOriginal().setAutoCommit(autoCommit);
 	}
 
 	@Override
 	public boolean getAutoCommit() throws SQLException {
-		return original.getAutoCommit();
+		return getOriginal().getAutoCommit();
 	}
 
 	@Override
 	public void commit() throws SQLException {
-		original.commit();
+		getOriginal().commit();
 	}
 
 	@Override
 	public void rollback() throws SQLException {
-		original.rollback();
+		getOriginal().rollback();
 	}
 
 	@Override
@@ -90,232 +101,244 @@ public class CloseIgnoringConnectionWrapper implements Connection {
 
 	@Override
 	public boolean isClosed() throws SQLException {
-		return original.isClosed();
+		return getOriginal().isClosed();
 	}
 
 	@Override
 	public DatabaseMetaData getMetaData() throws SQLException {
-		return original.getMetaData();
+		return getOriginal().getMetaData();
 	}
 
 	@Override
 	public void setReadOnly(final boolean readOnly) throws SQLException {
-		original.setReadOnly(readOnly);
+		getOriginal().setReadOnly(readOnly);
 	}
 
 	@Override
 	public boolean isReadOnly() throws SQLException {
-		return original.isReadOnly();
+		return getOriginal().isReadOnly();
 	}
 
 	@Override
 	public void setCatalog(final String catalog) throws SQLException {
-		original.setCatalog(catalog);
+		getOriginal().setCatalog(catalog);
 	}
 
 	@Override
 	public String getCatalog() throws SQLException {
-		return original.getCatalog();
+		return getOriginal().getCatalog();
 	}
 
 	@Override
 	public void setTransactionIsolation(final int level) throws SQLException {
-		original.setTransactionIsolation(level);
+		getOriginal().setTransactionIsolation(level);
 	}
 
 	@Override
 	public int getTransactionIsolation() throws SQLException {
-		return original.getTransactionIsolation();
+		return getOriginal().getTransactionIsolation();
 	}
 
 	@Override
 	public SQLWarning getWarnings() throws SQLException {
-		return original.getWarnings();
+		return getOriginal().getWarnings();
 	}
 
 	@Override
 	public void clearWarnings() throws SQLException {
-		original.clearWarnings();
+		getOriginal().clearWarnings();
 	}
 
 	@Override
 	public Statement createStatement(final int resultSetType, final int resultSetConcurrency) throws SQLException {
-		return original.createStatement(resultSetType, resultSetConcurrency);
+		return getOriginal().createStatement(resultSetType, resultSetConcurrency);
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency)
 			throws SQLException {
-		return original.prepareStatement(sql, resultSetType, resultSetConcurrency);
+		return getOriginal().prepareStatement(sql, resultSetType, resultSetConcurrency);
 	}
 
 	@Override
 	public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency)
 			throws SQLException {
-		return original.prepareCall(sql, resultSetType, resultSetConcurrency);
+		return getOriginal().prepareCall(sql, resultSetType, resultSetConcurrency);
 	}
 
 	@Override
 	public Map<String, Class<?>> getTypeMap() throws SQLException {
-		return original.getTypeMap();
+		return getOriginal().getTypeMap();
 	}
 
 	@Override
 	public void setTypeMap(final Map<String, Class<?>> map) throws SQLException {
-		original.setTypeMap(map);
+		getOriginal().setTypeMap(map);
 	}
 
 	@Override
 	public void setHoldability(final int holdability) throws SQLException {
-		original.setHoldability(holdability);
+		getOriginal().setHoldability(holdability);
 	}
 
 	@Override
 	public int getHoldability() throws SQLException {
-		return original.getHoldability();
+		return getOriginal().getHoldability();
 	}
 
 	@Override
 	public Savepoint setSavepoint() throws SQLException {
-		return original.setSavepoint();
+		return getOriginal().setSavepoint();
 	}
 
 	@Override
 	public Savepoint setSavepoint(final String name) throws SQLException {
-		return original.setSavepoint(name);
+		return getOriginal().setSavepoint(name);
 	}
 
 	@Override
 	public void rollback(final Savepoint savepoint) throws SQLException {
-		original.rollback(savepoint);
+		getOriginal().rollback(savepoint);
 	}
 
 	@Override
 	public void releaseSavepoint(final Savepoint savepoint) throws SQLException {
-		original.releaseSavepoint(savepoint);
+		getOriginal().releaseSavepoint(savepoint);
 	}
 
 	@Override
 	public Statement createStatement(final int resultSetType, final int resultSetConcurrency,
 			final int resultSetHoldability)
 					throws SQLException {
-		return original.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+		return getOriginal().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(final String sql, final int resultSetType, final int resultSetConcurrency,
 			final int resultSetHoldability) throws SQLException {
-		return original.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		return getOriginal().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
 	}
 
 	@Override
 	public CallableStatement prepareCall(final String sql, final int resultSetType, final int resultSetConcurrency,
 			final int resultSetHoldability) throws SQLException {
-		return original.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+		return getOriginal().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys) throws SQLException {
-		return original.prepareStatement(sql, autoGeneratedKeys);
+		return getOriginal().prepareStatement(sql, autoGeneratedKeys);
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes) throws SQLException {
-		return original.prepareStatement(sql, columnIndexes);
+		return getOriginal().prepareStatement(sql, columnIndexes);
 	}
 
 	@Override
 	public PreparedStatement prepareStatement(final String sql, final String[] columnNames) throws SQLException {
-		return original.prepareStatement(sql, columnNames);
+		return getOriginal().prepareStatement(sql, columnNames);
 	}
 
 	@Override
 	public Clob createClob() throws SQLException {
-		return original.createClob();
+		return getOriginal().createClob();
 	}
 
 	@Override
 	public Blob createBlob() throws SQLException {
-		return original.createBlob();
+		return getOriginal().createBlob();
 	}
 
 	@Override
 	public NClob createNClob() throws SQLException {
-		return original.createNClob();
+		return getOriginal().createNClob();
 	}
 
 	@Override
 	public SQLXML createSQLXML() throws SQLException {
-		return original.createSQLXML();
+		return getOriginal().createSQLXML();
 	}
 
 	@Override
 	public boolean isValid(final int timeout) throws SQLException {
-		return original.isValid(timeout);
+		return getOriginal().isValid(timeout);
 	}
 
 	@Override
 	public void setClientInfo(final String name, final String value) throws SQLClientInfoException {
-		original.setClientInfo(name, value);
+		Connection connection;
+		try {
+			connection = getOriginal();
+		} catch (SQLException ex) {
+			throw new SQLClientInfoException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), null, ex);
+		}
+		connection.setClientInfo(name, value);
 	}
 
 	@Override
 	public void setClientInfo(final Properties properties) throws SQLClientInfoException {
-		original.setClientInfo(properties);
+		Connection connection;
+		try {
+			connection = getOriginal();
+		} catch (SQLException ex) {
+			throw new SQLClientInfoException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), null, ex);
+		}
+		connection.setClientInfo(properties);
 	}
 
 	@Override
 	public String getClientInfo(final String name) throws SQLException {
-		return original.getClientInfo(name);
+		return getOriginal().getClientInfo(name);
 	}
 
 	@Override
 	public Properties getClientInfo() throws SQLException {
-		return original.getClientInfo();
+		return getOriginal().getClientInfo();
 	}
 
 	@Override
 	public Array createArrayOf(final String typeName, final Object[] elements) throws SQLException {
-		return original.createArrayOf(typeName, elements);
+		return getOriginal().createArrayOf(typeName, elements);
 	}
 
 	@Override
 	public Struct createStruct(final String typeName, final Object[] attributes) throws SQLException {
-		return original.createStruct(typeName, attributes);
+		return getOriginal().createStruct(typeName, attributes);
 	}
 
 	@Override
 	public void setSchema(final String schema) throws SQLException {
-		original.setSchema(schema);
+		getOriginal().setSchema(schema);
 	}
 
 	@Override
 	public String getSchema() throws SQLException {
-		return original.getSchema();
+		return getOriginal().getSchema();
 	}
 
 	@Override
 	public void abort(final Executor executor) throws SQLException {
-		original.abort(executor);
+		getOriginal().abort(executor);
 	}
 
 	@Override
 	public void setNetworkTimeout(final Executor executor, final int milliseconds) throws SQLException {
-		original.setNetworkTimeout(executor, milliseconds);
+		getOriginal().setNetworkTimeout(executor, milliseconds);
 	}
 
 	@Override
 	public int getNetworkTimeout() throws SQLException {
-		return original.getNetworkTimeout();
+		return getOriginal().getNetworkTimeout();
 	}
 
 	@Override
 	public <T> T unwrap(final Class<T> iface) throws SQLException {
-		return original.unwrap(iface);
+		return getOriginal().unwrap(iface);
 	}
 
 	@Override
 	public boolean isWrapperFor(final Class<?> iface) throws SQLException {
-		return original.isWrapperFor(iface);
+		return getOriginal().isWrapperFor(iface);
 	}
 }
@@ -10,6 +10,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.naming.Context;
 import javax.naming.InitialContext;
@@ -32,6 +33,9 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 
 	private final Map<String, Map<String, String>> connProps = new ConcurrentHashMap<>();
 
+	/** データソース名をキーとしたコネクションの設定値のキャッシュ */
+	private final ConcurrentMap<String, ConnectionSettings> settingsCache = new ConcurrentHashMap<>();
+
 	private static final String DEFAULT_DATA_SOURCE_NAME = "DEFAULT_DATA_SOURCE";
 	private static final String PROPS_AUTO_COMMIT = "AUTO_COMMIT";
 	private static final String PROPS_READ_ONLY = "READ_ONLY";
@@ -84,23 +88,13 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 	@Override
 	public Connection getConnection(final String datasourceName) {
 		try {
-			DataSource ds = dsMap.computeIfAbsent(datasourceName, DataSourceConnectionSupplierImpl::getNewDataSource);
-			final Connection connection;
-			synchronized (ds) {
-				connection = ds.getConnection();
-			}
-			boolean autoCommit = getAutoCommit(datasourceName);
-			if (connection.getAutoCommit() != autoCommit) {
-				connection.setAutoCommit(autoCommit);
-			}
-			boolean readOnly = getReadOnly(datasourceName);
-			if (connection.isReadOnly() != readOnly) {
-				connection.setReadOnly(readOnly);
-			}
-			int transactionIsolation = getTransactionIsolation(datasourceName);
-			if (transactionIsolation > 0 && connection.getTransactionIsolation() != transactionIsolation) {
-				connection.setTransactionIsolation(transactionIsolation);
+			DataSource ds = dsMap.get(datasourceName);
+			if (ds == null) {
+				ds = dsMap.computeIfAbsent(datasourceName, DataSourceConnectionSupplierImpl::getNewDataSource);
 			}
+			// コネクションプールの排他制御はデータソースに任せ、ここでは同期しない
+			final Connection connection = ds.getConnection();
+			getConnectionSettings(datasourceName).apply(connection);
 			return connection;
 		} catch (SQLException ex) {
 			throw new UroborosqlRuntimeException("Connection[" + datasourceName + "] can not be acquired.", ex);
@@ -167,8 +161,7 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 	 * @param autoCommit AutoCommitを行う場合は<code>true</code>
 	 */
 	public void setAutoCommit(final String dataSourceName, final boolean autoCommit) {
-		Map<String, String> props = getConnPropsByDataSourceName(dataSourceName);
-		props.put(PROPS_AUTO_COMMIT, Boolean.toString(autoCommit));
+		putConnProp(dataSourceName, PROPS_AUTO_COMMIT, Boolean.toString(autoCommit));
 	}
 
 	/**
@@ -209,8 +202,7 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 	 * @param readOnly readOnlyを指定する場合は<code>true</code>
 	 */
 	public void setReadOnly(final String dataSourceName, final boolean readOnly) {
-		Map<String, String> props = getConnPropsByDataSourceName(dataSourceName);
-		props.put(PROPS_READ_ONLY, Boolean.toString(readOnly));
+		putConnProp(dataSourceName, PROPS_READ_ONLY, Boolean.toString(readOnly));
 	}
 
 	/**
@@ -268,8 +260,7 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 				|| Connection.TRANSACTION_READ_COMMITTED == transactionIsolation
 				|| Connection.TRANSACTION_REPEATABLE_READ == transactionIsolation
 				|| Connection.TRANSACTION_SERIALIZABLE == transactionIsolation) {
-			Map<String, String> props = getConnPropsByDataSourceName(dataSourceName);
-			props.put(PROPS_TRANSACTION_ISOLATION, String.valueOf(transactionIsolation));
+			putConnProp(dataSourceName, PROPS_TRANSACTION_ISOLATION, String.valueOf(transactionIsolation));
 		} else {
 			throw new IllegalArgumentException("Unsupported level [" + transactionIsolation + "]");
 		}
@@ -288,7 +279,8 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 	}
 
 	/**
-	 * データソース名を指定したプロパティの取得
+	 * データソース名を指定したプロパティの取得<br>
+	 * 取得したプロパティを直接変更した場合は、{@link #clearConnectionSettingsCache()}を呼び出すまでコネクションに反映されない
 	 *
 	 * @param dataSourceName データソース名
 	 *
@@ -298,4 +290,90 @@ public class DataSourceConnectionSupplierImpl implements ConnectionSupplier {
 		return connProps.computeIfAbsent(dataSourceName, k -> new ConcurrentHashMap<>());
 	}
 
+	/**
+	 * データソース名を指定したコネクションの設定値の取得<br>
+	 * 設定値は{@link #getAutoCommit(String)}、{@link #getReadOnly(String)}、{@link #getTransactionIsolation(String)}から生成し、
+	 * データソースごとにキャッシュする
+	 *
+	 * @param dataSourceName データソース名
+	 * @return コネクションの設定値
+	 */
+	private ConnectionSettings getConnectionSettings(final String dataSourceName) {
+		ConnectionSettings settings = settingsCache.get(dataSourceName);
+		if (settings == null) {
+			settings = settingsCache.computeIfAbsent(dataSourceName,
+					k -> new ConnectionSettings(getAutoCommit(k), getReadOnly(k), getTransactionIsolation(k)));
+		}
+		return settings;
+	}
+
+	/**
+	 * データソース名を指定したプロパティの変更<br>
+	 * 設定値の生成と競合して変更前の設定値がキャッシュに残らないよう、キャッシュの破棄と同じキーのロックの中で変更する
+	 *
+	 * @param dataSourceName データソース名
+	 * @param key プロパティのキー
+	 * @param value プロパティの値
+	 */
+	private void putConnProp(final String dataSourceName, final String key, final String value) {
+		settingsCache.compute(dataSourceName, (k, v) -> {
+			getConnPropsByDataSourceName(k).put(key, value);
+			return null;
+		});
+	}
+
+	/**
+	 * キャッシュしているコネクションの設定値のクリア<br>
+	 * 次回のコネクション取得時に設定値を再取得する
+	 */
+	public void clearConnectionSettingsCache() {
+		settingsCache.clear();
+	}
+
+	/**
+	 * データソースから取得したコネクションに適用する設定値
+	 */
+	private static final class ConnectionSettings {
+		/** AutoCommitを行うかどうか */
+		private final boolean autoCommit;
+
+		/** readOnlyかどうか */
+		private final boolean readOnly;
+
+		/** transactionIsolation. 指定しない場合は<code>-1</code> */
+		private final int transactionIsolation;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param autoCommit AutoCommitを行うかどうか
+		 * @param readOnly readOnlyかどうか
+		 * @param transactionIsolation transactionIsolation. 指定しない場合は<code>-1</code>
+		 */
+		ConnectionSettings(final boolean autoCommit, final boolean readOnly, final int transactionIsolation) {
+			this.autoCommit = autoCommit;
+			this.readOnly = readOnly;
+			this.transactionIsolation = transactionIsolation;
+		}
+
+		/**
+		 * コネクションへの設定値の適用<br>
+		 * コネクションの状態が設定値と異なる場合のみ変更する
+		 *
+		 * @param connection コネクション
+		 * @throws SQLException SQL例外
+		 */
+		void apply(final Connection connection) throws SQLException {
+			if (connection.getAutoCommit() != autoCommit) {
+				connection.setAutoCommit(autoCommit);
+			}
+			if (connection.isReadOnly() != readOnly) {
+				connection.setReadOnly(readOnly);
+			}
+			if (transactionIsolation > 0 && connection.getTransactionIsolation() != transactionIsolation) {
+				connection.setTransactionIsolation(transactionIsolation);
+			}
+		}
+	}
+
 }
@@ -0,0 +1,876 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.connection;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+/**
+ * JDBCドライバーを使用したコネクションプール付きのコネクション供給クラス<br>
+ * コンテナのデータソースを使用できない環境（バッチやREPLなど）で、{@link java.sql.DriverManager}から取得したコネクションを再利用する。
+ *
+ * <ul>
+ * <li>空きコネクションはロックを使用しないキューで管理し、最後に返却されたコネクションから再利用する</li>
+ * <li>最大接続数を超える取得要求は、空きが出るまで最大待機時間だけ待機する</li>
+ * <li>貸し出し時にコネクションの有効性を検証し、無効なコネクションは破棄する</li>
+ * <li>一定時間使用されていない空きコネクションは、最小空き数を残して破棄する</li>
+ * <li>一定時間返却されないコネクションはリークとしてログに出力する</li>
+ * </ul>
+ *
+ * 取得したコネクションを{@link Connection#close()}するとプールに返却する。
+ * 返却したコネクションへのclose、isClosed以外の操作は{@link SQLException}となる。<br>
+ * 使用を終えたら{@link #close()}を呼び出してプールを破棄すること。
+ *
+ * @author H.Sugimoto
+ */
+public class PooledJdbcConnectionSupplierImpl implements ConnectionSupplier, AutoCloseable {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(PooledJdbcConnectionSupplierImpl.class);
+
+	/** 最大接続数に達している場合に空きコネクションを待機する1回あたりの時間（ms） */
+	private static final long IDLE_WAIT_MILLIS = 100L;
+
+	/** JDBC URL */
+	private final String url;
+
+	/** 接続ユーザ名 */
+	private final String user;
+
+	/** 接続パスワード */
+	private final String password;
+
+	/** JDBCスキーマ名 */
+	private String schema;
+
+	/** AutoCommitを行うかどうか */
+	private volatile boolean autoCommit = false;
+
+	/** readOnlyかどうか */
+	private volatile boolean readOnly = false;
+
+	/** transactionIsolation. 指定しない場合は<code>-1</code> */
+	private volatile int transactionIsolation = -1;
+
+	/** 最大接続数 */
+	private int maxPoolSize = 10;
+
+	/** 最小空き数 */
+	private int minIdle = 0;
+
+	/** コネクション取得時の最大待機時間（ms） */
+	private long maxWaitMillis = 30000L;
+
+	/** 空きコネクションを破棄するまでの時間（ms） */
+	private long idleTimeoutMillis = 600000L;
+
+	/** 有効性検証のタイムアウト（s） */
+	private int validationTimeoutSeconds = 5;
+
+	/** リークと判定するまでの時間（ms）. <code>0</code>の場合は判定しない */
+	private long leakDetectionThresholdMillis = 0L;
+
+	/** 空きコネクションの破棄とリーク判定を行う間隔（ms） */
+	private long housekeepingPeriodMillis = 30000L;
+
+	/** 空きコネクション（先頭が最後に返却されたコネクション） */
+	private final ConcurrentLinkedDeque<PoolEntry> idleEntries = new ConcurrentLinkedDeque<>();
+
+	/** 貸し出し中のコネクション */
+	private final Set<PoolEntry> borrowedEntries = ConcurrentHashMap.newKeySet();
+
+	/** 物理コネクション数 */
+	private final AtomicInteger totalCount = new AtomicInteger();
+
+	/** 貸し出し数の上限を管理するセマフォ */
+	private volatile Semaphore permits;
+
+	/** 空きコネクションの破棄とリーク判定を行うスレッド */
+	private volatile ScheduledExecutorService housekeeper;
+
+	/** コネクション取得時の待機時間のヒストグラム */
+	private final WaitTimeHistogram borrowWaitHistogram = new WaitTimeHistogram();
+
+	/** プールを破棄したかどうか */
+	private volatile boolean closed = false;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param url JDBCURL
+	 * @param user 接続ユーザ名
+	 * @param password 接続パスワード
+	 */
+	public PooledJdbcConnectionSupplierImpl(final String url, final String user, final String password) {
+		this(url, user, password, null);
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param url JDBCURL
+	 * @param user 接続ユーザ名
+	 * @param password 接続パスワード
+	 * @param schema JDBCスキーマ名
+	 */
+	public PooledJdbcConnectionSupplierImpl(final String url, final String user, final String password,
+			final String schema) {
+		this.url = url;
+		this.user = user;
+		this.password = password;
+		this.schema = schema;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * 空きコネクションがない場合は最大接続数まで新たにコネクションを生成し、最大接続数に達している場合は返却されるまで待機する
+	 *
+	 * @see jp.co.future.uroborosql.connection.ConnectionSupplier#getConnection()
+	 */
+	@Override
+	public Connection getConnection() {
+		if (closed) {
+			throw new IllegalStateException("Connection pool has been closed.");
+		}
+		Semaphore semaphore = start();
+		long start = System.nanoTime();
+		try {
+			if (!semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+				borrowWaitHistogram.record(System.nanoTime() - start);
+				throw new UroborosqlRuntimeException("Connection can not be acquired within " + maxWaitMillis
+						+ "ms. [active=" + getActiveCount() + ", max=" + maxPoolSize + "]");
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new UroborosqlRuntimeException("Interrupted while waiting for a connection.", ex);
+		}
+
+		try {
+			PoolEntry entry = borrowEntry(start);
+			borrowWaitHistogram.record(System.nanoTime() - start);
+			return new PooledConnection(entry);
+		} catch (SQLException | RuntimeException ex) {
+			semaphore.release();
+			throw ex instanceof RuntimeException ? (RuntimeException) ex
+					: new UroborosqlRuntimeException("Connection can not be acquired.", ex);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.connection.ConnectionSupplier#getConnection(java.lang.String)
+	 */
+	@Override
+	public Connection getConnection(final String alias) {
+		throw new UnsupportedOperationException("Multiple DB connections are not supported.");
+	}
+
+	/**
+	 * プールの破棄<br>
+	 * 空きコネクションをクローズする。貸し出し中のコネクションは返却時にクローズする
+	 *
+	 * @see java.lang.AutoCloseable#close()
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		ScheduledExecutorService executor = housekeeper;
+		if (executor != null) {
+			executor.shutdownNow();
+		}
+		PoolEntry entry;
+		while ((entry = idleEntries.pollFirst()) != null) {
+			destroy(entry);
+		}
+	}
+
+	/**
+	 * プールの開始<br>
+	 * 初回の呼び出し時に貸し出し数の上限と、空きコネクションの破棄とリーク判定を行うスレッドを準備する
+	 *
+	 * @return 貸し出し数の上限を管理するセマフォ
+	 */
+	private Semaphore start() {
+		Semaphore semaphore = permits;
+		if (semaphore == null) {
+			synchronized (this) {
+				semaphore = permits;
+				if (semaphore == null) {
+					housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+						Thread thread = new Thread(r, "uroborosql-connection-pool-housekeeper");
+						thread.setDaemon(true);
+						return thread;
+					});
+					housekeeper.scheduleWithFixedDelay(this::housekeep, housekeepingPeriodMillis,
+							housekeepingPeriodMillis, TimeUnit.MILLISECONDS);
+					semaphore = new Semaphore(maxPoolSize);
+					permits = semaphore;
+				}
+			}
+		}
+		return semaphore;
+	}
+
+	/**
+	 * 貸し出すコネクションの取得<br>
+	 * 空きコネクションを有効性を検証して再利用し、空きがない場合は新たに生成する。<br>
+	 * 最大接続数に達している場合は、生成中または返却中の空きコネクションを最大待機時間まで待機する
+	 *
+	 * @param start 取得要求を開始した時刻（ナノ秒）
+	 * @return 貸し出すコネクション
+	 * @throws SQLException SQL例外
+	 */
+	private PoolEntry borrowEntry(final long start) throws SQLException {
+		long deadline = start + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+		PoolEntry entry = null;
+		while (entry == null) {
+			while ((entry = idleEntries.pollFirst()) != null) {
+				if (isValid(entry)) {
+					break;
+				}
+				destroy(entry);
+			}
+			if (entry == null) {
+				entry = createEntry();
+				if (entry == null) {
+					if (System.nanoTime() - deadline >= 0) {
+						throw new UroborosqlRuntimeException("Connection can not be acquired within " + maxWaitMillis
+								+ "ms. [active=" + getActiveCount() + ", max=" + maxPoolSize + "]");
+					}
+					synchronized (idleEntries) {
+						if (idleEntries.isEmpty() && totalCount.get() >= maxPoolSize) {
+							try {
+								idleEntries.wait(IDLE_WAIT_MILLIS);
+							} catch (InterruptedException ex) {
+								Thread.currentThread().interrupt();
+								throw new UroborosqlRuntimeException("Interrupted while waiting for a connection.", ex);
+							}
+						}
+					}
+				}
+			}
+		}
+		try {
+			entry.applySettings();
+		} catch (SQLException | RuntimeException ex) {
+			destroy(entry);
+			throw ex;
+		}
+		entry.borrowedAt = System.nanoTime();
+		entry.borrowedTrace = leakDetectionThresholdMillis > 0
+				? new Exception("The connection was borrowed here.")
+				: null;
+		entry.leakReported = false;
+		borrowedEntries.add(entry);
+		return entry;
+	}
+
+	/**
+	 * 貸し出したコネクションの返却
+	 *
+	 * @param entry 貸し出したコネクション
+	 */
+	private void returnEntry(final PoolEntry entry) {
+		borrowedEntries.remove(entry);
+		try {
+			if (closed || entry.connection.isClosed()) {
+				destroy(entry);
+			} else {
+				// コミットされていない変更は破棄する
+				if (!entry.autoCommit) {
+					entry.connection.rollback();
+				}
+				entry.lastUsedAt = System.nanoTime();
+				idleEntries.offerFirst(entry);
+				signalIdle();
+			}
+		} catch (SQLException ex) {
+			LOG.warn("Failed to return the connection to the pool.", ex);
+			destroy(entry);
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * コネクションの生成<br>
+	 * 生成前に物理コネクション数を加算して枠を確保し、最大接続数を超えて生成しないようにする
+	 *
+	 * @return 生成したコネクション. 物理コネクション数が最大接続数に達している場合は<code>null</code>
+	 * @throws SQLException SQL例外
+	 */
+	private PoolEntry createEntry() throws SQLException {
+		int count;
+		do {
+			count = totalCount.get();
+			if (count >= maxPoolSize) {
+				return null;
+			}
+		} while (!totalCount.compareAndSet(count, count + 1));
+
+		Connection connection = null;
+		try {
+			connection = DriverManager.getConnection(url, user, password);
+			if (schema != null) {
+				connection.setSchema(schema);
+			}
+			return new PoolEntry(connection);
+		} catch (SQLException | RuntimeException ex) {
+			totalCount.decrementAndGet();
+			if (connection != null) {
+				try {
+					connection.close();
+				} catch (SQLException e) {
+					ex.addSuppressed(e);
+				}
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * コネクションの有効性検証
+	 *
+	 * @param entry コネクション
+	 * @return 有効な場合は<code>true</code>
+	 */
+	private boolean isValid(final PoolEntry entry) {
+		try {
+			return entry.connection.isValid(validationTimeoutSeconds);
+		} catch (SQLException ex) {
+			LOG.debug("Connection validation failed.", ex);
+			return false;
+		}
+	}
+
+	/**
+	 * コネクションの破棄
+	 *
+	 * @param entry コネクション
+	 */
+	private void destroy(final PoolEntry entry) {
+		totalCount.decrementAndGet();
+		try {
+			entry.connection.close();
+		} catch (SQLException ex) {
+			LOG.warn("Failed to close the connection.", ex);
+		}
+		signalIdle();
+	}
+
+	/**
+	 * 空きコネクションの追加、または物理コネクションの破棄を待機中のスレッドに通知する
+	 */
+	private void signalIdle() {
+		synchronized (idleEntries) {
+			idleEntries.notifyAll();
+		}
+	}
+
+	/**
+	 * 空きコネクションの破棄とリーク判定<br>
+	 * 一定間隔で呼び出される
+	 */
+	void housekeep() {
+		long now = System.nanoTime();
+
+		// 使用されていない空きコネクションを古いものから破棄する
+		long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+		Iterator<PoolEntry> it = idleEntries.descendingIterator();
+		while (it.hasNext() && idleEntries.size() > minIdle) {
+			PoolEntry entry = it.next();
+			if (now - entry.lastUsedAt >= idleTimeoutNanos && idleEntries.removeLastOccurrence(entry)) {
+				destroy(entry);
+			}
+		}
+
+		// 最小空き数までコネクションを生成する
+		while (!closed && idleEntries.size() < minIdle) {
+			try {
+				PoolEntry entry = createEntry();
+				if (entry == null) {
+					break;
+				}
+				entry.lastUsedAt = now;
+				idleEntries.offerLast(entry);
+				signalIdle();
+			} catch (SQLException ex) {
+				LOG.warn("Failed to create the connection.", ex);
+				break;
+			}
+		}
+
+		// 返却されないコネクションをリークとして出力する
+		if (leakDetectionThresholdMillis > 0) {
+			long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakDetectionThresholdMillis);
+			for (PoolEntry entry : borrowedEntries) {
+				if (!entry.leakReported && now - entry.borrowedAt >= thresholdNanos) {
+					entry.leakReported = true;
+					LOG.warn("Connection leak detection triggered. The connection has not been returned for {}ms.",
+							TimeUnit.NANOSECONDS.toMillis(now - entry.borrowedAt), entry.borrowedTrace);
+				}
+			}
+		}
+	}
+
+	/**
+	 * リークと判定されたコネクション数の取得
+	 *
+	 * @return リークと判定された貸し出し中のコネクション数
+	 */
+	public int getLeakedCount() {
+		int count = 0;
+		for (PoolEntry entry : borrowedEntries) {
+			if (entry.leakReported) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 物理コネクション数の取得
+	 *
+	 * @return 物理コネクション数
+	 */
+	public int getTotalCount() {
+		return totalCount.get();
+	}
+
+	/**
+	 * 空きコネクション数の取得
+	 *
+	 * @return 空きコネクション数
+	 */
+	public int getIdleCount() {
+		return idleEntries.size();
+	}
+
+	/**
+	 * 貸し出し中のコネクション数の取得
+	 *
+	 * @return 貸し出し中のコネクション数
+	 */
+	public int getActiveCount() {
+		return borrowedEntries.size();
+	}
+
+	/**
+	 * コネクション取得時の待機時間のヒストグラムの取得
+	 *
+	 * @return コネクション取得時の待機時間のヒストグラム
+	 */
+	public WaitTimeHistogram getBorrowWaitHistogram() {
+		return borrowWaitHistogram;
+	}
+
+	/**
+	 * プール開始後の設定変更の検査
+	 */
+	private void checkNotStarted() {
+		if (permits != null) {
+			throw new IllegalStateException("Connection pool has already been started.");
+		}
+	}
+
+	/**
+	 * 最大接続数の取得
+	 *
+	 * @return 最大接続数. 初期値は<code>10</code>
+	 */
+	public int getMaxPoolSize() {
+		return maxPoolSize;
+	}
+
+	/**
+	 * 最大接続数の設定<br>
+	 * 最初のコネクション取得前に設定すること
+	 *
+	 * @param maxPoolSize 最大接続数
+	 */
+	public void setMaxPoolSize(final int maxPoolSize) {
+		checkNotStarted();
+		if (maxPoolSize < 1) {
+			throw new IllegalArgumentException("maxPoolSize must be greater than 0. [" + maxPoolSize + "]");
+		}
+		this.maxPoolSize = maxPoolSize;
+	}
+
+	/**
+	 * 最小空き数の取得
+	 *
+	 * @return 最小空き数. 初期値は<code>0</code>
+	 */
+	public int getMinIdle() {
+		return minIdle;
+	}
+
+	/**
+	 * 最小空き数の設定<br>
+	 * 空きコネクションの破棄時にこの数を残し、不足している場合は最大接続数を超えない範囲で生成する
+	 *
+	 * @param minIdle 最小空き数. <code>0</code>以上、最大接続数以下であること
+	 */
+	public void setMinIdle(final int minIdle) {
+		if (minIdle < 0 || minIdle > maxPoolSize) {
+			throw new IllegalArgumentException(
+					"minIdle must be between 0 and maxPoolSize. [minIdle=" + minIdle + ", maxPoolSize=" + maxPoolSize + "]");
+		}
+		this.minIdle = minIdle;
+	}
+
+	/**
+	 * コネクション取得時の最大待機時間（ms）の取得
+	 *
+	 * @return コネクション取得時の最大待機時間（ms）. 初期値は<code>30000</code>
+	 */
+	public long getMaxWaitMillis() {
+		return maxWaitMillis;
+	}
+
+	/**
+	 * コネクション取得時の最大待機時間（ms）の設定
+	 *
+	 * @param maxWaitMillis コネクション取得時の最大待機時間（ms）
+	 */
+	public void setMaxWaitMillis(final long maxWaitMillis) {
+		this.maxWaitMillis = maxWaitMillis;
+	}
+
+	/**
+	 * 空きコネクションを破棄するまでの時間（ms）の取得
+	 *
+	 * @return 空きコネクションを破棄するまでの時間（ms）. 初期値は<code>600000</code>
+	 */
+	public long getIdleTimeoutMillis() {
+		return idleTimeoutMillis;
+	}
+
+	/**
+	 * 空きコネクションを破棄するまでの時間（ms）の設定
+	 *
+	 * @param idleTimeoutMillis 空きコネクションを破棄するまでの時間（ms）
+	 */
+	public void setIdleTimeoutMillis(final long idleTimeoutMillis) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	/**
+	 * 有効性検証のタイムアウト（s）の取得
+	 *
+	 * @return 有効性検証のタイムアウト（s）. 初期値は<code>5</code>
+	 */
+	public int getValidationTimeoutSeconds() {
+		return validationTimeoutSeconds;
+	}
+
+	/**
+	 * 有効性検証のタイムアウト（s）の設定
+	 *
+	 * @param validationTimeoutSeconds 有効性検証のタイムアウト（s）. <code>0</code>の場合はタイムアウトしない
+	 */
+	public void setValidationTimeoutSeconds(final int validationTimeoutSeconds) {
+		this.validationTimeoutSeconds = validationTimeoutSeconds;
+	}
+
+	/**
+	 * リークと判定するまでの時間（ms）の取得
+	 *
+	 * @return リークと判定するまでの時間（ms）. 初期値は<code>0</code>（判定しない）
+	 */
+	public long getLeakDetectionThresholdMillis() {
+		return leakDetectionThresholdMillis;
+	}
+
+	/**
+	 * リークと判定するまでの時間（ms）の設定<br>
+	 * 判定を行う場合は貸し出し時にスタックトレースを取得し、リークと判定した際にログに出力する
+	 *
+	 * @param leakDetectionThresholdMillis リークと判定するまでの時間（ms）. <code>0</code>の場合は判定しない
+	 */
+	public void setLeakDetectionThresholdMillis(final long leakDetectionThresholdMillis) {
+		this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+	}
+
+	/**
+	 * 空きコネクションの破棄とリーク判定を行う間隔（ms）の取得
+	 *
+	 * @return 空きコネクションの破棄とリーク判定を行う間隔（ms）. 初期値は<code>30000</code>
+	 */
+	public long getHousekeepingPeriodMillis() {
+		return housekeepingPeriodMillis;
+	}
+
+	/**
+	 * 空きコネクションの破棄とリーク判定を行う間隔（ms）の設定<br>
+	 * 最初のコネクション取得前に設定すること
+	 *
+	 * @param housekeepingPeriodMillis 空きコネクションの破棄とリーク判定を行う間隔（ms）
+	 */
+	public void setHousekeepingPeriodMillis(final long housekeepingPeriodMillis) {
+		checkNotStarted();
+		this.housekeepingPeriodMillis = housekeepingPeriodMillis;
+	}
+
+	/**
+	 * JDBCスキーマ名を取得
+	 *
+	 * @return JDBCスキーマ名
+	 */
+	protected String getSchema() {
+		return schema;
+	}
+
+	/**
+	 * JDBCスキーマ名を設定<br>
+	 * 以降に生成するコネクションに適用する
+	 *
+	 * @param schema スキーマ名
+	 */
+	public void setSchema(final String schema) {
+		this.schema = schema;
+	}
+
+	/**
+	 * AutoCommitオプションの指定
+	 *
+	 * @param autoCommit AutoCommitを行う場合は<code>true</code>
+	 */
+	public void setDefaultAutoCommit(final boolean autoCommit) {
+		this.autoCommit = autoCommit;
+	}
+
+	/**
+	 * AutoCommitオプションの取得
+	 *
+	 * @return AutoCommitを行う場合は<code>true</code>. 初期値は<code>false</code>
+	 */
+	protected boolean getAutoCommit() {
+		return autoCommit;
+	}
+
+	/**
+	 * ReadOnlyオプションの指定
+	 *
+	 * @param readOnly readOnlyを指定する場合は<code>true</code>
+	 */
+	public void setDefaultReadOnly(final boolean readOnly) {
+		this.readOnly = readOnly;
+	}
+
+	/**
+	 * ReadOnlyオプションの取得
+	 *
+	 * @return readOnlyの場合は<code>true</code>. 初期値は<code>false</code>
+	 */
+	protected boolean getReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * transactionIsolationオプションの指定
+	 *
+	 * @see Connection#TRANSACTION_READ_UNCOMMITTED
+	 * @see Connection#TRANSACTION_READ_COMMITTED
+	 * @see Connection#TRANSACTION_REPEATABLE_READ
+	 * @see Connection#TRANSACTION_SERIALIZABLE
+	 *
+	 * @param transactionIsolation transactionIsolationオプション
+	 */
+	public void setDefaultTransactionIsolation(final int transactionIsolation) {
+		if (Connection.TRANSACTION_READ_UNCOMMITTED == transactionIsolation
+				|| Connection.TRANSACTION_READ_COMMITTED == transactionIsolation
+				|| Connection.TRANSACTION_REPEATABLE_READ == transactionIsolation
+				|| Connection.TRANSACTION_SERIALIZABLE == transactionIsolation) {
+			this.transactionIsolation = transactionIsolation;
+		} else {
+			throw new IllegalArgumentException("Unsupported level [" + transactionIsolation + "]");
+		}
+	}
+
+	/**
+	 * transactionIsolationオプションの取得
+	 *
+	 * @return transactionIsolationオプション. 指定しない場合は<code>-1</code>
+	 */
+	protected int getTransactionIsolation() {
+		return transactionIsolation;
+	}
+
+	/**
+	 * プールで管理する物理コネクション<br>
+	 * 物理コネクションの状態（AutoCommit、ReadOnly、transactionIsolation）を保持し、設定値と異なる場合のみ変更する
+	 */
+	private final class PoolEntry {
+		/** 物理コネクション */
+		private final Connection connection;
+
+		/** 現在のAutoCommit */
+		private boolean autoCommit;
+
+		/** 現在のReadOnly */
+		private boolean readOnly;
+
+		/** 現在のtransactionIsolation */
+		private int transactionIsolation;
+
+		/** 最後に返却された時刻（ナノ秒） */
+		private volatile long lastUsedAt;
+
+		/** 貸し出した時刻（ナノ秒） */
+		private volatile long borrowedAt;
+
+		/** 貸し出し時のスタックトレース */
+		private volatile Exception borrowedTrace;
+
+		/** リークとして出力済みかどうか */
+		private volatile boolean leakReported;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param connection 物理コネクション
+		 * @throws SQLException SQL例外
+		 */
+		PoolEntry(final Connection connection) throws SQLException {
+			this.connection = connection;
+			this.autoCommit = connection.getAutoCommit();
+			this.readOnly = connection.isReadOnly();
+			this.transactionIsolation = connection.getTransactionIsolation();
+		}
+
+		/**
+		 * 設定値の適用
+		 *
+		 * @throws SQLException SQL例外
+		 */
+		void applySettings() throws SQLException {
+			setAutoCommit(getAutoCommit());
+			setReadOnly(getReadOnly());
+			int level = getTransactionIsolation();
+			if (level > 0) {
+				setTransactionIsolation(level);
+			}
+		}
+
+		/**
+		 * AutoCommitの変更
+		 *
+		 * @param value AutoCommit
+		 * @throws SQLException SQL例外
+		 */
+		void setAutoCommit(final boolean value) throws SQLException {
+			if (autoCommit != value) {
+				connection.setAutoCommit(value);
+				autoCommit = value;
+			}
+		}
+
+		/**
+		 * ReadOnlyの変更
+		 *
+		 * @param value ReadOnly
+		 * @throws SQLException SQL例外
+		 */
+		void setReadOnly(final boolean value) throws SQLException {
+			if (readOnly != value) {
+				connection.setReadOnly(value);
+				readOnly = value;
+			}
+		}
+
+		/**
+		 * transactionIsolationの変更
+		 *
+		 * @param value transactionIsolation
+		 * @throws SQLException SQL例外
+		 */
+		void setTransactionIsolation(final int value) throws SQLException {
+			if (transactionIsolation != value) {
+				connection.setTransactionIsolation(value);
+				transactionIsolation = value;
+			}
+		}
+	}
+
+	/**
+	 * 貸し出したコネクション<br>
+	 * クローズ時は物理コネクションをクローズせず、プールに返却する
+	 */
+	private final class PooledConnection extends CloseIgnoringConnectionWrapper {
+		/** 貸し出したコネクション */
+		private final PoolEntry entry;
+
+		/** 返却済みかどうか */
+		private final AtomicBoolean returned = new AtomicBoolean(false);
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param entry 貸し出したコネクション
+		 */
+		PooledConnection(final PoolEntry entry) {
+			super(entry.connection);
+			this.entry = entry;
+		}
+
+		@Override
+		protected Connection getOriginal() throws SQLException {
+			// 返却後の物理コネクションは他の呼び出し元に貸し出されている可能性があるため使用させない
+			if (returned.get()) {
+				throw new SQLException("Connection is closed");
+			}
+			return super.getOriginal();
+		}
+
+		@Override
+		public void close() throws SQLException {
+			if (returned.compareAndSet(false, true)) {
+				returnEntry(entry);
+			}
+		}
+
+		@Override
+		public boolean isClosed() throws SQLException {
+			return returned.get() || super.isClosed();
+		}
+
+		@Override
+		public void setAutoCommit(final boolean autoCommit) throws SQLException {
+			getOriginal();
+			entry.setAutoCommit(autoCommit);
+		}
+
+		@Override
+		public void setReadOnly(final boolean readOnly) throws SQLException {
+			getOriginal();
+			entry.setReadOnly(readOnly);
+		}
+
+		@Override
+		public void setTransactionIsolation(final int level) throws SQLException {
+			getOriginal();
+			entry.setTransactionIsolation(level);
+		}
+	}
+}
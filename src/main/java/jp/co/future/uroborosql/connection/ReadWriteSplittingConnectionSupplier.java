@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.connection;
+
+import java.sql.Connection;
+
+/**
+ * 参照系と更新系でDB接続を振り分けるJDBCコネクション提供インターフェース<br>
+ * {@link #getConnection()}は更新系（プライマリ）のコネクションを返し、{@link #getReadConnection()}は参照系（リードレプリカ）のコネクションを返す。<br>
+ * SqlAgentは、更新SQLを実行していないトランザクションで実行する検索SQLにのみ参照系のコネクションを使用する。
+ *
+ * @author H.Sugimoto
+ */
+public interface ReadWriteSplittingConnectionSupplier extends ConnectionSupplier {
+
+	/**
+	 * 参照系のコネクション取得。
+	 *
+	 * @return 参照系のコネクション
+	 */
+	Connection getReadConnection();
+}
@@ -0,0 +1,376 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.connection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+/**
+ * 参照系と更新系でDB接続を振り分けるJDBCコネクション提供クラス<br>
+ * 更新系のコネクションはプライマリから取得し、参照系のコネクションは複数のリードレプリカから負荷分散して取得する。<br>
+ * コネクションの取得に失敗したリードレプリカは一定時間振り分け対象から除外し、全てのリードレプリカが利用できない場合はプライマリのコネクションを返す。
+ *
+ * @author H.Sugimoto
+ */
+public class ReadWriteSplittingConnectionSupplierImpl implements ReadWriteSplittingConnectionSupplier {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(ReadWriteSplittingConnectionSupplierImpl.class);
+
+	/**
+	 * リードレプリカの負荷分散方式
+	 */
+	public enum BalanceStrategy {
+		/** ラウンドロビン */
+		ROUND_ROBIN,
+		/** 使用中のコネクション数が最も少ないリードレプリカを優先 */
+		LEAST_IN_FLIGHT
+	}
+
+	/** プライマリのコネクション提供クラス */
+	private final ConnectionSupplier primary;
+
+	/** リードレプリカ */
+	private final Replica[] replicas;
+
+	/** 負荷分散方式 */
+	private final BalanceStrategy strategy;
+
+	/** 振り分けの開始位置 */
+	private final AtomicInteger sequence = new AtomicInteger();
+
+	/** 参照系のコネクションをプライマリから取得した回数 */
+	private final LongAdder fallbackCount = new LongAdder();
+
+	/** 全てのリードレプリカが利用できない場合にプライマリのコネクションを返すかどうか */
+	private volatile boolean fallbackToPrimary = true;
+
+	/** コネクションの取得に失敗したリードレプリカを振り分け対象から除外する時間（ミリ秒） */
+	private volatile long retryIntervalMillis = 30000L;
+
+	/**
+	 * コンストラクタ<br>
+	 * リードレプリカはラウンドロビンで振り分ける
+	 *
+	 * @param primary プライマリのコネクション提供クラス
+	 * @param replicas リードレプリカのコネクション提供クラス
+	 */
+	public ReadWriteSplittingConnectionSupplierImpl(final ConnectionSupplier primary,
+			final List<? extends ConnectionSupplier> replicas) {
+		this(primary, replicas, BalanceStrategy.ROUND_ROBIN);
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param primary プライマリのコネクション提供クラス
+	 * @param replicas リードレプリカのコネクション提供クラス
+	 * @param strategy 負荷分散方式
+	 */
+	public ReadWriteSplittingConnectionSupplierImpl(final ConnectionSupplier primary,
+			final List<? extends ConnectionSupplier> replicas, final BalanceStrategy strategy) {
+		if (primary == null) {
+			throw new IllegalArgumentException("primary is required.");
+		}
+		if (strategy == null) {
+			throw new IllegalArgumentException("strategy is required.");
+		}
+		this.primary = primary;
+		this.strategy = strategy;
+		this.replicas = new Replica[replicas == null ? 0 : replicas.size()];
+		for (int i = 0; i < this.replicas.length; i++) {
+			this.replicas[i] = new Replica(i, replicas.get(i));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * プライマリのコネクションを返す
+	 *
+	 * @see jp.co.future.uroborosql.connection.ConnectionSupplier#getConnection()
+	 */
+	@Override
+	public Connection getConnection() {
+		return primary.getConnection();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * プライマリのコネクションを返す
+	 *
+	 * @see jp.co.future.uroborosql.connection.ConnectionSupplier#getConnection(java.lang.String)
+	 */
+	@Override
+	public Connection getConnection(final String alias) {
+		return primary.getConnection(alias);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.connection.ConnectionSupplier#getDatabaseName()
+	 */
+	@Override
+	public String getDatabaseName() {
+		return primary.getDatabaseName();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * 負荷分散方式に従ってリードレプリカを選択し、コネクションの取得に失敗した場合は他のリードレプリカを試行する。
+	 *
+	 * @see jp.co.future.uroborosql.connection.ReadWriteSplittingConnectionSupplier#getReadConnection()
+	 */
+	@Override
+	public Connection getReadConnection() {
+		int size = replicas.length;
+		if (size > 0) {
+			int start = Math.floorMod(sequence.getAndIncrement(), size);
+			long now = System.nanoTime();
+			boolean[] tried = new boolean[size];
+			for (int attempt = 0; attempt < size; attempt++) {
+				Replica replica = select(start, tried, now);
+				if (replica == null) {
+					break;
+				}
+				tried[replica.index] = true;
+				Connection conn = replica.connect();
+				if (conn != null) {
+					return conn;
+				}
+			}
+		}
+		if (!fallbackToPrimary) {
+			throw new UroborosqlRuntimeException("No read replica is available.");
+		}
+		fallbackCount.increment();
+		LOG.debug("No read replica is available. Use the primary connection.");
+		return primary.getConnection();
+	}
+
+	/**
+	 * 振り分け先のリードレプリカを選択する
+	 *
+	 * @param start 振り分けの開始位置
+	 * @param tried 試行済みのリードレプリカ
+	 * @param now 現在時刻（ナノ秒）
+	 * @return 振り分け先のリードレプリカ. 利用可能なリードレプリカがない場合は<code>null</code>
+	 */
+	private Replica select(final int start, final boolean[] tried, final long now) {
+		Replica selected = null;
+		for (int i = 0; i < replicas.length; i++) {
+			Replica replica = replicas[(start + i) % replicas.length];
+			if (tried[replica.index] || !replica.isAvailable(now)) {
+				continue;
+			}
+			if (strategy == BalanceStrategy.ROUND_ROBIN) {
+				return replica;
+			}
+			if (selected == null || replica.inFlight.get() < selected.inFlight.get()) {
+				selected = replica;
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * 負荷分散方式の取得
+	 *
+	 * @return 負荷分散方式
+	 */
+	public BalanceStrategy getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * リードレプリカの数の取得
+	 *
+	 * @return リードレプリカの数
+	 */
+	public int getReplicaCount() {
+		return replicas.length;
+	}
+
+	/**
+	 * リードレプリカから取得して使用中のコネクション数の取得
+	 *
+	 * @param index リードレプリカのインデックス
+	 * @return 使用中のコネクション数
+	 */
+	public int getInFlightCount(final int index) {
+		return replicas[index].inFlight.get();
+	}
+
+	/**
+	 * リードレプリカが振り分け対象かどうかの取得
+	 *
+	 * @param index リードレプリカのインデックス
+	 * @return 振り分け対象の場合<code>true</code>
+	 */
+	public boolean isAvailable(final int index) {
+		return replicas[index].isAvailable(System.nanoTime());
+	}
+
+	/**
+	 * 参照系のコネクションをプライマリから取得した回数の取得
+	 *
+	 * @return 参照系のコネクションをプライマリから取得した回数
+	 */
+	public long getFallbackCount() {
+		return fallbackCount.sum();
+	}
+
+	/**
+	 * 全てのリードレプリカが利用できない場合にプライマリのコネクションを返すかどうかの取得
+	 *
+	 * @return プライマリのコネクションを返す場合<code>true</code>
+	 */
+	public boolean isFallbackToPrimary() {
+		return fallbackToPrimary;
+	}
+
+	/**
+	 * 全てのリードレプリカが利用できない場合にプライマリのコネクションを返すかどうかの設定<br>
+	 * <code>false</code>の場合は{@link UroborosqlRuntimeException}をスローする
+	 *
+	 * @param fallbackToPrimary プライマリのコネクションを返す場合<code>true</code>
+	 */
+	public void setFallbackToPrimary(final boolean fallbackToPrimary) {
+		this.fallbackToPrimary = fallbackToPrimary;
+	}
+
+	/**
+	 * コネクションの取得に失敗したリードレプリカを振り分け対象から除外する時間（ミリ秒）の取得
+	 *
+	 * @return 除外する時間（ミリ秒）
+	 */
+	public long getRetryIntervalMillis() {
+		return retryIntervalMillis;
+	}
+
+	/**
+	 * コネクションの取得に失敗したリードレプリカを振り分け対象から除外する時間（ミリ秒）の設定
+	 *
+	 * @param retryIntervalMillis 除外する時間（ミリ秒）
+	 */
+	public void setRetryIntervalMillis(final long retryIntervalMillis) {
+		this.retryIntervalMillis = retryIntervalMillis;
+	}
+
+	/**
+	 * リードレプリカ
+	 */
+	private final class Replica {
+		/** インデックス */
+		private final int index;
+
+		/** コネクション提供クラス */
+		private final ConnectionSupplier supplier;
+
+		/** 使用中のコネクション数 */
+		private final AtomicInteger inFlight = new AtomicInteger();
+
+		/** 振り分け対象から除外しているかどうか */
+		private volatile boolean down = false;
+
+		/** 振り分け対象に戻す時刻（ナノ秒） */
+		private volatile long retryAt;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param index インデックス
+		 * @param supplier コネクション提供クラス
+		 */
+		Replica(final int index, final ConnectionSupplier supplier) {
+			this.index = index;
+			this.supplier = supplier;
+		}
+
+		/**
+		 * 振り分け対象かどうか
+		 *
+		 * @param now 現在時刻（ナノ秒）
+		 * @return 振り分け対象の場合<code>true</code>
+		 */
+		boolean isAvailable(final long now) {
+			return !down || now - retryAt >= 0;
+		}
+
+		/**
+		 * コネクションの取得. 取得に失敗した場合は振り分け対象から除外する
+		 *
+		 * @return コネクション. 取得に失敗した場合は<code>null</code>
+		 */
+		Connection connect() {
+			Connection conn;
+			try {
+				conn = supplier.getConnection();
+			} catch (RuntimeException ex) {
+				LOG.warn("Failed to get a connection from read replica[{}].", index, ex);
+				conn = null;
+			}
+			if (conn == null) {
+				retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryIntervalMillis);
+				down = true;
+				return null;
+			}
+			down = false;
+			inFlight.incrementAndGet();
+			return new ReplicaConnection(this, conn);
+		}
+	}
+
+	/**
+	 * リードレプリカから取得したコネクション<br>
+	 * クローズ時に使用中のコネクション数を減らす
+	 */
+	private static final class ReplicaConnection extends CloseIgnoringConnectionWrapper {
+		/** 取得元のリードレプリカ */
+		private final Replica replica;
+
+		/** 元となるコネクション */
+		private final Connection original;
+
+		/** クローズ済みかどうか */
+		private volatile boolean closed = false;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param replica 取得元のリードレプリカ
+		 * @param original 元となるコネクション
+		 */
+		ReplicaConnection(final Replica replica, final Connection original) {
+			super(original);
+			this.replica = replica;
+			this.original = original;
+		}
+
+		@Override
+		public void close() throws SQLException {
+			if (!closed) {
+				closed = true;
+				replica.inFlight.decrementAndGet();
+				original.close();
+			}
+		}
+
+		@Override
+		public boolean isClosed() throws SQLException {
+			return closed || super.isClosed();
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.connection;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 待機時間のヒストグラム<br>
+ * 待機時間をミリ秒単位の固定の区間ごとに集計する。記録処理はロックを使用しない。
+ *
+ * @author H.Sugimoto
+ */
+public final class WaitTimeHistogram {
+	/** 区間の上限（ミリ秒、上限を含まない）. 最後の区間は上限なし */
+	private static final long[] BUCKET_BOUNDS = { 1, 5, 10, 50, 100, 500, 1000, 5000 };
+
+	/** 区間ごとの件数. 要素数は{@link #BUCKET_BOUNDS}の要素数 + 1 */
+	private final LongAdder[] counts;
+
+	/** 待機時間の合計（ナノ秒） */
+	private final LongAdder totalNanos = new LongAdder();
+
+	/** 待機時間の最大値（ナノ秒） */
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+	/**
+	 * コンストラクタ
+	 */
+	public WaitTimeHistogram() {
+		counts = new LongAdder[BUCKET_BOUNDS.length + 1];
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * 待機時間の記録
+	 *
+	 * @param nanos 待機時間（ナノ秒）
+	 */
+	public void record(final long nanos) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		int idx = 0;
+		while (idx < BUCKET_BOUNDS.length && millis >= BUCKET_BOUNDS[idx]) {
+			idx++;
+		}
+		counts[idx].increment();
+		totalNanos.add(nanos);
+		maxNanos.accumulate(nanos);
+	}
+
+	/**
+	 * 区間の上限（ミリ秒、上限を含まない）の取得<br>
+	 * {@link #getCounts()}の最後の要素は、この配列の最後の値以上の待機時間の件数となる
+	 *
+	 * @return 区間の上限
+	 */
+	public long[] getBucketBounds() {
+		return BUCKET_BOUNDS.clone();
+	}
+
+	/**
+	 * 区間ごとの件数の取得
+	 *
+	 * @return 区間ごとの件数. 要素数は{@link #getBucketBounds()}の要素数 + 1
+	 */
+	public long[] getCounts() {
+		long[] result = new long[counts.length];
+		for (int i = 0; i < counts.length; i++) {
+			result[i] = counts[i].sum();
+		}
+		return result;
+	}
+
+	/**
+	 * 記録した件数の取得
+	 *
+	 * @return 記録した件数
+	 */
+	public long getCount() {
+		long count = 0;
+		for (LongAdder adder : counts) {
+			count += adder.sum();
+		}
+		return count;
+	}
+
+	/**
+	 * 待機時間の平均値（ミリ秒）の取得
+	 *
+	 * @return 待機時間の平均値. 記録がない場合は<code>0.0</code>
+	 */
+	public double getMeanMillis() {
+		long count = getCount();
+		return count == 0 ? 0.0 : totalNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * 待機時間の最大値（ミリ秒）の取得
+	 *
+	 * @return 待機時間の最大値
+	 */
+	public double getMaxMillis() {
+		return maxNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * 記録のリセット
+	 */
+	public void reset() {
+		for (LongAdder adder : counts) {
+			adder.reset();
+		}
+		totalNanos.reset();
+		maxNanos.reset();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("WaitTimeHistogram [");
+		long[] values = getCounts();
+		for (int i = 0; i < values.length; i++) {
+			builder.append(i < BUCKET_BOUNDS.length ? "<" + BUCKET_BOUNDS[i] : ">=" + BUCKET_BOUNDS[i - 1])
+					.append("ms=").append(values[i]).append(", ");
+		}
+		return builder.append("mean=").append(getMeanMillis()).append("ms, max=").append(getMaxMillis())
+				.append("ms]").toString();
+	}
+}
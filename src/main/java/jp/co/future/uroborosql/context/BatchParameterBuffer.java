@@ -0,0 +1,615 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.context;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import jp.co.future.uroborosql.parameter.Parameter;
+import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+import jp.co.future.uroborosql.utils.PropertyAccessor;
+
+/**
+ * バッチパラメータの列指向バッファ<br>
+ * バッチに追加された行のパラメータを、パラメータ名ごとの列に格納する。行ごとのパラメータMapは保持しない。<br>
+ * 型やSQL型の指定がない単純なパラメータは値のみを保持し、値がすべてIntegerまたはすべてLongの列はプリミティブ配列で保持する。
+ * それ以外のパラメータはパラメータオブジェクトのまま保持する。<br>
+ * バインド時は、パラメータオブジェクトを保持していない値をパラメータオブジェクトを生成せずに列と行の位置からステートメントへ直接バインドする。<br>
+ * Beanを行として追加する場合は、フィールドごとのアクセッサと列番号をクラスごとに解決し、フィールド値を列に直接格納する。
+ *
+ * @author H.Sugimoto
+ */
+final class BatchParameterBuffer {
+	/** 列の初期容量 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** パラメータ名をキーとした列番号 */
+	private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+	/** 列 */
+	private final List<Column> columns = new ArrayList<>();
+
+	/** 行数 */
+	private int rowCount = 0;
+
+	/** 直前に追加したBeanの型 */
+	private Class<?> beanType = null;
+
+	/** 直前に追加したBeanの型のフィールドのアクセッサ */
+	private List<PropertyAccessor> beanAccessors = null;
+
+	/** 直前に追加したBeanの型のフィールドに対応する列番号 */
+	private int[] beanColumns = null;
+
+	/**
+	 * 行の追加
+	 *
+	 * @param parameterMap 追加する行のパラメータ
+	 */
+	void addRow(final Map<String, Parameter> parameterMap) {
+		int row = rowCount++;
+		putParameters(row, parameterMap);
+	}
+
+	/**
+	 * Beanのフィールド値を加えた行の追加<br>
+	 * Beanのフィールド値はパラメータオブジェクトを生成せず、クラスごとに解決した列へ直接格納する。
+	 * 同名のパラメータがある場合はBeanのフィールド値を優先する。
+	 *
+	 * @param parameterMap 追加する行のパラメータ
+	 * @param bean 追加する行のBean
+	 */
+	void addRow(final Map<String, Parameter> parameterMap, final Object bean) {
+		int row = rowCount++;
+		putParameters(row, parameterMap);
+
+		Class<?> type = bean.getClass();
+		if (type != beanType) {
+			beanAccessors = PropertyAccessor.fieldsOf(type);
+			beanColumns = new int[beanAccessors.size()];
+			for (int i = 0; i < beanColumns.length; i++) {
+				beanColumns[i] = columnIndex(beanAccessors.get(i).getName());
+			}
+			beanType = type;
+		}
+		for (int i = 0; i < beanColumns.length; i++) {
+			int index = beanColumns[i];
+			Column column = columns.get(index);
+			Column stored = column.setValue(row, beanAccessors.get(i).get(bean));
+			if (stored != column) {
+				columns.set(index, stored);
+			}
+		}
+	}
+
+	/**
+	 * パラメータを列に格納する
+	 *
+	 * @param row 行番号
+	 * @param parameterMap パラメータ
+	 */
+	private void putParameters(final int row, final Map<String, Parameter> parameterMap) {
+		for (Map.Entry<String, Parameter> entry : parameterMap.entrySet()) {
+			int index = columnIndex(entry.getKey());
+			Column column = columns.get(index);
+			Column stored = column.set(row, entry.getValue());
+			if (stored != column) {
+				columns.set(index, stored);
+			}
+		}
+	}
+
+	/**
+	 * パラメータ名に対応する列番号を取得する. 列がない場合は追加する
+	 *
+	 * @param parameterName パラメータ名
+	 * @return 列番号
+	 */
+	private int columnIndex(final String parameterName) {
+		Integer index = columnIndexes.get(parameterName);
+		if (index == null) {
+			index = columns.size();
+			columnIndexes.put(parameterName, index);
+			columns.add(new IntColumn(parameterName));
+		}
+		return index;
+	}
+
+	/**
+	 * 行数の取得
+	 *
+	 * @return 行数
+	 */
+	int size() {
+		return rowCount;
+	}
+
+	/**
+	 * バッファのクリア
+	 */
+	void clear() {
+		columnIndexes.clear();
+		columns.clear();
+		rowCount = 0;
+		beanType = null;
+		beanAccessors = null;
+		beanColumns = null;
+	}
+
+	/**
+	 * パラメータ名に対応する列番号の取得
+	 *
+	 * @param parameterName パラメータ名
+	 * @return 列番号. 列がない場合は<code>-1</code>
+	 */
+	int getColumnIndex(final String parameterName) {
+		Integer index = columnIndexes.get(parameterName);
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * パラメータの取得
+	 *
+	 * @param column 列番号
+	 * @param row 行番号
+	 * @return パラメータ. 行にパラメータがない場合は<code>null</code>
+	 */
+	Parameter getParameter(final int column, final int row) {
+		return columns.get(column).get(row);
+	}
+
+	/**
+	 * パラメータオブジェクトを生成せずに値をステートメントへ直接バインドする<br>
+	 * パラメータオブジェクトとして保持している値や、複数のバインドパラメータに展開する値、変換Mapperの判定が必要な値はバインドしない
+	 *
+	 * @param column 列番号
+	 * @param row 行番号
+	 * @param preparedStatement ステートメント
+	 * @param parameterIndex パラメータインデックス
+	 * @param parameterMapperManager パラメータ変換管理クラス
+	 * @return バインドした場合<code>true</code>. バインドしなかった場合は{@link #getParameter(int, int)}で取得したパラメータをバインドすること
+	 * @throws SQLException SQL例外
+	 */
+	boolean bind(final int column, final int row, final PreparedStatement preparedStatement, final int parameterIndex,
+			final BindParameterMapperManager parameterMapperManager) throws SQLException {
+		Column target = columns.get(column);
+		return target.isPresent(row) && target.bind(row, preparedStatement, parameterIndex, parameterMapperManager);
+	}
+
+	/**
+	 * 行のパラメータを参照するMapの取得<br>
+	 * 返却するMapは参照専用で、バッファの内容を直接参照する。
+	 *
+	 * @param row 行番号
+	 * @return 行のパラメータを参照するMap
+	 */
+	Map<String, Parameter> getRow(final int row) {
+		return new RowMap(row);
+	}
+
+	/**
+	 * 行のパラメータを参照するMap
+	 */
+	private final class RowMap extends AbstractMap<String, Parameter> {
+		/** 行番号 */
+		private final int row;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param row 行番号
+		 */
+		private RowMap(final int row) {
+			this.row = row;
+		}
+
+		@Override
+		public Parameter get(final Object key) {
+			Integer index = columnIndexes.get(key);
+			return index != null ? columns.get(index).get(row) : null;
+		}
+
+		@Override
+		public boolean containsKey(final Object key) {
+			Integer index = columnIndexes.get(key);
+			return index != null && columns.get(index).isPresent(row);
+		}
+
+		@Override
+		public Set<Map.Entry<String, Parameter>> entrySet() {
+			return new AbstractSet<Map.Entry<String, Parameter>>() {
+				@Override
+				public Iterator<Map.Entry<String, Parameter>> iterator() {
+					return new Iterator<Map.Entry<String, Parameter>>() {
+						private int next = nextPresent(0);
+
+						@Override
+						public boolean hasNext() {
+							return next < columns.size();
+						}
+
+						@Override
+						public Map.Entry<String, Parameter> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							Column column = columns.get(next);
+							next = nextPresent(next + 1);
+							return new SimpleImmutableEntry<>(column.name, column.get(row));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					int size = 0;
+					for (Column column : columns) {
+						if (column.isPresent(row)) {
+							size++;
+						}
+					}
+					return size;
+				}
+			};
+		}
+
+		private int nextPresent(final int from) {
+			int index = from;
+			while (index < columns.size() && !columns.get(index).isPresent(row)) {
+				index++;
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * パラメータ名ごとの列
+	 */
+	private abstract static class Column {
+		/** パラメータ名 */
+		protected final String name;
+
+		/** パラメータが設定された行 */
+		protected final BitSet present;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param name パラメータ名
+		 * @param present パラメータが設定された行
+		 */
+		protected Column(final String name, final BitSet present) {
+			this.name = name;
+			this.present = present;
+		}
+
+		/**
+		 * パラメータが設定されているかどうか
+		 *
+		 * @param row 行番号
+		 * @return パラメータが設定されている場合<code>true</code>
+		 */
+		boolean isPresent(final int row) {
+			return present.get(row);
+		}
+
+		/**
+		 * パラメータの設定
+		 *
+		 * @param row 行番号
+		 * @param parameter パラメータ
+		 * @return パラメータを格納した列. 格納できない型の場合は変換した列
+		 */
+		Column set(final int row, final Parameter parameter) {
+			if (parameter.getClass() == Parameter.class && parameter.getSqlType() == null) {
+				return setValue(row, parameter.getValue());
+			}
+			return toObjectColumn().setParameter(row, parameter);
+		}
+
+		/**
+		 * 値の設定
+		 *
+		 * @param row 行番号
+		 * @param value 値
+		 * @return 値を格納した列. 格納できない型の場合は変換した列
+		 */
+		abstract Column setValue(int row, Object value);
+
+		/**
+		 * パラメータの取得
+		 *
+		 * @param row 行番号
+		 * @return パラメータ. 設定されていない場合は<code>null</code>
+		 */
+		abstract Parameter get(int row);
+
+		/**
+		 * 設定されている値のステートメントへの直接バインド
+		 *
+		 * @param row 行番号
+		 * @param preparedStatement ステートメント
+		 * @param parameterIndex パラメータインデックス
+		 * @param parameterMapperManager パラメータ変換管理クラス
+		 * @return バインドした場合<code>true</code>
+		 * @throws SQLException SQL例外
+		 */
+		abstract boolean bind(int row, PreparedStatement preparedStatement, int parameterIndex,
+				BindParameterMapperManager parameterMapperManager) throws SQLException;
+
+		/**
+		 * 任意の値の列への変換
+		 *
+		 * @return 任意の値の列
+		 */
+		abstract ObjectColumn toObjectColumn();
+
+		/**
+		 * 配列を拡張する長さを取得する
+		 *
+		 * @param length 現在の長さ
+		 * @param row 格納する行番号
+		 * @return 拡張後の長さ
+		 */
+		static int capacity(final int length, final int row) {
+			return Math.max(row + 1, Math.max(length * 2, INITIAL_CAPACITY));
+		}
+	}
+
+	/**
+	 * 値がすべてIntegerの列（nullを含む）
+	 */
+	private static final class IntColumn extends Column {
+		/** 値 */
+		private int[] values = new int[0];
+
+		/** 値がnullの行 */
+		private final BitSet nulls = new BitSet();
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param name パラメータ名
+		 */
+		private IntColumn(final String name) {
+			super(name, new BitSet());
+		}
+
+		@Override
+		Column setValue(final int row, final Object value) {
+			if (value == null) {
+				present.set(row);
+				nulls.set(row);
+				return this;
+			} else if (value instanceof Integer) {
+				if (row >= values.length) {
+					values = Arrays.copyOf(values, capacity(values.length, row));
+				}
+				values[row] = (Integer) value;
+				present.set(row);
+				nulls.clear(row);
+				return this;
+			} else if (value instanceof Long && nulls.equals(present)) {
+				// Integerの値がまだない場合のみLongの列に切り替える（値の型は変えない）
+				return new LongColumn(name, present, nulls).setValue(row, value);
+			}
+			return toObjectColumn().setValue(row, value);
+		}
+
+		@Override
+		Parameter get(final int row) {
+			if (!present.get(row)) {
+				return null;
+			}
+			return new Parameter(name, nulls.get(row) ? null : (Object) values[row]);
+		}
+
+		@Override
+		boolean bind(final int row, final PreparedStatement preparedStatement, final int parameterIndex,
+				final BindParameterMapperManager parameterMapperManager) throws SQLException {
+			if (nulls.get(row)) {
+				preparedStatement.setObject(parameterIndex, null);
+			} else if (parameterMapperManager.isPassThrough(Integer.class)) {
+				preparedStatement.setInt(parameterIndex, values[row]);
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		ObjectColumn toObjectColumn() {
+			ObjectColumn column = new ObjectColumn(name, present);
+			column.values = new Object[present.length()];
+			for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+				if (!nulls.get(row)) {
+					column.values[row] = values[row];
+				}
+			}
+			return column;
+		}
+	}
+
+	/**
+	 * 値がすべてLongの列（nullを含む）
+	 */
+	private static final class LongColumn extends Column {
+		/** 値 */
+		private long[] values = new long[0];
+
+		/** 値がnullの行 */
+		private final BitSet nulls;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param name パラメータ名
+		 * @param present パラメータが設定された行
+		 * @param nulls 値がnullの行
+		 */
+		private LongColumn(final String name, final BitSet present, final BitSet nulls) {
+			super(name, present);
+			this.nulls = nulls;
+		}
+
+		@Override
+		Column setValue(final int row, final Object value) {
+			if (value == null) {
+				present.set(row);
+				nulls.set(row);
+				return this;
+			} else if (value instanceof Long) {
+				if (row >= values.length) {
+					values = Arrays.copyOf(values, capacity(values.length, row));
+				}
+				values[row] = (Long) value;
+				present.set(row);
+				nulls.clear(row);
+				return this;
+			}
+			return toObjectColumn().setValue(row, value);
+		}
+
+		@Override
+		Parameter get(final int row) {
+			if (!present.get(row)) {
+				return null;
+			}
+			return new Parameter(name, nulls.get(row) ? null : (Object) values[row]);
+		}
+
+		@Override
+		boolean bind(final int row, final PreparedStatement preparedStatement, final int parameterIndex,
+				final BindParameterMapperManager parameterMapperManager) throws SQLException {
+			if (nulls.get(row)) {
+				preparedStatement.setObject(parameterIndex, null);
+			} else if (parameterMapperManager.isPassThrough(Long.class)) {
+				preparedStatement.setLong(parameterIndex, values[row]);
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		ObjectColumn toObjectColumn() {
+			ObjectColumn column = new ObjectColumn(name, present);
+			column.values = new Object[present.length()];
+			for (int row = present.nextSetBit(0); row >= 0; row = present.nextSetBit(row + 1)) {
+				if (!nulls.get(row)) {
+					column.values[row] = values[row];
+				}
+			}
+			return column;
+		}
+	}
+
+	/**
+	 * 任意の値の列<br>
+	 * 単純なパラメータは値のみを保持し、それ以外のパラメータはパラメータオブジェクトを保持する。
+	 */
+	private static final class ObjectColumn extends Column {
+		/** 値 */
+		private Object[] values = new Object[0];
+
+		/** 単純なパラメータ以外のパラメータ（該当する行がない場合は<code>null</code>） */
+		private Parameter[] parameters = null;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param name パラメータ名
+		 * @param present パラメータが設定された行
+		 */
+		private ObjectColumn(final String name, final BitSet present) {
+			super(name, present);
+		}
+
+		@Override
+		Column setValue(final int row, final Object value) {
+			if (row >= values.length) {
+				values = Arrays.copyOf(values, capacity(values.length, row));
+			}
+			values[row] = value;
+			if (parameters != null && row < parameters.length) {
+				parameters[row] = null;
+			}
+			present.set(row);
+			return this;
+		}
+
+		/**
+		 * パラメータオブジェクトの設定
+		 *
+		 * @param row 行番号
+		 * @param parameter パラメータ
+		 * @return 自身の列
+		 */
+		Column setParameter(final int row, final Parameter parameter) {
+			if (row >= values.length) {
+				values = Arrays.copyOf(values, capacity(values.length, row));
+			}
+			if (parameters == null) {
+				parameters = new Parameter[values.length];
+			} else if (row >= parameters.length) {
+				parameters = Arrays.copyOf(parameters, values.length);
+			}
+			values[row] = null;
+			parameters[row] = parameter;
+			present.set(row);
+			return this;
+		}
+
+		@Override
+		Parameter get(final int row) {
+			if (!present.get(row)) {
+				return null;
+			}
+			if (parameters != null && row < parameters.length && parameters[row] != null) {
+				return parameters[row];
+			}
+			return new Parameter(name, values[row]);
+		}
+
+		@Override
+		boolean bind(final int row, final PreparedStatement preparedStatement, final int parameterIndex,
+				final BindParameterMapperManager parameterMapperManager) throws SQLException {
+			if (parameters != null && row < parameters.length && parameters[row] != null) {
+				return false;
+			}
+			Object value = values[row];
+			if (value == null) {
+				preparedStatement.setObject(parameterIndex, null);
+			} else if (!(value instanceof Iterable) && parameterMapperManager.isPassThrough(value.getClass())) {
+				if (value instanceof java.sql.Array) {
+					preparedStatement.setArray(parameterIndex, (java.sql.Array) value);
+				} else {
+					preparedStatement.setObject(parameterIndex, value);
+				}
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		@Override
+		ObjectColumn toObjectColumn() {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,326 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.context;
+
+/**
+ * 実行時SQLの整形処理<br>
+ * 分岐によって不要となったANDやOR、カンマおよび空行を除去する。<br>
+ * {@link SqlContextImpl#WHERE_CLAUSE_PATTERN}、{@link SqlContextImpl#REMOVE_FIRST_COMMA_PATTERN}、
+ * {@link SqlContextImpl#CLEAR_BLANK_PATTERN} による置換と同じ結果を、正規表現を使わずに文字列の走査で求める。
+ *
+ * @author H.Sugimoto
+ */
+final class ExecutableSqlCleaner {
+
+	/**
+	 * 除去対象の文字列
+	 */
+	private interface Target {
+		/**
+		 * 指定した位置から除去対象が始まる場合に、除去対象の終了位置を返す
+		 *
+		 * @param sql SQL
+		 * @param pos 開始位置
+		 * @return 除去対象の終了位置. 除去対象でない場合は<code>-1</code>
+		 */
+		int end(CharSequence sql, int pos);
+	}
+
+	/** WHERE句の直後にくるANDやOR（AND\s+|OR\s+） */
+	private static final Target AND_OR = (sql, pos) -> {
+		int end = -1;
+		if (matchesKeyword(sql, pos, "and")) {
+			end = pos + 3;
+		} else if (matchesKeyword(sql, pos, "or")) {
+			end = pos + 2;
+		}
+		if (end < 0) {
+			return -1;
+		}
+		int wsEnd = skipWhitespaces(sql, end);
+		return wsEnd > end ? wsEnd : -1;
+	};
+
+	/** 各句の最初に現れるカンマ */
+	private static final Target COMMA = (sql, pos) -> pos < sql.length() && sql.charAt(pos) == ',' ? pos + 1 : -1;
+
+	/**
+	 * コンストラクタ
+	 */
+	private ExecutableSqlCleaner() {
+	}
+
+	/**
+	 * 実行時SQLの整形
+	 *
+	 * @param sql 組み立てたSQL
+	 * @return 整形後のSQL
+	 */
+	static String clean(final String sql) {
+		String cleaned = removeWhereClauseAndOr(sql);
+		cleaned = removeFirstComma(cleaned);
+		return removeBlankLines(cleaned);
+	}
+
+	/**
+	 * where句の直後に来るANDやORの除去
+	 *
+	 * @param sql SQL
+	 * @return 除去後のSQL. 除去対象がない場合は引数のSQL
+	 */
+	static String removeWhereClauseAndOr(final String sql) {
+		StringBuilder builder = null;
+		int len = sql.length();
+		int copied = 0;
+		int pos = 0;
+		while (pos < len) {
+			int next = pos + 1;
+			if (matchesKeyword(sql, pos, "where")) {
+				int wsEnd = skipWhitespaces(sql, pos + 5);
+				if (wsEnd > pos + 5) {
+					int target = findTarget(sql, wsEnd, AND_OR);
+					if (target >= 0) {
+						if (builder == null) {
+							builder = new StringBuilder(len);
+						}
+						builder.append(sql, copied, target);
+						copied = AND_OR.end(sql, target);
+						next = copied;
+					}
+				}
+			}
+			pos = next;
+		}
+		return builder == null ? sql : builder.append(sql, copied, len).toString();
+	}
+
+	/**
+	 * 各句の直後に現れる不要なカンマの除去
+	 *
+	 * @param sql SQL
+	 * @return 除去後のSQL. 除去対象がない場合は引数のSQL
+	 */
+	static String removeFirstComma(final String sql) {
+		StringBuilder builder = null;
+		int len = sql.length();
+		int copied = 0;
+		int pos = 0;
+		while (pos < len) {
+			int next = pos + 1;
+			int clauseEnd = clauseEnd(sql, pos);
+			if (clauseEnd >= 0) {
+				int target = findTarget(sql, clauseEnd, COMMA);
+				if (target >= 0) {
+					if (builder == null) {
+						builder = new StringBuilder(len);
+					}
+					builder.append(sql, copied, target);
+					copied = target + 1;
+					next = copied;
+				}
+			}
+			pos = next;
+		}
+		return builder == null ? sql : builder.append(sql, copied, len).toString();
+	}
+
+	/**
+	 * 空行の除去<br>
+	 * 行頭から続く空白文字に改行が含まれる場合、最後の改行までを除去する
+	 *
+	 * @param sql SQL
+	 * @return 除去後のSQL. 除去対象がない場合は引数のSQL
+	 */
+	static String removeBlankLines(final String sql) {
+		StringBuilder builder = null;
+		int len = sql.length();
+		int copied = 0;
+		int pos = 0;
+		while (pos < len) {
+			// posは常に行頭
+			int wsEnd = skipWhitespaces(sql, pos);
+			int lastNewLine = wsEnd - 1;
+			while (lastNewLine >= pos && sql.charAt(lastNewLine) != '\n' && sql.charAt(lastNewLine) != '\r') {
+				lastNewLine--;
+			}
+			if (lastNewLine >= pos) {
+				if (builder == null) {
+					builder = new StringBuilder(len);
+				}
+				builder.append(sql, copied, pos);
+				copied = lastNewLine + 1;
+				pos = copied;
+			} else {
+				pos = nextLineStart(sql, wsEnd);
+			}
+		}
+		return builder == null ? sql : builder.append(sql, copied, len).toString();
+	}
+
+	/**
+	 * 句（SELECT、ORDER BY、GROUP BY、SET、左かっこ）の終了位置を取得する
+	 *
+	 * @param sql SQL
+	 * @param pos 開始位置
+	 * @return 句の後に続く空白の終了位置. 句でない場合は<code>-1</code>
+	 */
+	private static int clauseEnd(final CharSequence sql, final int pos) {
+		char ch = sql.charAt(pos);
+		int end = -1;
+		if (ch == '(') {
+			return skipWhitespaces(sql, pos + 1);
+		} else if (matchesKeyword(sql, pos, "select")) {
+			end = pos + 6;
+		} else if (matchesKeyword(sql, pos, "order") || matchesKeyword(sql, pos, "group")) {
+			int wsEnd = skipWhitespaces(sql, pos + 5);
+			if (wsEnd > pos + 5 && matchesKeyword(sql, wsEnd, "by")) {
+				end = wsEnd + 2;
+			}
+		} else if (matchesKeyword(sql, pos, "set")) {
+			end = pos + 3;
+		}
+		if (end < 0) {
+			return -1;
+		}
+		int wsEnd = skipWhitespaces(sql, end);
+		return wsEnd > end ? wsEnd : -1;
+	}
+
+	/**
+	 * コメントと空白を読み飛ばして除去対象を探す<br>
+	 * 正規表現 <code>(--.*|/\*.*\*&#47;\s*)*\s*(対象)</code> と同じ順序で候補を評価し、最初に見つかった除去対象の位置を返す
+	 *
+	 * @param sql SQL
+	 * @param pos 開始位置
+	 * @param target 除去対象
+	 * @return 除去対象の開始位置. 見つからない場合は<code>-1</code>
+	 */
+	private static int findTarget(final CharSequence sql, final int pos, final Target target) {
+		if (startsWith(sql, pos, '-', '-')) {
+			// 行コメントは長い方から評価する
+			for (int end = lineEnd(sql, pos + 2); end >= pos + 2; end--) {
+				int found = findTarget(sql, end, target);
+				if (found >= 0) {
+					return found;
+				}
+			}
+		} else if (startsWith(sql, pos, '/', '*')) {
+			// 同じ行にあるコメントの終端を後ろから評価する
+			for (int end = lineEnd(sql, pos + 2) - 2; end >= pos + 2; end--) {
+				if (startsWith(sql, end, '*', '/')) {
+					int commentEnd = end + 2;
+					for (int wsEnd = skipWhitespaces(sql, commentEnd); wsEnd >= commentEnd; wsEnd--) {
+						int found = findTarget(sql, wsEnd, target);
+						if (found >= 0) {
+							return found;
+						}
+					}
+				}
+			}
+		}
+		int wsEnd = skipWhitespaces(sql, pos);
+		return target.end(sql, wsEnd) >= 0 ? wsEnd : -1;
+	}
+
+	/**
+	 * 指定した位置から英字のキーワードが始まるかどうか（ASCIIの範囲で大文字小文字を区別しない）
+	 *
+	 * @param sql SQL
+	 * @param pos 開始位置
+	 * @param keyword 小文字のキーワード
+	 * @return キーワードが始まる場合<code>true</code>
+	 */
+	private static boolean matchesKeyword(final CharSequence sql, final int pos, final String keyword) {
+		int len = keyword.length();
+		if (pos + len > sql.length()) {
+			return false;
+		}
+		for (int i = 0; i < len; i++) {
+			char ch = sql.charAt(pos + i);
+			char k = keyword.charAt(i);
+			if (ch != k && ch != k - ('a' - 'A')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 指定した位置から2文字が一致するかどうか
+	 *
+	 * @param sql SQL
+	 * @param pos 開始位置
+	 * @param first 1文字目
+	 * @param second 2文字目
+	 * @return 一致する場合<code>true</code>
+	 */
+	private static boolean startsWith(final CharSequence sql, final int pos, final char first, final char second) {
+		return pos + 1 < sql.length() && sql.charAt(pos) == first && sql.charAt(pos + 1) == second;
+	}
+
+	/**
+	 * 空白文字（正規表現の\s）を読み飛ばす
+	 *
+	 * @param sql SQL
+	 * @param pos 開始位置
+	 * @return 空白文字以外が現れる位置
+	 */
+	private static int skipWhitespaces(final CharSequence sql, final int pos) {
+		int len = sql.length();
+		int i = pos;
+		while (i < len) {
+			char ch = sql.charAt(i);
+			if (ch != ' ' && ch != '\t' && ch != '\n' && ch != '\u000B' && ch != '\f' && ch != '\r') {
+				break;
+			}
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * 行末文字かどうか（正規表現の.に一致しない文字）
+	 *
+	 * @param ch 文字
+	 * @return 行末文字の場合<code>true</code>
+	 */
+	private static boolean isLineTerminator(final char ch) {
+		return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+	}
+
+	/**
+	 * 行末の位置を取得する
+	 *
+	 * @param sql SQL
+	 * @param pos 開始位置
+	 * @return 最初に現れる行末文字の位置. 行末文字がない場合はSQLの長さ
+	 */
+	private static int lineEnd(final CharSequence sql, final int pos) {
+		int len = sql.length();
+		int i = pos;
+		while (i < len && !isLineTerminator(sql.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	/**
+	 * 次の行頭の位置を取得する
+	 *
+	 * @param sql SQL
+	 * @param pos 開始位置
+	 * @return 次の行頭の位置. 次の行がない場合はSQLの長さ
+	 */
+	private static int nextLineStart(final CharSequence sql, final int pos) {
+		int len = sql.length();
+		int i = lineEnd(sql, pos);
+		if (i < len && sql.charAt(i) == '\r' && i + 1 < len && sql.charAt(i + 1) == '\n') {
+			return i + 2;
+		}
+		return Math.min(i + 1, len);
+	}
+}
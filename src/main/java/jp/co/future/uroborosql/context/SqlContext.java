@@ -17,6 +17,7 @@ import java.util.Map;
 import jp.co.future.uroborosql.enums.SqlKind;
 import jp.co.future.uroborosql.fluent.ProcedureFluent;
 import jp.co.future.uroborosql.fluent.SqlFluent;
+import jp.co.future.uroborosql.parameter.Parameter;
 import jp.co.future.uroborosql.parser.TransformContext;
 
 /**
@@ -42,6 +43,24 @@ public interface SqlContext extends TransformContext, SqlFluent<SqlContext>, Pro
 	 */
 	SqlContext setSql(String sql);
 
+	/**
+	 * SQLフィルタ適用後の変換前SQL設定<br>
+	 * SQLフィルタ適用前のSQLを保持し、{@link #reset()}で復元する
+	 *
+	 * @param filteredSql SQLフィルタ適用後の変換前SQL
+	 */
+	void setFilteredSql(String filteredSql);
+
+	/**
+	 * SQLコンテキストの複製<br>
+	 * SQL名、SQL、SQL_ID、パラメータ、バッチパラメータ、属性などの設定を複製した別のSQLコンテキストを生成する。
+	 * 複製後に一方を変更しても、もう一方には影響しない。<br>
+	 * 非同期実行で、呼び出し元のスレッドと実行するスレッドでSQLコンテキストを共有しないために使用する
+	 *
+	 * @return 複製したSqlContext
+	 */
+	SqlContext copy();
+
 	/**
 	 * SQL名取得
 	 *
@@ -127,6 +146,15 @@ public interface SqlContext extends TransformContext, SqlFluent<SqlContext>, Pro
 	 */
 	Map<String, Object> getOutParams(CallableStatement callableStatement) throws SQLException;
 
+	/**
+	 * パラメータオブジェクトの追加<br>
+	 * バインド方法を指定したパラメータ（{@link jp.co.future.uroborosql.parameter.TypedParameter}など）を直接追加する場合に使用する
+	 *
+	 * @param parameter パラメータ
+	 * @return 自身のSqlContext
+	 */
+	SqlContext param(Parameter parameter);
+
 	/**
 	 * これまでに追加されたパラメータ群をバッチパラメータに格納する
 	 *
@@ -134,6 +162,15 @@ public interface SqlContext extends TransformContext, SqlFluent<SqlContext>, Pro
 	 */
 	SqlContext addBatch();
 
+	/**
+	 * これまでに追加されたパラメータ群に、Beanのフィールド値を加えてバッチパラメータに格納する<br>
+	 * Beanのフィールド値は同名のパラメータより優先される。Mapを指定した場合はキーをパラメータ名として扱う。
+	 *
+	 * @param bean バッチパラメータに格納するBean
+	 * @return 自身のSqlContext
+	 */
+	SqlContext addBatch(Object bean);
+
 	/**
 	 * これまでに追加されたパラメータ群をバッチパラメータから削除する
 	 *
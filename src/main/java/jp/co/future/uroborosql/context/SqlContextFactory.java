@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import jp.co.future.uroborosql.expr.ExpressionEngine;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.parameter.Parameter;
 import jp.co.future.uroborosql.parameter.mapper.BindParameterMapper;
@@ -50,6 +51,30 @@ public interface SqlContextFactory {
 	 */
 	void setSqlFilterManager(SqlFilterManager sqlFilterManager);
 
+	/**
+	 * 評価式エンジンを取得する<br>
+	 * デフォルト実装は{@link ExpressionEngine#getDefault()}を返却する
+	 *
+	 * @return 評価式エンジン
+	 */
+	default ExpressionEngine getExpressionEngine() {
+		return ExpressionEngine.getDefault();
+	}
+
+	/**
+	 * 評価式エンジンを設定する<br>
+	 * 生成するSQLコンテキストのIF句の条件式やバインド変数の評価式の評価に使用する<br>
+	 * <br>
+	 * 実装はオプション。APIを提供しない場合は{@link UnsupportedOperationException}をスローすること
+	 *
+	 * @param expressionEngine 評価式エンジン
+	 * @throws UnsupportedOperationException この操作を提供しない場合
+	 */
+	default void setExpressionEngine(final ExpressionEngine expressionEngine) {
+		throw new UnsupportedOperationException(
+				"ExpressionEngine can not be changed. [" + getClass().getName() + "]");
+	}
+
 	/**
 	 * 定数パラメータプレフィックスを取得します。
 	 *
@@ -36,6 +36,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jp.co.future.uroborosql.expr.ExpressionEngine;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.parameter.Parameter;
 import jp.co.future.uroborosql.parameter.mapper.BindParameterMapper;
@@ -90,6 +91,9 @@ public class SqlContextFactoryImpl implements SqlContextFactory {
 	/** パラメータ変換マネージャ */
 	private final BindParameterMapperManager parameterMapperManager = new BindParameterMapperManager();
 
+	/** 評価式エンジン */
+	private ExpressionEngine expressionEngine = ExpressionEngine.getDefault();
+
 	static {
 		OgnlRuntime.setPropertyAccessor(TransformContext.class, new TransformContextPropertyAccessor());
 		OgnlRuntime.setPropertyAccessor(Parameter.class, new ParameterPropertyAccessor());
@@ -118,6 +122,7 @@ public class SqlContextFactoryImpl implements SqlContextFactory {
 		sqlContext.setConstParameterMap(paramMap);
 		sqlContext.setSqlFilterManager(getSqlFilterManager());
 		sqlContext.setParameterMapperManager(new BindParameterMapperManager(parameterMapperManager));
+		sqlContext.setExpressionEngine(expressionEngine);
 		sqlContext.setQueryAutoParameterBinder(queryAutoParameterBinder);
 		sqlContext.setUpdateAutoParameterBinder(updateAutoParameterBinder);
 		sqlContext.setResultSetType(defaultResultSetType);
@@ -304,6 +309,26 @@ public class SqlContextFactoryImpl implements SqlContextFactory {
 		this.sqlFilterManager = sqlFilterManager;
 	}
 
+	/**
+	 * {inheritDoc}
+	 *
+	 * @see SqlContextFactory#getExpressionEngine()
+	 */
+	@Override
+	public ExpressionEngine getExpressionEngine() {
+		return expressionEngine;
+	}
+
+	/**
+	 * {inheritDoc}
+	 *
+	 * @see SqlContextFactory#setExpressionEngine(ExpressionEngine)
+	 */
+	@Override
+	public void setExpressionEngine(final ExpressionEngine expressionEngine) {
+		this.expressionEngine = expressionEngine;
+	}
+
 	/**
 	 * {inheritDoc}
 	 *
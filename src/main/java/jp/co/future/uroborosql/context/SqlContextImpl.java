@@ -18,18 +18,17 @@ import java.sql.SQLType;
 import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
@@ -38,6 +37,7 @@ import org.slf4j.LoggerFactory;
 
 import jp.co.future.uroborosql.enums.SqlKind;
 import jp.co.future.uroborosql.exception.ParameterNotFoundRuntimeException;
+import jp.co.future.uroborosql.expr.ExpressionEngine;
 import jp.co.future.uroborosql.filter.SqlFilterManager;
 import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
 import jp.co.future.uroborosql.parameter.InOutParameter;
@@ -46,8 +46,9 @@ import jp.co.future.uroborosql.parameter.Parameter;
 import jp.co.future.uroborosql.parameter.ReaderParameter;
 import jp.co.future.uroborosql.parameter.StreamParameter;
 import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+import jp.co.future.uroborosql.parser.BindSlots;
 import jp.co.future.uroborosql.parser.TransformContext;
-import jp.co.future.uroborosql.utils.BeanAccessor;
+import jp.co.future.uroborosql.utils.PropertyAccessor;
 
 /**
  * SQLコンテキスト実装クラス
@@ -95,6 +96,12 @@ public class SqlContextImpl implements SqlContext {
 	/** 変換前のSQL文 */
 	private String originalSql;
 
+	/** SQLフィルタ適用前の変換前のSQL文 */
+	private String templateSql;
+
+	/** 変換前のSQL文にSQLフィルタを適用済みかどうか */
+	private boolean sqlFiltered = false;
+
 	/** 変換後のSQL文 */
 	private final StringBuilder executableSql = new StringBuilder();
 
@@ -122,14 +129,17 @@ public class SqlContextImpl implements SqlContext {
 	/** バインド対象パラメータ名リスト */
 	private final List<String> bindNames = new ArrayList<>();
 
+	/** バインド変数のスロット割り当て */
+	private BindSlots bindSlots = null;
+
 	/** バインド変数リスト */
 	private final List<Object> bindValiables = new ArrayList<>();
 
 	/** 有効フラグ（BEGIN句で使用） */
 	private boolean enabled = true;
 
-	/** バッチ処理用パラメータ保持用マップリスト */
-	private final List<Map<String, Parameter>> batchParameters = new ArrayList<>();
+	/** バッチ処理用パラメータ保持用バッファ */
+	private final BatchParameterBuffer batchParameters = new BatchParameterBuffer();
 
 	/** 列の型の再定義保持用マップ */
 	private final Map<Integer, Integer> defineColumnTypeMap = new HashMap<>();
@@ -166,6 +176,9 @@ public class SqlContextImpl implements SqlContext {
 
 	private ParameterNames parameterNames;
 
+	/** 評価式エンジン */
+	private ExpressionEngine expressionEngine = ExpressionEngine.getDefault();
+
 	/**
 	 * コンストラクタ。
 	 */
@@ -173,7 +186,8 @@ public class SqlContextImpl implements SqlContext {
 	}
 
 	/**
-	 * コピーコンストラクタ
+	 * コピーコンストラクタ<br>
+	 * SQL変換用のコンテキストとしてパラメータを共有する。SQL変換ではバッチパラメータを参照しないため、バッチパラメータはコピーしない
 	 *
 	 * @param parent コピー元のSQLコンテキスト
 	 */
@@ -186,7 +200,6 @@ public class SqlContextImpl implements SqlContext {
 		parameterMap = parent.parameterMap;
 		constParameterMap = parent.constParameterMap;
 		sqlFilterManager = parent.sqlFilterManager;
-		batchParameters.addAll(parent.batchParameters);
 		defineColumnTypeMap.putAll(parent.defineColumnTypeMap);
 		resultSetType = parent.resultSetType;
 		resultSetConcurrency = parent.resultSetConcurrency;
@@ -195,6 +208,7 @@ public class SqlContextImpl implements SqlContext {
 		contextAttributes.putAll(parent.contextAttributes);
 		queryAutoParameterBinder = parent.queryAutoParameterBinder;
 		parameterMapperManager = parent.parameterMapperManager;
+		expressionEngine = parent.expressionEngine;
 	}
 
 	/**
@@ -207,6 +221,30 @@ public class SqlContextImpl implements SqlContext {
 		return new SqlContextImpl(this);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContext#copy()
+	 */
+	@Override
+	public SqlContext copy() {
+		SqlContextImpl copy = new SqlContextImpl(this);
+		copy.enabled = enabled;
+		copy.originalSql = originalSql;
+		copy.templateSql = templateSql;
+		copy.sqlFiltered = sqlFiltered;
+		copy.executableSql.append(executableSql);
+		copy.executableSqlCache = executableSqlCache;
+		// コピーコンストラクタはパラメータを共有するため、複製ではコピーする
+		copy.parameterMap = new HashMap<>(parameterMap);
+		copy.updateAutoParameterBinder = updateAutoParameterBinder;
+		copy.generatedKeyColumns = generatedKeyColumns;
+		for (int row = 0; row < batchParameters.size(); row++) {
+			copy.batchParameters.addRow(batchParameters.getRow(row));
+		}
+		return copy;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -216,35 +254,25 @@ public class SqlContextImpl implements SqlContext {
 	public String getExecutableSql() {
 		if (StringUtils.isEmpty(executableSqlCache)) {
 			if (executableSql.length() > 0) {
-				executableSqlCache = executableSql.toString();
-				if (executableSqlCache.toUpperCase().contains("WHERE")) {
-					// where句の直後に来るANDやORの除去
-					StringBuffer buff = new StringBuffer();
-					Matcher matcher = WHERE_CLAUSE_PATTERN.matcher(executableSqlCache);
-					while (matcher.find()) {
-						String whereClause = matcher.group(1);
-						matcher.appendReplacement(buff, whereClause);
-					}
-					matcher.appendTail(buff);
-					executableSqlCache = buff.toString();
-				}
-				// 各句の直後に現れる不要なカンマの除去
-				StringBuffer buff = new StringBuffer();
-				Matcher removeCommaMatcher = REMOVE_FIRST_COMMA_PATTERN.matcher(executableSqlCache);
-				while (removeCommaMatcher.find()) {
-					String clauseWords = removeCommaMatcher.group(1);
-					removeCommaMatcher.appendReplacement(buff, clauseWords);
-				}
-				removeCommaMatcher.appendTail(buff);
-				executableSqlCache = buff.toString();
-
-				// 空行の除去
-				executableSqlCache = CLEAR_BLANK_PATTERN.matcher(executableSqlCache).replaceAll("");
+				// where句の直後に来るANDやOR、各句の直後に現れる不要なカンマ、空行の除去
+				executableSqlCache = ExecutableSqlCleaner.clean(executableSql.toString());
 			}
 		}
 		return executableSqlCache;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#setExecutableSql(java.lang.String)
+	 */
+	@Override
+	public void setExecutableSql(final String executableSql) {
+		this.executableSql.setLength(0);
+		this.executableSql.append(executableSql);
+		this.executableSqlCache = executableSql;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -263,9 +291,24 @@ public class SqlContextImpl implements SqlContext {
 	@Override
 	public SqlContext setSql(final String originalSql) {
 		this.originalSql = originalSql;
+		this.sqlFiltered = false;
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContext#setFilteredSql(java.lang.String)
+	 */
+	@Override
+	public void setFilteredSql(final String filteredSql) {
+		if (!sqlFiltered) {
+			this.templateSql = this.originalSql;
+			this.sqlFiltered = true;
+		}
+		this.originalSql = filteredSql;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -417,13 +460,12 @@ public class SqlContextImpl implements SqlContext {
 	}
 
 	/**
-	 * パラメータの追加
-	 *
-	 * @param parameter パラメータ
+	 * {@inheritDoc}
 	 *
-	 * @return SqlContext
+	 * @see jp.co.future.uroborosql.context.SqlContext#param(jp.co.future.uroborosql.parameter.Parameter)
 	 */
-	private SqlContext param(final Parameter parameter) {
+	@Override
+	public SqlContext param(final Parameter parameter) {
 		parameterMap.put(parameter.getParameterName(), parameter);
 		return this;
 	}
@@ -521,8 +563,8 @@ public class SqlContextImpl implements SqlContext {
 	@Override
 	public <V> SqlContext paramBean(final V bean) {
 		if (bean != null) {
-			BeanAccessor.fields(bean.getClass()).stream()
-					.forEach(f -> param(f.getName(), BeanAccessor.value(f, bean)));
+			PropertyAccessor.fieldsOf(bean.getClass())
+					.forEach(f -> param(f.getName(), f.get(bean)));
 		}
 		return this;
 	}
@@ -800,6 +842,36 @@ public class SqlContextImpl implements SqlContext {
 		return this.setMaxRetryCount(count).setRetryWaitTime(waitTime);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.fluent.SqlFluent#reset()
+	 */
+	@Override
+	public SqlContext reset() {
+		// SQLフィルタの再適用で変換が重複しないよう、SQLフィルタ適用前のSQLに戻す
+		// （SQL名から生成した場合はnullとなり、実行時にSQL管理クラスから再取得する）
+		if (sqlFiltered) {
+			originalSql = templateSql;
+			templateSql = null;
+			sqlFiltered = false;
+		}
+		// 生成済みのコレクションはクリアして再利用する
+		executableSql.setLength(0);
+		executableSqlCache = "";
+		parameterMap.clear();
+		bindNames.clear();
+		bindValiables.clear();
+		bindSlots = null;
+		enabled = true;
+		batchParameters.clear();
+		defineColumnTypeMap.clear();
+		sqlKind = SqlKind.NONE;
+		generatedKeyValues = null;
+		contextAttributes.clear();
+		return this;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -850,6 +922,7 @@ public class SqlContextImpl implements SqlContext {
 	@Override
 	public TransformContext addBindName(final String bindName) {
 		bindNames.add(bindName);
+		bindSlots = null;
 		return this;
 	}
 
@@ -861,6 +934,18 @@ public class SqlContextImpl implements SqlContext {
 	@Override
 	public TransformContext addBindNames(final List<String> bindNames) {
 		this.bindNames.addAll(bindNames);
+		bindSlots = null;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#setBindSlots(jp.co.future.uroborosql.parser.BindSlots)
+	 */
+	@Override
+	public TransformContext setBindSlots(final BindSlots bindSlots) {
+		this.bindSlots = bindSlots;
 		return this;
 	}
 
@@ -924,21 +1009,58 @@ public class SqlContextImpl implements SqlContext {
 	 */
 	@Override
 	public void bindParams(final PreparedStatement preparedStatement) throws SQLException {
-		Parameter[] bindParameters = getBindParameters();
+		BindSlots slots = getBindSlots();
+		bindParams(preparedStatement, slots, slot -> getParam(slots.getName(slot)));
+	}
 
-		Set<String> matchParams = new HashSet<>();
-		int parameterIndex = 1;
-		for (Parameter bindParameter : bindParameters) {
-			Parameter parameter = getSqlFilterManager().doParameter(bindParameter);
-			parameterIndex = parameter.setParameter(preparedStatement, parameterIndex, parameterMapperManager);
-			matchParams.add(parameter.getParameterName());
+	/**
+	 * スロットごとに解決したパラメータのバインド
+	 *
+	 * @param preparedStatement ステートメント
+	 * @param slots バインド変数のスロット割り当て
+	 * @param resolver スロット番号からパラメータを解決する関数
+	 * @throws SQLException SQL例外
+	 */
+	private void bindParams(final PreparedStatement preparedStatement, final BindSlots slots,
+			final IntFunction<Parameter> resolver) throws SQLException {
+		// バインド変数名ごとに1回だけパラメータを解決し、スロットに格納する
+		int slotCount = slots.getSlotCount();
+		Parameter[] slotParameters = new Parameter[slotCount];
+		BitSet boundSlots = new BitSet(slotCount);
+		for (int slot = 0; slot < slotCount; slot++) {
+			Parameter parameter = resolver.apply(slot);
+			if (parameter != null) {
+				slotParameters[slot] = parameter;
+				boundSlots.set(slot);
+			}
 		}
 		// SQL上のバインドパラメータ群（bindNames）に対応する値がすべて設定されているかどうかをチェックする
-		if (!matchParams.containsAll(bindNames)) {
-			Set<String> missMatchParams = new LinkedHashSet<>(bindNames);
-			missMatchParams.removeAll(matchParams);
+		if (boundSlots.nextClearBit(0) < slotCount) {
+			List<String> missMatchParams = new ArrayList<>();
+			for (int slot = boundSlots.nextClearBit(0); slot < slotCount; slot = boundSlots.nextClearBit(slot + 1)) {
+				missMatchParams.add(slots.getName(slot));
+			}
 			throw new ParameterNotFoundRuntimeException("Parameter " + missMatchParams.toString() + " is not bound.");
 		}
+
+		int parameterIndex = 1;
+		for (int i = 0; i < slots.size(); i++) {
+			Parameter parameter = getSqlFilterManager().doParameter(slotParameters[slots.getSlot(i)]);
+			parameterIndex = parameter.setParameter(preparedStatement, parameterIndex, parameterMapperManager);
+		}
+	}
+
+	/**
+	 * バインド変数のスロット割り当てを取得する<br>
+	 * SQL変換時に通知されたスロット割り当てがない場合は、バインド変数名から生成して保持する。
+	 *
+	 * @return バインド変数のスロット割り当て
+	 */
+	private BindSlots getBindSlots() {
+		if (bindSlots == null || bindSlots.size() != bindNames.size()) {
+			bindSlots = BindSlots.of(bindNames);
+		}
+		return bindSlots;
 	}
 
 	/**
@@ -948,14 +1070,75 @@ public class SqlContextImpl implements SqlContext {
 	 */
 	@Override
 	public void bindBatchParams(final PreparedStatement preparedStatement) throws SQLException {
-		for (Map<String, Parameter> paramMap : batchParameters) {
-			parameterMap = paramMap;
-			bindParams(preparedStatement);
+		BindSlots slots = getBindSlots();
+
+		// スロットごとのバッファの列番号を解決しておく（プロパティ参照を含む名前は列を持たないため、名前で解決する）
+		int[] columnIndexes = new int[slots.getSlotCount()];
+		for (int slot = 0; slot < columnIndexes.length; slot++) {
+			String bindName = slots.getName(slot);
+			columnIndexes[slot] = bindName.contains(".") ? -1 : batchParameters.getColumnIndex(bindName);
+		}
+		// SqlFilterやパラメータ設定ログがパラメータを参照する場合は、値を直接バインドせずパラメータを生成する
+		boolean direct = getSqlFilterManager().getFilters().isEmpty() && !Parameter.isParameterLogEnabled();
+
+		int rowCount = batchParameters.size();
+		for (int row = 0; row < rowCount; row++) {
+			Map<String, Parameter> rowParameters = null;
+			int parameterIndex = 1;
+			for (int i = 0; i < slots.size(); i++) {
+				int slot = slots.getSlot(i);
+				int column = columnIndexes[slot];
+				if (direct && column >= 0
+						&& batchParameters.bind(column, row, preparedStatement, parameterIndex, parameterMapperManager)) {
+					parameterIndex++;
+					continue;
+				}
+				Parameter parameter = column < 0 ? null : batchParameters.getParameter(column, row);
+				if (parameter == null) {
+					// 列で解決できないパラメータは行のパラメータを参照するMapから名前で解決する
+					if (rowParameters == null) {
+						rowParameters = batchParameters.getRow(row);
+						parameterMap = rowParameters;
+					}
+					parameter = getParam(slots.getName(slot));
+					if (parameter == null) {
+						throw new ParameterNotFoundRuntimeException(
+								"Parameter " + getMissingParameterNames(slots, columnIndexes, row) + " is not bound.");
+					}
+				}
+				parameter = getSqlFilterManager().doParameter(parameter);
+				parameterIndex = parameter.setParameter(preparedStatement, parameterIndex, parameterMapperManager);
+			}
 			preparedStatement.addBatch();
 		}
+		if (rowCount > 0) {
+			// バインド後は最終行のパラメータを保持する（SqlFilterなどから参照されるため）
+			parameterMap = new HashMap<>(batchParameters.getRow(rowCount - 1));
+		}
 		LOG.debug("{} items Added for batch process.", batchParameters.size());
 	}
 
+	/**
+	 * バッチパラメータの行で値が設定されていないバインド変数名の取得
+	 *
+	 * @param slots バインド変数のスロット割り当て
+	 * @param columnIndexes スロットごとのバッファの列番号
+	 * @param row 行番号
+	 * @return 値が設定されていないバインド変数名のリスト
+	 */
+	private List<String> getMissingParameterNames(final BindSlots slots, final int[] columnIndexes, final int row) {
+		parameterMap = batchParameters.getRow(row);
+		List<String> missMatchParams = new ArrayList<>();
+		for (int slot = 0; slot < columnIndexes.length; slot++) {
+			int column = columnIndexes[slot];
+			if ((column < 0 || batchParameters.getParameter(column, row) == null)
+					&& getParam(slots.getName(slot)) == null) {
+				missMatchParams.add(slots.getName(slot));
+			}
+		}
+		return missMatchParams;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -986,8 +1169,32 @@ public class SqlContextImpl implements SqlContext {
 	@Override
 	public SqlContext addBatch() {
 		acceptUpdateAutoParameterBinder();
-		batchParameters.add(parameterMap);
-		parameterMap = new HashMap<>();
+		// 値はバッファに移したので、パラメータ保持用マップは次の行で再利用する
+		batchParameters.addRow(parameterMap);
+		parameterMap.clear();
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.context.SqlContext#addBatch(java.lang.Object)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public SqlContext addBatch(final Object bean) {
+		if (bean == null) {
+			return addBatch();
+		} else if (bean instanceof Map) {
+			paramMap((Map<String, Object>) bean);
+			return addBatch();
+		} else if (updateAutoParameterBinder != null) {
+			// 自動パラメータバインド関数からBeanの値を参照できるよう、パラメータに設定してから追加する
+			paramBean(bean);
+			return addBatch();
+		}
+		batchParameters.addRow(parameterMap, bean);
+		parameterMap.clear();
 		return this;
 	}
 
@@ -1190,6 +1397,25 @@ public class SqlContextImpl implements SqlContext {
 		this.parameterMapperManager = parameterMapperManager;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getExpressionEngine()
+	 */
+	@Override
+	public ExpressionEngine getExpressionEngine() {
+		return expressionEngine;
+	}
+
+	/**
+	 * 評価式エンジンを設定します
+	 *
+	 * @param expressionEngine 評価式エンジン
+	 */
+	public void setExpressionEngine(final ExpressionEngine expressionEngine) {
+		this.expressionEngine = expressionEngine;
+	}
+
 	/**
 	 * 自動パラメータバインド関数(query用)を設定します
 	 * @param binder 自動パラメータバインド関数
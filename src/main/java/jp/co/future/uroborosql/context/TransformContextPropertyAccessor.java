@@ -8,9 +8,9 @@ package jp.co.future.uroborosql.context;
 
 import java.util.Map;
 
-import jp.co.future.uroborosql.parameter.Parameter;
 import jp.co.future.uroborosql.parser.TransformContext;
 import ognl.ObjectPropertyAccessor;
+import ognl.OgnlContext;
 import ognl.OgnlException;
 
 /**
@@ -28,11 +28,19 @@ public class TransformContextPropertyAccessor extends ObjectPropertyAccessor {
 	@Override
 	@SuppressWarnings("rawtypes")
 	public Object getProperty(final Map cx, final Object target, final Object name) throws OgnlException {
-		TransformContext context = (TransformContext) target;
-		Parameter param = context.getParam((String) name);
-		if (param == null) {
-			return null;
-		}
-		return param.getValue();
+		return ((TransformContext) target).getParamValue((String) name);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * OGNL式をコンパイルする際に、パラメータ値を取得するためのソースを返す
+	 *
+	 * @see ognl.ObjectPropertyAccessor#getSourceAccessor(ognl.OgnlContext, java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public String getSourceAccessor(final OgnlContext context, final Object target, final Object index) {
+		context.setCurrentAccessor(TransformContext.class);
+		context.setCurrentType(Object.class);
+		return "getParamValue(" + index + ")";
 	}
 }
@@ -6,22 +6,42 @@
  */
 package jp.co.future.uroborosql.converter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.mapping.JavaType;
 import jp.co.future.uroborosql.mapping.MappingColumn;
 import jp.co.future.uroborosql.mapping.MappingUtils;
+import jp.co.future.uroborosql.mapping.annotations.Column;
+import jp.co.future.uroborosql.mapping.annotations.EntityCreator;
+import jp.co.future.uroborosql.mapping.mapper.ColumnReader;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapperManager;
+import jp.co.future.uroborosql.utils.CaseFormat;
+import jp.co.future.uroborosql.utils.ClassCache;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * 検索結果の1行を任意型に変換する変換器
+ * 検索結果の1行を任意型に変換する変換器<br>
+ * エンティティは引数なしコンストラクタで生成してフィールドに値を設定するほか、
+ * 引数ありのコンストラクタやstaticなファクトリメソッドに検索結果の値を渡して生成できる（{@link EntityCreator}を参照）
  *
  * @param <E> エンティティ型
  * @author ota
@@ -31,11 +51,32 @@ public class EntityResultSetConverter<E> implements ResultSetConverter<E> {
 	/** ロガー */
 	private static final Logger LOG = LoggerFactory.getLogger(EntityResultSetConverter.class);
 
+	/** エンティティ型ごとの生成方法のキャッシュ. 保持先は{@link ClassCache}を参照 */
+	private static final ClassCache<Creator> CREATORS = new ClassCache<Creator>() {
+		@Override
+		protected Creator computeValue(final Class<?> type) {
+			return new Creator(type);
+		}
+	};
+
 	private final PropertyMapperManager mapperManager;
-	private final Constructor<E> constructor;
+	private final Creator creator;
 	private final MappingColumn[] columns;
-	private int columnCount;
-	private String[] columnLabels;
+
+	/** 生成メソッドの引数に対応する検索結果の列番号（1始まり. 検索結果に存在しない場合は0） */
+	private int[] argIndexes;
+
+	/** 生成メソッドの引数の値を読み込むColumnReader */
+	private ColumnReader[] argReaders;
+
+	/** 検索結果の列に対応するカラム. {@link #columnIndexes}と同じ順序で格納する */
+	private MappingColumn[] boundColumns;
+
+	/** カラムに対応する検索結果の列番号（1始まり） */
+	private int[] columnIndexes;
+
+	/** カラムの値を読み込むColumnReader. {@link #columnIndexes}と同じ順序で格納する */
+	private ColumnReader[] readers;
 
 	/**
 	 * コンストラクタ
@@ -43,16 +84,13 @@ public class EntityResultSetConverter<E> implements ResultSetConverter<E> {
 	 * @param entityType エンティティタイプ
 	 * @param mapperManager PropertyMapperManager
 	 */
-	@SuppressWarnings({ "unchecked" })
 	public EntityResultSetConverter(final Class<? extends E> entityType, final PropertyMapperManager mapperManager) {
 		this.mapperManager = mapperManager;
-		try {
-			this.constructor = (Constructor<E>) entityType.getConstructor();
-		} catch (NoSuchMethodException e) {
-			throw new UroborosqlRuntimeException(e);
-		}
-
-		this.columns = MappingUtils.getMappingColumns(entityType);
+		this.creator = CREATORS.get(entityType);
+		// 生成メソッドの引数で値を渡すカラムはフィールドに設定しない
+		this.columns = Arrays.stream(MappingUtils.getMappingColumns(entityType))
+				.filter(column -> !creator.hasArgument(column.getName()))
+				.toArray(MappingColumn[]::new);
 	}
 
 	/**
@@ -60,41 +98,271 @@ public class EntityResultSetConverter<E> implements ResultSetConverter<E> {
 	 *
 	 * @see jp.co.future.uroborosql.converter.ResultSetConverter#createRecord(java.sql.ResultSet)
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public E createRecord(final ResultSet rs) throws SQLException {
 		try {
-			if (columnLabels == null) {
-				ResultSetMetaData rsmd = rs.getMetaData();
-				columnCount = rsmd.getColumnCount();
-
-				// columnLabelsは1始まりの配列で値を格納
-				columnLabels = new String[columnCount + 1];
-				for (int i = 1; i <= columnCount; i++) {
-					columnLabels[i] = rsmd.getColumnLabel(i);
-				}
+			if (columnIndexes == null) {
+				createPlan(rs.getMetaData());
 			}
 
-			E rec = constructor.newInstance();
-			for (MappingColumn column : columns) {
-				bindValue(rec, rs, column);
+			Object[] args = new Object[argIndexes.length];
+			for (int i = 0; i < argIndexes.length; i++) {
+				Object value = argIndexes[i] > 0 ? argReaders[i].read(rs, argIndexes[i]) : null;
+				args[i] = value != null ? value : creator.defaultValues[i];
+			}
+			E rec = (E) creator.handle.invokeExact(args);
+			for (int i = 0; i < columnIndexes.length; i++) {
+				boundColumns[i].setValue(rec, readers[i].read(rs, columnIndexes[i]));
 			}
 			return rec;
-		} catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-			LOG.error("Error!!", e);
-			throw new UroborosqlRuntimeException(e);
 		} catch (SQLException | RuntimeException | Error e) {
 			LOG.error("Error!!", e);
 			throw e;
+		} catch (Throwable e) {
+			LOG.error("Error!!", e);
+			throw new UroborosqlRuntimeException(e);
 		}
 	}
 
-	private void bindValue(final E rec, final ResultSet rs, final MappingColumn column) throws SQLException {
+	/**
+	 * 検索結果の列と生成メソッドの引数、カラムの対応を生成する<br>
+	 * 最初の行の変換時に1度だけ行い、以降の行は生成した列番号とColumnReaderを使って値を取得する
+	 *
+	 * @param rsmd 検索結果のメタデータ
+	 * @throws SQLException SQL例外
+	 */
+	private void createPlan(final ResultSetMetaData rsmd) throws SQLException {
+		int columnCount = rsmd.getColumnCount();
+		String[] columnLabels = new String[columnCount + 1];
 		for (int i = 1; i <= columnCount; i++) {
-			if (columnLabels[i].equalsIgnoreCase(column.getName())) {
-				column.setValue(rec, mapperManager.getValue(column.getJavaType(), rs, i));
-				return;
+			columnLabels[i] = rsmd.getColumnLabel(i);
+		}
+		boolean[] mapped = new boolean[columnCount + 1];
+
+		int argCount = creator.argumentNames.length;
+		this.argIndexes = new int[argCount];
+		this.argReaders = new ColumnReader[argCount];
+		for (int i = 0; i < argCount; i++) {
+			int index = indexOf(columnLabels, creator.argumentNames[i]);
+			if (index > 0) {
+				argIndexes[i] = index;
+				argReaders[i] = mapperManager.getColumnReader(creator.argumentTypes[i]);
+				mapped[index] = true;
+			} else {
+				LOG.debug("Column for argument [{}] is not found in the result set.", creator.argumentNames[i]);
+			}
+		}
+
+		List<MappingColumn> bound = new ArrayList<>(columns.length);
+		int[] indexes = new int[columns.length];
+		for (MappingColumn column : columns) {
+			int index = indexOf(columnLabels, column.getName());
+			if (index > 0) {
+				indexes[bound.size()] = index;
+				bound.add(column);
+				mapped[index] = true;
+			}
+		}
+
+		if (LOG.isDebugEnabled()) {
+			for (MappingColumn column : columns) {
+				if (!bound.contains(column)) {
+					LOG.debug("Column for field [{}] is not found in the result set.", column.getName());
+				}
+			}
+			for (int i = 1; i <= columnCount; i++) {
+				if (!mapped[i]) {
+					LOG.debug("Column [{}] is not mapped to any field.", columnLabels[i]);
+				}
+			}
+		}
+
+		this.boundColumns = bound.toArray(new MappingColumn[bound.size()]);
+		this.columnIndexes = Arrays.copyOf(indexes, bound.size());
+		this.readers = new ColumnReader[boundColumns.length];
+		for (int i = 0; i < boundColumns.length; i++) {
+			readers[i] = mapperManager.getColumnReader(boundColumns[i].getJavaType());
+		}
+	}
+
+	/**
+	 * カラム名に一致する検索結果の列番号を取得する
+	 *
+	 * @param columnLabels 検索結果の列ラベル（1始まり）
+	 * @param name カラム名
+	 * @return 列番号. 一致する列がない場合は0
+	 */
+	private static int indexOf(final String[] columnLabels, final String name) {
+		for (int i = 1; i < columnLabels.length; i++) {
+			if (columnLabels[i].equalsIgnoreCase(name)) {
+				return i;
 			}
 		}
+		return 0;
 	}
 
+	/**
+	 * エンティティの生成方法<br>
+	 * 生成に使用するコンストラクタ、またはファクトリメソッドと、その引数に渡すカラムの情報を保持する
+	 */
+	private static final class Creator {
+		/** 引数を配列で受け取り、エンティティを返すMethodHandle */
+		private final MethodHandle handle;
+
+		/** 引数に渡すカラム名 */
+		private final String[] argumentNames;
+
+		/** 引数の型 */
+		private final JavaType[] argumentTypes;
+
+		/** 値が<code>null</code>の場合に渡す値（プリミティブ型の引数の場合は初期値） */
+		private final Object[] defaultValues;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param type エンティティ型
+		 */
+		private Creator(final Class<?> type) {
+			Executable executable = findCreator(type);
+			Parameter[] parameters = executable.getParameters();
+			this.argumentNames = resolveArgumentNames(type, executable);
+			this.argumentTypes = new JavaType[parameters.length];
+			this.defaultValues = new Object[parameters.length];
+			JavaType.ImplementClass implementClass = new JavaType.ImplementClass(type);
+			for (int i = 0; i < parameters.length; i++) {
+				argumentTypes[i] = JavaType.of(implementClass, parameters[i].getParameterizedType());
+				Class<?> parameterType = parameters[i].getType();
+				if (parameterType.isPrimitive()) {
+					defaultValues[i] = Array.get(Array.newInstance(parameterType, 1), 0);
+				}
+			}
+
+			try {
+				executable.setAccessible(true);
+				MethodHandle mh = executable instanceof Constructor
+						? MethodHandles.lookup().unreflectConstructor((Constructor<?>) executable)
+						: MethodHandles.lookup().unreflect((Method) executable);
+				this.handle = mh.asSpreader(Object[].class, parameters.length)
+						.asType(MethodType.methodType(Object.class, Object[].class));
+			} catch (IllegalAccessException | RuntimeException e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+
+		/**
+		 * 指定したカラム名の値を引数で受け取るかどうか
+		 *
+		 * @param name カラム名
+		 * @return 引数で受け取る場合<code>true</code>
+		 */
+		private boolean hasArgument(final String name) {
+			return Stream.of(argumentNames).anyMatch(name::equalsIgnoreCase);
+		}
+
+		/**
+		 * エンティティの生成に使用するコンストラクタ、またはファクトリメソッドを取得する
+		 *
+		 * @param type エンティティ型
+		 * @return コンストラクタ、またはファクトリメソッド
+		 */
+		private static Executable findCreator(final Class<?> type) {
+			List<Executable> annotated = new ArrayList<>();
+			for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+				if (constructor.isAnnotationPresent(EntityCreator.class)) {
+					annotated.add(constructor);
+				}
+			}
+			for (Method method : type.getDeclaredMethods()) {
+				if (method.isAnnotationPresent(EntityCreator.class)) {
+					if (!Modifier.isStatic(method.getModifiers()) || !type.isAssignableFrom(method.getReturnType())) {
+						throw new UroborosqlRuntimeException("@EntityCreator method must be static and return "
+								+ type.getName() + ". method:" + method);
+					}
+					annotated.add(method);
+				}
+			}
+			if (annotated.size() > 1) {
+				throw new UroborosqlRuntimeException("@EntityCreator is set to multiple creators. type:" + type.getName());
+			} else if (annotated.size() == 1) {
+				return annotated.get(0);
+			}
+
+			Constructor<?>[] constructors = type.getConstructors();
+			for (Constructor<?> constructor : constructors) {
+				if (constructor.getParameterCount() == 0) {
+					return constructor;
+				}
+			}
+			if (constructors.length == 1) {
+				return constructors[0];
+			}
+			throw new UroborosqlRuntimeException("No constructor to create the entity is found. "
+					+ "Define a public no-arg constructor, a single public constructor, or set @EntityCreator. type:"
+					+ type.getName());
+		}
+
+		/**
+		 * 引数に渡すカラム名を解決する<br>
+		 * 引数に付与した{@link Column}、引数名の順に解決し、解決できない引数がある場合は引数の型が宣言順のフィールドの型と一致すればフィールドから解決する。
+		 * ただし、同じ型の引数が複数ある場合はフィールドから解決しない
+		 *
+		 * @param type エンティティ型
+		 * @param executable コンストラクタ、またはファクトリメソッド
+		 * @return カラム名
+		 */
+		private static String[] resolveArgumentNames(final Class<?> type, final Executable executable) {
+			Parameter[] parameters = executable.getParameters();
+			String[] names = new String[parameters.length];
+			boolean resolved = true;
+			for (int i = 0; i < parameters.length; i++) {
+				Column column = parameters[i].getAnnotation(Column.class);
+				if (column != null) {
+					names[i] = column.name();
+				} else if (parameters[i].isNamePresent()) {
+					names[i] = CaseFormat.UPPER_SNAKE_CASE.convert(parameters[i].getName());
+				} else {
+					resolved = false;
+				}
+			}
+			if (resolved) {
+				return names;
+			}
+			// 同じ型の引数がある場合、宣言順のフィールドと引数の対応が正しいことを型で確認できないため解決しない
+			if (Stream.of(parameters).map(Parameter::getType).distinct().count() != parameters.length) {
+				throw unresolved(executable);
+			}
+
+			Field[] fields = Stream.of(type.getDeclaredFields())
+					.filter(f -> !Modifier.isStatic(f.getModifiers()) && !f.isSynthetic())
+					.toArray(Field[]::new);
+			if (fields.length != parameters.length) {
+				throw unresolved(executable);
+			}
+			for (int i = 0; i < parameters.length; i++) {
+				if (!fields[i].getType().equals(parameters[i].getType())) {
+					throw unresolved(executable);
+				}
+				if (names[i] == null) {
+					Column column = fields[i].getAnnotation(Column.class);
+					names[i] = column != null ? column.name()
+							: CaseFormat.UPPER_SNAKE_CASE.convert(fields[i].getName());
+				}
+			}
+			return names;
+		}
+
+		/**
+		 * 引数名を解決できない場合の例外を生成する
+		 *
+		 * @param executable コンストラクタ、またはファクトリメソッド
+		 * @return 例外
+		 */
+		private static UroborosqlRuntimeException unresolved(final Executable executable) {
+			return new UroborosqlRuntimeException("Column names of the arguments can not be resolved. "
+					+ "Set @Column to the arguments or compile with -parameters "
+					+ "(required when the creator has multiple arguments of the same type). creator:" + executable);
+		}
+	}
 }
@@ -6,19 +6,25 @@
  */
 package jp.co.future.uroborosql.converter;
 
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import jp.co.future.uroborosql.dialect.Dialect;
 import jp.co.future.uroborosql.mapping.JavaType;
+import jp.co.future.uroborosql.mapping.mapper.ColumnReader;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapperManager;
 import jp.co.future.uroborosql.utils.CaseFormat;
 
 /**
- * 検索結果の1行をMap型に変換する変換器
+ * 検索結果の1行をMap型に変換する変換器<br>
+ * 変換したMapはキーを同じ検索結果の全ての行で共有し、行ごとには値の配列だけを保持する
  *
  * @author H.Sugimoto
  *
@@ -28,6 +34,9 @@ public class MapResultSetConverter implements ResultSetConverter<Map<String, Obj
 	private final Dialect dialect;
 	private final CaseFormat caseFormat;
 
+	/** 列の解決結果. 解決元と同じ列構成の検索結果では再利用する */
+	private volatile ColumnPlan plan;
+
 	/**
 	 * コンストラクタ
 	 *
@@ -70,29 +79,129 @@ public class MapResultSetConverter implements ResultSetConverter<Map<String, Obj
 	 */
 	@Override
 	public Map<String, Object> createRecord(final ResultSet rs) throws SQLException {
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		Map<String, Object> record = new LinkedHashMap<>(columnCount);
-		for (int i = 1; i <= columnCount; i++) {
-			record.put(caseFormat.convert(rsmd.getColumnLabel(i)), getValue(rs, rsmd, i));
+		ColumnPlan current = plan;
+		if (current == null || current.source.get() != rs) {
+			// 列構成が同じ検索結果の場合は解決済みのキーとColumnReaderを引き継ぐ
+			ResultSetMetaData rsmd = rs.getMetaData();
+			current = current != null && current.matches(rsmd) ? new ColumnPlan(current, rs)
+					: new ColumnPlan(rsmd, rs);
+			plan = current;
+		}
+		ColumnReader[] readers = current.readers;
+		int[] slots = current.slots;
+		Object[] values = new Object[current.valueCount];
+		for (int i = 1; i < readers.length; i++) {
+			values[slots[i]] = readers[i].read(rs, i);
 		}
-		return record;
+		return new RowMap(current.keys, values);
 	}
 
 	/**
-	 * ResultSetからMapperManager経由で値を取得する
-	 *
-	 * @param rs ResultSet
-	 * @param rsmd ResultSetMetadata
-	 * @param columnIndex カラムインデックス
-	 * @return 指定したカラムインデックスの値
-	 * @throws SQLException
+	 * 検索結果の列ごとのキーとColumnReaderの解決結果<br>
+	 * 生成後は変更しないため、複数のスレッドから参照できる。
+	 * 解決元の検索結果は弱参照で保持し、同じ検索結果の2行目以降はメタデータを参照せずに解決済みのキーとColumnReaderを使用する。<br>
+	 * キーが重複する列は同じ値の配列の要素に格納し、後の列の値で上書きする
 	 */
-	private Object getValue(final ResultSet rs, final ResultSetMetaData rsmd, final int columnIndex)
-			throws SQLException {
-		JavaType javaType = this.dialect.getJavaType(rsmd.getColumnType(columnIndex),
-				rsmd.getColumnTypeName(columnIndex));
-		return this.mapperManager.getValue(javaType, rs, columnIndex);
+	private final class ColumnPlan {
+		/** 解決元の検索結果. 検索結果の解放を妨げないよう弱参照で保持する */
+		private final WeakReference<ResultSet> source;
+
+		/** 列ラベル. 列番号（1始まり）をインデックスとして格納する */
+		private final String[] columnLabels;
+
+		/** 列の型. 列番号（1始まり）をインデックスとして格納する */
+		private final int[] columnTypes;
+
+		/** 列の型名. 列番号（1始まり）をインデックスとして格納する */
+		private final String[] columnTypeNames;
+
+		/** 列の値を読み込むColumnReader. 列番号（1始まり）をインデックスとして格納する */
+		private final ColumnReader[] readers;
+
+		/** 列の値を格納する値の配列のインデックス. 列番号（1始まり）をインデックスとして格納する */
+		private final int[] slots;
+
+		/** 行で共有するキー */
+		private final RowMap.Keys keys;
+
+		/** 行の値の数 */
+		private final int valueCount;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param rsmd ResultSetMetadata
+		 * @param rs 解決元の検索結果
+		 * @throws SQLException SQL例外
+		 */
+		private ColumnPlan(final ResultSetMetaData rsmd, final ResultSet rs) throws SQLException {
+			source = new WeakReference<>(rs);
+			int columnCount = rsmd.getColumnCount();
+			columnLabels = new String[columnCount + 1];
+			columnTypes = new int[columnCount + 1];
+			columnTypeNames = new String[columnCount + 1];
+			readers = new ColumnReader[columnCount + 1];
+			slots = new int[columnCount + 1];
+			List<String> names = new ArrayList<>(columnCount);
+			Map<String, Integer> nameIndexes = new HashMap<>();
+			for (int i = 1; i <= columnCount; i++) {
+				columnLabels[i] = rsmd.getColumnLabel(i);
+				columnTypes[i] = rsmd.getColumnType(i);
+				columnTypeNames[i] = rsmd.getColumnTypeName(i);
+				JavaType javaType = dialect.getJavaType(columnTypes[i], columnTypeNames[i]);
+				readers[i] = mapperManager.getColumnReader(javaType);
+				String name = caseFormat.convert(columnLabels[i]);
+				Integer slot = nameIndexes.get(name);
+				if (slot == null) {
+					slot = names.size();
+					names.add(name);
+					nameIndexes.put(name, slot);
+				}
+				slots[i] = slot;
+			}
+			keys = new RowMap.Keys(names.toArray(new String[names.size()]));
+			valueCount = names.size();
+		}
+
+		/**
+		 * コンストラクタ<br>
+		 * 列構成が同じ別の検索結果に解決結果を引き継ぐ
+		 *
+		 * @param plan 引き継ぐ解決結果
+		 * @param rs 解決元の検索結果
+		 */
+		private ColumnPlan(final ColumnPlan plan, final ResultSet rs) {
+			source = new WeakReference<>(rs);
+			columnLabels = plan.columnLabels;
+			columnTypes = plan.columnTypes;
+			columnTypeNames = plan.columnTypeNames;
+			readers = plan.readers;
+			slots = plan.slots;
+			keys = plan.keys;
+			valueCount = plan.valueCount;
+		}
+
+		/**
+		 * 検索結果の列構成が解決元と一致するかどうか
+		 *
+		 * @param rsmd ResultSetMetadata
+		 * @return 列の数、ラベル、型が一致する場合<code>true</code>
+		 * @throws SQLException SQL例外
+		 */
+		private boolean matches(final ResultSetMetaData rsmd) throws SQLException {
+			int columnCount = rsmd.getColumnCount();
+			if (columnCount != columnLabels.length - 1) {
+				return false;
+			}
+			for (int i = 1; i <= columnCount; i++) {
+				if (columnTypes[i] != rsmd.getColumnType(i)
+						|| !columnLabels[i].equals(rsmd.getColumnLabel(i))
+						|| !Objects.equals(columnTypeNames[i], rsmd.getColumnTypeName(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
 	}
 
 }
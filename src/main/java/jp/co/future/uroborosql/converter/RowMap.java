@@ -0,0 +1,311 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.converter;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 検索結果の1行を保持するMap<br>
+ * キーは同じ検索結果の全ての行で{@link Keys}を共有し、行ごとには値の配列だけを保持する。<br>
+ * 既存のキーの値の変更は値の配列に反映し、キーの追加・削除を行った場合は{@link LinkedHashMap}に複製して以降の操作を委譲する
+ *
+ * @author H.Sugimoto
+ */
+final class RowMap extends AbstractMap<String, Object> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/** 値の配列 */
+	private final Object[] values;
+
+	/** キー */
+	private final Keys keys;
+
+	/** キーの追加・削除を行った後の委譲先. 未実施の場合は<code>null</code> */
+	private Map<String, Object> delegate;
+
+	/** エントリのSet */
+	private transient Set<Map.Entry<String, Object>> entrySet;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param keys キー
+	 * @param values 値の配列. キーと同じ順序で格納する
+	 */
+	RowMap(final Keys keys, final Object[] values) {
+		this.keys = keys;
+		this.values = values;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.util.AbstractMap#size()
+	 */
+	@Override
+	public int size() {
+		return delegate != null ? delegate.size() : values.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.util.AbstractMap#containsKey(java.lang.Object)
+	 */
+	@Override
+	public boolean containsKey(final Object key) {
+		return delegate != null ? delegate.containsKey(key) : keys.indexOf(key) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.util.AbstractMap#get(java.lang.Object)
+	 */
+	@Override
+	public Object get(final Object key) {
+		if (delegate != null) {
+			return delegate.get(key);
+		}
+		int index = keys.indexOf(key);
+		return index >= 0 ? values[index] : null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.util.AbstractMap#put(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public Object put(final String key, final Object value) {
+		if (delegate == null) {
+			int index = keys.indexOf(key);
+			if (index >= 0) {
+				Object old = values[index];
+				values[index] = value;
+				return old;
+			}
+		}
+		return delegate().put(key, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.util.AbstractMap#remove(java.lang.Object)
+	 */
+	@Override
+	public Object remove(final Object key) {
+		if (delegate == null && keys.indexOf(key) < 0) {
+			return null;
+		}
+		return delegate().remove(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.util.AbstractMap#clear()
+	 */
+	@Override
+	public void clear() {
+		delegate().clear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.util.AbstractMap#entrySet()
+	 */
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		if (delegate != null) {
+			return delegate.entrySet();
+		}
+		Set<Map.Entry<String, Object>> es = entrySet;
+		if (es == null) {
+			es = new AbstractSet<Map.Entry<String, Object>>() {
+				@Override
+				public Iterator<Map.Entry<String, Object>> iterator() {
+					return delegate != null ? delegate.entrySet().iterator() : new EntryIterator();
+				}
+
+				@Override
+				public int size() {
+					return RowMap.this.size();
+				}
+			};
+			entrySet = es;
+		}
+		return es;
+	}
+
+	/**
+	 * キーの追加・削除のために{@link LinkedHashMap}に複製する
+	 *
+	 * @return 委譲先のMap
+	 */
+	private Map<String, Object> delegate() {
+		if (delegate == null) {
+			Map<String, Object> map = new LinkedHashMap<>(values.length * 4 / 3 + 1);
+			for (int i = 0; i < values.length; i++) {
+				map.put(keys.names[i], values[i]);
+			}
+			delegate = map;
+		}
+		return delegate;
+	}
+
+	/**
+	 * シリアライズ時は{@link LinkedHashMap}に変換する
+	 *
+	 * @return シリアライズするオブジェクト
+	 */
+	private Object writeReplace() {
+		return new LinkedHashMap<>(this);
+	}
+
+	/**
+	 * 同じ検索結果の行で共有するキー
+	 */
+	static final class Keys {
+		/** キー名 */
+		private final String[] names;
+
+		/** キー名をキーとした値の配列のインデックス */
+		private final Map<Object, Integer> indexes;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param names キー名. 重複しないこと
+		 */
+		Keys(final String[] names) {
+			this.names = names;
+			this.indexes = new HashMap<>(names.length * 4 / 3 + 1);
+			for (int i = 0; i < names.length; i++) {
+				indexes.put(names[i], i);
+			}
+		}
+
+		/**
+		 * キーに対応する値の配列のインデックスを取得する
+		 *
+		 * @param key キー
+		 * @return インデックス. キーが存在しない場合は<code>-1</code>
+		 */
+		int indexOf(final Object key) {
+			Integer index = indexes.get(key);
+			return index != null ? index : -1;
+		}
+	}
+
+	/**
+	 * エントリのイテレータ<br>
+	 * 削除を行った場合は委譲先のMapのイテレータに切り替え、以降の操作を委譲する
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+		/** 次のエントリのインデックス */
+		private int index = 0;
+
+		/** 削除を行った後の委譲先のイテレータ. 未実施の場合は<code>null</code> */
+		private Iterator<Map.Entry<String, Object>> delegateIterator;
+
+		@Override
+		public boolean hasNext() {
+			return delegateIterator != null ? delegateIterator.hasNext() : index < values.length;
+		}
+
+		@Override
+		public Map.Entry<String, Object> next() {
+			if (delegateIterator != null) {
+				return delegateIterator.next();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return new Entry(index++);
+		}
+
+		@Override
+		public void remove() {
+			if (delegateIterator == null) {
+				if (index == 0) {
+					throw new IllegalStateException();
+				}
+				// 委譲先のMapのイテレータを最後に返したエントリの位置まで進める
+				delegateIterator = delegate().entrySet().iterator();
+				for (int i = 0; i < index; i++) {
+					delegateIterator.next();
+				}
+			}
+			delegateIterator.remove();
+		}
+	}
+
+	/**
+	 * 値の配列の要素を参照するエントリ
+	 */
+	private final class Entry implements Map.Entry<String, Object> {
+		/** 値の配列のインデックス */
+		private final int index;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param index 値の配列のインデックス
+		 */
+		private Entry(final int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return keys.names[index];
+		}
+
+		@Override
+		public Object getValue() {
+			return values[index];
+		}
+
+		@Override
+		public Object setValue(final Object value) {
+			Object old = values[index];
+			values[index] = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof Map.Entry)) {
+				return false;
+			}
+			Map.Entry<?, ?> e = (Map.Entry<?, ?>) obj;
+			return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
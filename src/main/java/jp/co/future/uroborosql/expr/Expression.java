@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr;
+
+import jp.co.future.uroborosql.parser.TransformContext;
+
+/**
+ * 解析済みの評価式インタフェース
+ *
+ * @author H.Sugimoto
+ */
+public interface Expression {
+
+	/**
+	 * 評価式の値を取得する
+	 *
+	 * @param transformContext 変換用コンテキスト
+	 * @return 評価結果
+	 */
+	Object getValue(TransformContext transformContext);
+}
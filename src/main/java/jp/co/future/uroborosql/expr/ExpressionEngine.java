@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr;
+
+/**
+ * 評価式エンジンインタフェース<br>
+ * IF句の条件式や、メソッド呼び出しを含むバインド変数の評価式を解析する。<br>
+ * 解析結果はノードごとに保持され、同じ評価式エンジンで評価する間は再利用される。
+ *
+ * @author H.Sugimoto
+ */
+public interface ExpressionEngine {
+
+	/**
+	 * デフォルトの評価式エンジンを取得する
+	 *
+	 * @return 単純な評価式を直接評価し、それ以外をOGNLで評価する評価式エンジン
+	 */
+	static ExpressionEngine getDefault() {
+		return SimpleExpressionEngine.DEFAULT;
+	}
+
+	/**
+	 * 評価式の解析
+	 *
+	 * @param expression 評価式
+	 * @return 解析済みの評価式
+	 */
+	Expression parse(String expression);
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.co.future.uroborosql.exception.OgnlRuntimeException;
+import jp.co.future.uroborosql.parser.TransformContext;
+import ognl.Node;
+import ognl.Ognl;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+import ognl.enhance.ExpressionAccessor;
+
+/**
+ * OGNL式<br>
+ * 評価式の解析結果を保持し、評価のたびに解析を行わないようにする。<br>
+ * システムプロパティ<code>uroborosql.ognl.compile</code>に<code>true</code>を指定した場合は、
+ * OGNL式をバイトコードにコンパイルして評価する。コンパイルできなかった場合は通常の評価を行う。
+ *
+ * @author H.Sugimoto
+ */
+final class OgnlExpression implements Expression {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(OgnlExpression.class);
+
+	/** OGNL式をコンパイルするかどうかを指定するシステムプロパティ名 */
+	static final String KEY_COMPILE = "uroborosql.ognl.compile";
+
+	/** OGNL式をコンパイルするかどうかのデフォルト値 */
+	private static final boolean COMPILE = Boolean.getBoolean(KEY_COMPILE);
+
+	/** コンパイルを試行する最大回数 */
+	private static final int MAX_COMPILE_ATTEMPTS = 3;
+
+	/** 評価式 */
+	private final String expression;
+
+	/** コンパイルを行うかどうか */
+	private final boolean compile;
+
+	/** 解析済みのOGNL式 */
+	private volatile Node parsedExpression;
+
+	/** コンパイル済みのアクセサ */
+	private volatile ExpressionAccessor accessor;
+
+	/** コンパイルの試行回数 */
+	private volatile int compileAttempts = 0;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param expression 評価式
+	 */
+	OgnlExpression(final String expression) {
+		this(expression, COMPILE);
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param expression 評価式
+	 * @param compile OGNL式をコンパイルするかどうか
+	 */
+	OgnlExpression(final String expression, final boolean compile) {
+		this.expression = expression;
+		this.compile = compile;
+	}
+
+	/**
+	 * 解析済みのOGNL式を取得する
+	 *
+	 * @return 解析済みのOGNL式
+	 * @throws OgnlException 評価式の解析に失敗した場合
+	 */
+	Node getParsedExpression() throws OgnlException {
+		Node node = parsedExpression;
+		if (node == null) {
+			node = (Node) Ognl.parseExpression(expression);
+			parsedExpression = node;
+		}
+		return node;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.Expression#getValue(jp.co.future.uroborosql.parser.TransformContext)
+	 */
+	@Override
+	public Object getValue(final TransformContext transformContext) {
+		try {
+			return getOgnlValue(transformContext);
+		} catch (OgnlException ex) {
+			throw new OgnlRuntimeException("Value could not be obtained.[" + expression + "]", ex);
+		}
+	}
+
+	/**
+	 * OGNLによる評価式の値の取得
+	 *
+	 * @param transformContext 変換用コンテキスト
+	 * @return 評価結果
+	 * @throws OgnlException 評価に失敗した場合
+	 */
+	private Object getOgnlValue(final TransformContext transformContext) throws OgnlException {
+		if (compile) {
+			ExpressionAccessor acc = accessor != null ? accessor : compile(transformContext);
+			if (acc != null) {
+				try {
+					return acc.get(createContext(transformContext), transformContext);
+				} catch (RuntimeException ex) {
+					// コンパイル時と異なる型の値が渡された場合など、以降は通常の評価を行う
+					LOG.debug("Compiled expression could not be evaluated. Switch to interpreted mode.[{}]",
+							expression, ex);
+					accessor = null;
+					compileAttempts = MAX_COMPILE_ATTEMPTS;
+				}
+			}
+		}
+		return Ognl.getValue(getParsedExpression(), transformContext, null);
+	}
+
+	/**
+	 * コンパイル済みかどうか
+	 *
+	 * @return コンパイル済みの場合<code>true</code>
+	 */
+	boolean isCompiled() {
+		return accessor != null;
+	}
+
+	/**
+	 * OGNL式のコンパイル
+	 *
+	 * @param transformContext 変換用コンテキスト
+	 * @return コンパイル済みのアクセサ. コンパイルできなかった場合は<code>null</code>
+	 */
+	private synchronized ExpressionAccessor compile(final TransformContext transformContext) {
+		if (accessor != null || compileAttempts >= MAX_COMPILE_ATTEMPTS) {
+			return accessor;
+		}
+		compileAttempts++;
+		try {
+			Node node = Ognl.compileExpression(createContext(transformContext), transformContext, expression);
+			accessor = node.getAccessor();
+		} catch (Exception ex) {
+			// パラメータの値によってはコンパイルできない場合があるため、試行回数の上限まではコンパイルを再試行する
+			LOG.debug("Failed to compile the expression.[{}] attempts:{}", expression, compileAttempts, ex);
+		}
+		return accessor;
+	}
+
+	/**
+	 * 評価用のOGNLコンテキストを生成する
+	 *
+	 * @param transformContext 変換用コンテキスト
+	 * @return OGNLコンテキスト
+	 */
+	@SuppressWarnings("rawtypes")
+	private static OgnlContext createContext(final TransformContext transformContext) {
+		Map context = Ognl.createDefaultContext(transformContext);
+		return (OgnlContext) context;
+	}
+}
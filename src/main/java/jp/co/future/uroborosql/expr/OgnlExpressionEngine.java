@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr;
+
+/**
+ * OGNLによる評価式エンジン<br>
+ * すべての評価式をOGNLで評価する。
+ *
+ * @author H.Sugimoto
+ */
+public class OgnlExpressionEngine implements ExpressionEngine {
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.ExpressionEngine#parse(java.lang.String)
+	 */
+	@Override
+	public Expression parse(final String expression) {
+		return new OgnlExpression(expression);
+	}
+}
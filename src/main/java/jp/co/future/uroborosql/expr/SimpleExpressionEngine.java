@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr;
+
+import jp.co.future.uroborosql.parser.TransformContext;
+
+/**
+ * 単純な評価式を直接評価する評価式エンジン<br>
+ * <code>id != null</code>、<code>flag == true</code>、<code>dept == 'SALES'</code>、<code>SF.isNotEmpty(name)</code>
+ * のような、パラメータとリテラルの比較や文字列関数の判定、およびそれらの論理演算で構成される評価式は、
+ * OGNLを使わずにパラメータの値を直接評価する。<br>
+ * それ以外の評価式や、OGNLと評価結果が異なる可能性がある値（異なる型同士の比較など）の場合は委譲先の評価式エンジンで評価する。
+ *
+ * @author H.Sugimoto
+ */
+public class SimpleExpressionEngine implements ExpressionEngine {
+	/** デフォルトのインスタンス */
+	static final SimpleExpressionEngine DEFAULT = new SimpleExpressionEngine();
+
+	/** 直接評価できない評価式の委譲先 */
+	private final ExpressionEngine delegate;
+
+	/**
+	 * コンストラクタ<br>
+	 * 直接評価できない評価式はOGNLで評価する
+	 */
+	public SimpleExpressionEngine() {
+		this(new OgnlExpressionEngine());
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param delegate 直接評価できない評価式の委譲先
+	 */
+	public SimpleExpressionEngine(final ExpressionEngine delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.expr.ExpressionEngine#parse(java.lang.String)
+	 */
+	@Override
+	public Expression parse(final String expression) {
+		Expression fallback = delegate.parse(expression);
+		SimpleExpressionParser.Term term = new SimpleExpressionParser(expression).parse();
+		return term != null ? new SimpleExpression(term, fallback) : fallback;
+	}
+
+	/**
+	 * 直接評価する評価式
+	 */
+	static final class SimpleExpression implements Expression {
+		/** 評価式の構文木 */
+		private final SimpleExpressionParser.Term term;
+
+		/** 直接評価できない値の場合の委譲先 */
+		private final Expression fallback;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param term 評価式の構文木
+		 * @param fallback 直接評価できない値の場合の委譲先
+		 */
+		private SimpleExpression(final SimpleExpressionParser.Term term, final Expression fallback) {
+			this.term = term;
+			this.fallback = fallback;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.expr.Expression#getValue(jp.co.future.uroborosql.parser.TransformContext)
+		 */
+		@Override
+		public Object getValue(final TransformContext transformContext) {
+			Object value = term.eval(transformContext);
+			return value != SimpleExpressionParser.UNSUPPORTED ? value : fallback.getValue(transformContext);
+		}
+	}
+}
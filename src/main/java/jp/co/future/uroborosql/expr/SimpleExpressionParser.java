@@ -0,0 +1,378 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.expr;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import jp.co.future.uroborosql.parser.TransformContext;
+import jp.co.future.uroborosql.utils.StringFunction;
+
+/**
+ * 単純な評価式のパーサー<br>
+ * 以下の構文で構成される評価式を構文木に変換する。それ以外の構文を含む場合は解析しない。
+ *
+ * <pre>
+ * or         := and (('||' | 'or') and)*
+ * and        := comparison (('&amp;&amp;' | 'and') comparison)*
+ * comparison := unary (('==' | '!=' | '&lt;' | '&gt;' | '&lt;=' | '&gt;=' | 'eq' | 'neq' | 'lt' | 'gt' | 'lte' | 'gte') unary)?
+ * unary      := ('!' | 'not') unary | primary
+ * primary    := '(' or ')' | 'null' | 'true' | 'false' | 文字列リテラル | 整数リテラル
+ *             | 識別子 | 識別子 '.' ('isEmpty' | 'isNotEmpty' | 'isBlank' | 'isNotBlank') '(' or ')'
+ * </pre>
+ *
+ * @author H.Sugimoto
+ */
+final class SimpleExpressionParser {
+	/** 直接評価できない値であることを表す評価結果 */
+	static final Object UNSUPPORTED = new Object();
+
+	/** 解析できない構文であることを通知する例外（スタックトレースは生成しない） */
+	private static final RuntimeException UNSUPPORTED_SYNTAX = new RuntimeException("Unsupported syntax.", null, false,
+			false) {
+		private static final long serialVersionUID = 1L;
+	};
+
+	/** 直接評価しないOGNLの予約語 */
+	private static final Set<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("in", "instanceof", "new", "shl",
+			"shr", "ushr", "band", "bor", "xor"));
+
+	/** 直接評価する文字列関数のメソッド名 */
+	private static final Set<String> STRING_FUNCTIONS = new HashSet<>(Arrays.asList("isEmpty", "isNotEmpty",
+			"isBlank", "isNotBlank"));
+
+	/** 整数リテラルとして扱う最大桁数（Integerの範囲に収まる桁数） */
+	private static final int MAX_INTEGER_DIGITS = 9;
+
+	/** 評価式 */
+	private final String expression;
+
+	/** 解析位置 */
+	private int position = 0;
+
+	/**
+	 * 構文木の要素
+	 */
+	interface Term {
+		/**
+		 * 評価
+		 *
+		 * @param ctx TransformContext
+		 * @return 評価結果. 直接評価できない値の場合は{@link SimpleExpressionParser#UNSUPPORTED}
+		 */
+		Object eval(TransformContext ctx);
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param expression 評価式
+	 */
+	SimpleExpressionParser(final String expression) {
+		this.expression = expression;
+	}
+
+	/**
+	 * 評価式の解析
+	 *
+	 * @return 構文木. 解析できない構文を含む場合は<code>null</code>
+	 */
+	Term parse() {
+		if (expression == null) {
+			return null;
+		}
+		try {
+			Term term = parseOr();
+			skipWhitespace();
+			return position == expression.length() ? term : null;
+		} catch (RuntimeException ex) {
+			return null;
+		}
+	}
+
+	private Term parseOr() {
+		Term left = parseAnd();
+		while (acceptOperator("||") || acceptWord("or")) {
+			Term l = left;
+			Term r = parseAnd();
+			left = ctx -> {
+				Object lv = l.eval(ctx);
+				if (!(lv instanceof Boolean)) {
+					return UNSUPPORTED;
+				}
+				return (Boolean) lv ? lv : r.eval(ctx);
+			};
+		}
+		return left;
+	}
+
+	private Term parseAnd() {
+		Term left = parseComparison();
+		while (acceptOperator("&&") || acceptWord("and")) {
+			Term l = left;
+			Term r = parseComparison();
+			left = ctx -> {
+				Object lv = l.eval(ctx);
+				if (!(lv instanceof Boolean)) {
+					return UNSUPPORTED;
+				}
+				return (Boolean) lv ? r.eval(ctx) : lv;
+			};
+		}
+		return left;
+	}
+
+	private Term parseComparison() {
+		Term left = parseUnary();
+		if (acceptOperator("==") || acceptWord("eq")) {
+			return equality(left, parseUnary(), false);
+		} else if (acceptOperator("!=") || acceptWord("neq")) {
+			return equality(left, parseUnary(), true);
+		} else if (acceptOperator("<=") || acceptWord("lte")) {
+			return relational(left, parseUnary(), c -> c <= 0);
+		} else if (acceptOperator(">=") || acceptWord("gte")) {
+			return relational(left, parseUnary(), c -> c >= 0);
+		} else if (acceptOperator("<") || acceptWord("lt")) {
+			return relational(left, parseUnary(), c -> c < 0);
+		} else if (acceptOperator(">") || acceptWord("gt")) {
+			return relational(left, parseUnary(), c -> c > 0);
+		}
+		return left;
+	}
+
+	private Term parseUnary() {
+		if (acceptOperator("!") || acceptWord("not")) {
+			Term operand = parseUnary();
+			return ctx -> {
+				Object v = operand.eval(ctx);
+				return v instanceof Boolean ? (Object) !(Boolean) v : UNSUPPORTED;
+			};
+		}
+		return parsePrimary();
+	}
+
+	private Term parsePrimary() {
+		skipWhitespace();
+		if (position >= expression.length()) {
+			throw UNSUPPORTED_SYNTAX;
+		}
+		char c = expression.charAt(position);
+		if (c == '(') {
+			position++;
+			Term term = parseOr();
+			expect(')');
+			return term;
+		} else if (c == '\'' || c == '"') {
+			return parseString(c);
+		} else if (Character.isDigit(c)) {
+			return parseInteger();
+		} else if (Character.isJavaIdentifierStart(c)) {
+			String name = readIdentifier();
+			switch (name) {
+			case "null":
+				return ctx -> null;
+			case "true":
+				return ctx -> Boolean.TRUE;
+			case "false":
+				return ctx -> Boolean.FALSE;
+			default:
+				if (RESERVED_WORDS.contains(name) || isOperatorWord(name)) {
+					throw UNSUPPORTED_SYNTAX;
+				}
+				skipWhitespace();
+				if (position < expression.length() && expression.charAt(position) == '.') {
+					return parseStringFunction(name);
+				}
+				return ctx -> ctx.getParamValue(name);
+			}
+		}
+		throw UNSUPPORTED_SYNTAX;
+	}
+
+	private Term parseString(final char quote) {
+		int end = expression.indexOf(quote, position + 1);
+		if (end < 0) {
+			throw UNSUPPORTED_SYNTAX;
+		}
+		String value = expression.substring(position + 1, end);
+		// 1文字のシングルクォートはOGNLではCharacterとなり、エスケープはOGNLの解釈に任せる
+		if (quote == '\'' && value.length() == 1 || value.indexOf('\\') >= 0) {
+			throw UNSUPPORTED_SYNTAX;
+		}
+		position = end + 1;
+		return ctx -> value;
+	}
+
+	private Term parseInteger() {
+		int start = position;
+		while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+			position++;
+		}
+		if (position - start > MAX_INTEGER_DIGITS || expression.charAt(start) == '0' && position - start > 1
+				|| position < expression.length() && (expression.charAt(position) == '.'
+						|| Character.isJavaIdentifierPart(expression.charAt(position)))) {
+			throw UNSUPPORTED_SYNTAX;
+		}
+		Integer value = Integer.valueOf(expression.substring(start, position));
+		return ctx -> value;
+	}
+
+	private Term parseStringFunction(final String target) {
+		position++;
+		skipWhitespace();
+		String method = readIdentifier();
+		if (!STRING_FUNCTIONS.contains(method)) {
+			throw UNSUPPORTED_SYNTAX;
+		}
+		expect('(');
+		Term arg = parseOr();
+		expect(')');
+		return ctx -> {
+			Object sf = ctx.getParamValue(target);
+			if (!(sf instanceof StringFunction)) {
+				return UNSUPPORTED;
+			}
+			Object v = arg.eval(ctx);
+			if (v != null && !(v instanceof String)) {
+				return UNSUPPORTED;
+			}
+			StringFunction func = (StringFunction) sf;
+			String str = (String) v;
+			switch (method) {
+			case "isEmpty":
+				return func.isEmpty(str);
+			case "isNotEmpty":
+				return func.isNotEmpty(str);
+			case "isBlank":
+				return func.isBlank(str);
+			default:
+				return func.isNotBlank(str);
+			}
+		};
+	}
+
+	/**
+	 * 比較条件を判定する関数
+	 */
+	@FunctionalInterface
+	private interface Comparison {
+		boolean test(int compareResult);
+	}
+
+	private static Term equality(final Term left, final Term right, final boolean negate) {
+		return ctx -> {
+			Object lv = left.eval(ctx);
+			if (lv == UNSUPPORTED) {
+				return UNSUPPORTED;
+			}
+			Object rv = right.eval(ctx);
+			if (rv == UNSUPPORTED) {
+				return UNSUPPORTED;
+			}
+			boolean equal;
+			if (lv == null || rv == null) {
+				equal = lv == rv;
+			} else if (lv instanceof Boolean && rv instanceof Boolean || lv instanceof String && rv instanceof String) {
+				equal = lv.equals(rv);
+			} else if (isIntegral(lv) && isIntegral(rv)) {
+				equal = ((Number) lv).longValue() == ((Number) rv).longValue();
+			} else {
+				return UNSUPPORTED;
+			}
+			return equal != negate;
+		};
+	}
+
+	private static Term relational(final Term left, final Term right, final Comparison comparison) {
+		return ctx -> {
+			Object lv = left.eval(ctx);
+			Object rv = right.eval(ctx);
+			if (!isIntegral(lv) || !isIntegral(rv)) {
+				return UNSUPPORTED;
+			}
+			return comparison.test(Long.compare(((Number) lv).longValue(), ((Number) rv).longValue()));
+		};
+	}
+
+	private static boolean isIntegral(final Object value) {
+		return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+	}
+
+	private static boolean isOperatorWord(final String word) {
+		switch (word) {
+		case "and":
+		case "or":
+		case "not":
+		case "eq":
+		case "neq":
+		case "lt":
+		case "gt":
+		case "lte":
+		case "gte":
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private String readIdentifier() {
+		int start = position;
+		if (position >= expression.length() || !Character.isJavaIdentifierStart(expression.charAt(position))) {
+			throw UNSUPPORTED_SYNTAX;
+		}
+		position++;
+		while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position))) {
+			position++;
+		}
+		return expression.substring(start, position);
+	}
+
+	private boolean acceptOperator(final String operator) {
+		skipWhitespace();
+		if (!expression.startsWith(operator, position)) {
+			return false;
+		}
+		int next = position + operator.length();
+		if (next < expression.length()) {
+			char c = expression.charAt(next);
+			// "<" と "<="、"!" と "!=" などを区別する
+			if (operator.length() == 1 && c == '=') {
+				return false;
+			}
+		}
+		position = next;
+		return true;
+	}
+
+	private boolean acceptWord(final String word) {
+		skipWhitespace();
+		if (!expression.startsWith(word, position)) {
+			return false;
+		}
+		int next = position + word.length();
+		if (next < expression.length() && Character.isJavaIdentifierPart(expression.charAt(next))) {
+			return false;
+		}
+		position = next;
+		return true;
+	}
+
+	private void expect(final char c) {
+		skipWhitespace();
+		if (position >= expression.length() || expression.charAt(position) != c) {
+			throw UNSUPPORTED_SYNTAX;
+		}
+		position++;
+	}
+
+	private void skipWhitespace() {
+		while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+			position++;
+		}
+	}
+}
@@ -8,6 +8,7 @@ package jp.co.future.uroborosql.fluent;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import jp.co.future.uroborosql.SqlAgent;
@@ -68,6 +69,26 @@ public interface SqlEntityQuery<E> extends ExtractionCondition<SqlEntityQuery<E>
 	 */
 	Optional<E> first();
 
+	/**
+	 * 検索結果を非同期に取得（終端処理）<br>
+	 * 検索は{@link SqlAgentFactory#getAsyncExecutor()}で新たに生成したSqlAgentを使って実行するため、
+	 * 呼び出し元のSqlAgentとは別のコネクション、別のトランザクションとなり、呼び出し元で未コミットの更新内容は参照できない
+	 *
+	 * @return 検索結果のEntityリストを返すCompletableFuture
+	 * @see #collect()
+	 */
+	CompletableFuture<List<E>> collectAsync();
+
+	/**
+	 * 検索結果の先頭行を非同期に取得（終端処理）<br>
+	 * 検索は{@link SqlAgentFactory#getAsyncExecutor()}で新たに生成したSqlAgentを使って実行するため、
+	 * 呼び出し元のSqlAgentとは別のコネクション、別のトランザクションとなり、呼び出し元で未コミットの更新内容は参照できない
+	 *
+	 * @return 検索結果の先頭行をEntityに変換したものを返すCompletableFuture
+	 * @see #first()
+	 */
+	CompletableFuture<Optional<E>> firstAsync();
+
 	/**
 	 * 検索結果の先頭行を取得。検索結果が1件のみであることを検証する（終端処理）
 	 *
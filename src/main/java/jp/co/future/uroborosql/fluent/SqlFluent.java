@@ -286,4 +286,14 @@ public interface SqlFluent<T> {
 	 * @return T
 	 */
 	T sqlId(String sqlId);
+
+	/**
+	 * SQL実行ごとの状態をクリアし、同じSQLを別のパラメータで再実行できるようにする<br>
+	 * バインドパラメータ、変換後のSQL、バッチパラメータなどをクリアする。
+	 * SQL名、SQL（SQLフィルタ適用前のSQL）、SQL_ID、定数パラメータ、パラメータ変換マネージャなどの設定は保持する。<br>
+	 * ループ内で同じSQLを繰り返し実行する場合に、SQLコンテキストを生成しなおさずに再利用するために使用する。
+	 *
+	 * @return T
+	 */
+	T reset();
 }
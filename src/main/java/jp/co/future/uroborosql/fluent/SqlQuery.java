@@ -13,9 +13,11 @@ import java.sql.ResultSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.SqlAgentFactory;
 import jp.co.future.uroborosql.context.SqlContext;
 import jp.co.future.uroborosql.converter.ResultSetConverter;
 import jp.co.future.uroborosql.exception.DataNonUniqueException;
@@ -172,6 +174,39 @@ public interface SqlQuery extends SqlFluent<SqlQuery> {
 	 */
 	<T> List<T> collect(Class<T> type);
 
+	/**
+	 * 検索結果を非同期に取得（終端処理）<br>
+	 * 検索は{@link SqlAgentFactory#getAsyncExecutor()}で新たに生成したSqlAgentを使って実行するため、
+	 * 呼び出し元のSqlAgentとは別のコネクション、別のトランザクションとなり、呼び出し元で未コミットの更新内容は参照できない
+	 *
+	 * @return 検索結果のリストを返すCompletableFuture
+	 * @see #collect()
+	 */
+	CompletableFuture<List<Map<String, Object>>> collectAsync();
+
+	/**
+	 * 検索結果を非同期に取得（終端処理）<br>
+	 * 検索は{@link SqlAgentFactory#getAsyncExecutor()}で新たに生成したSqlAgentを使って実行するため、
+	 * 呼び出し元のSqlAgentとは別のコネクション、別のトランザクションとなり、呼び出し元で未コミットの更新内容は参照できない
+	 *
+	 * @param caseFormat Mapのキーの変換書式
+	 * @return 検索結果のリストを返すCompletableFuture
+	 * @see #collect(CaseFormat)
+	 */
+	CompletableFuture<List<Map<String, Object>>> collectAsync(CaseFormat caseFormat);
+
+	/**
+	 * 検索結果を非同期に取得（終端処理）<br>
+	 * 検索は{@link SqlAgentFactory#getAsyncExecutor()}で新たに生成したSqlAgentを使って実行するため、
+	 * 呼び出し元のSqlAgentとは別のコネクション、別のトランザクションとなり、呼び出し元で未コミットの更新内容は参照できない
+	 *
+	 * @param <T> Entityの型
+	 * @param type 受け取りたいEntityの型
+	 * @return 検索結果のリストを返すCompletableFuture
+	 * @see #collect(Class)
+	 */
+	<T> CompletableFuture<List<T>> collectAsync(Class<T> type);
+
 	/**
 	 * 検索結果をStreamとして取得（終端処理）
 	 *
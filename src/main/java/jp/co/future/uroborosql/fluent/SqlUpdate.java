@@ -9,6 +9,9 @@
  */
 package jp.co.future.uroborosql.fluent;
 
+import java.util.concurrent.CompletableFuture;
+
+import jp.co.future.uroborosql.SqlAgentFactory;
 
 /**
  * SQL Update 実行インタフェース
@@ -32,6 +35,16 @@ public interface SqlUpdate extends SqlFluent<SqlUpdate> {
 	 */
 	int count();
 
+	/**
+	 * 更新を非同期に実行（終端処理）<br>
+	 * 更新は{@link SqlAgentFactory#getAsyncExecutor()}で新たに生成したSqlAgentを使って、独立したトランザクションで実行する。
+	 * 更新が正常に終了した場合はコミットし、例外が発生した場合はロールバックする。呼び出し元のトランザクションには参加しない
+	 *
+	 * @return 更新件数を返すCompletableFuture
+	 * @see #count()
+	 */
+	CompletableFuture<Integer> countAsync();
+
 	/**
 	 * 一括更新結果の取得（終端処理）
 	 *
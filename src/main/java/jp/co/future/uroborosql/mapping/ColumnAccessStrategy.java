@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.mapping;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+/**
+ * 標準の{@link ColumnAccessor}生成方式
+ *
+ * @author H.Sugimoto
+ */
+public enum ColumnAccessStrategy implements ColumnAccessorFactory {
+	/** {@link Field#get(Object)}、{@link Field#set(Object, Object)}でフィールドにアクセスする */
+	REFLECTION {
+		@Override
+		public ColumnAccessor create(final Field field) {
+			field.setAccessible(true);
+			return new ReflectionAccessor(field);
+		}
+	},
+
+	/** フィールドから生成した{@link MethodHandle}でフィールドにアクセスする */
+	METHOD_HANDLE {
+		@Override
+		public ColumnAccessor create(final Field field) {
+			try {
+				field.setAccessible(true);
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				return new MethodHandleAccessor(lookup.unreflectGetter(field), lookup.unreflectSetter(field));
+			} catch (IllegalAccessException e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+	},
+
+	/**
+	 * publicなgetter/setterメソッドを直接呼び出すアクセッサクラスを{@link LambdaMetafactory}で実行時に生成する<br>
+	 * フィールドに対応するgetter/setterメソッドがない場合や、エンティティ型がpublicでない場合は{@link #METHOD_HANDLE}を利用する。<br>
+	 * getter/setterメソッドに処理が実装されている場合はその処理も実行される点に注意すること
+	 */
+	GENERATED {
+		@Override
+		public ColumnAccessor create(final Field field) {
+			Class<?> type = field.getDeclaringClass();
+			Class<?> fieldType = field.getType();
+			String suffix = StringUtils.capitalize(field.getName());
+			Method getter = findMethod(type, (boolean.class.equals(fieldType) ? "is" : "get") + suffix);
+			Method setter = findMethod(type, "set" + suffix, fieldType);
+			if (!Modifier.isPublic(type.getModifiers()) || getter == null || setter == null
+					|| !fieldType.equals(getter.getReturnType())) {
+				return METHOD_HANDLE.create(field);
+			}
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				Class<?> boxedType = MethodType.methodType(fieldType).wrap().returnType();
+				@SuppressWarnings("unchecked")
+				Function<Object, Object> getterFunction = (Function<Object, Object>) LambdaMetafactory.metafactory(
+						lookup, "apply", MethodType.methodType(Function.class),
+						MethodType.methodType(Object.class, Object.class), lookup.unreflect(getter),
+						MethodType.methodType(boxedType, type)).getTarget().invoke();
+				@SuppressWarnings("unchecked")
+				BiConsumer<Object, Object> setterFunction = (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+						lookup, "accept", MethodType.methodType(BiConsumer.class),
+						MethodType.methodType(void.class, Object.class, Object.class), lookup.unreflect(setter),
+						MethodType.methodType(void.class, type, boxedType)).getTarget().invoke();
+				return new GeneratedAccessor(getterFunction, setterFunction);
+			} catch (Throwable e) {
+				LOG.debug("Accessor can not be generated. Use MethodHandle instead.[{}#{}]", type.getName(),
+						field.getName(), e);
+				return METHOD_HANDLE.create(field);
+			}
+		}
+	};
+
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(ColumnAccessStrategy.class);
+
+	/**
+	 * publicなメソッドを取得する
+	 *
+	 * @param type 型
+	 * @param name メソッド名
+	 * @param parameterTypes 引数の型
+	 * @return メソッド. 存在しない場合は<code>null</code>
+	 */
+	private static Method findMethod(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+		try {
+			return type.getMethod(name, parameterTypes);
+		} catch (NoSuchMethodException | SecurityException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@link Field}を利用するアクセッサ
+	 */
+	private static final class ReflectionAccessor implements ColumnAccessor {
+		/** フィールド */
+		private final Field field;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param field フィールド
+		 */
+		private ReflectionAccessor(final Field field) {
+			this.field = field;
+		}
+
+		@Override
+		public Object get(final Object entity) {
+			try {
+				return this.field.get(entity);
+			} catch (IllegalArgumentException | IllegalAccessException e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+
+		@Override
+		public void set(final Object entity, final Object value) {
+			try {
+				this.field.set(entity, value);
+			} catch (IllegalArgumentException | IllegalAccessException e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * {@link MethodHandle}を利用するアクセッサ
+	 */
+	private static final class MethodHandleAccessor implements ColumnAccessor {
+		/** getterの型 */
+		private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+		/** setterの型 */
+		private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		/** 値を取得するMethodHandle */
+		private final MethodHandle getter;
+
+		/** 値を設定するMethodHandle */
+		private final MethodHandle setter;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param getter 値を取得するMethodHandle
+		 * @param setter 値を設定するMethodHandle
+		 */
+		private MethodHandleAccessor(final MethodHandle getter, final MethodHandle setter) {
+			this.getter = getter.asType(GETTER_TYPE);
+			this.setter = setter.asType(SETTER_TYPE);
+		}
+
+		@Override
+		public Object get(final Object entity) {
+			try {
+				return this.getter.invokeExact(entity);
+			} catch (ClassCastException | NullPointerException e) {
+				throw new UroborosqlRuntimeException(e);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+
+		@Override
+		public void set(final Object entity, final Object value) {
+			try {
+				this.setter.invokeExact(entity, value);
+			} catch (ClassCastException | NullPointerException e) {
+				throw new UroborosqlRuntimeException(e);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+	}
+
+	/**
+	 * 実行時に生成したgetter/setterの呼び出しクラスを利用するアクセッサ
+	 */
+	private static final class GeneratedAccessor implements ColumnAccessor {
+		/** getterを呼び出す関数 */
+		private final Function<Object, Object> getter;
+
+		/** setterを呼び出す関数 */
+		private final BiConsumer<Object, Object> setter;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param getter getterを呼び出す関数
+		 * @param setter setterを呼び出す関数
+		 */
+		private GeneratedAccessor(final Function<Object, Object> getter, final BiConsumer<Object, Object> setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public Object get(final Object entity) {
+			try {
+				return this.getter.apply(entity);
+			} catch (ClassCastException e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+
+		@Override
+		public void set(final Object entity, final Object value) {
+			try {
+				this.setter.accept(entity, value);
+			} catch (ClassCastException | NullPointerException e) {
+				throw new UroborosqlRuntimeException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.mapping;
+
+/**
+ * エンティティのフィールド値を読み書きするアクセッサインターフェース<br>
+ * {@link ColumnAccessorFactory}でフィールドごとに生成し、{@link MappingColumn}の値の取得・設定で利用する
+ *
+ * @author H.Sugimoto
+ */
+public interface ColumnAccessor {
+
+	/**
+	 * エンティティから値を取得
+	 *
+	 * @param entity エンティティ
+	 * @return 取得した値
+	 */
+	Object get(Object entity);
+
+	/**
+	 * エンティティに値をセット
+	 *
+	 * @param entity エンティティ
+	 * @param value 値
+	 */
+	void set(Object entity, Object value);
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.mapping;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link ColumnAccessor}を生成するファクトリインターフェース<br>
+ * 標準の実装は{@link ColumnAccessStrategy}を参照。利用する実装は{@link MappingUtils#setColumnAccessorFactory(ColumnAccessorFactory)}で指定する
+ *
+ * @author H.Sugimoto
+ */
+@FunctionalInterface
+public interface ColumnAccessorFactory {
+
+	/**
+	 * フィールドに対するアクセッサを生成する<br>
+	 * エンティティ型のマッピング情報を初めて取得する際に、マッピング対象のフィールドごとに1度だけ呼び出される
+	 *
+	 * @param field マッピング対象のフィールド
+	 * @return アクセッサ
+	 */
+	ColumnAccessor create(Field field);
+}
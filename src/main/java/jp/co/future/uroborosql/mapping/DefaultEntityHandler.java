@@ -29,6 +29,7 @@ import jp.co.future.uroborosql.enums.SqlKind;
 import jp.co.future.uroborosql.mapping.TableMetadata.Column;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapper;
 import jp.co.future.uroborosql.mapping.mapper.PropertyMapperManager;
+import jp.co.future.uroborosql.parameter.TypedParameter;
 
 /**
  * デフォルトORM処理クラス
@@ -38,6 +39,7 @@ import jp.co.future.uroborosql.mapping.mapper.PropertyMapperManager;
 public class DefaultEntityHandler implements EntityHandler<Object> {
 
 	private static Map<Class<?>, TableMetadata> CONTEXTS = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, Map<SqlKind, ColumnBinding[]>> BINDINGS = new ConcurrentHashMap<>();
 	private final PropertyMapperManager propertyMapperManager = new PropertyMapperManager();
 	private boolean emptyStringEqualsNull = true;
 
@@ -737,15 +739,82 @@ public class DefaultEntityHandler implements EntityHandler<Object> {
 
 	private void setFields(final SqlContext context, final Object entity, final SqlKind kind,
 			final Function<MappingColumn, String> getParamName) {
-		Class<?> type = entity.getClass();
-		for (MappingColumn column : MappingUtils.getMappingColumns(type, kind)) {
-			if (SqlKind.INSERT.equals(kind) && column.isId()
-					&& (GenerationType.IDENTITY.equals(column.getGeneratedValue().strategy())
-							|| GenerationType.SEQUENCE.equals(column.getGeneratedValue().strategy()))) {
-				continue;
-			}
+		for (ColumnBinding binding : getColumnBindings(entity.getClass(), kind)) {
+			MappingColumn column = binding.column;
 			Object value = column.getValue(entity);
-			context.param(getParamName.apply(column), value);
+			if (binding.binder == null) {
+				context.param(getParamName.apply(column), value);
+			} else {
+				if (value instanceof Optional) {
+					value = ((Optional<?>) value).orElse(null);
+				}
+				context.param(new TypedParameter(getParamName.apply(column), value, binding.sqlType, binding.binder));
+			}
+		}
+	}
+
+	/**
+	 * パラメータに設定するカラムのバインド方法を取得する<br>
+	 * テーブルメタ情報を取得済みのエンティティ型の場合は、カラムのJDBC上の型とフィールドの型からバインド方法を解決してキャッシュする
+	 *
+	 * @param type エンティティ型
+	 * @param kind SQL種別
+	 * @return カラムのバインド方法
+	 */
+	private ColumnBinding[] getColumnBindings(final Class<?> type, final SqlKind kind) {
+		Map<SqlKind, ColumnBinding[]> bindings = BINDINGS.get(type);
+		ColumnBinding[] columnBindings = bindings != null ? bindings.get(kind) : null;
+		if (columnBindings != null) {
+			return columnBindings;
+		}
+
+		TableMetadata metadata = CONTEXTS.get(type);
+		columnBindings = Arrays.stream(MappingUtils.getMappingColumns(type, kind))
+				.filter(column -> !(SqlKind.INSERT.equals(kind) && column.isId()
+						&& (GenerationType.IDENTITY.equals(column.getGeneratedValue().strategy())
+								|| GenerationType.SEQUENCE.equals(column.getGeneratedValue().strategy()))))
+				.map(column -> new ColumnBinding(column, metadata))
+				.toArray(ColumnBinding[]::new);
+		if (metadata != null) {
+			BINDINGS.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).put(kind, columnBindings);
+		}
+		return columnBindings;
+	}
+
+	/**
+	 * カラムのバインド方法
+	 */
+	private static final class ColumnBinding {
+		/** カラムマッピング情報 */
+		private final MappingColumn column;
+
+		/** カラムのJDBC上の型 */
+		private final int sqlType;
+
+		/** 値のバインド方法. カラムの型が不明な場合は<code>null</code> */
+		private final TypedParameter.Binder binder;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param column カラムマッピング情報
+		 * @param metadata テーブルメタ情報. 取得していない場合は<code>null</code>
+		 */
+		private ColumnBinding(final MappingColumn column, final TableMetadata metadata) {
+			this.column = column;
+			TableMetadata.Column col = null;
+			if (metadata != null) {
+				col = metadata.getColumns().stream()
+						.filter(c -> c.getCamelColumnName().equals(column.getCamelName()))
+						.findFirst().orElse(null);
+			}
+			if (col != null) {
+				this.sqlType = col.getDataType();
+				this.binder = TypedParameter.Binder.of(column.getJavaType().getRawType());
+			} else {
+				this.sqlType = JDBCType.NULL.getVendorTypeNumber();
+				this.binder = null;
+			}
 		}
 	}
 
@@ -55,7 +55,7 @@ public final class MappingUtils {
 	}
 
 	private static class MappingColumnImpl implements MappingColumn {
-		private final Field field;
+		private final ColumnAccessor accessor;
 		private final JavaType javaType;
 		private final String name;
 		private final String camelName;
@@ -65,12 +65,10 @@ public final class MappingUtils {
 		private final Transient transientAnno;
 		private final boolean isVersion;
 
-		MappingColumnImpl(final Field field, final JavaType javaType) {
-			this.field = field;
+		MappingColumnImpl(final Field field, final JavaType javaType, final ColumnAccessor accessor) {
+			this.accessor = accessor;
 			this.javaType = javaType;
 			Column column = field.getAnnotation(Column.class);
-			// アクセス可能にする
-			field.setAccessible(true);
 
 			if (column != null) {
 				this.name = column.name();
@@ -98,11 +96,7 @@ public final class MappingUtils {
 		 */
 		@Override
 		public Object getValue(final Object entity) {
-			try {
-				return this.field.get(entity);
-			} catch (IllegalArgumentException | IllegalAccessException e) {
-				throw new UroborosqlRuntimeException(e);
-			}
+			return this.accessor.get(entity);
 		}
 
 		/**
@@ -112,11 +106,7 @@ public final class MappingUtils {
 		 */
 		@Override
 		public void setValue(final Object entity, final Object value) {
-			try {
-				this.field.set(entity, value);
-			} catch (IllegalArgumentException | IllegalAccessException e) {
-				throw new UroborosqlRuntimeException(e);
-			}
+			this.accessor.set(entity, value);
 		}
 
 		/**
@@ -230,6 +220,36 @@ public final class MappingUtils {
 		}
 	};
 
+	/** フィールドのアクセッサを生成するファクトリ */
+	private static volatile ColumnAccessorFactory columnAccessorFactory = ColumnAccessStrategy
+			.valueOf(System.getProperty("uroborosql.entity.accessor", ColumnAccessStrategy.METHOD_HANDLE.name()));
+
+	/**
+	 * フィールドのアクセッサを生成するファクトリの取得
+	 *
+	 * @return フィールドのアクセッサを生成するファクトリ
+	 */
+	public static ColumnAccessorFactory getColumnAccessorFactory() {
+		return columnAccessorFactory;
+	}
+
+	/**
+	 * フィールドのアクセッサを生成するファクトリの設定<br>
+	 * 既定値はシステムプロパティ<code>uroborosql.entity.accessor</code>で指定した{@link ColumnAccessStrategy}（未指定時は{@link ColumnAccessStrategy#METHOD_HANDLE}）。<br>
+	 * 設定時にカラムマッピング情報のキャッシュをクリアする。エンティティを利用する前に設定すること
+	 *
+	 * @param factory フィールドのアクセッサを生成するファクトリ
+	 */
+	public static void setColumnAccessorFactory(final ColumnAccessorFactory factory) {
+		if (factory == null) {
+			throw new IllegalArgumentException("factory is required.");
+		}
+		synchronized (CACHE) {
+			columnAccessorFactory = factory;
+			CACHE.clear();
+		}
+	}
+
 	/**
 	 * エンティティ型からテーブル情報の取得
 	 *
@@ -376,7 +396,8 @@ public final class MappingUtils {
 				continue;
 			}
 			JavaType javaType = JavaType.of(implementClass, field);
-			MappingColumn mappingColumn = new MappingColumnImpl(field, javaType);
+			MappingColumn mappingColumn = new MappingColumnImpl(field, javaType,
+					columnAccessorFactory.create(field));
 
 			String fieldName = field.getName();
 			noneColumns.put(fieldName, mappingColumn);
@@ -12,12 +12,13 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * エンティティ カラム情報アノテーション
+ * エンティティ カラム情報アノテーション<br>
+ * エンティティの生成に使用するコンストラクタ、ファクトリメソッドの引数に付与した場合は、引数に渡すカラムを指定する（{@link EntityCreator}を参照）
  *
  * @author ota
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
 public @interface Column {
 
 	/**
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.mapping.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * エンティティ 生成メソッド指定アノテーション<br>
+ * 検索結果からエンティティを生成する際に使用するコンストラクタ、またはstaticなファクトリメソッドに付与する。<br>
+ * 付与しない場合は、publicな引数なしコンストラクタ、publicなコンストラクタが1つだけの場合はそのコンストラクタを使用する。<br>
+ * 引数に渡すカラムは引数に付与した{@link Column}、引数名（<code>-parameters</code>オプションでコンパイルした場合）、
+ * フィールドの宣言順の順に解決する
+ *
+ * @author H.Sugimoto
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.CONSTRUCTOR, ElementType.METHOD })
+public @interface EntityCreator {
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.mapping.mapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSetから列の値を読み込むインターフェース<br>
+ * {@link PropertyMapperManager#getColumnReader(jp.co.future.uroborosql.mapping.JavaType)}で変換対象の型ごとに解決し、
+ * 検索結果の各行では解決済みのColumnReaderを使って値を取得する
+ *
+ * @author H.Sugimoto
+ */
+@FunctionalInterface
+public interface ColumnReader {
+
+	/**
+	 * 列の値を読み込む
+	 *
+	 * @param rs ResultSet
+	 * @param columnIndex 読み込む列のカラムIndex
+	 * @return 変換対象の型に変換した値
+	 * @throws SQLException SQL例外
+	 */
+	Object read(ResultSet rs, int columnIndex) throws SQLException;
+}
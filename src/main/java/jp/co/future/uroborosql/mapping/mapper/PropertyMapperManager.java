@@ -10,8 +10,12 @@ import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -34,6 +38,9 @@ public final class PropertyMapperManager {
 			new ArrayPropertyMapper()
 	};
 
+	/** ResultSetのgetterで直接取得できる型のColumnReader */
+	private static final Map<Class<?>, ColumnReader> BUILTIN_READERS = createBuiltinReaders();
+
 	/** Serviceに登録されたMapper */
 	private static final List<PropertyMapper<?>> LOADED_MAPPERS = load();
 
@@ -97,120 +104,126 @@ public final class PropertyMapperManager {
 			}
 		}
 
-		if (String.class.equals(rawType)) {
-			return rs.getString(columnIndex);
+		ColumnReader reader = BUILTIN_READERS.get(rawType);
+		if (reader != null) {
+			return reader.read(rs, columnIndex);
 		}
-		if (Boolean.class.equals(rawType)) {
-			boolean result = rs.getBoolean(columnIndex);
-			if (rs.wasNull()) {
-				return null;
+		for (PropertyMapper<?> propertyMapper : DEFAULT_MAPPERS) {
+			if (propertyMapper.canAccept(rawType) && propertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
+				return propertyMapper.getValue(type, rs, columnIndex, this);
 			}
-			return result;
-		}
-		if (boolean.class.equals(rawType)) {
-			return rs.getBoolean(columnIndex);
 		}
-		if (Byte.class.equals(rawType)) {
-			byte result = rs.getByte(columnIndex);
-			if (rs.wasNull()) {
-				return null;
+		return rs.getObject(columnIndex);
+	}
+
+	/**
+	 * 変換対象の型に対応する{@link ColumnReader}を取得<br>
+	 * {@link #getValue(JavaType, ResultSet, int)}と同じ順序で変換方法を判定し、型だけで決まる判定は取得時に1度だけ行う。
+	 * 登録された{@link PropertyMapper}が変換対象の型を受け入れない場合は、ResultSetのgetterを直接呼び出すColumnReaderを返す。<br>
+	 * 取得後に追加・削除した{@link PropertyMapper}は、取得済みのColumnReaderには反映されない
+	 *
+	 * @param type 変換対象の型
+	 * @return 変換対象の型に対応するColumnReader
+	 */
+	public ColumnReader getColumnReader(final JavaType type) {
+		Class<?> rawType = type.getRawType();
+		PropertyMapper<?>[] accepted = acceptedMappers(this.mappers, rawType);
+		ColumnReader builtin = BUILTIN_READERS.get(rawType);
+		if (accepted.length == 0 && builtin != null) {
+			return builtin;
+		}
+		PropertyMapper<?>[] defaults = builtin == null ? acceptedMappers(Arrays.asList(DEFAULT_MAPPERS), rawType)
+				: new PropertyMapper<?>[0];
+		if (accepted.length == 0 && defaults.length == 0) {
+			return ResultSet::getObject;
+		}
+		return (rs, columnIndex) -> {
+			for (PropertyMapper<?> propertyMapper : accepted) {
+				if (propertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
+					return propertyMapper.getValue(type, rs, columnIndex, this);
+				}
 			}
-			return result;
-		}
-		if (byte.class.equals(rawType)) {
-			return rs.getByte(columnIndex);
-		}
-		if (Short.class.equals(rawType)) {
-			short result = rs.getShort(columnIndex);
-			if (rs.wasNull()) {
-				return null;
+			if (builtin != null) {
+				return builtin.read(rs, columnIndex);
 			}
-			return result;
-		}
-		if (short.class.equals(rawType)) {
-			return rs.getShort(columnIndex);
-		}
-		if (Integer.class.equals(rawType)) {
-			int result = rs.getInt(columnIndex);
-			if (rs.wasNull()) {
-				return null;
+			for (PropertyMapper<?> propertyMapper : defaults) {
+				if (propertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
+					return propertyMapper.getValue(type, rs, columnIndex, this);
+				}
 			}
-			return result;
-		}
-		if (int.class.equals(rawType)) {
-			return rs.getInt(columnIndex);
-		}
-		if (Long.class.equals(rawType)) {
+			return rs.getObject(columnIndex);
+		};
+	}
+
+	/**
+	 * 変換対象の型を受け入れる{@link PropertyMapper}を抽出する
+	 *
+	 * @param propertyMappers 抽出元の{@link PropertyMapper}
+	 * @param rawType 変換対象の型
+	 * @return 変換対象の型を受け入れる{@link PropertyMapper}
+	 */
+	private static PropertyMapper<?>[] acceptedMappers(final List<PropertyMapper<?>> propertyMappers,
+			final Class<?> rawType) {
+		return propertyMappers.stream()
+				.filter(propertyMapper -> propertyMapper.canAccept(rawType))
+				.toArray(PropertyMapper<?>[]::new);
+	}
+
+	/**
+	 * ResultSetのgetterで直接取得できる型のColumnReaderを生成する
+	 *
+	 * @return 型をキーとしたColumnReaderのMap
+	 */
+	private static Map<Class<?>, ColumnReader> createBuiltinReaders() {
+		Map<Class<?>, ColumnReader> readers = new HashMap<>();
+		readers.put(String.class, ResultSet::getString);
+		readers.put(Boolean.class, (rs, columnIndex) -> {
+			boolean result = rs.getBoolean(columnIndex);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(boolean.class, ResultSet::getBoolean);
+		readers.put(Byte.class, (rs, columnIndex) -> {
+			byte result = rs.getByte(columnIndex);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(byte.class, ResultSet::getByte);
+		readers.put(Short.class, (rs, columnIndex) -> {
+			short result = rs.getShort(columnIndex);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(short.class, ResultSet::getShort);
+		readers.put(Integer.class, (rs, columnIndex) -> {
+			int result = rs.getInt(columnIndex);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(int.class, ResultSet::getInt);
+		readers.put(Long.class, (rs, columnIndex) -> {
 			long result = rs.getLong(columnIndex);
-			if (rs.wasNull()) {
-				return null;
-			}
-			return result;
-		}
-		if (long.class.equals(rawType)) {
-			return rs.getLong(columnIndex);
-		}
-		if (Float.class.equals(rawType)) {
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(long.class, ResultSet::getLong);
+		readers.put(Float.class, (rs, columnIndex) -> {
 			float result = rs.getFloat(columnIndex);
-			if (rs.wasNull()) {
-				return null;
-			}
-			return result;
-		}
-		if (float.class.equals(rawType)) {
-			return rs.getFloat(columnIndex);
-		}
-		if (Double.class.equals(rawType)) {
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(float.class, ResultSet::getFloat);
+		readers.put(Double.class, (rs, columnIndex) -> {
 			double result = rs.getDouble(columnIndex);
-			if (rs.wasNull()) {
-				return null;
-			}
-			return result;
-		}
-		if (double.class.equals(rawType)) {
-			return rs.getDouble(columnIndex);
-		}
-		if (BigDecimal.class.equals(rawType)) {
-			return rs.getBigDecimal(columnIndex);
-		}
-		if (byte[].class.equals(rawType)) {
-			return rs.getBytes(columnIndex);
-		}
-		if (java.sql.Timestamp.class.equals(rawType)) {
-			return rs.getTimestamp(columnIndex);
-		}
-		if (java.sql.Time.class.equals(rawType)) {
-			return rs.getTime(columnIndex);
-		}
-		if (java.sql.Date.class.equals(rawType)) {
-			return rs.getDate(columnIndex);
-		}
-		if (Date.class.equals(rawType)) {
-			return rs.getTimestamp(columnIndex);
-		}
-		if (java.sql.Array.class.equals(rawType)) {
-			return rs.getArray(columnIndex);
-		}
-		if (java.sql.Blob.class.equals(rawType)) {
-			return rs.getBlob(columnIndex);
-		}
-		if (java.sql.Clob.class.equals(rawType)) {
-			return rs.getClob(columnIndex);
-		}
-		if (java.sql.NClob.class.equals(rawType)) {
-			return rs.getNClob(columnIndex);
-		}
-		if (java.sql.Ref.class.equals(rawType)) {
-			return rs.getRef(columnIndex);
-		}
-		if (java.sql.SQLXML.class.equals(rawType)) {
-			return rs.getSQLXML(columnIndex);
-		}
-		for (PropertyMapper<?> propertyMapper : DEFAULT_MAPPERS) {
-			if (propertyMapper.canAccept(rawType) && propertyMapper.canAcceptTest(type, rs, columnIndex, this)) {
-				return propertyMapper.getValue(type, rs, columnIndex, this);
-			}
-		}
-		return rs.getObject(columnIndex);
+			return rs.wasNull() ? null : result;
+		});
+		readers.put(double.class, ResultSet::getDouble);
+		readers.put(BigDecimal.class, ResultSet::getBigDecimal);
+		readers.put(byte[].class, ResultSet::getBytes);
+		readers.put(java.sql.Timestamp.class, ResultSet::getTimestamp);
+		readers.put(java.sql.Time.class, ResultSet::getTime);
+		readers.put(java.sql.Date.class, ResultSet::getDate);
+		readers.put(Date.class, ResultSet::getTimestamp);
+		readers.put(java.sql.Array.class, ResultSet::getArray);
+		readers.put(java.sql.Blob.class, ResultSet::getBlob);
+		readers.put(java.sql.Clob.class, ResultSet::getClob);
+		readers.put(java.sql.NClob.class, ResultSet::getNClob);
+		readers.put(java.sql.Ref.class, ResultSet::getRef);
+		readers.put(java.sql.SQLXML.class, ResultSet::getSQLXML);
+		return Collections.unmodifiableMap(readers);
 	}
 }
@@ -46,6 +46,15 @@ public class EmbeddedValueNode extends ExpressionNode {
 		this.wrap = wrap;
 	}
 
+	/**
+	 * シングルクォートで囲むかどうかの取得
+	 *
+	 * @return シングルクォートで囲む場合<code>true</code>
+	 */
+	public boolean isWrap() {
+		return wrap;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -55,14 +64,18 @@ public class EmbeddedValueNode extends ExpressionNode {
 	public void accept(final TransformContext transformContext) {
 		Object value = eval(transformContext);
 
+		// 埋め込む値によってSQL文字列が変わるため、値を変換経路として通知する
 		if (value != null) {
+			String embeddedValue = escapeSql(value);
+			transformContext.addRoute(embeddedValue);
 			if (wrap) {
-				transformContext.addSqlPart("'").addSqlPart(escapeSql(value)).addSqlPart("'/*#").addSqlPart(expression)
+				transformContext.addSqlPart("'").addSqlPart(embeddedValue).addSqlPart("'/*#").addSqlPart(expression)
 						.addSqlPart("*/");
 			} else {
-				transformContext.addSqlPart(escapeSql(value)).addSqlPart("/*$").addSqlPart(expression).addSqlPart("*/");
+				transformContext.addSqlPart(embeddedValue).addSqlPart("/*$").addSqlPart(expression).addSqlPart("*/");
 			}
 		} else {
+			transformContext.addRoute(null);
 			transformContext.addSqlPart(null);
 		}
 		pass();
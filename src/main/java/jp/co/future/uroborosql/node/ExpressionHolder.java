@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.node;
+
+import jp.co.future.uroborosql.expr.Expression;
+import jp.co.future.uroborosql.expr.ExpressionEngine;
+import jp.co.future.uroborosql.parser.TransformContext;
+
+/**
+ * ノードの評価式の解析結果を保持するクラス<br>
+ * 解析結果は解析に使用した評価式エンジンと組にして保持し、異なる評価式エンジンで評価する場合は再解析する。
+ *
+ * @author H.Sugimoto
+ */
+final class ExpressionHolder {
+	/** 評価式 */
+	private final String expression;
+
+	/** 解析結果 */
+	private volatile Parsed parsed;
+
+	/**
+	 * 評価式エンジンと解析結果の組
+	 */
+	private static final class Parsed {
+		/** 評価式エンジン */
+		private final ExpressionEngine engine;
+
+		/** 解析済みの評価式 */
+		private final Expression expression;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param engine 評価式エンジン
+		 * @param expression 解析済みの評価式
+		 */
+		private Parsed(final ExpressionEngine engine, final Expression expression) {
+			this.engine = engine;
+			this.expression = expression;
+		}
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param expression 評価式
+	 */
+	ExpressionHolder(final String expression) {
+		this.expression = expression;
+	}
+
+	/**
+	 * 評価式の値を取得する
+	 *
+	 * @param transformContext 変換用コンテキスト
+	 * @return 評価結果
+	 */
+	Object getValue(final TransformContext transformContext) {
+		ExpressionEngine engine = transformContext.getExpressionEngine();
+		Parsed current = parsed;
+		if (current == null || current.engine != engine) {
+			current = new Parsed(engine, engine.parse(expression));
+			parsed = current;
+		}
+		return current.expression.getValue(transformContext);
+	}
+}
@@ -26,6 +26,9 @@ public abstract class ExpressionNode extends AbstractNode {
 	/** トークン上の値 */
 	private final String tokenValue;
 
+	/** 評価式の解析結果 */
+	private final ExpressionHolder expressionHolder;
+
 	/**
 	 * 評価を行うノード
 	 *
@@ -39,6 +42,7 @@ public abstract class ExpressionNode extends AbstractNode {
 		super(position, 2 + addLength + expression.length() + 2 + (tokenValue != null ? tokenValue.length() : 0));
 		this.expression = expression;
 		this.tokenValue = tokenValue;
+		this.expressionHolder = new ExpressionHolder(expression);
 	}
 
 	/**
@@ -75,15 +79,11 @@ public abstract class ExpressionNode extends AbstractNode {
 	protected Object eval(final TransformContext transformContext) {
 		Object value = null;
 		if (isOgnl(expression)) {
-			// OGNL式の場合はEvalした結果を取得
-			// OGNL式の評価は処理が重いため、必要な段階になってからParsedExpressionを取得する
-			try {
-				value = Ognl.getValue(getParsedExpression(expression), transformContext, null);
-				// OGNL式の場合は評価した値がバインドパラメータに登録されていないのでこのタイミングで登録する
-				transformContext.param(expression, value);
-			} catch (OgnlException ex) {
-				throw new OgnlRuntimeException("Acquire an object failed.[" + expression + "]", ex);
-			}
+			// OGNL式の場合は評価式エンジンでEvalした結果を取得
+			// 評価式の解析は処理が重いため、初回評価時に解析した結果を保持して再利用する
+			value = expressionHolder.getValue(transformContext);
+			// OGNL式の場合は評価した値がバインドパラメータに登録されていないのでこのタイミングで登録する
+			transformContext.param(expression, value);
 		} else {
 			// キーの指定の場合は高速化のため、直接DaoContextから取得
 			Parameter parameter = transformContext.getParam(expression);
@@ -33,6 +33,9 @@ public class IfNode extends BranchNode {
 	/** 評価式 */
 	private final String expression;
 
+	/** 評価式の解析結果 */
+	private final ExpressionHolder expressionHolder;
+
 	/** ELSE句 */
 	private ElseNode elseNode;
 
@@ -48,6 +51,7 @@ public class IfNode extends BranchNode {
 	public IfNode(final int position, final String expression) {
 		super(position, expression.length() + 6);
 		this.expression = expression.trim();
+		this.expressionHolder = new ExpressionHolder(this.expression);
 	}
 
 	/**
@@ -97,14 +101,7 @@ public class IfNode extends BranchNode {
 
 	@Override
 	public void accept(final TransformContext transformContext) {
-		Object result = null;
-		Node parsedExpression = null;
-		try {
-			parsedExpression = (Node) Ognl.parseExpression(expression);
-			result = Ognl.getValue(parsedExpression, transformContext, null);
-		} catch (OgnlException ex) {
-			throw new OgnlRuntimeException("Value could not be obtained.[" + expression + "]", ex);
-		}
+		Object result = expressionHolder.getValue(transformContext);
 
 		if (result instanceof Boolean) {
 			boolean resultValue = ((Boolean) result).booleanValue();
@@ -114,7 +111,11 @@ public class IfNode extends BranchNode {
 					// 単純なBoolean評価の場合はログを出力しない
 				} else {
 					StringBuilder builder = new StringBuilder();
-					dumpNode(parsedExpression, transformContext, builder);
+					try {
+						dumpNode((Node) Ognl.parseExpression(expression), transformContext, builder);
+					} catch (OgnlException ex) {
+						throw new OgnlRuntimeException("Value could not be obtained.[" + expression + "]", ex);
+					}
 
 					LOG.debug("Evaluation Expression:[{}], Result:[{}], Parameter:[{}]", expression, resultValue,
 							builder.length() == 0 ? ""
@@ -122,6 +123,7 @@ public class IfNode extends BranchNode {
 				}
 			}
 			passState(resultValue);
+			transformContext.addRoute(resultValue);
 			if (resultValue) {
 				transformContext.setEnabled(true);
 				super.accept(transformContext);
@@ -65,6 +65,7 @@ public class ParenBindVariableNode extends ExpressionNode {
 			throw new ParameterNotFoundRuntimeException("Parameter is not set. [" + expression + "]");
 		}
 
+		transformContext.addRoute(length);
 		transformContext.addSqlPart("(?");
 		transformContext.addBindVariable(Array.get(values, 0));
 		for (int i = 1; i < length; i++) {
@@ -30,6 +30,15 @@ public class PrefixSqlNode extends SqlNode {
 		this.prefix = prefix;
 	}
 
+	/**
+	 * プレフィックスの取得
+	 *
+	 * @return プレフィックス
+	 */
+	public String getPrefix() {
+		return prefix;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
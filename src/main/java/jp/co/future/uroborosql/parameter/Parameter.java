@@ -6,8 +6,6 @@
  */
 package jp.co.future.uroborosql.parameter;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -15,12 +13,12 @@ import java.sql.SQLType;
 import java.util.Map;
 import java.util.Objects;
 
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+import jp.co.future.uroborosql.utils.PropertyAccessor;
 
 /**
  * パラメータオブジェクト。<br>
@@ -104,25 +102,18 @@ public class Parameter {
 							subParameterName);
 				}
 			} else {
-				try {
-					// フィールドアクセスで値の取得を実施
-					Field field = value.getClass().getDeclaredField(propertyName);
-					field.setAccessible(true);
-					subValue = field.get(value);
-				} catch (NoSuchFieldException e) {
-					// メソッドアクセスで値の取得を実施
+				// アクセッサはクラスとプロパティ名ごとにキャッシュされる（アクセスできない場合の警告は初回のみ出力）
+				PropertyAccessor accessor = PropertyAccessor.of(value.getClass(), propertyName);
+				if (accessor != null) {
 					try {
-						String prefix = boolean.class.equals(value.getClass()) ? "is" : "get";
-						Method method = value.getClass()
-								.getMethod(prefix + StringUtils.capitalize(propertyName));
-						subValue = method.invoke(value);
-					} catch (Exception e2) {
+						subValue = accessor.get(value);
+					} catch (Exception e) {
 						LOG.warn("Set subparameter value to NULL because property can not be accessed.[{}]",
-								subParameterName, e2);
+								subParameterName, e);
 					}
-				} catch (Exception e) {
-					LOG.warn("Set subparameter value to NULL because property can not be accessed.[{}]",
-							subParameterName, e);
+				} else {
+					LOG.debug("Set subparameter value to NULL because property can not be accessed.[{}]",
+							subParameterName);
 				}
 			}
 		}
@@ -179,11 +170,20 @@ public class Parameter {
 	 * @param index パラメータインデックス
 	 */
 	protected void parameterLog(final int index) {
-		if (LOG.isDebugEnabled() && Boolean.FALSE.toString().equals(MDC.get("SuppressParameterLogOutput"))) {
+		if (isParameterLogEnabled()) {
 			LOG.debug("Set the parameter.[INDEX[{}], {}]", index, this);
 		}
 	}
 
+	/**
+	 * パラメータ設定ログを出力するかどうか
+	 *
+	 * @return 出力する場合<code>true</code>
+	 */
+	public static boolean isParameterLogEnabled() {
+		return LOG.isDebugEnabled() && Boolean.FALSE.toString().equals(MDC.get("SuppressParameterLogOutput"));
+	}
+
 	/**
 	 * パラメータ名取得。
 	 *
@@ -202,6 +202,15 @@ public class Parameter {
 		return value;
 	}
 
+	/**
+	 * SQL型取得。
+	 *
+	 * @return SQL型. 指定されていない場合は<code>null</code>
+	 */
+	public SQLType getSqlType() {
+		return sqlType;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parameter;
+
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+
+/**
+ * 型指定パラメータオブジェクト。<br>
+ * カラムのJDBC上の型と、値の型に応じたバインド方法（{@link Binder}）をあらかじめ解決したパラメータ。<br>
+ * 値は<code>setInt</code>や<code>setString</code>など型に応じたメソッドでバインドし、nullはカラムの型を指定した<code>setNull</code>でバインドする。
+ *
+ * @author H.Sugimoto
+ */
+public class TypedParameter extends Parameter {
+	/**
+	 * nullをバインドする際のSQL型（{@link java.sql.Types}の値）
+	 */
+	protected final int nullSqlType;
+
+	/**
+	 * 値のバインド方法
+	 */
+	protected final Binder binder;
+
+	/**
+	 * コンストラクタ。
+	 *
+	 * @param parameterName パラメータ名
+	 * @param value 値
+	 * @param nullSqlType nullをバインドする際のSQL型（{@link java.sql.Types}の値）
+	 * @param binder 値のバインド方法
+	 */
+	public TypedParameter(final String parameterName, final Object value, final int nullSqlType,
+			final Binder binder) {
+		super(parameterName, value);
+		this.nullSqlType = nullSqlType;
+		this.binder = binder;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parameter.Parameter#setInParameter(java.sql.PreparedStatement, int, jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager)
+	 */
+	@Override
+	protected int setInParameter(final PreparedStatement preparedStatement, final int index,
+			final BindParameterMapperManager parameterMapperManager) throws SQLException {
+		if (value instanceof Iterable) {
+			return super.setInParameter(preparedStatement, index, parameterMapperManager);
+		}
+		//JDBCの受け付ける型に変換
+		Object jdbcParam = parameterMapperManager.toJdbc(value, preparedStatement.getConnection());
+		if (jdbcParam == null) {
+			preparedStatement.setNull(index, nullSqlType);
+		} else {
+			binder.bind(preparedStatement, index, jdbcParam);
+		}
+		parameterLog(index);
+		return index + 1;
+	}
+
+	/**
+	 * SQL型取得。<br>
+	 * nullをバインドする際のSQL型を返す
+	 *
+	 * @return SQL型. {@link JDBCType}に該当する型がない場合は<code>null</code>
+	 */
+	@Override
+	public SQLType getSqlType() {
+		try {
+			return JDBCType.valueOf(nullSqlType);
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parameter.Parameter#toString()
+	 */
+	@Override
+	public String toString() {
+		SQLType type = getSqlType();
+		return "Parameter name[" + parameterName + "], Value[" + value + "], Class["
+				+ (value == null ? "NULL" : value.getClass().getSimpleName()) + "], SQL type["
+				+ (type != null ? type.getName() : String.valueOf(nullSqlType)) + "]";
+	}
+
+	/**
+	 * 型に応じた値のバインド方法<br>
+	 * JDBCの受け付ける型に変換した値が想定した型の場合は型に応じたメソッドでバインドし、それ以外の場合は<code>setObject</code>でバインドする
+	 */
+	public static final class Binder {
+		/** 値の型ごとのバインド方法 */
+		private static final Map<Class<?>, Binder> BINDERS = new HashMap<>();
+
+		/** 型に応じたメソッドを使用しないバインド方法 */
+		private static final Binder GENERIC = new Binder(Object.class, null);
+
+		static {
+			register(new Binder(String.class, (ps, i, v) -> ps.setString(i, (String) v)), String.class);
+			register(new Binder(Integer.class, (ps, i, v) -> ps.setInt(i, (Integer) v)), Integer.class, int.class);
+			register(new Binder(Long.class, (ps, i, v) -> ps.setLong(i, (Long) v)), Long.class, long.class);
+			register(new Binder(Short.class, (ps, i, v) -> ps.setShort(i, (Short) v)), Short.class, short.class);
+			register(new Binder(Byte.class, (ps, i, v) -> ps.setByte(i, (Byte) v)), Byte.class, byte.class);
+			register(new Binder(Boolean.class, (ps, i, v) -> ps.setBoolean(i, (Boolean) v)), Boolean.class,
+					boolean.class);
+			register(new Binder(Double.class, (ps, i, v) -> ps.setDouble(i, (Double) v)), Double.class,
+					double.class);
+			register(new Binder(Float.class, (ps, i, v) -> ps.setFloat(i, (Float) v)), Float.class, float.class);
+			register(new Binder(BigDecimal.class, (ps, i, v) -> ps.setBigDecimal(i, (BigDecimal) v)),
+					BigDecimal.class);
+			register(new Binder(byte[].class, (ps, i, v) -> ps.setBytes(i, (byte[]) v)), byte[].class);
+			// Date and Time APIの値はBindParameterMapperでjava.sqlの型に変換される
+			register(new Binder(java.sql.Timestamp.class, (ps, i, v) -> ps.setTimestamp(i, (java.sql.Timestamp) v)),
+					java.sql.Timestamp.class, java.util.Date.class, LocalDateTime.class);
+			register(new Binder(java.sql.Date.class, (ps, i, v) -> ps.setDate(i, (java.sql.Date) v)),
+					java.sql.Date.class, LocalDate.class);
+			register(new Binder(java.sql.Time.class, (ps, i, v) -> ps.setTime(i, (java.sql.Time) v)),
+					java.sql.Time.class, LocalTime.class);
+		}
+
+		/** JDBCの受け付ける型に変換した値の想定する型 */
+		private final Class<?> valueType;
+
+		/** 値の設定処理 */
+		private final Setter setter;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param valueType JDBCの受け付ける型に変換した値の想定する型
+		 * @param setter 値の設定処理
+		 */
+		private Binder(final Class<?> valueType, final Setter setter) {
+			this.valueType = valueType;
+			this.setter = setter;
+		}
+
+		private static void register(final Binder binder, final Class<?>... javaTypes) {
+			for (Class<?> javaType : javaTypes) {
+				BINDERS.put(javaType, binder);
+			}
+		}
+
+		/**
+		 * フィールドの型に対応するバインド方法の取得
+		 *
+		 * @param javaType フィールドの型
+		 * @return バインド方法. 対応するバインド方法がない場合は<code>setObject</code>でバインドする方法
+		 */
+		public static Binder of(final Class<?> javaType) {
+			return BINDERS.getOrDefault(javaType, GENERIC);
+		}
+
+		/**
+		 * 値のバインド
+		 *
+		 * @param preparedStatement ステートメント
+		 * @param index パラメータインデックス
+		 * @param jdbcParam JDBCの受け付ける型に変換した値
+		 * @throws SQLException SQL例外
+		 */
+		void bind(final PreparedStatement preparedStatement, final int index, final Object jdbcParam)
+				throws SQLException {
+			if (setter != null && valueType.isInstance(jdbcParam)) {
+				setter.set(preparedStatement, index, jdbcParam);
+			} else if (jdbcParam instanceof java.sql.Array) {
+				preparedStatement.setArray(index, (java.sql.Array) jdbcParam);
+			} else {
+				preparedStatement.setObject(index, jdbcParam);
+			}
+		}
+	}
+
+	/**
+	 * 値の設定処理
+	 */
+	@FunctionalInterface
+	private interface Setter {
+		/**
+		 * 値の設定
+		 *
+		 * @param preparedStatement ステートメント
+		 * @param index パラメータインデックス
+		 * @param value 値
+		 * @throws SQLException SQL例外
+		 */
+		void set(PreparedStatement preparedStatement, int index, Object value) throws SQLException;
+	}
+}
@@ -9,13 +9,17 @@ package jp.co.future.uroborosql.parameter.mapper;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import jp.co.future.uroborosql.utils.ClassCache;
+
 /**
  * パラメータ変換クラス<br>
- * JDBCに渡すパラメータを調整する
+ * JDBCに渡すパラメータを調整する<br>
+ * 値の型ごとに使用する{@link BindParameterMapper}を解決した結果をキャッシュし、Mapperの追加・削除時に破棄する
  *
  * @author ota
  */
@@ -23,6 +27,9 @@ public final class BindParameterMapperManager {
 	/** バインドパラメータMapperのリスト */
 	private final List<BindParameterMapper<?>> mappers;
 
+	/** 値の型ごとの変換方法のキャッシュ */
+	private volatile BindPlanCache bindPlans;
+
 	/** デフォルトMapper */
 	private static final BindParameterMapper<?>[] DEFAULT_MAPPERS = { new DateParameterMapper(),
 			new DateTimeApiParameterMapper(), new BigIntegerParameterMapper(),
@@ -39,6 +46,17 @@ public final class BindParameterMapperManager {
 			new DoubleWrapperArrayParameterMapper(),
 	};
 
+	/** 標準でパラメータとして受け入れ可能な型 */
+	private static final Class<?>[] STANDARD_TYPES = { Boolean.class, Byte.class, Short.class, Integer.class,
+			Long.class, Float.class, Double.class, BigDecimal.class, String.class,
+
+			byte[].class,
+
+			java.sql.Date.class, java.sql.Time.class, java.sql.Timestamp.class, java.sql.Array.class,
+			java.sql.Ref.class, java.sql.Blob.class, java.sql.Clob.class, java.sql.SQLXML.class,
+
+			java.sql.Struct.class };
+
 	/** Serviceに登録されたMapper */
 	private static final List<BindParameterMapper<?>> LOADED_MAPPERS = load();
 
@@ -53,6 +71,7 @@ public final class BindParameterMapperManager {
 	 */
 	public BindParameterMapperManager() {
 		mappers = new CopyOnWriteArrayList<>(LOADED_MAPPERS);
+		bindPlans = new BindPlanCache(mappers);
 	}
 
 	/**
@@ -62,6 +81,8 @@ public final class BindParameterMapperManager {
 	 */
 	public BindParameterMapperManager(final BindParameterMapperManager parameterMapperManager) {
 		mappers = new CopyOnWriteArrayList<>(parameterMapperManager.mappers);
+		// Mapperが同じ間はコピー元のキャッシュを共有する
+		bindPlans = parameterMapperManager.bindPlans;
 	}
 
 	/**
@@ -71,6 +92,7 @@ public final class BindParameterMapperManager {
 	 */
 	public void addMapper(final BindParameterMapper<?> parameterMapper) {
 		mappers.add(parameterMapper);
+		bindPlans = new BindPlanCache(mappers);
 	}
 
 	/**
@@ -80,6 +102,7 @@ public final class BindParameterMapperManager {
 	 */
 	public void removeMapper(final BindParameterMapper<?> parameterMapper) {
 		mappers.remove(parameterMapper);
+		bindPlans = new BindPlanCache(mappers);
 	}
 
 	/**
@@ -94,37 +117,30 @@ public final class BindParameterMapperManager {
 		if (object == null) {
 			return null;
 		}
+		BindPlan plan = bindPlans.get(object.getClass());
 		for (@SuppressWarnings("rawtypes")
-		BindParameterMapper parameterMapper : mappers) {
+		BindParameterMapper parameterMapper : plan.conditionalMappers) {
 			if (parameterMapper.canAccept(object)) {
 				return parameterMapper.toJdbc(object, connection, this);
 			}
 		}
-
-		if (object instanceof Boolean || object instanceof Byte || object instanceof Short || object instanceof Integer
-				|| object instanceof Long || object instanceof Float || object instanceof Double
-				|| object instanceof BigDecimal || object instanceof String
-
-				|| object instanceof byte[]
-
-				|| object instanceof java.sql.Date || object instanceof java.sql.Time
-				|| object instanceof java.sql.Timestamp || object instanceof java.sql.Array
-				|| object instanceof java.sql.Ref || object instanceof java.sql.Blob || object instanceof java.sql.Clob
-				|| object instanceof java.sql.SQLXML
-
-				|| object instanceof java.sql.Struct) {
-			return object;
-		}
-
-		for (@SuppressWarnings("rawtypes")
-		BindParameterMapper parameterMapper : DEFAULT_MAPPERS) {
-			if (parameterMapper.canAccept(object)) {
-				return parameterMapper.toJdbc(object, connection, this);
-			}
+		if (plan.mapper != null) {
+			return ((BindParameterMapper<Object>) plan.mapper).toJdbc(object, connection, this);
 		}
 		return object;
 	}
 
+	/**
+	 * 指定した型の値を変換せずにそのままPreparedStatementにセットするかどうかを判定
+	 *
+	 * @param type 値の型
+	 * @return 変換しない場合<code>true</code>
+	 */
+	public boolean isPassThrough(final Class<?> type) {
+		BindPlan plan = bindPlans.get(type);
+		return plan.mapper == null && plan.conditionalMappers.length == 0;
+	}
+
 	/**
 	 * 標準でパラメータとして受け入れ可能な値かを判定
 	 *
@@ -135,31 +151,123 @@ public final class BindParameterMapperManager {
 		if (object == null) {
 			return true;
 		}
-		if (object instanceof Boolean || object instanceof Byte || object instanceof Short || object instanceof Integer
-				|| object instanceof Long || object instanceof Float || object instanceof Double
-				|| object instanceof BigDecimal || object instanceof String
-
-				|| object instanceof byte[]
-
-				|| object instanceof java.sql.Date || object instanceof java.sql.Time
-				|| object instanceof java.sql.Timestamp || object instanceof java.sql.Array
-				|| object instanceof java.sql.Ref || object instanceof java.sql.Blob || object instanceof java.sql.Clob
-				|| object instanceof java.sql.SQLXML
-
-				|| object instanceof java.sql.Struct) {
+		BindPlan plan = bindPlans.get(object.getClass());
+		if (plan.acceptable) {
 			return true;
 		}
-		for (BindParameterMapper<?> parameterMapper : mappers) {
+		for (BindParameterMapper<?> parameterMapper : plan.conditionalMappers) {
 			if (parameterMapper.canAccept(object)) {
 				return true;
 			}
 		}
+		return false;
+	}
+
+	/**
+	 * 値の型ごとの変換方法
+	 */
+	private static final class BindPlan {
+		/** 値によって変換可否が変わるため、変換時に判定が必要なMapper（評価順） */
+		private final BindParameterMapper<?>[] conditionalMappers;
+
+		/** 型で決定した変換Mapper. 値をそのまま使用する場合は<code>null</code> */
+		private final BindParameterMapper<?> mapper;
+
+		/** 標準でパラメータとして受け入れ可能かどうか（変換時に判定が必要なMapperを除く） */
+		private final boolean acceptable;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param conditionalMappers 変換時に判定が必要なMapper
+		 * @param mapper 型で決定した変換Mapper
+		 * @param acceptable 標準でパラメータとして受け入れ可能かどうか
+		 */
+		private BindPlan(final List<BindParameterMapper<?>> conditionalMappers, final BindParameterMapper<?> mapper,
+				final boolean acceptable) {
+			this.conditionalMappers = conditionalMappers.toArray(new BindParameterMapper<?>[conditionalMappers.size()]);
+			this.mapper = mapper;
+			this.acceptable = acceptable;
+		}
+	}
+
+	/**
+	 * 値の型ごとの変換方法のキャッシュ<br>
+	 * 生成時点のMapperのリストをもとに、値の型ごとに1回だけ変換方法を解決する。
+	 * JDKのクラスがMapperを参照してクラスローダのアンロードを妨げないよう、{@link ClassCache}で型ごとに保持先を切り替える
+	 */
+	private static final class BindPlanCache extends ClassCache<BindPlan> {
+		/** 生成時点のバインドパラメータMapper */
+		private final BindParameterMapper<?>[] mappers;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param mappers バインドパラメータMapperのリスト
+		 */
+		private BindPlanCache(final List<BindParameterMapper<?>> mappers) {
+			this.mappers = mappers.toArray(new BindParameterMapper<?>[0]);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see jp.co.future.uroborosql.utils.ClassCache#computeValue(java.lang.Class)
+		 */
+		@Override
+		protected BindPlan computeValue(final Class<?> type) {
+			List<BindParameterMapper<?>> conditionalMappers = new ArrayList<>();
+			BindParameterMapper<?> mapper = resolve(mappers, type, conditionalMappers);
+			if (mapper != null) {
+				return new BindPlan(conditionalMappers, mapper, true);
+			}
+			if (Arrays.stream(STANDARD_TYPES).anyMatch(t -> t.isAssignableFrom(type))) {
+				return new BindPlan(conditionalMappers, null, true);
+			}
+			mapper = resolve(DEFAULT_MAPPERS, type, conditionalMappers);
+			return new BindPlan(conditionalMappers, mapper, mapper != null);
+		}
 
-		for (BindParameterMapper<?> parameterMapper : DEFAULT_MAPPERS) {
-			if (parameterMapper.canAccept(object)) {
-				return true;
+		/**
+		 * 型で変換可否が決まるMapperのうち、最初に変換可能なMapperを取得する<br>
+		 * それより前にある値によって変換可否が変わるMapperは<code>conditionalMappers</code>に追加する
+		 *
+		 * @param candidates 評価するMapper
+		 * @param type 値の型
+		 * @param conditionalMappers 変換時に判定が必要なMapperの格納先
+		 * @return 変換可能なMapper. 存在しない場合は<code>null</code>
+		 */
+		private static BindParameterMapper<?> resolve(final BindParameterMapper<?>[] candidates, final Class<?> type,
+				final List<BindParameterMapper<?>> conditionalMappers) {
+			for (BindParameterMapper<?> candidate : candidates) {
+				if (candidate.getClass() == DomainParameterMapper.class) {
+					if (DomainParameterMapper.getDomainType(type) != null) {
+						return candidate;
+					}
+				} else if (isDefaultCanAccept(candidate)) {
+					if (candidate.targetType().isAssignableFrom(type)) {
+						return candidate;
+					}
+				} else {
+					conditionalMappers.add(candidate);
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * {@link BindParameterMapper#canAccept(Object)}がデフォルト実装（型による判定）のままかどうか
+		 *
+		 * @param mapper バインドパラメータMapper
+		 * @return デフォルト実装の場合<code>true</code>
+		 */
+		private static boolean isDefaultCanAccept(final BindParameterMapper<?> mapper) {
+			try {
+				return mapper.getClass().getMethod("canAccept", Object.class)
+						.getDeclaringClass() == BindParameterMapper.class;
+			} catch (NoSuchMethodException | SecurityException ex) {
+				return false;
 			}
 		}
-		return false;
 	}
 }
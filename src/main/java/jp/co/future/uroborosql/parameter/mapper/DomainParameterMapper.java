@@ -33,13 +33,13 @@ public class DomainParameterMapper implements BindParameterMapper<Object> {
 
 	@Override
 	public boolean canAccept(final Object object) {
-		return getDomainType(object) != null;
+		return getDomainType(object.getClass()) != null;
 	}
 
 	@Override
 	public Object toJdbc(final Object original, final Connection connection,
 			final BindParameterMapperManager parameterMapperManager) {
-		Class<?> type = getDomainType(original);
+		Class<?> type = getDomainType(original.getClass());
 		Domain domain = type.getAnnotation(Domain.class);
 		Object value = getValue(type, domain, original);
 
@@ -76,8 +76,14 @@ public class DomainParameterMapper implements BindParameterMapper<Object> {
 		}
 	}
 
-	private Class<?> getDomainType(final Object object) {
-		Class<?> type = object.getClass();
+	/**
+	 * {@link Domain}が付与された型の取得
+	 *
+	 * @param valueType 値の型
+	 * @return 値の型、またはその親クラスのうち{@link Domain}が付与された型. 存在しない場合は<code>null</code>
+	 */
+	static Class<?> getDomainType(final Class<?> valueType) {
+		Class<?> type = valueType;
 		while (!type.equals(Object.class)) {
 			if (type.getAnnotation(Domain.class) != null) {
 				return type;
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * バインド変数のスロット割り当て<br>
+ * 変換後のSQLに現れるバインド変数名ごとに一意のスロット番号を割り当て、バインド位置ごとのスロット番号を保持する。<br>
+ * 同じ名前のバインド変数が複数回現れる場合も、パラメータの解決はスロットごとに1回で済む。
+ *
+ * @author H.Sugimoto
+ */
+public final class BindSlots {
+	/** スロット番号ごとのバインド変数名 */
+	private final String[] names;
+
+	/** バインド位置ごとのスロット番号 */
+	private final int[] slots;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param names スロット番号ごとのバインド変数名
+	 * @param slots バインド位置ごとのスロット番号
+	 */
+	private BindSlots(final String[] names, final int[] slots) {
+		this.names = names;
+		this.slots = slots;
+	}
+
+	/**
+	 * バインド変数名のリストからスロット割り当てを生成する
+	 *
+	 * @param bindNames SQL上の出現順のバインド変数名のリスト
+	 * @return スロット割り当て
+	 */
+	public static BindSlots of(final List<String> bindNames) {
+		int size = bindNames.size();
+		Map<String, Integer> indexes = new HashMap<>();
+		List<String> names = new ArrayList<>();
+		int[] slots = new int[size];
+		for (int i = 0; i < size; i++) {
+			String bindName = bindNames.get(i);
+			Integer slot = indexes.get(bindName);
+			if (slot == null) {
+				slot = names.size();
+				indexes.put(bindName, slot);
+				names.add(bindName);
+			}
+			slots[i] = slot;
+		}
+		return new BindSlots(names.toArray(new String[names.size()]), slots);
+	}
+
+	/**
+	 * スロット数（一意なバインド変数名の数）を取得する
+	 *
+	 * @return スロット数
+	 */
+	public int getSlotCount() {
+		return names.length;
+	}
+
+	/**
+	 * スロット番号に対応するバインド変数名を取得する
+	 *
+	 * @param slot スロット番号
+	 * @return バインド変数名
+	 */
+	public String getName(final int slot) {
+		return names[slot];
+	}
+
+	/**
+	 * バインド位置の数を取得する
+	 *
+	 * @return バインド位置の数
+	 */
+	public int size() {
+		return slots.length;
+	}
+
+	/**
+	 * バインド位置に対応するスロット番号を取得する
+	 *
+	 * @param position バインド位置（0始まり）
+	 * @return スロット番号
+	 */
+	public int getSlot(final int position) {
+		return slots[position];
+	}
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+/**
+ * コンパイル済みSQLテンプレートインタフェース<br>
+ * {@link SqlTemplateCompiler} によってSQLファイルごとに生成され、SQLを解析せずに解析結果と同じノードを組み立てる。
+ *
+ * @author H.Sugimoto
+ */
+public interface CompiledSqlTemplate {
+
+	/**
+	 * SQL名の取得
+	 *
+	 * @return SQL名
+	 */
+	String getSqlName();
+
+	/**
+	 * コンパイル元のSQLの取得<br>
+	 * SQLファイルを読み込んだ場合と同じ文字列を返す
+	 *
+	 * @return SQL
+	 */
+	String getSql();
+
+	/**
+	 * コンテキスト変換器の生成
+	 *
+	 * @param removeTerminator 終端文字（;）を除去するかどうか
+	 * @param outputBindComment バインド変数置換後にバインド変数のコメント文字列を出力するかどうか
+	 * @return コンテキスト変換器
+	 */
+	ContextTransformer createContextTransformer(boolean removeTerminator, boolean outputBindComment);
+}
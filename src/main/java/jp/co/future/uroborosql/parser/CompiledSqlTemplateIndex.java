@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.Map;
+
+/**
+ * コンパイル済みSQLテンプレートの索引インタフェース<br>
+ * {@link SqlTemplateCompiler} によって生成され、{@link java.util.ServiceLoader} を通じて読み込まれる。
+ *
+ * @author H.Sugimoto
+ */
+public interface CompiledSqlTemplateIndex {
+
+	/**
+	 * SQL名とコンパイル済みSQLテンプレートのクラス名の対応を登録する
+	 *
+	 * @param templates 登録先のMap（キー：SQL名、値：{@link CompiledSqlTemplate}の実装クラス名）
+	 */
+	void register(Map<String, String> templates);
+}
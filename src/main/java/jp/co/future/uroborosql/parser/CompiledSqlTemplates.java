@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+/**
+ * コンパイル済みSQLテンプレートの管理クラス<br>
+ * クラスパス上の {@link CompiledSqlTemplateIndex} からSQL名とクラス名の対応を読み込み、
+ * SQLテンプレートのクラスは最初に参照されたときに読み込む。
+ *
+ * @author H.Sugimoto
+ */
+public final class CompiledSqlTemplates {
+	/** コンパイル済みSQLテンプレートを持たないインスタンス */
+	private static final CompiledSqlTemplates EMPTY = new CompiledSqlTemplates(Collections.emptyMap(), null);
+
+	/** SQL名とクラス名の対応 */
+	private final Map<String, String> classNames;
+
+	/** クラスの読み込みに使用するクラスローダ */
+	private final ClassLoader classLoader;
+
+	/** 生成済みのコンパイル済みSQLテンプレート */
+	private final Map<String, CompiledSqlTemplate> templates = new ConcurrentHashMap<>();
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param classNames SQL名とクラス名の対応
+	 * @param classLoader クラスローダ
+	 */
+	private CompiledSqlTemplates(final Map<String, String> classNames, final ClassLoader classLoader) {
+		this.classNames = classNames;
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートを持たないインスタンスの取得
+	 *
+	 * @return 空のインスタンス
+	 */
+	public static CompiledSqlTemplates empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * 指定したクラスローダから参照できるコンパイル済みSQLテンプレートの読み込み
+	 *
+	 * @param classLoader クラスローダ
+	 * @return コンパイル済みSQLテンプレートの管理クラス
+	 */
+	public static CompiledSqlTemplates load(final ClassLoader classLoader) {
+		Map<String, String> classNames = new HashMap<>();
+		for (CompiledSqlTemplateIndex index : ServiceLoader.load(CompiledSqlTemplateIndex.class, classLoader)) {
+			Map<String, String> registered = new HashMap<>();
+			index.register(registered);
+			// 同じSQL名が複数登録されている場合は先に読み込んだ索引を優先する
+			registered.forEach(classNames::putIfAbsent);
+		}
+		return classNames.isEmpty() ? EMPTY
+				: new CompiledSqlTemplates(Collections.unmodifiableMap(classNames), classLoader);
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートが存在するかどうか
+	 *
+	 * @return 存在しない場合<code>true</code>
+	 */
+	public boolean isEmpty() {
+		return classNames.isEmpty();
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートのSQL名の取得
+	 *
+	 * @return SQL名のSet
+	 */
+	public Set<String> getSqlNames() {
+		return classNames.keySet();
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートが存在するかどうか<br>
+	 * コンパイル済みSQLテンプレートのクラスは読み込まない
+	 *
+	 * @param sqlName SQL名
+	 * @return 存在する場合<code>true</code>
+	 */
+	public boolean contains(final String sqlName) {
+		return sqlName != null && classNames.containsKey(sqlName.replace(".", "/"));
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートのSQLの取得
+	 *
+	 * @param sqlName SQL名
+	 * @return コンパイル元のSQL. 存在しない場合は<code>null</code>
+	 */
+	public String getSql(final String sqlName) {
+		CompiledSqlTemplate template = getTemplate(sqlName);
+		return template != null ? template.getSql() : null;
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートの取得
+	 *
+	 * @param sqlName SQL名
+	 * @return コンパイル済みSQLテンプレート. 存在しない場合は<code>null</code>
+	 */
+	public CompiledSqlTemplate getTemplate(final String sqlName) {
+		if (sqlName == null || classNames.isEmpty()) {
+			return null;
+		}
+		String key = sqlName.replace(".", "/");
+		String className = classNames.get(key);
+		if (className == null) {
+			return null;
+		}
+		return templates.computeIfAbsent(key, k -> newInstance(className));
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートのインスタンス生成
+	 *
+	 * @param className クラス名
+	 * @return コンパイル済みSQLテンプレート
+	 */
+	private CompiledSqlTemplate newInstance(final String className) {
+		try {
+			return (CompiledSqlTemplate) Class.forName(className, true, classLoader).getDeclaredConstructor()
+					.newInstance();
+		} catch (ReflectiveOperationException | ClassCastException e) {
+			throw new UroborosqlRuntimeException("Failed to load compiled SQL template.[" + className + "]", e);
+		}
+	}
+}
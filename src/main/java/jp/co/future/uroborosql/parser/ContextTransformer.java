@@ -6,25 +6,87 @@
  */
 package jp.co.future.uroborosql.parser;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
 import jp.co.future.uroborosql.coverage.PassedRoute;
 import jp.co.future.uroborosql.node.Node;
 
 /**
- * Transformコンテキストの変換器
+ * Transformコンテキストの変換器<br>
+ * 変換結果の保持件数に1以上を指定した場合、分岐の評価結果などの変換経路ごとに整形済みの実行時SQLとバインド変数名（スロット割り当て）を保持し、
+ * 同じ変換経路となる変換ではSQL文字列の組み立てと整形を行わずに保持した結果を再利用する。
  *
  * @author H.Sugimoto
  */
 public class ContextTransformer {
+	/**
+	 * 変換経路ごとの変換結果
+	 */
+	private static final class RenderedSql {
+		/** 整形済みの実行時SQL */
+		private final String executableSql;
+
+		/** バインド変数名 */
+		private final List<String> bindNames;
+
+		/** バインド変数のスロット割り当て */
+		private final BindSlots bindSlots;
+
+		private RenderedSql(final String executableSql, final List<String> bindNames) {
+			this.executableSql = executableSql;
+			this.bindNames = bindNames;
+			this.bindSlots = BindSlots.of(bindNames);
+		}
+	}
+
 	/** ルートノード */
 	private final Node root;
 
+	/** 変換結果の保持件数 */
+	private final int renderedSqlCacheSize;
+
+	/** 変換経路ごとの変換結果. 保持しない場合は<code>null</code> */
+	private final Map<List<Object>, RenderedSql> renderedSqls;
+
+	/** 変換結果のヒット数 */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** 変換結果のミス数 */
+	private final AtomicLong missCount = new AtomicLong();
+
 	/**
 	 * コンストラクタ
 	 *
 	 * @param root ルートノード
 	 */
 	public ContextTransformer(final Node root) {
+		this(root, 0);
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param root ルートノード
+	 * @param renderedSqlCacheSize 変換経路ごとの変換結果の保持件数. 0以下の場合は変換結果を保持しない
+	 */
+	public ContextTransformer(final Node root, final int renderedSqlCacheSize) {
 		this.root = root;
+		this.renderedSqlCacheSize = renderedSqlCacheSize;
+		if (renderedSqlCacheSize > 0) {
+			this.renderedSqls = new LinkedHashMap<List<Object>, RenderedSql>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<List<Object>, RenderedSql> eldest) {
+					return size() > ContextTransformer.this.renderedSqlCacheSize;
+				}
+			};
+		} else {
+			this.renderedSqls = null;
+		}
 	}
 
 	/**
@@ -33,7 +95,65 @@ public class ContextTransformer {
 	 * @param transformContext Transformコンテキスト
 	 */
 	public void transform(final TransformContext transformContext) {
+		if (renderedSqls == null) {
+			root.accept(transformContext);
+			return;
+		}
+
+		// SQL文字列を組み立てずに変換経路とバインド変数の値を収集する
+		RouteTransformContext routeContext = new RouteTransformContext(transformContext);
+		root.accept(routeContext);
+		List<Object> route = routeContext.getRoute();
+
+		RenderedSql renderedSql;
+		synchronized (renderedSqls) {
+			renderedSql = renderedSqls.get(route);
+		}
+		if (renderedSql != null) {
+			hitCount.incrementAndGet();
+			transformContext.setExecutableSql(renderedSql.executableSql);
+			transformContext.addBindNames(renderedSql.bindNames);
+			transformContext.setBindSlots(renderedSql.bindSlots);
+			transformContext.addBindVariables(routeContext.getBindVariables());
+			return;
+		}
+
+		// 初めての変換経路の場合はSQL文字列を組み立て、整形した結果を保持する
+		missCount.incrementAndGet();
 		root.accept(transformContext);
+		renderedSql = new RenderedSql(transformContext.getExecutableSql(),
+				Collections.unmodifiableList(new ArrayList<>(transformContext.getBindNames())));
+		synchronized (renderedSqls) {
+			renderedSqls.putIfAbsent(route, renderedSql);
+		}
+		transformContext.setBindSlots(renderedSql.bindSlots);
+	}
+
+	/**
+	 * 変換経路ごとの変換結果を保持しているかどうか
+	 *
+	 * @return 変換結果を保持している場合<code>true</code>
+	 */
+	public boolean isRenderedSqlCacheEnabled() {
+		return renderedSqls != null;
+	}
+
+	/**
+	 * 変換経路ごとの変換結果のヒット数を取得する
+	 *
+	 * @return ヒット数
+	 */
+	public long getRenderedSqlHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * 変換経路ごとの変換結果のミス数を取得する
+	 *
+	 * @return ミス数
+	 */
+	public long getRenderedSqlMissCount() {
+		return missCount.get();
 	}
 
 	/**
@@ -0,0 +1,331 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL解析結果（{@link ContextTransformer}）のキャッシュ<br>
+ * SQL名（SQL文字列を直接指定した場合はSQL文字列）、終端文字の除去有無、バインドコメントの出力有無をキーとして解析結果を保持する。<br>
+ * SQL名をキーとした解析結果は解析元のSQL文字列と合わせて保持し、取得時のSQL文字列と一致しない場合は解析し直して置き換える。<br>
+ * キャッシュ件数の上限を超えた場合は最も長く参照されていない解析結果から破棄する。<br>
+ * 変換経路ごとの変換結果の件数を指定した場合は、解析結果ごとに整形済みの実行時SQLを保持する（{@link ContextTransformer}参照）。<br>
+ * SQL名に対応する {@link CompiledSqlTemplate} が存在し、SQL文字列がコンパイル元と一致する場合は、SQLを解析せずにコンパイル済みSQLテンプレートから解析結果を生成する。
+ *
+ * @author H.Sugimoto
+ */
+public class ContextTransformerCache {
+	/** キャッシュ件数の上限を指定するシステムプロパティ名 */
+	public static final String KEY_CACHE_SIZE = "uroborosql.sql.cache.size";
+
+	/** キャッシュ件数の上限のデフォルト値 */
+	public static final int DEFAULT_CACHE_SIZE = 1000;
+
+	/** SQLごとに保持する変換経路ごとの変換結果の件数を指定するシステムプロパティ名 */
+	public static final String KEY_RENDERED_SQL_CACHE_SIZE = "uroborosql.sql.rendered.cache.size";
+
+	/** SQLごとに保持する変換経路ごとの変換結果の件数のデフォルト値（保持しない） */
+	public static final int DEFAULT_RENDERED_SQL_CACHE_SIZE = 0;
+
+	/**
+	 * キャッシュのキー<br>
+	 * SQL名を指定した場合はSQL文字列をキーに含めない
+	 */
+	private static final class CacheKey {
+		private final String sqlName;
+		private final String sql;
+		private final boolean removeTerminator;
+		private final boolean outputBindComment;
+		private final int hash;
+
+		private CacheKey(final String sqlName, final String sql, final boolean removeTerminator,
+				final boolean outputBindComment) {
+			this.sqlName = sqlName;
+			this.sql = sqlName == null ? sql : null;
+			this.removeTerminator = removeTerminator;
+			this.outputBindComment = outputBindComment;
+			this.hash = Objects.hash(sqlName, this.sql, removeTerminator, outputBindComment);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return removeTerminator == other.removeTerminator
+					&& outputBindComment == other.outputBindComment
+					&& Objects.equals(sqlName, other.sqlName)
+					&& Objects.equals(sql, other.sql);
+		}
+	}
+
+	/**
+	 * キャッシュの値. 解析結果と解析元のSQL文字列を保持する
+	 */
+	private static final class CacheEntry {
+		private final String sql;
+		private final ContextTransformer transformer;
+
+		private CacheEntry(final String sql, final ContextTransformer transformer) {
+			this.sql = sql;
+			this.transformer = transformer;
+		}
+
+		/**
+		 * 解析元のSQL文字列と一致するかどうか<br>
+		 * SQL管理クラスから取得したSQL文字列は同じインスタンスとなるため、まず参照の一致で判定する
+		 *
+		 * @param other 比較するSQL文字列
+		 * @return 一致する場合<code>true</code>
+		 */
+		private boolean matches(final String other) {
+			return sql == other || sql.hashCode() == other.hashCode() && sql.equals(other);
+		}
+	}
+
+	/** キャッシュ件数の上限 */
+	private final int cacheSize;
+
+	/** SQLごとに保持する変換経路ごとの変換結果の件数 */
+	private final int renderedSqlCacheSize;
+
+	/** 解析結果のキャッシュ */
+	private final Map<CacheKey, CacheEntry> cache;
+
+	/** キャッシュヒット数 */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/** キャッシュミス数 */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/** コンパイル済みSQLテンプレート */
+	private volatile CompiledSqlTemplates compiledSqlTemplates;
+
+	/**
+	 * コンストラクタ<br>
+	 * キャッシュ件数の上限はシステムプロパティ<code>uroborosql.sql.cache.size</code>で指定する（デフォルト1000件）<br>
+	 * 変換経路ごとの変換結果の件数はシステムプロパティ<code>uroborosql.sql.rendered.cache.size</code>で指定する（デフォルト0件）
+	 */
+	public ContextTransformerCache() {
+		this(Integer.valueOf(System.getProperty(KEY_CACHE_SIZE, String.valueOf(DEFAULT_CACHE_SIZE))),
+				Integer.valueOf(System.getProperty(KEY_RENDERED_SQL_CACHE_SIZE,
+						String.valueOf(DEFAULT_RENDERED_SQL_CACHE_SIZE))));
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param cacheSize キャッシュ件数の上限. 0以下の場合はキャッシュを行わない
+	 */
+	public ContextTransformerCache(final int cacheSize) {
+		this(cacheSize, DEFAULT_RENDERED_SQL_CACHE_SIZE);
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param cacheSize キャッシュ件数の上限. 0以下の場合はキャッシュを行わない
+	 * @param renderedSqlCacheSize SQLごとに保持する変換経路ごとの変換結果の件数. 0以下の場合は変換結果を保持しない
+	 */
+	public ContextTransformerCache(final int cacheSize, final int renderedSqlCacheSize) {
+		this.cacheSize = cacheSize;
+		this.renderedSqlCacheSize = cacheSize > 0 ? renderedSqlCacheSize : 0;
+		this.cache = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<CacheKey, CacheEntry> eldest) {
+				return size() > ContextTransformerCache.this.cacheSize;
+			}
+		};
+		this.compiledSqlTemplates = CompiledSqlTemplates.load(Thread.currentThread().getContextClassLoader());
+	}
+
+	/**
+	 * SQL解析結果の取得<br>
+	 * キャッシュに存在しない場合、またはSQL名に対応する解析結果の解析元SQLが指定したSQLと異なる場合はSQLを解析し、結果をキャッシュに格納して返す
+	 *
+	 * @param sqlName SQL名. SQL文字列を直接指定した場合は<code>null</code>
+	 * @param sql 解析対象SQL
+	 * @param removeTerminator 終端文字（;）を除去するかどうか
+	 * @param outputBindComment バインド変数置換後にバインド変数のコメント文字列を出力するかどうか
+	 * @return コンテキスト変換器
+	 */
+	public ContextTransformer get(final String sqlName, final String sql, final boolean removeTerminator,
+			final boolean outputBindComment) {
+		if (cacheSize <= 0) {
+			missCount.incrementAndGet();
+			return create(sqlName, sql, removeTerminator, outputBindComment);
+		}
+
+		CacheKey key = new CacheKey(sqlName, sql, removeTerminator, outputBindComment);
+		CacheEntry entry;
+		synchronized (cache) {
+			entry = cache.get(key);
+		}
+		if (entry != null && entry.matches(sql)) {
+			hitCount.incrementAndGet();
+			return entry.transformer;
+		}
+
+		// 解析処理はロックの外で行い、同時に同じSQLが解析された場合は先に格納された結果を使用する
+		missCount.incrementAndGet();
+		ContextTransformer parsed = create(sqlName, sql, removeTerminator, outputBindComment);
+		synchronized (cache) {
+			CacheEntry current = cache.get(key);
+			if (current != null && current != entry && current.matches(sql)) {
+				return current.transformer;
+			}
+			cache.put(key, new CacheEntry(sql, parsed));
+		}
+		return parsed;
+	}
+
+	/**
+	 * 指定したSQL名の解析結果をキャッシュから除外する
+	 *
+	 * @param sqlName SQL名
+	 */
+	public void invalidate(final String sqlName) {
+		synchronized (cache) {
+			Iterator<CacheKey> it = cache.keySet().iterator();
+			while (it.hasNext()) {
+				if (Objects.equals(sqlName, it.next().sqlName)) {
+					it.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * キャッシュのクリア
+	 */
+	public void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	/**
+	 * キャッシュされている解析結果の件数を取得する
+	 *
+	 * @return キャッシュ件数
+	 */
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+
+	/**
+	 * キャッシュ件数の上限を取得する
+	 *
+	 * @return キャッシュ件数の上限
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * SQLごとに保持する変換経路ごとの変換結果の件数を取得する
+	 *
+	 * @return 変換経路ごとの変換結果の件数
+	 */
+	public int getRenderedSqlCacheSize() {
+		return renderedSqlCacheSize;
+	}
+
+	/**
+	 * キャッシュヒット数を取得する
+	 *
+	 * @return キャッシュヒット数
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * キャッシュミス数を取得する
+	 *
+	 * @return キャッシュミス数
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートの取得
+	 *
+	 * @return コンパイル済みSQLテンプレート
+	 */
+	public CompiledSqlTemplates getCompiledSqlTemplates() {
+		return compiledSqlTemplates;
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートの設定
+	 *
+	 * @param compiledSqlTemplates コンパイル済みSQLテンプレート
+	 */
+	public void setCompiledSqlTemplates(final CompiledSqlTemplates compiledSqlTemplates) {
+		this.compiledSqlTemplates = compiledSqlTemplates != null ? compiledSqlTemplates
+				: CompiledSqlTemplates.empty();
+		clear();
+	}
+
+	/**
+	 * コンテキスト変換器の生成<br>
+	 * SQL名に対応するコンパイル済みSQLテンプレートのSQLが解析対象SQLと一致する場合はコンパイル済みSQLテンプレートを使用し、
+	 * それ以外の場合はSQLを解析する
+	 *
+	 * @param sqlName SQL名. SQL文字列を直接指定した場合は<code>null</code>
+	 * @param sql 解析対象SQL
+	 * @param removeTerminator 終端文字（;）を除去するかどうか
+	 * @param outputBindComment バインド変数置換後にバインド変数のコメント文字列を出力するかどうか
+	 * @return コンテキスト変換器
+	 */
+	private ContextTransformer create(final String sqlName, final String sql, final boolean removeTerminator,
+			final boolean outputBindComment) {
+		CompiledSqlTemplate template = compiledSqlTemplates.getTemplate(sqlName);
+		if (template == null || !template.getSql().equals(sql)) {
+			return parse(sql, removeTerminator, outputBindComment);
+		}
+		ContextTransformer transformer = template.createContextTransformer(removeTerminator, outputBindComment);
+		if (renderedSqlCacheSize > 0) {
+			return new ContextTransformer(transformer.getRoot(), renderedSqlCacheSize);
+		}
+		return transformer;
+	}
+
+	/**
+	 * SQLの解析
+	 *
+	 * @param sql 解析対象SQL
+	 * @param removeTerminator 終端文字（;）を除去するかどうか
+	 * @param outputBindComment バインド変数置換後にバインド変数のコメント文字列を出力するかどうか
+	 * @return コンテキスト変換器
+	 */
+	protected ContextTransformer parse(final String sql, final boolean removeTerminator,
+			final boolean outputBindComment) {
+		ContextTransformer transformer = new SqlParserImpl(sql, removeTerminator, outputBindComment).parse();
+		if (renderedSqlCacheSize > 0) {
+			return new ContextTransformer(transformer.getRoot(), renderedSqlCacheSize);
+		}
+		return transformer;
+	}
+}
@@ -0,0 +1,247 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import jp.co.future.uroborosql.expr.ExpressionEngine;
+import jp.co.future.uroborosql.parameter.Parameter;
+
+/**
+ * 変換経路を収集するためのTransformコンテキスト<br>
+ * SQL文字列の組み立ては行わず、分岐の評価結果などの変換経路とバインド変数の値のみを収集する。<br>
+ * パラメータの取得、登録は変換対象のTransformコンテキストに委譲する。
+ *
+ * @author H.Sugimoto
+ */
+class RouteTransformContext implements TransformContext {
+	/** 変換対象のTransformコンテキスト */
+	private final TransformContext delegate;
+
+	/** 変換経路. コピーしたコンテキストと共有する */
+	private final List<Object> route;
+
+	/** バインド変数の値 */
+	private final List<Object> bindVariables = new ArrayList<>();
+
+	/** 有効なSQLかどうか */
+	private boolean enabled;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param delegate 変換対象のTransformコンテキスト
+	 */
+	RouteTransformContext(final TransformContext delegate) {
+		this(delegate, new ArrayList<>(), delegate.isEnabled());
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param delegate 変換対象のTransformコンテキスト
+	 * @param route 変換経路
+	 * @param enabled 有効なSQLかどうか
+	 */
+	private RouteTransformContext(final TransformContext delegate, final List<Object> route,
+			final boolean enabled) {
+		this.delegate = delegate;
+		this.route = route;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 変換経路の取得
+	 *
+	 * @return 変換経路
+	 */
+	List<Object> getRoute() {
+		return route;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#copyTransformContext()
+	 */
+	@Override
+	public TransformContext copyTransformContext() {
+		return new RouteTransformContext(delegate, route, false);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getParam(java.lang.String)
+	 */
+	@Override
+	public Parameter getParam(final String paramName) {
+		return delegate.getParam(paramName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getParamValue(java.lang.String)
+	 */
+	@Override
+	public Object getParamValue(final String paramName) {
+		return delegate.getParamValue(paramName);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * SQL文字列は組み立てないため、常に空文字を返す
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getExecutableSql()
+	 */
+	@Override
+	public String getExecutableSql() {
+		return "";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#setExecutableSql(java.lang.String)
+	 */
+	@Override
+	public void setExecutableSql(final String executableSql) {
+		// SQL文字列は組み立てない
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addSqlPart(java.lang.String)
+	 */
+	@Override
+	public TransformContext addSqlPart(final String sqlPart) {
+		// SQL文字列は組み立てない
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getExpressionEngine()
+	 */
+	@Override
+	public ExpressionEngine getExpressionEngine() {
+		return delegate.getExpressionEngine();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addRoute(java.lang.Object)
+	 */
+	@Override
+	public TransformContext addRoute(final Object route) {
+		this.route.add(route);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#isEnabled()
+	 */
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#setEnabled(boolean)
+	 */
+	@Override
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addBindName(java.lang.String)
+	 */
+	@Override
+	public TransformContext addBindName(final String bindName) {
+		// バインド変数名は変換経路から決まるため収集しない
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addBindNames(java.util.List)
+	 */
+	@Override
+	public TransformContext addBindNames(final List<String> bindNames) {
+		// バインド変数名は変換経路から決まるため収集しない
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#param(java.lang.String, java.lang.Object)
+	 */
+	@Override
+	public <V> TransformContext param(final String paramName, final V value) {
+		delegate.param(paramName, value);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getBindNames()
+	 */
+	@Override
+	public List<String> getBindNames() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addBindVariable(java.lang.Object)
+	 */
+	@Override
+	public TransformContext addBindVariable(final Object bindValiable) {
+		bindVariables.add(bindValiable);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#addBindVariables(java.lang.Object[])
+	 */
+	@Override
+	public TransformContext addBindVariables(final Object[] bindValiables) {
+		for (Object bindValiable : bindValiables) {
+			this.bindVariables.add(bindValiable);
+		}
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.TransformContext#getBindVariables()
+	 */
+	@Override
+	public Object[] getBindVariables() {
+		return bindVariables.toArray();
+	}
+}
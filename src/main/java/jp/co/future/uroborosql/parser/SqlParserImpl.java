@@ -30,6 +30,9 @@ import org.apache.commons.lang3.StringUtils;
  * @author H.Sugimoto
  */
 public class SqlParserImpl implements SqlParser {
+	/** 解析対象SQL */
+	private final String sql;
+
 	/** SQLトークナイザ */
 	private final SqlTokenizer tokenizer;
 	private final boolean outputBindComment;
@@ -73,6 +76,7 @@ public class SqlParserImpl implements SqlParser {
 		if (removeTerminator) {
 			s = PATTERN.matcher(s).replaceFirst("");
 		}
+		this.sql = s;
 		this.tokenizer = new SqlTokenizerImpl(s);
 		this.outputBindComment = outputBindComment;
 	}
@@ -104,7 +108,7 @@ public class SqlParserImpl implements SqlParser {
 			parseComment();
 			break;
 		case ELSE:
-			parseElse(tokenizer.getToken().length());
+			parseElse(tokenizer.getTokenEnd() - tokenizer.getTokenStart());
 			break;
 		case BIND_VARIABLE:
 			parseBindVariable();
@@ -116,40 +120,81 @@ public class SqlParserImpl implements SqlParser {
 	 * SQL解析
 	 */
 	protected void parseSql() {
-		String sql = tokenizer.getToken();
 		Node node = peek();
+		int prefixEnd = -1;
 		if ((node instanceof IfNode || node instanceof ElseNode) && node.getChildSize() == 0) {
-
-			SqlTokenizer st = new SqlTokenizerImpl(sql);
-			st.skipWhitespace();
-			String token = st.skipToken();
-			st.skipWhitespace();
-			if ("AND".equalsIgnoreCase(token) || "OR".equalsIgnoreCase(token)) {
-				node.addChild(new PrefixSqlNode(this.position, st.getBefore(), st.getAfter()));
-			} else {
-				node.addChild(new SqlNode(this.position, sql));
-			}
+			prefixEnd = prefixEnd(tokenizer.getTokenStart(), tokenizer.getTokenEnd());
+		}
+		if (prefixEnd >= 0) {
+			node.addChild(new PrefixSqlNode(this.position, sql.substring(tokenizer.getTokenStart(), prefixEnd),
+					sql.substring(prefixEnd, tokenizer.getTokenEnd())));
 		} else {
-			node.addChild(new SqlNode(this.position, sql));
+			node.addChild(new SqlNode(this.position, tokenizer.getToken()));
 		}
 		this.position = this.tokenizer.getPosition();
 	}
 
+	/**
+	 * SQLの先頭にあるAND または ORの終了位置を取得する
+	 *
+	 * @param start SQLの開始位置
+	 * @param end SQLの終了位置
+	 * @return AND または ORとその後に続く空白の終了位置. SQLの先頭がAND または ORでない場合は<code>-1</code>
+	 */
+	private int prefixEnd(final int start, final int end) {
+		int tokenStart = skipWhitespace(start, end);
+		int tokenEnd = tokenStart;
+		while (tokenEnd < end) {
+			char c = sql.charAt(tokenEnd);
+			if (Character.isWhitespace(c) || c == ',' || c == ')' || c == '(') {
+				break;
+			} else if (c == '/' && tokenEnd + 1 < end && sql.charAt(tokenEnd + 1) == '*') {
+				break;
+			} else if (c == '-' && tokenEnd + 1 < end && sql.charAt(tokenEnd + 1) == '-') {
+				break;
+			}
+			tokenEnd++;
+		}
+		int length = tokenEnd - tokenStart;
+		if (length == 3 && sql.regionMatches(true, tokenStart, "AND", 0, 3)
+				|| length == 2 && sql.regionMatches(true, tokenStart, "OR", 0, 2)) {
+			return skipWhitespace(tokenEnd, end);
+		}
+		return -1;
+	}
+
+	/**
+	 * 空白をスキップする
+	 *
+	 * @param start 開始位置
+	 * @param end 終了位置
+	 * @return 空白をスキップした位置
+	 */
+	private int skipWhitespace(final int start, final int end) {
+		int i = start;
+		while (i < end && Character.isWhitespace(sql.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
 	/**
 	 * コメント解析
 	 */
 	protected void parseComment() {
-		String comment = tokenizer.getToken();
-		if (isTargetComment(comment)) {
-			if (isIfComment(comment)) {
+		// コメントの判定はSQL上の位置で行い、必要になるまでコメント文字列を生成しない
+		int start = tokenizer.getTokenStart();
+		int end = tokenizer.getTokenEnd();
+		if (isTargetComment(start, end)) {
+			if (commentStartsWith(start, end, "IF")) {
 				parseIf();
-			} else if (isElIfComment(comment)) {
+			} else if (commentStartsWith(start, end, "ELIF")) {
 				parseElIf();
-			} else if (isElseComment(comment)) {
-				parseElse(comment.length() + 4);
-			} else if (isBeginComment(comment)) {
+			} else if (commentStartsWith(start, end, "ELSE")) {
+				parseElse(end - start + 4);
+			} else if (commentEquals(start, end, "BEGIN")) {
 				parseBegin();
-			} else if (isEndComment(comment)) {
+			} else if (commentEquals(start, end, "END")) {
 				return;
 			} else {
 				parseCommentBindVariable();
@@ -163,8 +208,8 @@ public class SqlParserImpl implements SqlParser {
 	 * 通常コメント解析
 	 */
 	protected void parseNormalComment() {
-		String comment = tokenizer.getToken();
-		SqlNode node = new SqlNode(Math.max(this.position - 2, 0), "/*" + comment + "*/");
+		String comment = sql.substring(tokenizer.getTokenStart() - 2, tokenizer.getTokenEnd() + 2);
+		SqlNode node = new SqlNode(Math.max(this.position - 2, 0), comment);
 		this.position = this.tokenizer.getPosition();
 		peek().addChild(node);
 	}
@@ -173,7 +218,7 @@ public class SqlParserImpl implements SqlParser {
 	 * IF文解析
 	 */
 	protected void parseIf() {
-		String condition = tokenizer.getToken().substring(2);
+		String condition = sql.substring(tokenizer.getTokenStart() + 2, tokenizer.getTokenEnd());
 		if (StringUtils.isBlank(condition)) {
 			throw new IfConditionNotFoundRuntimeException();
 		}
@@ -188,7 +233,7 @@ public class SqlParserImpl implements SqlParser {
 	 * IF文解析
 	 */
 	protected void parseElIf() {
-		String condition = tokenizer.getToken().substring(4);
+		String condition = sql.substring(tokenizer.getTokenStart() + 4, tokenizer.getTokenEnd());
 		if (StringUtils.isBlank(condition)) {
 			throw new IfConditionNotFoundRuntimeException();
 		}
@@ -217,7 +262,8 @@ public class SqlParserImpl implements SqlParser {
 	 */
 	protected void parseEnd() {
 		while (TokenType.EOF != tokenizer.next()) {
-			if (tokenizer.getTokenType() == TokenType.COMMENT && isEndComment(tokenizer.getToken())) {
+			if (tokenizer.getTokenType() == TokenType.COMMENT
+					&& commentEquals(tokenizer.getTokenStart(), tokenizer.getTokenEnd(), "END")) {
 
 				pop();
 				this.position = this.tokenizer.getPosition();
@@ -303,64 +349,40 @@ public class SqlParserImpl implements SqlParser {
 	/**
 	 * 解析対象コメント判定
 	 *
-	 * @param comment
+	 * @param start コメントの開始位置
+	 * @param end コメントの終了位置
 	 * @return 解析対象の場合は<code>true</code>
 	 */
-	private static boolean isTargetComment(final String comment) {
-		return comment != null
-				&& comment.length() > 0
-				&& (Character.isJavaIdentifierStart(comment.charAt(0)) || '#' == comment.charAt(0) || '(' == comment
-						.charAt(0));
-	}
-
-	/**
-	 * IFコメント判定
-	 *
-	 * @param comment
-	 * @return IFコメントの場合は<code>true</code>
-	 */
-	private static boolean isIfComment(final String comment) {
-		return comment.startsWith("IF");
-	}
-
-	/**
-	 * ELSEIFコメント判定
-	 *
-	 * @param comment
-	 * @return ELSEIFコメントの場合は<code>true</code>
-	 */
-	private static boolean isElIfComment(final String comment) {
-		return comment.startsWith("ELIF");
-	}
-
-	/**
-	 * ELSEコメント判定
-	 *
-	 * @param comment
-	 * @return ELSEコメントの場合は<code>true</code>
-	 */
-	private static boolean isElseComment(final String comment) {
-		return comment.startsWith("ELSE");
+	private boolean isTargetComment(final int start, final int end) {
+		if (start >= end) {
+			return false;
+		}
+		char c = sql.charAt(start);
+		return Character.isJavaIdentifierStart(c) || '#' == c || '(' == c;
 	}
 
 	/**
-	 * BEGINコメント判定
+	 * コメントが指定した文字列で始まるかどうかの判定
 	 *
-	 * @param content
-	 * @return BEGINコメントの場合は<code>true</code>
+	 * @param start コメントの開始位置
+	 * @param end コメントの終了位置
+	 * @param prefix 判定する文字列
+	 * @return 指定した文字列で始まる場合は<code>true</code>
 	 */
-	private static boolean isBeginComment(final String content) {
-		return content != null && "BEGIN".equals(content);
+	private boolean commentStartsWith(final int start, final int end, final String prefix) {
+		return end - start >= prefix.length() && sql.startsWith(prefix, start);
 	}
 
 	/**
-	 * ENDコメント判定
+	 * コメントが指定した文字列と一致するかどうかの判定
 	 *
-	 * @param content
-	 * @return ENDコメントの場合は<code>true</code>
+	 * @param start コメントの開始位置
+	 * @param end コメントの終了位置
+	 * @param content 判定する文字列
+	 * @return 指定した文字列と一致する場合は<code>true</code>
 	 */
-	private static boolean isEndComment(final String content) {
-		return content != null && "END".equals(content);
+	private boolean commentEquals(final int start, final int end, final String content) {
+		return end - start == content.length() && sql.startsWith(content, start);
 	}
 
 }
@@ -0,0 +1,549 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.node.BeginNode;
+import jp.co.future.uroborosql.node.BindVariableNode;
+import jp.co.future.uroborosql.node.ContainerNode;
+import jp.co.future.uroborosql.node.ElseNode;
+import jp.co.future.uroborosql.node.EmbeddedValueNode;
+import jp.co.future.uroborosql.node.IfNode;
+import jp.co.future.uroborosql.node.Node;
+import jp.co.future.uroborosql.node.ParenBindVariableNode;
+import jp.co.future.uroborosql.node.PrefixSqlNode;
+import jp.co.future.uroborosql.node.SqlNode;
+
+/**
+ * SQLテンプレートのコンパイラ<br>
+ * ビルド時にSQLファイルを解析し、解析結果と同じノードを組み立てる {@link CompiledSqlTemplate} の実装クラスと、
+ * SQL名の索引となる {@link CompiledSqlTemplateIndex} の実装クラスのソースを生成する。<br>
+ * 生成したクラスをクラスパスに含めると、実行時はSQLファイルの解析を行わずにコンパイル済みSQLテンプレートを使用する。<br>
+ * ビルドへの組み込みは exec-maven-plugin などで以下のように <code>generate-sources</code> フェーズに実行する。
+ *
+ * <pre>
+ * &lt;mainClass&gt;jp.co.future.uroborosql.parser.SqlTemplateCompiler&lt;/mainClass&gt;
+ * &lt;arguments&gt;
+ *   &lt;argument&gt;${project.basedir}/src/main/resources/sql&lt;/argument&gt;
+ *   &lt;argument&gt;${project.build.directory}/generated-sources/uroborosql&lt;/argument&gt;
+ *   &lt;argument&gt;${project.build.directory}/generated-resources/uroborosql&lt;/argument&gt;
+ *   &lt;argument&gt;com.example.sql.SqlTemplateIndex&lt;/argument&gt;
+ *   &lt;argument&gt;UTF-8&lt;/argument&gt;
+ * &lt;/arguments&gt;
+ * </pre>
+ *
+ * @author H.Sugimoto
+ */
+public final class SqlTemplateCompiler {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(SqlTemplateCompiler.class);
+
+	/** パス区切り文字 */
+	private static final String PATH_SEPARATOR = "/";
+
+	/** 生成するソースのインデント */
+	private static final String INDENT = "\t";
+
+	/** 文字列リテラル1つあたりの最大文字数 */
+	private static final int MAX_LITERAL_LENGTH = 1000;
+
+	/** 索引の登録メソッド1つあたりの登録件数 */
+	private static final int INDEX_CHUNK_SIZE = 500;
+
+	/** SQLファイルのルートディレクトリ */
+	private final Path sqlDir;
+
+	/** Javaソースの出力先ディレクトリ */
+	private final Path javaOutputDir;
+
+	/** リソースの出力先ディレクトリ */
+	private final Path resourceOutputDir;
+
+	/** 索引クラスの完全修飾名 */
+	private final String indexClassName;
+
+	/** SQLファイルの文字コード */
+	private final Charset sqlEncoding;
+
+	/** SQLファイルの拡張子 */
+	private String fileExtension = ".sql";
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param sqlDir SQLファイルのルートディレクトリ
+	 * @param javaOutputDir Javaソースの出力先ディレクトリ
+	 * @param resourceOutputDir リソース（ServiceLoaderの定義ファイル）の出力先ディレクトリ
+	 * @param indexClassName 索引クラスの完全修飾名. SQLテンプレートのクラスも同じパッケージに生成する
+	 * @param sqlEncoding SQLファイルの文字コード
+	 */
+	public SqlTemplateCompiler(final Path sqlDir, final Path javaOutputDir, final Path resourceOutputDir,
+			final String indexClassName, final Charset sqlEncoding) {
+		this.sqlDir = sqlDir;
+		this.javaOutputDir = javaOutputDir;
+		this.resourceOutputDir = resourceOutputDir;
+		this.indexClassName = indexClassName;
+		this.sqlEncoding = sqlEncoding;
+	}
+
+	/**
+	 * コンパイラの実行
+	 *
+	 * @param args SQLファイルのルートディレクトリ、Javaソースの出力先ディレクトリ、リソースの出力先ディレクトリ、
+	 *            索引クラスの完全修飾名、SQLファイルの文字コード（省略時はデフォルトの文字コード）
+	 * @throws IOException ファイルの入出力に失敗した場合
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args.length < 4) {
+			throw new IllegalArgumentException(
+					"Usage: SqlTemplateCompiler <sqlDir> <javaOutputDir> <resourceOutputDir> <indexClassName> [sqlEncoding]");
+		}
+		Charset encoding = args.length > 4 ? Charset.forName(args[4]) : Charset.defaultCharset();
+		new SqlTemplateCompiler(Paths.get(args[0]), Paths.get(args[1]), Paths.get(args[2]), args[3], encoding)
+				.compile();
+	}
+
+	/**
+	 * SQLファイルの拡張子の取得
+	 *
+	 * @return SQLファイルの拡張子
+	 */
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	/**
+	 * SQLファイルの拡張子の設定
+	 *
+	 * @param fileExtension SQLファイルの拡張子
+	 */
+	public void setFileExtension(final String fileExtension) {
+		this.fileExtension = fileExtension;
+	}
+
+	/**
+	 * SQLファイルのコンパイル
+	 *
+	 * @return SQL名と生成したクラスの完全修飾名の対応
+	 * @throws IOException ファイルの入出力に失敗した場合
+	 */
+	public Map<String, String> compile() throws IOException {
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(sqlDir)) {
+			files = paths.filter(Files::isRegularFile)
+					// SQL名の作成時に拡張子を取り除くため、拡張子は大文字・小文字を区別して判定する
+					.filter(p -> p.getFileName().toString().endsWith(fileExtension))
+					.sorted()
+					.collect(Collectors.toList());
+		}
+
+		String packageName = StringUtils.substringBeforeLast(indexClassName, ".");
+		if (packageName.equals(indexClassName)) {
+			packageName = "";
+		}
+		Path packageDir = javaOutputDir.resolve(packageName.replace(".", PATH_SEPARATOR));
+		Files.createDirectories(packageDir);
+
+		Map<String, String> classNames = new TreeMap<>();
+		Set<String> usedNames = new HashSet<>();
+		usedNames.add(StringUtils.substringAfterLast("." + indexClassName, "."));
+		for (Path file : files) {
+			String sqlName = toSqlName(file);
+			String sql = read(file);
+			String simpleName = toClassName(sqlName, usedNames);
+			String source;
+			try {
+				source = generateTemplate(packageName, simpleName, sqlName, sql);
+			} catch (RuntimeException e) {
+				throw new UroborosqlRuntimeException("Failed to compile SQL template.[" + file + "]", e);
+			}
+			Files.write(packageDir.resolve(simpleName + ".java"), source.getBytes(StandardCharsets.UTF_8));
+			classNames.put(sqlName, packageName.isEmpty() ? simpleName : packageName + "." + simpleName);
+
+			LOG.debug("Compiled SQL template.[{}]", sqlName);
+		}
+
+		String indexSimpleName = StringUtils.substringAfterLast("." + indexClassName, ".");
+		Files.write(packageDir.resolve(indexSimpleName + ".java"),
+				generateIndex(packageName, indexSimpleName, classNames).getBytes(StandardCharsets.UTF_8));
+
+		Path servicesDir = resourceOutputDir.resolve("META-INF/services");
+		Files.createDirectories(servicesDir);
+		Files.write(servicesDir.resolve(CompiledSqlTemplateIndex.class.getName()),
+				(indexClassName + "\n").getBytes(StandardCharsets.UTF_8));
+
+		LOG.info("Compiled {} SQL templates.[{}]", classNames.size(), indexClassName);
+		return classNames;
+	}
+
+	/**
+	 * ファイルパスからSQL名を作成する
+	 *
+	 * @param file SQLファイル
+	 * @return SQL名
+	 */
+	private String toSqlName(final Path file) {
+		Path relative = sqlDir.relativize(file);
+		List<String> names = new ArrayList<>();
+		for (Path name : relative) {
+			names.add(name.toString());
+		}
+		return StringUtils.removeEnd(String.join(PATH_SEPARATOR, names), fileExtension);
+	}
+
+	/**
+	 * SQLファイルの読み込み<br>
+	 * {@link jp.co.future.uroborosql.store.SqlLoaderImpl} と同じく各行の末尾に改行を付与し、文末の"/"を取り除く。
+	 * 改行は"\n"で表し、生成するソースで実行環境の改行文字に置き換える。
+	 *
+	 * @param file SQLファイル
+	 * @return SQL
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	private String read(final Path file) throws IOException {
+		StringBuilder sqlBuilder = new StringBuilder();
+		try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(Files.newInputStream(file), sqlEncoding))) {
+			for (String line : reader.lines().toArray(String[]::new)) {
+				sqlBuilder.append(line).append('\n');
+			}
+		}
+		String sql = sqlBuilder.toString();
+		String trimedSql = sql.trim();
+		if (trimedSql.endsWith(PATH_SEPARATOR) && !trimedSql.endsWith("*/")) {
+			return StringUtils.stripEnd(trimedSql, PATH_SEPARATOR);
+		} else {
+			return sql;
+		}
+	}
+
+	/**
+	 * SQL名から重複しないクラス名を作成する
+	 *
+	 * @param sqlName SQL名
+	 * @param usedNames 使用済みのクラス名
+	 * @return クラス名
+	 */
+	private String toClassName(final String sqlName, final Set<String> usedNames) {
+		StringBuilder builder = new StringBuilder("Sql_");
+		for (char c : sqlName.toCharArray()) {
+			builder.append(Character.isJavaIdentifierPart(c) ? c : '_');
+		}
+		String baseName = builder.toString();
+		String name = baseName;
+		for (int i = 2; !usedNames.add(name.toLowerCase()); i++) {
+			// 大文字小文字を区別しないファイルシステムでも重複しないようにする
+			name = baseName + "_" + i;
+		}
+		return name;
+	}
+
+	/**
+	 * コンパイル済みSQLテンプレートのソースを生成する
+	 *
+	 * @param packageName パッケージ名
+	 * @param simpleName クラス名
+	 * @param sqlName SQL名
+	 * @param sql SQL
+	 * @return ソース
+	 */
+	private String generateTemplate(final String packageName, final String simpleName, final String sqlName,
+			final String sql) {
+		Node root = new SqlParserImpl(sql, true, true).parse().getRoot();
+		// 終端文字がない場合は終端文字の除去有無によらず同じノードになる
+		boolean terminated = sql.trim().endsWith(";");
+		Node rootWithTerminator = terminated ? new SqlParserImpl(sql, false, true).parse().getRoot() : null;
+
+		List<StringBuilder> methods = new ArrayList<>();
+		String rootMethod = generateNodeMethod(root, "root", methods);
+		String rootWithTerminatorMethod = terminated
+				? generateNodeMethod(rootWithTerminator, "rootWithTerminator", methods)
+				: null;
+
+		StringBuilder out = new StringBuilder();
+		appendHeader(out, packageName);
+		out.append("import jp.co.future.uroborosql.node.*;\n");
+		out.append("import jp.co.future.uroborosql.parser.CompiledSqlTemplate;\n");
+		out.append("import jp.co.future.uroborosql.parser.ContextTransformer;\n\n");
+		out.append("/**\n * Compiled SQL template.\n */\n");
+		out.append("public final class ").append(simpleName).append(" implements CompiledSqlTemplate {\n");
+		out.append(INDENT).append("private static final String NL = System.lineSeparator();\n\n");
+		out.append(INDENT).append("private static final String SQL_NAME = ").append(literal(sqlName)).append(";\n\n");
+		out.append(INDENT).append("private static final String SQL = ").append(literal(sql)).append(";\n\n");
+		out.append(INDENT).append("@Override\n");
+		out.append(INDENT).append("public String getSqlName() {\n");
+		out.append(INDENT).append(INDENT).append("return SQL_NAME;\n");
+		out.append(INDENT).append("}\n\n");
+		out.append(INDENT).append("@Override\n");
+		out.append(INDENT).append("public String getSql() {\n");
+		out.append(INDENT).append(INDENT).append("return SQL;\n");
+		out.append(INDENT).append("}\n\n");
+		out.append(INDENT).append("@Override\n");
+		out.append(INDENT)
+				.append("public ContextTransformer createContextTransformer(final boolean removeTerminator, final boolean outputBindComment) {\n");
+		out.append(INDENT).append(INDENT).append("return new ContextTransformer(");
+		if (terminated) {
+			out.append("removeTerminator ? ").append(rootMethod).append("(outputBindComment) : ")
+					.append(rootWithTerminatorMethod).append("(outputBindComment)");
+		} else {
+			out.append(rootMethod).append("(outputBindComment)");
+		}
+		out.append(");\n");
+		out.append(INDENT).append("}\n");
+		for (StringBuilder method : methods) {
+			out.append('\n').append(method);
+		}
+		out.append("}\n");
+		return out.toString();
+	}
+
+	/**
+	 * ノードを組み立てるメソッドを生成する<br>
+	 * メソッドの大きさの上限を超えないよう、子ノードを持つノードはノードごとに別のメソッドで組み立てる
+	 *
+	 * @param node ノード
+	 * @param methodName メソッド名
+	 * @param methods 生成したメソッドの格納先
+	 * @return メソッド名
+	 */
+	private String generateNodeMethod(final Node node, final String methodName, final List<StringBuilder> methods) {
+		StringBuilder method = new StringBuilder();
+		methods.add(method);
+		StringBuilder body = new StringBuilder();
+		String var = "n";
+		append(body, var, node);
+
+		if (node instanceof ContainerNode) {
+			int[] counter = { 0 };
+			for (int i = 0; i < node.getChildSize(); i++) {
+				Node child = node.getChild(i);
+				body.append(INDENT).append(INDENT).append(var).append(".addChild(")
+						.append(generateChild(child, methodName, methods, counter)).append(");\n");
+			}
+			if (node instanceof IfNode) {
+				IfNode ifNode = (IfNode) node;
+				if (ifNode.getElseIfNode() != null) {
+					body.append(INDENT).append(INDENT).append(var).append(".setElseIfNode(")
+							.append(generateNodeMethod(ifNode.getElseIfNode(), methodName + "_" + counter[0]++,
+									methods))
+							.append("(outputBindComment));\n");
+				}
+				if (ifNode.getElseNode() != null) {
+					body.append(INDENT).append(INDENT).append(var).append(".setElseNode(")
+							.append(generateNodeMethod(ifNode.getElseNode(), methodName + "_" + counter[0]++,
+									methods))
+							.append("(outputBindComment));\n");
+				}
+			}
+		}
+
+		method.append(INDENT).append("private static ").append(node.getClass().getSimpleName()).append(' ')
+				.append(methodName).append("(final boolean outputBindComment) {\n");
+		method.append(body);
+		method.append(INDENT).append(INDENT).append("return ").append(var).append(";\n");
+		method.append(INDENT).append("}\n");
+		return methodName;
+	}
+
+	/**
+	 * 子ノードを組み立てる式を生成する
+	 *
+	 * @param child 子ノード
+	 * @param methodName 親ノードを組み立てるメソッド名
+	 * @param methods 生成したメソッドの格納先
+	 * @param counter 子ノードのメソッド名の採番
+	 * @return 子ノードを表す式
+	 */
+	private String generateChild(final Node child, final String methodName, final List<StringBuilder> methods,
+			final int[] counter) {
+		if (child instanceof ContainerNode) {
+			return generateNodeMethod(child, methodName + "_" + counter[0]++, methods) + "(outputBindComment)";
+		}
+		return newNode(child);
+	}
+
+	/**
+	 * ノードを生成して変数に代入する文を追加する
+	 *
+	 * @param body メソッドの本体
+	 * @param var 変数名
+	 * @param node ノード
+	 */
+	private void append(final StringBuilder body, final String var, final Node node) {
+		body.append(INDENT).append(INDENT).append(node.getClass().getSimpleName()).append(' ').append(var)
+				.append(" = ").append(newNode(node)).append(";\n");
+	}
+
+	/**
+	 * ノードを生成する式を作成する
+	 *
+	 * @param node ノード
+	 * @return ノードを生成する式
+	 */
+	private String newNode(final Node node) {
+		Class<?> type = node.getClass();
+		int position = node.getPosition();
+		if (type == ContainerNode.class) {
+			return "new ContainerNode(" + position + ", " + node.getLength() + ")";
+		} else if (type == IfNode.class) {
+			// IfNodeは評価式をトリムして保持するため、解析時と同じデータ長になるよう空白で補う
+			String expression = StringUtils.rightPad(((IfNode) node).getExpression(), node.getLength() - 6);
+			return "new IfNode(" + position + ", " + literal(expression) + ")";
+		} else if (type == ElseNode.class) {
+			return "new ElseNode(" + position + ", " + node.getLength() + ")";
+		} else if (type == BeginNode.class) {
+			return "new BeginNode(" + position + ")";
+		} else if (type == PrefixSqlNode.class) {
+			PrefixSqlNode sqlNode = (PrefixSqlNode) node;
+			return "new PrefixSqlNode(" + position + ", " + literal(sqlNode.getPrefix()) + ", "
+					+ literal(sqlNode.getSql()) + ")";
+		} else if (type == SqlNode.class) {
+			return "new SqlNode(" + position + ", " + literal(((SqlNode) node).getSql()) + ")";
+		} else if (type == BindVariableNode.class) {
+			BindVariableNode bindNode = (BindVariableNode) node;
+			return "new BindVariableNode(" + position + ", " + literal(bindNode.getExpression()) + ", "
+					+ literal(bindNode.getTokenValue()) + ", outputBindComment)";
+		} else if (type == ParenBindVariableNode.class) {
+			ParenBindVariableNode bindNode = (ParenBindVariableNode) node;
+			return "new ParenBindVariableNode(" + position + ", " + literal(bindNode.getExpression()) + ", "
+					+ literal(bindNode.getTokenValue()) + ", outputBindComment)";
+		} else if (type == EmbeddedValueNode.class) {
+			EmbeddedValueNode embeddedNode = (EmbeddedValueNode) node;
+			return "new EmbeddedValueNode(" + position + ", " + literal(embeddedNode.getExpression()) + ", "
+					+ embeddedNode.isWrap() + ", " + literal(embeddedNode.getTokenValue()) + ")";
+		}
+		throw new UroborosqlRuntimeException("Unsupported node type.[" + type.getName() + "]");
+	}
+
+	/**
+	 * 索引クラスのソースを生成する
+	 *
+	 * @param packageName パッケージ名
+	 * @param simpleName クラス名
+	 * @param classNames SQL名と生成したクラスの完全修飾名の対応
+	 * @return ソース
+	 */
+	private String generateIndex(final String packageName, final String simpleName,
+			final Map<String, String> classNames) {
+		StringBuilder out = new StringBuilder();
+		appendHeader(out, packageName);
+		out.append("import java.util.Map;\n\n");
+		out.append("import jp.co.future.uroborosql.parser.CompiledSqlTemplateIndex;\n\n");
+		out.append("/**\n * Index of compiled SQL templates.\n */\n");
+		out.append("public final class ").append(simpleName).append(" implements CompiledSqlTemplateIndex {\n");
+		out.append(INDENT).append("@Override\n");
+		out.append(INDENT).append("public void register(final Map<String, String> templates) {\n");
+		int chunks = (classNames.size() + INDEX_CHUNK_SIZE - 1) / INDEX_CHUNK_SIZE;
+		for (int i = 0; i < chunks; i++) {
+			out.append(INDENT).append(INDENT).append("register").append(i).append("(templates);\n");
+		}
+		out.append(INDENT).append("}\n");
+
+		List<Map.Entry<String, String>> entries = new ArrayList<>(classNames.entrySet());
+		for (int i = 0; i < chunks; i++) {
+			out.append('\n');
+			out.append(INDENT).append("private static void register").append(i)
+					.append("(final Map<String, String> templates) {\n");
+			for (Map.Entry<String, String> entry : entries.subList(i * INDEX_CHUNK_SIZE,
+					Math.min((i + 1) * INDEX_CHUNK_SIZE, entries.size()))) {
+				out.append(INDENT).append(INDENT).append("templates.put(").append(literal(entry.getKey()))
+						.append(", ").append(literal(entry.getValue())).append(");\n");
+			}
+			out.append(INDENT).append("}\n");
+		}
+		out.append("}\n");
+		return out.toString();
+	}
+
+	/**
+	 * 生成したソースの先頭部分を追加する
+	 *
+	 * @param out ソースの出力先
+	 * @param packageName パッケージ名
+	 */
+	private void appendHeader(final StringBuilder out, final String packageName) {
+		out.append("// Generated by ").append(SqlTemplateCompiler.class.getName()).append(". Do not edit.\n");
+		if (!packageName.isEmpty()) {
+			out.append("package ").append(packageName).append(";\n");
+		}
+		out.append('\n');
+	}
+
+	/**
+	 * 文字列を表すJavaの式を作成する<br>
+	 * 改行は実行環境の改行文字（NL）に置き換え、長い文字列は複数のリテラルに分割する
+	 *
+	 * @param value 文字列
+	 * @return 文字列を表す式. 文字列が<code>null</code>の場合は<code>null</code>
+	 */
+	static String literal(final String value) {
+		if (value == null) {
+			return "null";
+		}
+		List<String> parts = new ArrayList<>();
+		String[] lines = value.split("\n", -1);
+		for (int i = 0; i < lines.length; i++) {
+			if (i > 0) {
+				parts.add("NL");
+			}
+			String line = lines[i];
+			for (int start = 0; start < line.length(); start += MAX_LITERAL_LENGTH) {
+				parts.add(quote(line.substring(start, Math.min(start + MAX_LITERAL_LENGTH, line.length()))));
+			}
+		}
+		return parts.isEmpty() ? "\"\"" : String.join(" + ", parts);
+	}
+
+	/**
+	 * 文字列リテラルの作成<br>
+	 * 生成するソースがASCII文字だけで構成されるよう、ASCII以外の文字はUnicodeエスケープする
+	 *
+	 * @param value 文字列
+	 * @return 文字列リテラル
+	 */
+	private static String quote(final String value) {
+		StringBuilder builder = new StringBuilder("\"");
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				builder.append("\\\"");
+			} else if (c == '\\') {
+				builder.append("\\\\");
+			} else if (c == '\r') {
+				builder.append("\\r");
+			} else if (c == '\t') {
+				builder.append("\\t");
+			} else if (c < 0x20 || c > 0x7e) {
+				builder.append(String.format("\\u%04x", (int) c));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.append('"').toString();
+	}
+}
@@ -26,6 +26,20 @@ public interface SqlTokenizer {
 	 */
 	String getToken();
 
+	/**
+	 * トークンの開始位置取得
+	 *
+	 * @return トークンの開始位置. トークンがない場合は<code>-1</code>
+	 */
+	int getTokenStart();
+
+	/**
+	 * トークンの終了位置取得
+	 *
+	 * @return トークンの終了位置. トークンがない場合は<code>-1</code>
+	 */
+	int getTokenEnd();
+
 	/**
 	 * 以前のSQL文字列取得
 	 * @return 以前のSQL文字列
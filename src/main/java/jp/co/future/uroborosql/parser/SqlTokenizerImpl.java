@@ -9,7 +9,8 @@ package jp.co.future.uroborosql.parser;
 import jp.co.future.uroborosql.exception.TokenNotClosedRuntimeException;
 
 /**
- * SQL分割処理実装クラス
+ * SQL分割処理実装クラス<br>
+ * トークンはSQL上の位置として保持し、トークン文字列は{@link #getToken()}で取得するまで生成しない。
  *
  * @author H.Sugimoto
  */
@@ -20,9 +21,24 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	/** 現在地 */
 	private int position = 0;
 
-	/** トークン */
+	/** トークン. トークンの位置から生成する場合は、取得時に生成するまで<code>null</code> */
 	private String token;
 
+	/** トークンの開始位置. トークンがない場合は<code>-1</code> */
+	private int tokenStart = -1;
+
+	/** トークンの終了位置. トークンがない場合は<code>-1</code> */
+	private int tokenEnd = -1;
+
+	/** 次のコメント開始位置（検索済みの位置を再利用するために保持する） */
+	private int commentStartPos = Integer.MIN_VALUE;
+
+	/** 次の行コメント開始位置（検索済みの位置を再利用するために保持する） */
+	private int lineCommentStartPos = Integer.MIN_VALUE;
+
+	/** 次のバインド変数開始位置（検索済みの位置を再利用するために保持する） */
+	private int bindVariableStartPos = Integer.MIN_VALUE;
+
 	/** トークン種別 */
 	private TokenType tokenType = TokenType.SQL;
 
@@ -58,9 +74,53 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 */
 	@Override
 	public String getToken() {
+		if (token == null && tokenStart >= 0) {
+			token = sql.substring(tokenStart, tokenEnd);
+		}
 		return token;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.SqlTokenizer#getTokenStart()
+	 */
+	@Override
+	public int getTokenStart() {
+		return tokenStart;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.parser.SqlTokenizer#getTokenEnd()
+	 */
+	@Override
+	public int getTokenEnd() {
+		return tokenEnd;
+	}
+
+	/**
+	 * トークンの位置を設定する. トークン文字列は取得時に生成する
+	 *
+	 * @param start トークンの開始位置
+	 * @param end トークンの終了位置
+	 */
+	private void setToken(final int start, final int end) {
+		this.token = null;
+		this.tokenStart = start;
+		this.tokenEnd = end;
+	}
+
+	/**
+	 * トークンをクリアする
+	 */
+	private void clearToken() {
+		this.token = null;
+		this.tokenStart = -1;
+		this.tokenEnd = -1;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -109,7 +169,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	@Override
 	public TokenType next() {
 		if (position >= sql.length()) {
-			token = null;
+			clearToken();
 			tokenType = TokenType.EOF;
 			nextTokenType = TokenType.EOF;
 			return tokenType;
@@ -138,24 +198,31 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 * SQL文解析
 	 */
 	protected void parseSql() {
-		int commentStartPos = sql.indexOf("/*", position);
-		int lineCommentStartPos = sql.indexOf("--", position);
-		int bindVariableStartPos = sql.indexOf("?", position);
+		// 前回検索した位置が現在地より後ろにある場合は再検索しない
+		if (commentStartPos != -1 && commentStartPos < position) {
+			commentStartPos = sql.indexOf("/*", position);
+		}
+		if (lineCommentStartPos != -1 && lineCommentStartPos < position) {
+			lineCommentStartPos = sql.indexOf("--", position);
+		}
+		if (bindVariableStartPos != -1 && bindVariableStartPos < position) {
+			bindVariableStartPos = sql.indexOf('?', position);
+		}
 		int elseCommentStartPos = -1;
 		if (lineCommentStartPos >= 0) {
 			int skipPos = skipWhitespace(lineCommentStartPos + 2);
-			if (skipPos + 4 < sql.length() && "ELSE".equals(sql.substring(skipPos, skipPos + 4))) {
+			if (skipPos + 4 < sql.length() && sql.startsWith("ELSE", skipPos)) {
 				elseCommentStartPos = lineCommentStartPos;
 			}
 		}
 		int nextStartPos = getNextStartPos(commentStartPos, elseCommentStartPos, bindVariableStartPos);
 		if (nextStartPos < 0) {
-			token = sql.substring(position);
+			setToken(position, sql.length());
 			nextTokenType = TokenType.EOF;
 			position = sql.length();
 			tokenType = TokenType.SQL;
 		} else {
-			token = sql.substring(position, nextStartPos);
+			setToken(position, nextStartPos);
 			tokenType = TokenType.SQL;
 			boolean needNext = nextStartPos == position;
 			if (nextStartPos == commentStartPos) {
@@ -215,7 +282,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 		if (commentEndPos < 0) {
 			throw new TokenNotClosedRuntimeException(sql.substring(position));
 		}
-		token = sql.substring(position, commentEndPos);
+		setToken(position, commentEndPos);
 		nextTokenType = TokenType.SQL;
 		position = commentEndPos + 2;
 		tokenType = TokenType.COMMENT;
@@ -225,6 +292,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 * バインド変数解析
 	 */
 	protected void parseBindVariable() {
+		setToken(position, position + 1);
 		token = nextBindVariableName();
 		nextTokenType = TokenType.SQL;
 		position += 1;
@@ -236,10 +304,9 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 */
 	protected void parseElse() {
 		int pos = sql.indexOf("ELSE", position) + 4;
-		String elseToken = sql.substring(position, pos);
-		token = elseToken;
+		setToken(position, pos);
 		nextTokenType = TokenType.SQL;
-		position = position + elseToken.length();
+		position = pos;
 		tokenType = TokenType.ELSE;
 	}
 
@@ -247,7 +314,7 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	 * EOF
 	 */
 	protected void parseEof() {
-		token = null;
+		clearToken();
 		tokenType = TokenType.EOF;
 		nextTokenType = TokenType.EOF;
 	}
@@ -285,11 +352,11 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 				break;
 			}
 		}
-		token = sql.substring(position, endIndex);
+		setToken(position, endIndex);
 		tokenType = TokenType.SQL;
 		nextTokenType = TokenType.SQL;
 		position = endIndex;
-		return token;
+		return getToken();
 	}
 
 	/**
@@ -300,9 +367,9 @@ public class SqlTokenizerImpl implements SqlTokenizer {
 	@Override
 	public String skipWhitespace() {
 		int index = skipWhitespace(position);
-		token = sql.substring(position, index);
+		setToken(position, index);
 		position = index;
-		return token;
+		return getToken();
 	}
 
 	/**
@@ -8,6 +8,7 @@ package jp.co.future.uroborosql.parser;
 
 import java.util.List;
 
+import jp.co.future.uroborosql.expr.ExpressionEngine;
 import jp.co.future.uroborosql.parameter.Parameter;
 
 /**
@@ -35,6 +36,28 @@ public interface TransformContext {
 	 */
 	Parameter getParam(String paramName);
 
+	/**
+	 * パラメータ値取得。<br>
+	 * パラメータが存在しない場合は<code>null</code>を返す。
+	 *
+	 * @param paramName パラメータ名
+	 * @return パラメータ値
+	 */
+	default Object getParamValue(final String paramName) {
+		Parameter param = getParam(paramName);
+		return param != null ? param.getValue() : null;
+	}
+
+	/**
+	 * 評価式エンジン取得。<br>
+	 * IF句の条件式やバインド変数の評価式を評価する評価式エンジンを返す。
+	 *
+	 * @return 評価式エンジン
+	 */
+	default ExpressionEngine getExpressionEngine() {
+		return ExpressionEngine.getDefault();
+	}
+
 	/**
 	 * 実行時SQL取得
 	 *
@@ -42,6 +65,17 @@ public interface TransformContext {
 	 */
 	String getExecutableSql();
 
+	/**
+	 * 整形済みの実行時SQL設定<br>
+	 * 設定したSQLは整形処理を行わずにそのまま実行時SQLとして扱う。<br>
+	 * デフォルト実装は実行時SQLが空であることを前提に、{@link #addSqlPart(String)}でSQLへ追記する
+	 *
+	 * @param executableSql 整形済みの実行時SQL
+	 */
+	default void setExecutableSql(final String executableSql) {
+		addSqlPart(executableSql);
+	}
+
 	/**
 	 * SQLへの追記を行う
 	 *
@@ -50,6 +84,17 @@ public interface TransformContext {
 	 */
 	TransformContext addSqlPart(String sqlPart);
 
+	/**
+	 * 変換経路の追記を行う<br>
+	 * 分岐の評価結果やIN句の要素数など、生成されるSQL文字列を決定する値を通知する。
+	 *
+	 * @param route 変換経路を表す値
+	 * @return TransformContext
+	 */
+	default TransformContext addRoute(final Object route) {
+		return this;
+	}
+
 	/**
 	 * 有効なSQLかどうかの判定
 	 *
@@ -80,6 +125,17 @@ public interface TransformContext {
 	 */
 	TransformContext addBindNames(List<String> bindNames);
 
+	/**
+	 * バインド変数のスロット割り当て設定。<br>
+	 * 追加済みのバインド変数名に対応するスロット割り当てを通知する。以降にバインド変数名を追加した場合は無効となる。
+	 *
+	 * @param bindSlots バインド変数のスロット割り当て
+	 * @return TransformContext
+	 */
+	default TransformContext setBindSlots(final BindSlots bindSlots) {
+		return this;
+	}
+
 	/**
 	 * バインドパラメータの追加<br>
 	 *
@@ -46,6 +46,7 @@ import org.slf4j.LoggerFactory;
 
 import jp.co.future.uroborosql.dialect.Dialect;
 import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 
 public class NioSqlManagerImpl implements SqlManager {
 	/** ロガー */
@@ -91,6 +92,12 @@ public class NioSqlManagerImpl implements SqlManager {
 	/** WatchKeyに対するディレクトリPathを取得するためのMap */
 	private final ConcurrentHashMap<WatchKey, Path> watchDirs = new ConcurrentHashMap<>();
 
+	/** SQL解析結果のキャッシュ */
+	private final ContextTransformerCache contextTransformerCache = new ContextTransformerCache();
+
+	/** SQLテンプレートの事前解析クラス */
+	private SqlTemplatePreWarmer preWarmer = new SqlTemplatePreWarmer();
+
 	/**
 	 * コンストラクタ
 	 */
@@ -176,6 +183,10 @@ public class NioSqlManagerImpl implements SqlManager {
 
 		generateSqlInfos();
 
+		if (preWarmer != null && preWarmer.isEnabled()) {
+			preWarmer.warmUp(this);
+		}
+
 		if (detectChanges) {
 			// Path監視用のスレッド実行
 			es = Executors.newSingleThreadExecutor();
@@ -190,6 +201,7 @@ public class NioSqlManagerImpl implements SqlManager {
 	 */
 	@Override
 	public void shutdown() {
+		contextTransformerCache.clear();
 		if (detectChanges) {
 			es.shutdown();
 			try {
@@ -251,6 +263,7 @@ public class NioSqlManagerImpl implements SqlManager {
 						sqlInfos.computeIfPresent(sqlName, (k, v) -> {
 							return v.computePath(path, kind == ENTRY_DELETE);
 						});
+						contextTransformerCache.invalidate(sqlName);
 					}
 				}
 			}
@@ -300,6 +313,11 @@ public class NioSqlManagerImpl implements SqlManager {
 	@Override
 	public List<String> getSqlPathList() {
 		List<String> list = Collections.list(this.sqlInfos.keys());
+		for (String sqlName : contextTransformerCache.getCompiledSqlTemplates().getSqlNames()) {
+			if (!sqlInfos.containsKey(sqlName)) {
+				list.add(sqlName);
+			}
+		}
 		Collections.sort(list);
 		return list;
 	}
@@ -351,7 +369,7 @@ public class NioSqlManagerImpl implements SqlManager {
 	 */
 	@Override
 	public boolean existSql(final String sqlName) {
-		return sqlInfos.containsKey(sqlName);
+		return sqlInfos.containsKey(sqlName) || contextTransformerCache.getCompiledSqlTemplates().contains(sqlName);
 	}
 
 	/**
@@ -361,13 +379,47 @@ public class NioSqlManagerImpl implements SqlManager {
 	 */
 	@Override
 	public String getSql(final String sqlName) {
-		if (existSql(sqlName)) {
-			return sqlInfos.get(sqlName).getSqlBody();
+		SqlInfo sqlInfo = sqlInfos.get(sqlName);
+		if (sqlInfo != null) {
+			return sqlInfo.getSqlBody();
+		}
+		// SQLファイルが存在しないコンパイル済みSQLテンプレートはコンパイル元のSQLを使用する
+		String sql = contextTransformerCache.getCompiledSqlTemplates().getSql(sqlName);
+		if (sql != null) {
+			return sql;
 		} else {
 			throw new UroborosqlRuntimeException("sql file not found. sqlName : " + sqlName);
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.store.SqlManager#getContextTransformerCache()
+	 */
+	@Override
+	public ContextTransformerCache getContextTransformerCache() {
+		return contextTransformerCache;
+	}
+
+	/**
+	 * SQLテンプレートの事前解析クラスを取得する
+	 *
+	 * @return SQLテンプレートの事前解析クラス
+	 */
+	public SqlTemplatePreWarmer getPreWarmer() {
+		return preWarmer;
+	}
+
+	/**
+	 * SQLテンプレートの事前解析クラスを設定する
+	 *
+	 * @param preWarmer SQLテンプレートの事前解析クラス
+	 */
+	public void setPreWarmer(final SqlTemplatePreWarmer preWarmer) {
+		this.preWarmer = preWarmer;
+	}
+
 	/**
 	 * sqlNameとそれに対するSqlInfoのMapを生成する
 	 */
@@ -539,6 +591,7 @@ public class NioSqlManagerImpl implements SqlManager {
 			String sqlName = getSqlName(path);
 			this.sqlInfos.compute(sqlName,
 					(k, v) -> v == null ? new SqlInfo(sqlName, path, dialect, charset) : v.computePath(path, remove));
+			contextTransformerCache.invalidate(sqlName);
 		}
 	}
 
@@ -9,6 +9,7 @@ package jp.co.future.uroborosql.store;
 import java.util.List;
 
 import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 
 /**
  * SQL管理インターフェース
@@ -89,4 +90,14 @@ public interface SqlManager {
 	 */
 	void setDialect(Dialect dialect);
 
+	/**
+	 * SQL解析結果のキャッシュを取得する<br>
+	 * キャッシュを持たない場合は<code>null</code>を返却し、SQLは実行の都度解析される
+	 *
+	 * @return SQL解析結果のキャッシュ. キャッシュを持たない場合は<code>null</code>
+	 */
+	default ContextTransformerCache getContextTransformerCache() {
+		return null;
+	}
+
 }
\ No newline at end of file
@@ -11,6 +11,8 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.parser.CompiledSqlTemplates;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
 
 /**
  * SQL管理実装クラス
@@ -30,6 +32,12 @@ public class SqlManagerImpl implements SqlManager {
 
 	private Dialect dialect;
 
+	/** SQL解析結果のキャッシュ */
+	private final ContextTransformerCache contextTransformerCache = new ContextTransformerCache();
+
+	/** SQLテンプレートの事前解析クラス */
+	private SqlTemplatePreWarmer preWarmer = new SqlTemplatePreWarmer();
+
 	/** コンストラクタ */
 	public SqlManagerImpl() {
 		sqlLoader = new SqlLoaderImpl();
@@ -97,11 +105,16 @@ public class SqlManagerImpl implements SqlManager {
 	 */
 	@Override
 	public void initialize() {
+		contextTransformerCache.clear();
 		if (cache) {
 			sqlMap = sqlLoader.load();
 		} else {
 			sqlMap.clear();
 		}
+
+		if (preWarmer != null && preWarmer.isEnabled()) {
+			preWarmer.warmUp(this);
+		}
 	}
 
 	/**
@@ -112,6 +125,7 @@ public class SqlManagerImpl implements SqlManager {
 	@Override
 	public void shutdown() {
 		sqlMap.clear();
+		contextTransformerCache.clear();
 	}
 
 	/**
@@ -121,10 +135,16 @@ public class SqlManagerImpl implements SqlManager {
 	 */
 	@Override
 	public String getSql(final String sqlPath) {
+		// SQLファイルが存在しないコンパイル済みSQLテンプレートはコンパイル元のSQLを使用する
+		CompiledSqlTemplates compiledSqlTemplates = contextTransformerCache.getCompiledSqlTemplates();
 		if (!cache) {
+			if (compiledSqlTemplates.contains(sqlPath) && !sqlLoader.existSql(sqlPath.replace(".", "/"))) {
+				return compiledSqlTemplates.getSql(sqlPath);
+			}
 			return sqlLoader.load(sqlPath);
 		} else {
-			return sqlMap.get(sqlPath.replace(".", "/"));
+			String sql = sqlMap.get(sqlPath.replace(".", "/"));
+			return sql != null ? sql : compiledSqlTemplates.getSql(sqlPath);
 		}
 	}
 
@@ -135,7 +155,9 @@ public class SqlManagerImpl implements SqlManager {
 	 */
 	@Override
 	public boolean existSql(final String sqlPath) {
-		if (!cache) {
+		if (contextTransformerCache.getCompiledSqlTemplates().contains(sqlPath)) {
+			return true;
+		} else if (!cache) {
 			return sqlLoader.existSql(sqlPath);
 		} else {
 			return sqlMap.get(sqlPath.replace(".", "/")) != null;
@@ -149,7 +171,13 @@ public class SqlManagerImpl implements SqlManager {
 	 */
 	@Override
 	public List<String> getSqlPathList() {
-		return Collections.list(sqlMap.keys());
+		List<String> list = Collections.list(sqlMap.keys());
+		for (String sqlName : contextTransformerCache.getCompiledSqlTemplates().getSqlNames()) {
+			if (!sqlMap.containsKey(sqlName)) {
+				list.add(sqlName);
+			}
+		}
+		return list;
 	}
 
 	/**
@@ -248,4 +276,32 @@ public class SqlManagerImpl implements SqlManager {
 		this.dialect = dialect;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see jp.co.future.uroborosql.store.SqlManager#getContextTransformerCache()
+	 */
+	@Override
+	public ContextTransformerCache getContextTransformerCache() {
+		return contextTransformerCache;
+	}
+
+	/**
+	 * SQLテンプレートの事前解析クラスを取得する
+	 *
+	 * @return SQLテンプレートの事前解析クラス
+	 */
+	public SqlTemplatePreWarmer getPreWarmer() {
+		return preWarmer;
+	}
+
+	/**
+	 * SQLテンプレートの事前解析クラスを設定する
+	 *
+	 * @param preWarmer SQLテンプレートの事前解析クラス
+	 */
+	public void setPreWarmer(final SqlTemplatePreWarmer preWarmer) {
+		this.preWarmer = preWarmer;
+	}
+
 }
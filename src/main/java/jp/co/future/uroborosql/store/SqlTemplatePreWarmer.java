@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import jp.co.future.uroborosql.dialect.Dialect;
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SQLテンプレートの事前解析クラス<br>
+ * SQL管理クラスの初期化時に、ロードしたすべてのSQLテンプレートを並列に読み込んで解析し、解析結果をキャッシュに格納する。<br>
+ * 初回実行時の解析による遅延をなくすとともに、SQLテンプレートの構文エラーを起動時にまとめて検出する。<br>
+ * 事前解析は既定では行わず、システムプロパティ<code>uroborosql.sql.prewarm</code>に<code>true</code>を指定した場合に行う。
+ *
+ * @author H.Sugimoto
+ */
+public class SqlTemplatePreWarmer {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(SqlTemplatePreWarmer.class);
+
+	/** 事前解析を行うかどうかを指定するシステムプロパティ名 */
+	public static final String KEY_ENABLED = "uroborosql.sql.prewarm";
+
+	/** 事前解析の並列度を指定するシステムプロパティ名 */
+	public static final String KEY_PARALLELISM = "uroborosql.sql.prewarm.parallelism";
+
+	/** 解析エラー時に初期化を失敗させるかどうかを指定するシステムプロパティ名 */
+	public static final String KEY_FAIL_FAST = "uroborosql.sql.prewarm.failfast";
+
+	/** 事前解析を行うかどうか */
+	private boolean enabled;
+
+	/** 事前解析の並列度 */
+	private int parallelism;
+
+	/** 解析エラー時に初期化を失敗させるかどうか */
+	private boolean failFast;
+
+	/**
+	 * コンストラクタ<br>
+	 * 設定はシステムプロパティから取得する（並列度のデフォルトは利用可能なプロセッサ数）
+	 */
+	public SqlTemplatePreWarmer() {
+		this(Boolean.getBoolean(KEY_ENABLED),
+				Integer.getInteger(KEY_PARALLELISM, Runtime.getRuntime().availableProcessors()),
+				Boolean.getBoolean(KEY_FAIL_FAST));
+	}
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param enabled 事前解析を行うかどうか
+	 * @param parallelism 事前解析の並列度
+	 * @param failFast 解析エラー時に初期化を失敗させるかどうか
+	 */
+	public SqlTemplatePreWarmer(final boolean enabled, final int parallelism, final boolean failFast) {
+		this.enabled = enabled;
+		setParallelism(parallelism);
+		this.failFast = failFast;
+	}
+
+	/**
+	 * 事前解析を行うかどうかを取得する
+	 *
+	 * @return 事前解析を行う場合<code>true</code>
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 事前解析を行うかどうかを設定する
+	 *
+	 * @param enabled 事前解析を行う場合<code>true</code>
+	 */
+	public void setEnabled(final boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 事前解析の並列度を取得する
+	 *
+	 * @return 事前解析の並列度
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 事前解析の並列度を設定する
+	 *
+	 * @param parallelism 事前解析の並列度. 1未満の場合は1とする
+	 */
+	public void setParallelism(final int parallelism) {
+		this.parallelism = Math.max(parallelism, 1);
+	}
+
+	/**
+	 * 解析エラー時に初期化を失敗させるかどうかを取得する
+	 *
+	 * @return 解析エラー時に初期化を失敗させる場合<code>true</code>
+	 */
+	public boolean isFailFast() {
+		return failFast;
+	}
+
+	/**
+	 * 解析エラー時に初期化を失敗させるかどうかを設定する
+	 *
+	 * @param failFast 解析エラー時に初期化を失敗させる場合<code>true</code>
+	 */
+	public void setFailFast(final boolean failFast) {
+		this.failFast = failFast;
+	}
+
+	/**
+	 * SQLテンプレートの事前解析<br>
+	 * SQL管理クラスがロードしたすべてのSQLテンプレートを解析し、解析結果をSQL解析結果のキャッシュに格納する。
+	 * SQL管理クラスがキャッシュを持たない場合は何もしない。<br>
+	 * 解析エラーはすべてのSQLテンプレートを解析した後にまとめてログに出力する。
+	 * 解析エラー時に初期化を失敗させる場合は、最初の解析エラーで残りの解析を打ち切り、検出した解析エラーをまとめた例外をスローする。
+	 *
+	 * @param sqlManager SQL管理クラス
+	 * @return SQL名をキーとした解析エラーのMap. 解析エラーがない場合は空のMap
+	 * @throws UroborosqlRuntimeException 解析エラー時に初期化を失敗させる設定で、解析エラーが発生した場合
+	 */
+	public Map<String, RuntimeException> warmUp(final SqlManager sqlManager) {
+		ContextTransformerCache cache = sqlManager.getContextTransformerCache();
+		if (cache == null) {
+			LOG.warn("SQL manager has no parse result cache, pre-warming is skipped. sqlManager={}",
+					sqlManager.getClass().getName());
+			return new ConcurrentSkipListMap<>();
+		}
+		long startTime = System.nanoTime();
+		List<String> sqlNames = sqlManager.getSqlPathList();
+		Dialect dialect = sqlManager.getDialect();
+		boolean removeTerminator = dialect == null || dialect.isRemoveTerminator();
+		if (cache.getCacheSize() < sqlNames.size()) {
+			LOG.warn("SQL template count exceeds the cache size, some parse results will be evicted. count={}, cacheSize={}",
+					sqlNames.size(), cache.getCacheSize());
+		}
+
+		Map<String, RuntimeException> errors = new ConcurrentSkipListMap<>();
+		List<Callable<Void>> tasks = new ArrayList<>(sqlNames.size());
+		for (String sqlName : sqlNames) {
+			tasks.add(() -> {
+				if (failFast && !errors.isEmpty()) {
+					return null;
+				}
+				try {
+					cache.get(sqlName, sqlManager.getSql(sqlName), removeTerminator, true);
+				} catch (RuntimeException ex) {
+					errors.put(sqlName, ex);
+				}
+				return null;
+			});
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			pool.invokeAll(tasks);
+		} finally {
+			pool.shutdown();
+		}
+
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		LOG.info("Pre-warmed SQL templates. count={}, errors={}, parallelism={}, elapsed={}ms", sqlNames.size(),
+				errors.size(), parallelism, elapsed);
+
+		if (!errors.isEmpty()) {
+			String message = errors.entrySet().stream()
+					.map(e -> e.getKey() + " : " + e.getValue())
+					.collect(Collectors.joining(System.lineSeparator()));
+			if (failFast) {
+				UroborosqlRuntimeException ex = new UroborosqlRuntimeException(
+						"Failed to parse SQL templates." + System.lineSeparator() + message);
+				errors.values().forEach(ex::addSuppressed);
+				throw ex;
+			}
+			LOG.error("Failed to parse SQL templates.{}{}", System.lineSeparator(), message);
+		}
+		return errors;
+	}
+}
@@ -0,0 +1,1269 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.tx;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * {@link PreparedStatementCache}から貸し出すPreparedStatementのラッパークラス<br>
+ * クローズ時は元のPreparedStatementをクローズせず、キャッシュに返却する。
+ * 貸し出し中に変更したフェッチサイズ、クエリタイムアウト、最大行数などの設定は返却時に変更前の値に戻す。
+ *
+ * @author H.Sugimoto
+ */
+final class CachedPreparedStatement implements PreparedStatement {
+	/** 返却先のキャッシュ */
+	private final PreparedStatementCache cache;
+
+	/** キャッシュキー */
+	private final PreparedStatementCache.Key key;
+
+	/** 元となるPreparedStatement */
+	private final PreparedStatement wrapped;
+
+	/** 貸し出し時のキャッシュの世代 */
+	private final int generation;
+
+	/** クローズ（返却）済みかどうか */
+	private boolean closed = false;
+
+	/** 変更前のフェッチサイズ. 変更していない場合は<code>null</code> */
+	private Integer defaultFetchSize;
+
+	/** 変更前のフェッチ方向. 変更していない場合は<code>null</code> */
+	private Integer defaultFetchDirection;
+
+	/** 変更前のクエリタイムアウト秒数. 変更していない場合は<code>null</code> */
+	private Integer defaultQueryTimeout;
+
+	/** 変更前の最大行数. 変更していない場合は<code>null</code> */
+	private Integer defaultMaxRows;
+
+	/** 変更前の列の最大バイト数. 変更していない場合は<code>null</code> */
+	private Integer defaultMaxFieldSize;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param cache 返却先のキャッシュ
+	 * @param key キャッシュキー
+	 * @param wrapped 元となるPreparedStatement
+	 * @param generation 貸し出し時のキャッシュの世代
+	 */
+	CachedPreparedStatement(final PreparedStatementCache cache, final PreparedStatementCache.Key key,
+			final PreparedStatement wrapped, final int generation) {
+		this.cache = cache;
+		this.key = key;
+		this.wrapped = wrapped;
+		this.generation = generation;
+	}
+
+	/**
+	 * キャッシュキーの取得
+	 *
+	 * @return キャッシュキー
+	 */
+	PreparedStatementCache.Key getKey() {
+		return key;
+	}
+
+	/**
+	 * 元となるPreparedStatementの取得
+	 *
+	 * @return 元となるPreparedStatement
+	 */
+	PreparedStatement getWrapped() {
+		return wrapped;
+	}
+
+	/**
+	 * 貸し出し時のキャッシュの世代の取得
+	 *
+	 * @return 貸し出し時のキャッシュの世代
+	 */
+	int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * 貸し出し中に変更した設定を変更前の値に戻す<br>
+	 * 次に貸し出す際に、以前の利用で変更した設定が引き継がれないよう返却時に呼び出す
+	 *
+	 * @throws SQLException SQL例外
+	 */
+	void restoreSettings() throws SQLException {
+		// フェッチサイズに最大行数以下の制約を持つドライバがあるため、最大行数を先に戻す
+		if (defaultMaxRows != null) {
+			wrapped.setMaxRows(defaultMaxRows);
+		}
+		if (defaultMaxFieldSize != null) {
+			wrapped.setMaxFieldSize(defaultMaxFieldSize);
+		}
+		if (defaultQueryTimeout != null) {
+			wrapped.setQueryTimeout(defaultQueryTimeout);
+		}
+		if (defaultFetchDirection != null) {
+			wrapped.setFetchDirection(defaultFetchDirection);
+		}
+		if (defaultFetchSize != null) {
+			wrapped.setFetchSize(defaultFetchSize);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Wrapper#unwrap(java.lang.Class)
+	 */
+	@Override
+	public <T> T unwrap(final Class<T> iface) throws SQLException {
+		if (iface != null && this.getClass().isAssignableFrom(iface)) {
+			return iface.cast(this);
+		}
+
+		return wrapped.unwrap(iface);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Wrapper#isWrapperFor(java.lang.Class)
+	 */
+	@Override
+	public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+		if (iface != null && this.getClass().isAssignableFrom(iface)) {
+			return true;
+		}
+		return wrapped.isWrapperFor(iface);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * 元のPreparedStatementはクローズせず、キャッシュに返却する
+	 *
+	 * @see java.sql.Statement#close()
+	 */
+	@Override
+	public void close() throws SQLException {
+		if (!closed) {
+			closed = true;
+			cache.release(this);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#isClosed()
+	 */
+	@Override
+	public boolean isClosed() throws SQLException {
+		return closed || wrapped.isClosed();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * ResultSetのクローズに合わせて元のPreparedStatementがクローズされないよう、何もしない
+	 *
+	 * @see java.sql.Statement#closeOnCompletion()
+	 */
+	@Override
+	public void closeOnCompletion() throws SQLException {
+		// do nothing
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#isCloseOnCompletion()
+	 */
+	@Override
+	public boolean isCloseOnCompletion() throws SQLException {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#executeQuery()
+	 */
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		return wrapped.executeQuery();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#executeUpdate()
+	 */
+	@Override
+	public int executeUpdate() throws SQLException {
+		return wrapped.executeUpdate();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNull(int,int)
+	 */
+	@Override
+	public void setNull(final int parameterIndex, final int sqlType) throws SQLException {
+		wrapped.setNull(parameterIndex, sqlType);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBoolean(int,boolean)
+	 */
+	@Override
+	public void setBoolean(final int parameterIndex, final boolean x) throws SQLException {
+		wrapped.setBoolean(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setByte(int,byte)
+	 */
+	@Override
+	public void setByte(final int parameterIndex, final byte x) throws SQLException {
+		wrapped.setByte(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setShort(int,short)
+	 */
+	@Override
+	public void setShort(final int parameterIndex, final short x) throws SQLException {
+		wrapped.setShort(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setInt(int,int)
+	 */
+	@Override
+	public void setInt(final int parameterIndex, final int x) throws SQLException {
+		wrapped.setInt(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setLong(int,long)
+	 */
+	@Override
+	public void setLong(final int parameterIndex, final long x) throws SQLException {
+		wrapped.setLong(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setFloat(int,float)
+	 */
+	@Override
+	public void setFloat(final int parameterIndex, final float x) throws SQLException {
+		wrapped.setFloat(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setDouble(int,double)
+	 */
+	@Override
+	public void setDouble(final int parameterIndex, final double x) throws SQLException {
+		wrapped.setDouble(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBigDecimal(int,java.math.BigDecimal)
+	 */
+	@Override
+	public void setBigDecimal(final int parameterIndex, final BigDecimal x) throws SQLException {
+		wrapped.setBigDecimal(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setString(int,String)
+	 */
+	@Override
+	public void setString(final int parameterIndex, final String x) throws SQLException {
+		wrapped.setString(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBytes(int,byte[])
+	 */
+	@Override
+	public void setBytes(final int parameterIndex, final byte[] x) throws SQLException {
+		wrapped.setBytes(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setDate(int,Date)
+	 */
+	@Override
+	public void setDate(final int parameterIndex, final Date x) throws SQLException {
+		wrapped.setDate(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setTime(int,Time)
+	 */
+	@Override
+	public void setTime(final int parameterIndex, final Time x) throws SQLException {
+		wrapped.setTime(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setTimestamp(int,Timestamp)
+	 */
+	@Override
+	public void setTimestamp(final int parameterIndex, final Timestamp x) throws SQLException {
+		wrapped.setTimestamp(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setAsciiStream(int,InputStream,int)
+	 */
+	@Override
+	public void setAsciiStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+		wrapped.setAsciiStream(parameterIndex, x, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setUnicodeStream(int,InputStream,int)
+	 */
+	@Override
+	public void setUnicodeStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+		wrapped.setUnicodeStream(parameterIndex, x, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBinaryStream(int,InputStream,int)
+	 */
+	@Override
+	public void setBinaryStream(final int parameterIndex, final InputStream x, final int length) throws SQLException {
+		wrapped.setBinaryStream(parameterIndex, x, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#clearParameters()
+	 */
+	@Override
+	public void clearParameters() throws SQLException {
+		wrapped.clearParameters();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setObject(int,Object,int)
+	 */
+	@Override
+	public void setObject(final int parameterIndex, final Object x, final int targetSqlType) throws SQLException {
+		wrapped.setObject(parameterIndex, x, targetSqlType);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setObject(int,Object)
+	 */
+	@Override
+	public void setObject(final int parameterIndex, final Object x) throws SQLException {
+		wrapped.setObject(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#execute()
+	 */
+	@Override
+	public boolean execute() throws SQLException {
+		return wrapped.execute();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#addBatch()
+	 */
+	@Override
+	public void addBatch() throws SQLException {
+		wrapped.addBatch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setCharacterStream(int,Reader,int)
+	 */
+	@Override
+	public void setCharacterStream(final int parameterIndex, final Reader reader, final int length) throws SQLException {
+		wrapped.setCharacterStream(parameterIndex, reader, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setRef(int,Ref)
+	 */
+	@Override
+	public void setRef(final int parameterIndex, final Ref x) throws SQLException {
+		wrapped.setRef(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBlob(int,Blob)
+	 */
+	@Override
+	public void setBlob(final int parameterIndex, final Blob x) throws SQLException {
+		wrapped.setBlob(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setClob(int,Clob)
+	 */
+	@Override
+	public void setClob(final int parameterIndex, final Clob x) throws SQLException {
+		wrapped.setClob(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setArray(int,Array)
+	 */
+	@Override
+	public void setArray(final int parameterIndex, final Array x) throws SQLException {
+		wrapped.setArray(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#getMetaData()
+	 */
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return wrapped.getMetaData();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setDate(int,Date,Calendar)
+	 */
+	@Override
+	public void setDate(final int parameterIndex, final Date x, final Calendar cal) throws SQLException {
+		wrapped.setDate(parameterIndex, x, cal);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setTime(int,Time,Calendar)
+	 */
+	@Override
+	public void setTime(final int parameterIndex, final Time x, final Calendar cal) throws SQLException {
+		wrapped.setTime(parameterIndex, x, cal);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setTimestamp(int,Timestamp,Calendar)
+	 */
+	@Override
+	public void setTimestamp(final int parameterIndex, final Timestamp x, final Calendar cal) throws SQLException {
+		wrapped.setTimestamp(parameterIndex, x, cal);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNull(int,int,String)
+	 */
+	@Override
+	public void setNull(final int parameterIndex, final int sqlType, final String typeName) throws SQLException {
+		wrapped.setNull(parameterIndex, sqlType, typeName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setURL(int,URL)
+	 */
+	@Override
+	public void setURL(final int parameterIndex, final URL x) throws SQLException {
+		wrapped.setURL(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#getParameterMetaData()
+	 */
+	@Override
+	public ParameterMetaData getParameterMetaData() throws SQLException {
+		return wrapped.getParameterMetaData();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setRowId(int,RowId)
+	 */
+	@Override
+	public void setRowId(final int parameterIndex, final RowId x) throws SQLException {
+		wrapped.setRowId(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNString(int,String)
+	 */
+	@Override
+	public void setNString(final int parameterIndex, final String value) throws SQLException {
+		wrapped.setNString(parameterIndex, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNCharacterStream(int,Reader,long)
+	 */
+	@Override
+	public void setNCharacterStream(final int parameterIndex, final Reader value, final long length) throws SQLException {
+		wrapped.setNCharacterStream(parameterIndex, value, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNClob(int,NClob)
+	 */
+	@Override
+	public void setNClob(final int parameterIndex, final NClob value) throws SQLException {
+		wrapped.setNClob(parameterIndex, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setClob(int,Reader,long)
+	 */
+	@Override
+	public void setClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+		wrapped.setClob(parameterIndex, reader, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBlob(int,InputStream,long)
+	 */
+	@Override
+	public void setBlob(final int parameterIndex, final InputStream inputStream, final long length) throws SQLException {
+		wrapped.setBlob(parameterIndex, inputStream, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNClob(int,Reader,long)
+	 */
+	@Override
+	public void setNClob(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+		wrapped.setNClob(parameterIndex, reader, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setSQLXML(int,SQLXML)
+	 */
+	@Override
+	public void setSQLXML(final int parameterIndex, final SQLXML xmlObject) throws SQLException {
+		wrapped.setSQLXML(parameterIndex, xmlObject);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setObject(int,Object,int,int)
+	 */
+	@Override
+	public void setObject(final int parameterIndex, final Object x, final int targetSqlType, final int scaleOrLength) throws SQLException {
+		wrapped.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setAsciiStream(int,InputStream,long)
+	 */
+	@Override
+	public void setAsciiStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+		wrapped.setAsciiStream(parameterIndex, x, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBinaryStream(int,InputStream,long)
+	 */
+	@Override
+	public void setBinaryStream(final int parameterIndex, final InputStream x, final long length) throws SQLException {
+		wrapped.setBinaryStream(parameterIndex, x, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setCharacterStream(int,Reader,long)
+	 */
+	@Override
+	public void setCharacterStream(final int parameterIndex, final Reader reader, final long length) throws SQLException {
+		wrapped.setCharacterStream(parameterIndex, reader, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setAsciiStream(int,InputStream)
+	 */
+	@Override
+	public void setAsciiStream(final int parameterIndex, final InputStream x) throws SQLException {
+		wrapped.setAsciiStream(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBinaryStream(int,InputStream)
+	 */
+	@Override
+	public void setBinaryStream(final int parameterIndex, final InputStream x) throws SQLException {
+		wrapped.setBinaryStream(parameterIndex, x);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setCharacterStream(int,Reader)
+	 */
+	@Override
+	public void setCharacterStream(final int parameterIndex, final Reader reader) throws SQLException {
+		wrapped.setCharacterStream(parameterIndex, reader);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNCharacterStream(int,Reader)
+	 */
+	@Override
+	public void setNCharacterStream(final int parameterIndex, final Reader value) throws SQLException {
+		wrapped.setNCharacterStream(parameterIndex, value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setClob(int,Reader)
+	 */
+	@Override
+	public void setClob(final int parameterIndex, final Reader reader) throws SQLException {
+		wrapped.setClob(parameterIndex, reader);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setBlob(int,InputStream)
+	 */
+	@Override
+	public void setBlob(final int parameterIndex, final InputStream inputStream) throws SQLException {
+		wrapped.setBlob(parameterIndex, inputStream);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setNClob(int,Reader)
+	 */
+	@Override
+	public void setNClob(final int parameterIndex, final Reader reader) throws SQLException {
+		wrapped.setNClob(parameterIndex, reader);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setObject(int,Object,SQLType,int)
+	 */
+	@Override
+	public void setObject(final int parameterIndex, final Object x, final SQLType targetSqlType, final int scaleOrLength) throws SQLException {
+		wrapped.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#setObject(int,Object,SQLType)
+	 */
+	@Override
+	public void setObject(final int parameterIndex, final Object x, final SQLType targetSqlType) throws SQLException {
+		wrapped.setObject(parameterIndex, x, targetSqlType);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.PreparedStatement#executeLargeUpdate()
+	 */
+	@Override
+	public long executeLargeUpdate() throws SQLException {
+		return wrapped.executeLargeUpdate();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeQuery(String)
+	 */
+	@Override
+	public ResultSet executeQuery(final String sql) throws SQLException {
+		return wrapped.executeQuery(sql);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeUpdate(String)
+	 */
+	@Override
+	public int executeUpdate(final String sql) throws SQLException {
+		return wrapped.executeUpdate(sql);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getMaxFieldSize()
+	 */
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		return wrapped.getMaxFieldSize();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setMaxFieldSize(int)
+	 */
+	@Override
+	public void setMaxFieldSize(final int max) throws SQLException {
+		if (defaultMaxFieldSize == null) {
+			defaultMaxFieldSize = wrapped.getMaxFieldSize();
+		}
+		wrapped.setMaxFieldSize(max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getMaxRows()
+	 */
+	@Override
+	public int getMaxRows() throws SQLException {
+		return wrapped.getMaxRows();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setMaxRows(int)
+	 */
+	@Override
+	public void setMaxRows(final int max) throws SQLException {
+		if (defaultMaxRows == null) {
+			defaultMaxRows = wrapped.getMaxRows();
+		}
+		wrapped.setMaxRows(max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setEscapeProcessing(boolean)
+	 */
+	@Override
+	public void setEscapeProcessing(final boolean enable) throws SQLException {
+		wrapped.setEscapeProcessing(enable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getQueryTimeout()
+	 */
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		return wrapped.getQueryTimeout();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setQueryTimeout(int)
+	 */
+	@Override
+	public void setQueryTimeout(final int seconds) throws SQLException {
+		if (defaultQueryTimeout == null) {
+			defaultQueryTimeout = wrapped.getQueryTimeout();
+		}
+		wrapped.setQueryTimeout(seconds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#cancel()
+	 */
+	@Override
+	public void cancel() throws SQLException {
+		wrapped.cancel();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getWarnings()
+	 */
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return wrapped.getWarnings();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#clearWarnings()
+	 */
+	@Override
+	public void clearWarnings() throws SQLException {
+		wrapped.clearWarnings();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setCursorName(String)
+	 */
+	@Override
+	public void setCursorName(final String name) throws SQLException {
+		wrapped.setCursorName(name);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#execute(String)
+	 */
+	@Override
+	public boolean execute(final String sql) throws SQLException {
+		return wrapped.execute(sql);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getResultSet()
+	 */
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		return wrapped.getResultSet();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getUpdateCount()
+	 */
+	@Override
+	public int getUpdateCount() throws SQLException {
+		return wrapped.getUpdateCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getMoreResults()
+	 */
+	@Override
+	public boolean getMoreResults() throws SQLException {
+		return wrapped.getMoreResults();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setFetchDirection(int)
+	 */
+	@Override
+	public void setFetchDirection(final int direction) throws SQLException {
+		if (defaultFetchDirection == null) {
+			defaultFetchDirection = wrapped.getFetchDirection();
+		}
+		wrapped.setFetchDirection(direction);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getFetchDirection()
+	 */
+	@Override
+	public int getFetchDirection() throws SQLException {
+		return wrapped.getFetchDirection();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	@Override
+	public void setFetchSize(final int rows) throws SQLException {
+		if (defaultFetchSize == null) {
+			defaultFetchSize = wrapped.getFetchSize();
+		}
+		wrapped.setFetchSize(rows);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getFetchSize()
+	 */
+	@Override
+	public int getFetchSize() throws SQLException {
+		return wrapped.getFetchSize();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getResultSetConcurrency()
+	 */
+	@Override
+	public int getResultSetConcurrency() throws SQLException {
+		return wrapped.getResultSetConcurrency();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getResultSetType()
+	 */
+	@Override
+	public int getResultSetType() throws SQLException {
+		return wrapped.getResultSetType();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#addBatch(String)
+	 */
+	@Override
+	public void addBatch(final String sql) throws SQLException {
+		wrapped.addBatch(sql);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#clearBatch()
+	 */
+	@Override
+	public void clearBatch() throws SQLException {
+		wrapped.clearBatch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeBatch()
+	 */
+	@Override
+	public int[] executeBatch() throws SQLException {
+		return wrapped.executeBatch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getConnection()
+	 */
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrapped.getConnection();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getMoreResults(int)
+	 */
+	@Override
+	public boolean getMoreResults(final int current) throws SQLException {
+		return wrapped.getMoreResults(current);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getGeneratedKeys()
+	 */
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		return wrapped.getGeneratedKeys();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeUpdate(String,int)
+	 */
+	@Override
+	public int executeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
+		return wrapped.executeUpdate(sql, autoGeneratedKeys);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeUpdate(String,int[])
+	 */
+	@Override
+	public int executeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
+		return wrapped.executeUpdate(sql, columnIndexes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeUpdate(String,String[])
+	 */
+	@Override
+	public int executeUpdate(final String sql, final String[] columnNames) throws SQLException {
+		return wrapped.executeUpdate(sql, columnNames);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#execute(String,int)
+	 */
+	@Override
+	public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
+		return wrapped.execute(sql, autoGeneratedKeys);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#execute(String,int[])
+	 */
+	@Override
+	public boolean execute(final String sql, final int[] columnIndexes) throws SQLException {
+		return wrapped.execute(sql, columnIndexes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#execute(String,String[])
+	 */
+	@Override
+	public boolean execute(final String sql, final String[] columnNames) throws SQLException {
+		return wrapped.execute(sql, columnNames);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getResultSetHoldability()
+	 */
+	@Override
+	public int getResultSetHoldability() throws SQLException {
+		return wrapped.getResultSetHoldability();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setPoolable(boolean)
+	 */
+	@Override
+	public void setPoolable(final boolean poolable) throws SQLException {
+		wrapped.setPoolable(poolable);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#isPoolable()
+	 */
+	@Override
+	public boolean isPoolable() throws SQLException {
+		return wrapped.isPoolable();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getLargeUpdateCount()
+	 */
+	@Override
+	public long getLargeUpdateCount() throws SQLException {
+		return wrapped.getLargeUpdateCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#setLargeMaxRows(long)
+	 */
+	@Override
+	public void setLargeMaxRows(final long max) throws SQLException {
+		if (defaultMaxRows == null) {
+			defaultMaxRows = wrapped.getMaxRows();
+		}
+		wrapped.setLargeMaxRows(max);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#getLargeMaxRows()
+	 */
+	@Override
+	public long getLargeMaxRows() throws SQLException {
+		return wrapped.getLargeMaxRows();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeLargeBatch()
+	 */
+	@Override
+	public long[] executeLargeBatch() throws SQLException {
+		return wrapped.executeLargeBatch();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeLargeUpdate(String)
+	 */
+	@Override
+	public long executeLargeUpdate(final String sql) throws SQLException {
+		return wrapped.executeLargeUpdate(sql);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeLargeUpdate(String,int)
+	 */
+	@Override
+	public long executeLargeUpdate(final String sql, final int autoGeneratedKeys) throws SQLException {
+		return wrapped.executeLargeUpdate(sql, autoGeneratedKeys);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeLargeUpdate(String,int[])
+	 */
+	@Override
+	public long executeLargeUpdate(final String sql, final int[] columnIndexes) throws SQLException {
+		return wrapped.executeLargeUpdate(sql, columnIndexes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.sql.Statement#executeLargeUpdate(String,String[])
+	 */
+	@Override
+	public long executeLargeUpdate(final String sql, final String[] columnNames) throws SQLException {
+		return wrapped.executeLargeUpdate(sql, columnNames);
+	}
+
+}
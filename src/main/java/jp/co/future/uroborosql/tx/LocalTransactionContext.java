@@ -11,14 +11,18 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Savepoint;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
 
+import jp.co.future.uroborosql.SqlAgentFactory;
 import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.connection.ConnectionSupplier;
+import jp.co.future.uroborosql.connection.ReadWriteSplittingConnectionSupplier;
 import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.enums.SqlKind;
 import jp.co.future.uroborosql.exception.UroborosqlSQLException;
 import jp.co.future.uroborosql.exception.UroborosqlTransactionException;
 
@@ -28,6 +32,10 @@ import jp.co.future.uroborosql.exception.UroborosqlTransactionException;
  * @author ota
  */
 class LocalTransactionContext implements AutoCloseable {
+	/** 行ロックを取得する検索SQLの判定パターン */
+	private static final Pattern LOCKING_READ_PATTERN = Pattern.compile(
+			"\\bFOR\\s+(NO\\s+KEY\\s+)?(UPDATE|SHARE)\\b|\\bLOCK\\s+IN\\s+SHARE\\s+MODE\\b|\\bUPDLOCK\\b",
+			Pattern.CASE_INSENSITIVE);
 
 	/** セーブポイント名リスト */
 	private final List<String> savepointNames = new ArrayList<>();
@@ -41,11 +49,23 @@ class LocalTransactionContext implements AutoCloseable {
 	/** コネクション */
 	private Connection connection;
 
+	/** 参照系のコネクション */
+	private Connection readConnection;
+
+	/** 更新系のSQLを実行したかどうか. 実行後の検索SQLは参照系のコネクションを使用しない */
+	private boolean written = false;
+
 	/** ロールバックフラグ */
 	private boolean rollbackOnly = false;
 
 	private final boolean updatable;
 
+	/** PreparedStatementキャッシュ. キャッシュしない場合は<code>null</code> */
+	private final PreparedStatementCache statementCache;
+
+	/** 参照系のコネクションのPreparedStatementキャッシュ. キャッシュしない場合は<code>null</code> */
+	private final PreparedStatementCache readStatementCache;
+
 	/**
 	 * コンストラクタ
 	 *
@@ -55,6 +75,16 @@ class LocalTransactionContext implements AutoCloseable {
 	LocalTransactionContext(final SqlConfig sqlConfig, final boolean updatable) {
 		this.sqlConfig = sqlConfig;
 		this.updatable = updatable;
+		SqlAgentFactory sqlAgentFactory = sqlConfig.getSqlAgentFactory();
+		int statementCacheSize = sqlAgentFactory.getStatementCacheSize();
+		this.statementCache = statementCacheSize > 0
+				? new PreparedStatementCache(statementCacheSize, sqlAgentFactory.getStatementCacheStatistics())
+				: null;
+		this.readStatementCache = statementCacheSize > 0
+				&& sqlConfig.getConnectionSupplier() instanceof ReadWriteSplittingConnectionSupplier
+						? new PreparedStatementCache(statementCacheSize,
+								sqlAgentFactory.getStatementCacheStatistics())
+						: null;
 	}
 
 	/**
@@ -86,6 +116,38 @@ class LocalTransactionContext implements AutoCloseable {
 		return connection;
 	}
 
+	/**
+	 * 参照系のコネクションの取得<br>
+	 * コネクション提供クラスが{@link ReadWriteSplittingConnectionSupplier}でない場合は更新系のコネクションを返す
+	 *
+	 * @return 参照系のコネクション
+	 * @throws SQLException SQL例外
+	 */
+	Connection getReadConnection() throws SQLException {
+		ConnectionSupplier supplier = this.sqlConfig.getConnectionSupplier();
+		if (!(supplier instanceof ReadWriteSplittingConnectionSupplier)) {
+			return getConnection();
+		}
+		if (readConnection == null) {
+			readConnection = ((ReadWriteSplittingConnectionSupplier) supplier).getReadConnection();
+		}
+		return readConnection;
+	}
+
+	/**
+	 * 参照系のコネクションで実行できる検索SQLかどうかを判定する<br>
+	 * DB接続の別名を指定した場合、更新系のSQLを実行した後、および行ロックを取得する場合は参照系のコネクションを使用しない
+	 *
+	 * @param sqlContext SQLコンテキスト
+	 * @return 参照系のコネクションで実行できる場合<code>true</code>
+	 */
+	private boolean isReadOnlyQuery(final SqlContext sqlContext) {
+		return !written && sqlContext.getDbAlias() == null
+				&& sqlContext.getSqlKind() == SqlKind.SELECT
+				&& this.sqlConfig.getConnectionSupplier() instanceof ReadWriteSplittingConnectionSupplier
+				&& !LOCKING_READ_PATTERN.matcher(sqlContext.getExecutableSql()).find();
+	}
+
 	/**
 	 * ステートメント取得
 	 *
@@ -94,45 +156,50 @@ class LocalTransactionContext implements AutoCloseable {
 	 * @throws SQLException SQL例外
 	 */
 	PreparedStatement getPreparedStatement(final SqlContext sqlContext) throws SQLException {
+		boolean readOnly = isReadOnlyQuery(sqlContext);
 		Connection conn = null;
-		if (sqlContext.getDbAlias() != null) {
+		if (readOnly) {
+			conn = getReadConnection();
+		} else if (sqlContext.getDbAlias() != null) {
 			conn = getConnection(sqlContext.getDbAlias());
 		} else {
 			conn = getConnection();
 		}
+		if (sqlContext.getSqlKind() != SqlKind.SELECT) {
+			written = true;
+		}
 
 		if (conn == null) {
 			throw new IllegalArgumentException(sqlContext.getDbAlias());
 		}
 
-		PreparedStatement stmt = null;
+		PreparedStatementCache.Key key = null;
 		switch (sqlContext.getSqlKind()) {
 		case INSERT:
 		case BULK_INSERT:
 		case BATCH_INSERT:
 			if (updatable) {
-				if (sqlContext.hasGeneratedKeyColumns()) {
-					stmt = conn.prepareStatement(sqlContext.getExecutableSql(), sqlContext.getGeneratedKeyColumns());
-				} else {
-					stmt = conn.prepareStatement(sqlContext.getExecutableSql(), Statement.RETURN_GENERATED_KEYS);
-				}
+				key = PreparedStatementCache.Key.ofGeneratedKeys(sqlContext.getExecutableSql(),
+						sqlContext.hasGeneratedKeyColumns() ? sqlContext.getGeneratedKeyColumns() : null);
 			} else {
 				throw new UroborosqlTransactionException("Transaction not started.");
 			}
 			break;
 		case SELECT:
-			stmt = conn.prepareStatement(sqlContext.getExecutableSql(),
+			key = PreparedStatementCache.Key.ofQuery(sqlContext.getExecutableSql(),
 					sqlContext.getResultSetType(),
 					sqlContext.getResultSetConcurrency());
 			break;
 		default:
 			if (updatable) {
-				stmt = conn.prepareStatement(sqlContext.getExecutableSql());
+				key = PreparedStatementCache.Key.of(sqlContext.getExecutableSql());
 			} else {
 				throw new UroborosqlTransactionException("Transaction not started.");
 			}
 			break;
 		}
+		PreparedStatementCache cache = readOnly ? readStatementCache : statementCache;
+		PreparedStatement stmt = cache != null ? cache.get(conn, key) : key.prepare(conn);
 		return this.sqlConfig.getSqlFilterManager().doPreparedStatement(sqlContext, stmt);
 	}
 
@@ -155,6 +222,7 @@ class LocalTransactionContext implements AutoCloseable {
 		}
 
 		if (this.updatable) {
+			written = true;
 			return this.sqlConfig.getSqlFilterManager().doCallableStatement(sqlContext,
 					conn.prepareCall(sqlContext.getExecutableSql(), sqlContext.getResultSetType(),
 							sqlContext.getResultSetConcurrency()));
@@ -230,6 +298,10 @@ class LocalTransactionContext implements AutoCloseable {
 	 * @throws SQLException SQL例外
 	 */
 	void rollback(final String savepointName) {
+		// ドライバによっては再利用したステートメントがロールバック前の結果を返すため、キャッシュを破棄する
+		if (statementCache != null) {
+			statementCache.clear();
+		}
 		if (connection != null) {
 			try {
 				connection.rollback(savepointMap.get(savepointName));
@@ -266,6 +338,7 @@ class LocalTransactionContext implements AutoCloseable {
 				throw new UroborosqlSQLException(e);
 			}
 		}
+		endReadTransaction();
 		clearState();
 	}
 
@@ -282,6 +355,7 @@ class LocalTransactionContext implements AutoCloseable {
 				throw new UroborosqlSQLException(e);
 			}
 		}
+		endReadTransaction();
 		clearState();
 	}
 
@@ -292,6 +366,17 @@ class LocalTransactionContext implements AutoCloseable {
 	 */
 	@Override
 	public void close() {
+		if (readConnection != null) {
+			try {
+				endReadTransaction();
+				if (readConnection != connection) {
+					readConnection.close();
+				}
+			} catch (SQLException e) {
+				throw new UroborosqlSQLException(e);
+			}
+			readConnection = null;
+		}
 		if (connection != null) {
 			try {
 				if (!isRollbackOnly()) {
@@ -311,11 +396,34 @@ class LocalTransactionContext implements AutoCloseable {
 	 * ステータスクリア
 	 */
 	void clearState() {
+		if (statementCache != null) {
+			statementCache.clear();
+		}
+		if (readStatementCache != null) {
+			readStatementCache.clear();
+		}
+		written = false;
 		savepointNames.clear();
 		savepointMap.clear();
 		rollbackOnly = false;
 	}
 
+	/**
+	 * 参照系のコネクションのトランザクションを終了する<br>
+	 * 参照系のコネクションでは更新を行わないため、ロールバックしてスナップショットを解放する
+	 */
+	private void endReadTransaction() {
+		if (readConnection != null && readConnection != connection) {
+			try {
+				if (!readConnection.getAutoCommit()) {
+					readConnection.rollback();
+				}
+			} catch (SQLException e) {
+				throw new UroborosqlSQLException(e);
+			}
+		}
+	}
+
 	/**
 	 * Savepointの設定を遅延して行う
 	 *
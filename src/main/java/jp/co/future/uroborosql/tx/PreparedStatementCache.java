@@ -0,0 +1,265 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.tx;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * トランザクション単位のPreparedStatementキャッシュ<br>
+ * 実行するSQLと生成キーの指定、ResultSetの種類をキーとして、最大件数を超えた場合は最も長く使用されていないPreparedStatementをクローズする（LRU）。<br>
+ * 貸し出し中のPreparedStatementはキャッシュから取り除かれ、クローズ時にキャッシュへ返却される。
+ *
+ * @author H.Sugimoto
+ */
+class PreparedStatementCache {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementCache.class);
+
+	/** キャッシュするPreparedStatementの最大件数 */
+	private final int maxSize;
+
+	/** キャッシュの統計情報 */
+	private final StatementCacheStatistics statistics;
+
+	/** キャッシュ（アクセス順） */
+	private final LinkedHashMap<Key, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** キャッシュの世代. クリアするごとに更新し、以前の世代で貸し出したPreparedStatementは返却時にクローズする */
+	private int generation = 0;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param maxSize キャッシュするPreparedStatementの最大件数
+	 * @param statistics キャッシュの統計情報
+	 */
+	PreparedStatementCache(final int maxSize, final StatementCacheStatistics statistics) {
+		this.maxSize = maxSize;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * PreparedStatementの取得<br>
+	 * キャッシュに存在する場合はパラメータとバッチをクリアして返し、存在しない場合は新たに生成する
+	 *
+	 * @param conn コネクション
+	 * @param key キャッシュキー
+	 * @return PreparedStatement
+	 * @throws SQLException SQL例外
+	 */
+	synchronized PreparedStatement get(final Connection conn, final Key key) throws SQLException {
+		PreparedStatement stmt = statements.remove(key);
+		if (stmt != null && !stmt.isClosed()) {
+			statistics.hit();
+			stmt.clearParameters();
+			stmt.clearBatch();
+		} else {
+			statistics.miss();
+			stmt = key.prepare(conn);
+		}
+		return new CachedPreparedStatement(this, key, stmt, generation);
+	}
+
+	/**
+	 * 貸し出したPreparedStatementの返却
+	 *
+	 * @param cached 貸し出したPreparedStatement
+	 * @throws SQLException SQL例外
+	 */
+	synchronized void release(final CachedPreparedStatement cached) throws SQLException {
+		PreparedStatement stmt = cached.getWrapped();
+		if (stmt.isClosed()) {
+			return;
+		}
+		if (cached.getGeneration() != generation || statements.containsKey(cached.getKey())) {
+			stmt.close();
+			return;
+		}
+		try {
+			cached.restoreSettings();
+		} catch (SQLException ex) {
+			LOG.debug("Failed to restore the statement settings. The statement is not cached.", ex);
+			stmt.close();
+			return;
+		}
+		statements.put(cached.getKey(), stmt);
+		if (statements.size() > maxSize) {
+			Iterator<PreparedStatement> it = statements.values().iterator();
+			PreparedStatement eldest = it.next();
+			it.remove();
+			statistics.evict();
+			eldest.close();
+		}
+	}
+
+	/**
+	 * キャッシュしているPreparedStatementを全てクローズする
+	 */
+	synchronized void clear() {
+		generation++;
+		for (PreparedStatement stmt : statements.values()) {
+			try {
+				stmt.close();
+			} catch (SQLException ex) {
+				LOG.warn("Failed to close the cached statement.", ex);
+			}
+		}
+		statements.clear();
+	}
+
+	/**
+	 * キャッシュしているPreparedStatementの件数の取得
+	 *
+	 * @return キャッシュしているPreparedStatementの件数
+	 */
+	synchronized int size() {
+		return statements.size();
+	}
+
+	/**
+	 * PreparedStatementキャッシュのキー<br>
+	 * PreparedStatementの生成方法も保持する
+	 */
+	static final class Key {
+		/** 実行するSQL */
+		private final String sql;
+
+		/** 生成キーを取得するカラム名 */
+		private final String[] generatedKeyColumns;
+
+		/** 生成キーを取得するかどうか（{@link Statement#RETURN_GENERATED_KEYS} または {@link Statement#NO_GENERATED_KEYS}） */
+		private final int autoGeneratedKeys;
+
+		/** 検索SQLかどうか */
+		private final boolean query;
+
+		/** ResultSetの型 */
+		private final int resultSetType;
+
+		/** ResultSetの並行処理の種類 */
+		private final int resultSetConcurrency;
+
+		/** ハッシュコード */
+		private final int hash;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param sql 実行するSQL
+		 * @param generatedKeyColumns 生成キーを取得するカラム名
+		 * @param autoGeneratedKeys 生成キーを取得するかどうか
+		 * @param query 検索SQLかどうか
+		 * @param resultSetType ResultSetの型
+		 * @param resultSetConcurrency ResultSetの並行処理の種類
+		 */
+		private Key(final String sql, final String[] generatedKeyColumns, final int autoGeneratedKeys,
+				final boolean query, final int resultSetType, final int resultSetConcurrency) {
+			this.sql = sql;
+			this.generatedKeyColumns = generatedKeyColumns;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.query = query;
+			this.resultSetType = resultSetType;
+			this.resultSetConcurrency = resultSetConcurrency;
+			this.hash = Objects.hash(sql, Arrays.hashCode(generatedKeyColumns), autoGeneratedKeys, query,
+					resultSetType, resultSetConcurrency);
+		}
+
+		/**
+		 * 結果を返さないSQLのキーを生成する
+		 *
+		 * @param sql 実行するSQL
+		 * @return キー
+		 */
+		static Key of(final String sql) {
+			return new Key(sql, null, Statement.NO_GENERATED_KEYS, false, ResultSet.TYPE_FORWARD_ONLY,
+					ResultSet.CONCUR_READ_ONLY);
+		}
+
+		/**
+		 * 生成キーを取得するSQLのキーを生成する
+		 *
+		 * @param sql 実行するSQL
+		 * @param generatedKeyColumns 生成キーを取得するカラム名. <code>null</code>の場合は{@link Statement#RETURN_GENERATED_KEYS}を指定する
+		 * @return キー
+		 */
+		static Key ofGeneratedKeys(final String sql, final String[] generatedKeyColumns) {
+			return new Key(sql, generatedKeyColumns, Statement.RETURN_GENERATED_KEYS, false,
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		}
+
+		/**
+		 * 検索SQLのキーを生成する
+		 *
+		 * @param sql 実行するSQL
+		 * @param resultSetType ResultSetの型
+		 * @param resultSetConcurrency ResultSetの並行処理の種類
+		 * @return キー
+		 */
+		static Key ofQuery(final String sql, final int resultSetType, final int resultSetConcurrency) {
+			return new Key(sql, null, Statement.NO_GENERATED_KEYS, true, resultSetType, resultSetConcurrency);
+		}
+
+		/**
+		 * キーに対応するPreparedStatementを生成する
+		 *
+		 * @param conn コネクション
+		 * @return PreparedStatement
+		 * @throws SQLException SQL例外
+		 */
+		PreparedStatement prepare(final Connection conn) throws SQLException {
+			if (generatedKeyColumns != null) {
+				return conn.prepareStatement(sql, generatedKeyColumns);
+			} else if (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+				return conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+			} else if (query) {
+				return conn.prepareStatement(sql, resultSetType, resultSetConcurrency);
+			} else {
+				return conn.prepareStatement(sql);
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 *
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(final Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash && autoGeneratedKeys == other.autoGeneratedKeys && query == other.query
+					&& resultSetType == other.resultSetType && resultSetConcurrency == other.resultSetConcurrency
+					&& sql.equals(other.sql) && Arrays.equals(generatedKeyColumns, other.generatedKeyColumns);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.tx;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PreparedStatementキャッシュの統計情報<br>
+ * 同じ{@link jp.co.future.uroborosql.SqlAgentFactory}から生成したSqlAgentのトランザクションで共有し、件数を累積する。
+ *
+ * @author H.Sugimoto
+ */
+public final class StatementCacheStatistics {
+	/** キャッシュヒット件数 */
+	private final LongAdder hitCount = new LongAdder();
+
+	/** キャッシュミス件数 */
+	private final LongAdder missCount = new LongAdder();
+
+	/** 最大件数を超えたためにクローズした件数 */
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * キャッシュヒットの記録
+	 */
+	void hit() {
+		hitCount.increment();
+	}
+
+	/**
+	 * キャッシュミスの記録
+	 */
+	void miss() {
+		missCount.increment();
+	}
+
+	/**
+	 * キャッシュからの追い出しの記録
+	 */
+	void evict() {
+		evictionCount.increment();
+	}
+
+	/**
+	 * キャッシュヒット件数の取得
+	 *
+	 * @return キャッシュヒット件数
+	 */
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	/**
+	 * キャッシュミス件数の取得
+	 *
+	 * @return キャッシュミス件数
+	 */
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	/**
+	 * 最大件数を超えたためにクローズした件数の取得
+	 *
+	 * @return 最大件数を超えたためにクローズした件数
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * キャッシュヒット率の取得
+	 *
+	 * @return キャッシュヒット率. 一度もPreparedStatementを取得していない場合は<code>0.0</code>
+	 */
+	public double getHitRate() {
+		long hit = getHitCount();
+		long total = hit + getMissCount();
+		return total == 0 ? 0.0 : (double) hit / total;
+	}
+
+	/**
+	 * 統計情報のリセット
+	 */
+	public void reset() {
+		hitCount.reset();
+		missCount.reset();
+		evictionCount.reset();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "StatementCacheStatistics [hitCount=" + getHitCount() + ", missCount=" + getMissCount()
+				+ ", evictionCount=" + getEvictionCount() + ", hitRate=" + getHitRate() + "]";
+	}
+}
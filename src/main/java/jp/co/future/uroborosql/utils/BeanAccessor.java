@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -36,10 +37,9 @@ public class BeanAccessor {
 		private final Set<Entry<String, Object>> entrySet;
 
 		public AsMap(final Object object) {
-			Field[] fields = BeanAccessor.fields(object.getClass()).stream()
-					.toArray(Field[]::new);
+			List<PropertyAccessor> fields = PropertyAccessor.fieldsOf(object.getClass());
 			@SuppressWarnings("unchecked")
-			Entry<String, Object>[] entries = new Entry[fields.length];
+			Entry<String, Object>[] entries = new Entry[fields.size()];
 			this.entrySet = new AbstractSet<Map.Entry<String, Object>>() {
 
 				@Override
@@ -49,16 +49,15 @@ public class BeanAccessor {
 
 						@Override
 						public boolean hasNext() {
-							return fields.length > index;
+							return fields.size() > index;
 						}
 
 						@Override
 						public Entry<String, Object> next() {
 							Entry<String, Object> next = entries[index];
 							if (next == null) {
-								Field f = fields[index];
-								next = new AbstractMap.SimpleImmutableEntry<>(f.getName(),
-										BeanAccessor.value(f, object));
+								PropertyAccessor f = fields.get(index);
+								next = new AbstractMap.SimpleImmutableEntry<>(f.getName(), f.get(object));
 								entries[index] = next;
 							}
 							index++;
@@ -70,7 +69,7 @@ public class BeanAccessor {
 
 				@Override
 				public int size() {
-					return fields.length;
+					return fields.size();
 				}
 			};
 		}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * クラスごとに算出した値のキャッシュ<br>
+ * 値の保持先をクラスローダの関係で切り替え、キャッシュがクラスローダのアンロードを妨げないようにする。
+ * <ul>
+ * <li>このライブラリと同じか子孫のクラスローダで読み込まれたクラス：{@link ClassValue}でクラス自身に保持し、クラスと共に解放する</li>
+ * <li>祖先のクラスローダで読み込まれたクラス（JDKのクラスなど）：このクラスのインスタンスに保持し、ライブラリと共に解放する</li>
+ * <li>上記以外のクラスローダで読み込まれたクラス：どちらに保持しても一方のアンロードを妨げるため、キャッシュせず毎回算出する</li>
+ * </ul>
+ *
+ * @param <V> 値の型
+ * @author H.Sugimoto
+ */
+public abstract class ClassCache<V> {
+	/** このライブラリのクラスローダ */
+	private static final ClassLoader OWN_LOADER = ClassCache.class.getClassLoader();
+
+	/** 同じか子孫のクラスローダで読み込まれたクラスの値 */
+	private final ClassValue<V> values = new ClassValue<V>() {
+		@Override
+		protected V computeValue(final Class<?> type) {
+			return ClassCache.this.computeValue(type);
+		}
+	};
+
+	/** 祖先のクラスローダで読み込まれたクラスの値 */
+	private final Map<Class<?>, V> ancestorValues = new ConcurrentHashMap<>();
+
+	/**
+	 * 値の取得
+	 *
+	 * @param type 型
+	 * @return 値
+	 */
+	public V get(final Class<?> type) {
+		ClassLoader loader = type.getClassLoader();
+		if (isDescendant(loader)) {
+			return values.get(type);
+		} else if (isAncestor(loader)) {
+			V value = ancestorValues.get(type);
+			if (value == null) {
+				value = ancestorValues.computeIfAbsent(type, this::computeValue);
+			}
+			return value;
+		} else {
+			return computeValue(type);
+		}
+	}
+
+	/**
+	 * 値の算出
+	 *
+	 * @param type 型
+	 * @return 値
+	 */
+	protected abstract V computeValue(Class<?> type);
+
+	/**
+	 * このライブラリと同じか子孫のクラスローダかどうか
+	 *
+	 * @param loader クラスローダ
+	 * @return 同じか子孫のクラスローダの場合<code>true</code>
+	 */
+	private static boolean isDescendant(final ClassLoader loader) {
+		if (OWN_LOADER == null) {
+			return true;
+		}
+		for (ClassLoader l = loader; l != null; l = l.getParent()) {
+			if (l == OWN_LOADER) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * このライブラリの祖先のクラスローダかどうか
+	 *
+	 * @param loader クラスローダ. ブートストラップクラスローダの場合は<code>null</code>
+	 * @return 祖先のクラスローダの場合<code>true</code>
+	 */
+	private static boolean isAncestor(final ClassLoader loader) {
+		if (loader == null) {
+			return true;
+		}
+		for (ClassLoader l = OWN_LOADER; l != null; l = l.getParent()) {
+			if (l == loader) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
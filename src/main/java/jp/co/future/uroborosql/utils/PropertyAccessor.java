@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2017-present, Future Corporation
+ *
+ * This source code is licensed under the MIT license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package jp.co.future.uroborosql.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+/**
+ * Beanのプロパティ値を取得するアクセッサ<br>
+ * アクセッサは{@link MethodHandle}で生成し、クラスとプロパティ名の組み合わせごとにキャッシュして共有する。
+ * キャッシュの保持先は{@link ClassCache}を参照。
+ *
+ * @author H.Sugimoto
+ */
+public final class PropertyAccessor {
+	/** ロガー */
+	private static final Logger LOG = LoggerFactory.getLogger(PropertyAccessor.class);
+
+	/** getterの型 */
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/** クラスごとのアクセッサのキャッシュ */
+	private static final ClassCache<ClassAccessors> ACCESSORS = new ClassCache<ClassAccessors>() {
+		@Override
+		protected ClassAccessors computeValue(final Class<?> type) {
+			return new ClassAccessors(type);
+		}
+	};
+
+	/** プロパティ名 */
+	private final String name;
+
+	/** 値を取得するMethodHandle */
+	private final MethodHandle getter;
+
+	/**
+	 * コンストラクタ
+	 *
+	 * @param name プロパティ名
+	 * @param getter 値を取得するMethodHandle
+	 */
+	private PropertyAccessor(final String name, final MethodHandle getter) {
+		this.name = name;
+		this.getter = getter.asType(GETTER_TYPE);
+	}
+
+	/**
+	 * プロパティ名の取得
+	 *
+	 * @return プロパティ名
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * プロパティ値の取得
+	 *
+	 * @param bean 対象のオブジェクト
+	 * @return プロパティ値
+	 */
+	public Object get(final Object bean) {
+		try {
+			return getter.invokeExact(bean);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new UroborosqlRuntimeException(e);
+		}
+	}
+
+	/**
+	 * 指定したクラスのプロパティに対するアクセッサを取得する<br>
+	 * 指定したクラスで宣言されたフィールドを優先し、存在しない場合はpublicなgetterメソッドを利用する。<br>
+	 * getterメソッドは<code>get</code>から始まるメソッドを優先し、存在しない場合は戻り値が<code>boolean</code>の
+	 * <code>is</code>から始まるメソッドを利用する（戻り値が{@link Boolean}の場合は<code>get</code>から始まるメソッドのみ）
+	 *
+	 * @param type 型
+	 * @param propertyName プロパティ名
+	 * @return アクセッサ. プロパティにアクセスできない場合は<code>null</code>
+	 */
+	public static PropertyAccessor of(final Class<?> type, final String propertyName) {
+		return ACCESSORS.get(type).getProperty(propertyName);
+	}
+
+	/**
+	 * 指定したクラスの持つ全てのフィールド（親クラスを含む）に対するアクセッサを取得する
+	 *
+	 * @param type 型
+	 * @return アクセッサのリスト. 並び順は{@link BeanAccessor#fields(Class)}と同じ
+	 */
+	public static List<PropertyAccessor> fieldsOf(final Class<?> type) {
+		return ACCESSORS.get(type).getFields();
+	}
+
+	/**
+	 * フィールドのアクセッサを生成する
+	 *
+	 * @param field フィールド
+	 * @return アクセッサ
+	 * @throws IllegalAccessException フィールドにアクセスできない場合
+	 */
+	private static PropertyAccessor forField(final Field field) throws IllegalAccessException {
+		field.setAccessible(true);
+		return new PropertyAccessor(field.getName(), MethodHandles.lookup().unreflectGetter(field));
+	}
+
+	/**
+	 * クラスごとのアクセッサ
+	 */
+	private static final class ClassAccessors {
+		/** 型 */
+		private final Class<?> type;
+
+		/** プロパティ名をキーとしたアクセッサ（アクセスできないプロパティは空） */
+		private final Map<String, Optional<PropertyAccessor>> properties = new ConcurrentHashMap<>();
+
+		/** 全てのフィールドのアクセッサ */
+		private volatile List<PropertyAccessor> fields;
+
+		/**
+		 * コンストラクタ
+		 *
+		 * @param type 型
+		 */
+		private ClassAccessors(final Class<?> type) {
+			this.type = type;
+		}
+
+		/**
+		 * プロパティのアクセッサの取得
+		 *
+		 * @param propertyName プロパティ名
+		 * @return アクセッサ. プロパティにアクセスできない場合は<code>null</code>
+		 */
+		private PropertyAccessor getProperty(final String propertyName) {
+			Optional<PropertyAccessor> accessor = properties.get(propertyName);
+			if (accessor == null) {
+				accessor = properties.computeIfAbsent(propertyName, this::resolveProperty);
+			}
+			return accessor.orElse(null);
+		}
+
+		/**
+		 * 全てのフィールドのアクセッサの取得
+		 *
+		 * @return アクセッサのリスト
+		 */
+		private List<PropertyAccessor> getFields() {
+			List<PropertyAccessor> list = fields;
+			if (list == null) {
+				list = new ArrayList<>();
+				for (Field field : BeanAccessor.fields(type)) {
+					try {
+						list.add(forField(field));
+					} catch (IllegalAccessException | RuntimeException e) {
+						throw new UroborosqlRuntimeException(e);
+					}
+				}
+				list = Collections.unmodifiableList(list);
+				fields = list;
+			}
+			return list;
+		}
+
+		/**
+		 * プロパティのアクセッサを生成する
+		 *
+		 * @param propertyName プロパティ名
+		 * @return アクセッサ. プロパティにアクセスできない場合は空
+		 */
+		private Optional<PropertyAccessor> resolveProperty(final String propertyName) {
+			try {
+				// フィールドアクセスで値の取得を実施
+				return Optional.of(forField(type.getDeclaredField(propertyName)));
+			} catch (NoSuchFieldException e) {
+				// メソッドアクセスで値の取得を実施
+				try {
+					Method method = findGetter(propertyName);
+					method.setAccessible(true);
+					return Optional.of(new PropertyAccessor(propertyName, MethodHandles.lookup().unreflect(method)));
+				} catch (Exception e2) {
+					LOG.warn("Property can not be accessed.[{}#{}]", type.getName(), propertyName, e2);
+				}
+			} catch (Exception e) {
+				LOG.warn("Property can not be accessed.[{}#{}]", type.getName(), propertyName, e);
+			}
+			return Optional.empty();
+		}
+
+		/**
+		 * getterメソッドの取得
+		 *
+		 * @param propertyName プロパティ名
+		 * @return getterメソッド
+		 * @throws NoSuchMethodException getterメソッドが存在しない場合
+		 */
+		private Method findGetter(final String propertyName) throws NoSuchMethodException {
+			String suffix = StringUtils.capitalize(propertyName);
+			try {
+				return type.getMethod("get" + suffix);
+			} catch (NoSuchMethodException e) {
+				try {
+					Method method = type.getMethod("is" + suffix);
+					if (boolean.class.equals(method.getReturnType())) {
+						return method;
+					}
+				} catch (NoSuchMethodException e2) {
+					// getから始まるメソッドの例外を送出する
+				}
+				throw e;
+			}
+		}
+	}
+}
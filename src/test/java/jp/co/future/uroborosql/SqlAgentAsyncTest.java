@@ -0,0 +1,255 @@
+package jp.co.future.uroborosql;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.exception.UroborosqlSQLException;
+import jp.co.future.uroborosql.fluent.SqlQuery;
+import jp.co.future.uroborosql.fluent.SqlUpdate;
+import jp.co.future.uroborosql.mapping.annotations.Table;
+import jp.co.future.uroborosql.utils.CaseFormat;
+
+public class SqlAgentAsyncTest {
+	private static final String URL = "jdbc:h2:mem:SqlAgentAsyncTest;DB_CLOSE_DELAY=-1";
+
+	@Table(name = "ASYNC_EMP")
+	public static class AsyncEmp {
+		private int id;
+		private String name;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(final int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			this.name = name;
+		}
+	}
+
+	private SqlConfig config;
+
+	private ExecutorService executor;
+
+	private AtomicInteger taskCount;
+
+	@Before
+	public void setUp() {
+		config = UroboroSQL.builder(URL, "sa", "").build();
+		taskCount = new AtomicInteger();
+		executor = Executors.newFixedThreadPool(4);
+		config.getSqlAgentFactory().setAsyncExecutor(command -> {
+			taskCount.incrementAndGet();
+			executor.execute(command);
+		});
+		try (SqlAgent agent = config.agent()) {
+			agent.updateWith("drop table if exists async_emp").count();
+			agent.updateWith("create table async_emp (id integer, name varchar(30), primary key (id))").count();
+			agent.updateWith("insert into async_emp values (1, 'name1')").count();
+			agent.updateWith("insert into async_emp values (2, 'name2')").count();
+			agent.commit();
+		}
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	public void testCollectAsync() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			CompletableFuture<List<Map<String, Object>>> maps = agent
+					.queryWith("select * from async_emp where id = /*id*/0").param("id", 1).collectAsync();
+			CompletableFuture<List<Map<String, Object>>> camel = agent.queryWith("select * from async_emp order by id")
+					.collectAsync(CaseFormat.CAMEL_CASE);
+			CompletableFuture<List<AsyncEmp>> beans = agent.queryWith("select * from async_emp order by id")
+					.collectAsync(AsyncEmp.class);
+			CompletableFuture.allOf(maps, camel, beans).join();
+
+			assertThat(maps.get().size(), is(1));
+			assertThat(maps.get().get(0).get("NAME"), is("name1"));
+			assertThat(camel.get().get(1).get("name"), is("name2"));
+			assertThat(beans.get().get(1).getName(), is("name2"));
+		}
+		assertThat(taskCount.get(), is(3));
+	}
+
+	@Test
+	public void testEntityQueryAsync() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			CompletableFuture<List<AsyncEmp>> all = agent.query(AsyncEmp.class).desc("id").collectAsync();
+			CompletableFuture<Optional<AsyncEmp>> first = agent.query(AsyncEmp.class).equal("id", 2).firstAsync();
+			CompletableFuture<Optional<AsyncEmp>> found = agent.findAsync(AsyncEmp.class, 1);
+			CompletableFuture<Optional<AsyncEmp>> notFound = agent.findAsync(AsyncEmp.class, 3);
+
+			assertThat(all.get().size(), is(2));
+			assertThat(all.get().get(0).getId(), is(2));
+			assertThat(first.get().get().getName(), is("name2"));
+			assertThat(found.get().get().getName(), is("name1"));
+			assertThat(notFound.get().isPresent(), is(false));
+		}
+	}
+
+	@Test
+	public void testCountAsync() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				int count = agent.updateWith("update async_emp set name = /*name*/'' where id = /*id*/0")
+						.param("name", "async").param("id", 1).countAsync().join();
+				assertThat(count, is(1));
+
+				// 非同期の更新は独立したトランザクションでコミットされる
+				agent.setRollbackOnly();
+			});
+			assertThat(agent.queryWith("select name from async_emp where id = 1").first().get("NAME"), is("async"));
+		}
+	}
+
+	@Test
+	public void testCountAsyncRollback() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			CompletableFuture<Integer> future = agent
+					.updateWith("insert into async_emp values (/*id*/0, /*name*/'')")
+					.param("id", 1).param("name", "duplicate").countAsync();
+			try {
+				future.join();
+				fail();
+			} catch (CompletionException ex) {
+				assertThat(ex.getCause(), is(instanceOf(UroborosqlSQLException.class)));
+			}
+			assertThat(agent.queryWith("select * from async_emp").collect().size(), is(2));
+		}
+	}
+
+	@Test
+	public void testUncommittedChangesAreInvisible() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				agent.updateWith("insert into async_emp values (3, 'name3')").count();
+				assertThat(agent.queryWith("select * from async_emp").collect().size(), is(3));
+				// 非同期の検索は別のコネクションで実行されるため、未コミットの更新内容は参照できない
+				assertThat(agent.queryWith("select * from async_emp").collectAsync().join().size(), is(2));
+			});
+			assertThat(agent.queryWith("select * from async_emp").collectAsync().join().size(), is(3));
+		}
+	}
+
+	@Test
+	public void testDefaultExecutor() throws Exception {
+		config.getSqlAgentFactory().setAsyncExecutor(null);
+		try (SqlAgent agent = config.agent()) {
+			assertThat(agent.queryWith("select * from async_emp").collectAsync().get().size(), is(2));
+		}
+		assertThat(config.getSqlAgentFactory().getAsyncExecutor(), is(notNullValue()));
+		assertThat(taskCount.get(), is(0));
+	}
+
+	@Test
+	public void testShutdownAsyncExecutor() throws Exception {
+		config.getSqlAgentFactory().setAsyncExecutor(null);
+		ExecutorService defaultExecutor = (ExecutorService) config.getSqlAgentFactory().getAsyncExecutor();
+		config.getSqlAgentFactory().shutdownAsyncExecutor();
+		assertThat(defaultExecutor.isShutdown(), is(true));
+
+		// 終了後はデフォルトのExecutorを生成しなおす
+		try (SqlAgent agent = config.agent()) {
+			assertThat(agent.queryWith("select * from async_emp").collectAsync().get().size(), is(2));
+		}
+		ExecutorService recreated = (ExecutorService) config.getSqlAgentFactory().getAsyncExecutor();
+		assertThat(recreated, is(not(sameInstance(defaultExecutor))));
+
+		// 設定したExecutorに置き換えた場合もデフォルトのExecutorを終了する
+		config.getSqlAgentFactory().setAsyncExecutor(executor);
+		assertThat(recreated.isShutdown(), is(true));
+		config.getSqlAgentFactory().shutdownAsyncExecutor();
+		assertThat(executor.isShutdown(), is(false));
+		assertThat(config.getSqlAgentFactory().getAsyncExecutor(), is(sameInstance(executor)));
+	}
+
+	@Test
+	public void testAsyncContextIsolation() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch modified = new CountDownLatch(1);
+		config.getSqlAgentFactory().setAsyncExecutor(command -> executor.execute(() -> {
+			started.countDown();
+			try {
+				modified.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			command.run();
+		}));
+		try (SqlAgent agent = config.agent()) {
+			// 非同期実行の開始後に呼び出し元でパラメータを変更しても、実行するSQLコンテキストには影響しない
+			SqlQuery query = agent.queryWith("select * from async_emp where id = /*id*/0").param("id", 1);
+			CompletableFuture<List<Map<String, Object>>> future = query.collectAsync();
+			started.await();
+			query.param("id", 2);
+			modified.countDown();
+			List<Map<String, Object>> rows = future.get();
+			assertThat(rows.size(), is(1));
+			assertThat(rows.get(0).get("NAME"), is("name1"));
+
+			SqlUpdate update = agent.updateWith("update async_emp set name = /*name*/'' where id = 1")
+					.param("name", "async");
+			CountDownLatch updateStarted = new CountDownLatch(1);
+			CountDownLatch updateModified = new CountDownLatch(1);
+			config.getSqlAgentFactory().setAsyncExecutor(command -> executor.execute(() -> {
+				updateStarted.countDown();
+				try {
+					updateModified.await();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+				command.run();
+			}));
+			CompletableFuture<Integer> count = update.countAsync();
+			updateStarted.await();
+			update.param("name", "changed");
+			updateModified.countDown();
+			assertThat(count.get(), is(1));
+			assertThat(agent.queryWith("select name from async_emp where id = 1").first().get("NAME"), is("async"));
+		}
+	}
+
+	@Test
+	public void testInheritStatementSettings() throws Exception {
+		try (SqlAgent agent = config.agent()) {
+			agent.setFetchSize(50);
+			agent.setQueryTimeout(10);
+			CompletableFuture<int[]> settings = AbstractAgent.supplyAsync(agent,
+					asyncAgent -> new int[] { asyncAgent.getFetchSize(), asyncAgent.getQueryTimeout() });
+			assertThat(settings.get()[0], is(50));
+			assertThat(settings.get()[1], is(10));
+		}
+		try (SqlAgent agent = config.agent()) {
+			CompletableFuture<int[]> settings = AbstractAgent.supplyAsync(agent,
+					asyncAgent -> new int[] { asyncAgent.getFetchSize(), asyncAgent.getQueryTimeout() });
+			assertThat(settings.get()[0], is(agent.getFetchSize()));
+			assertThat(settings.get()[1], is(agent.getQueryTimeout()));
+		}
+	}
+}
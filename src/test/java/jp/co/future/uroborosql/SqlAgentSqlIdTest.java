@@ -16,7 +16,10 @@ import java.util.stream.Collectors;
 
 import jp.co.future.uroborosql.config.SqlConfig;
 import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.coverage.CoverageHandler;
 import jp.co.future.uroborosql.filter.AbstractSqlFilter;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
+import jp.co.future.uroborosql.store.SqlManagerImpl;
 
 import org.junit.Test;
 
@@ -120,6 +123,72 @@ public class SqlAgentSqlIdTest {
 
 	}
 
+	/**
+	 * SQL_IDを変えて実行しても解析結果を共有することのテスト
+	 *
+	 * @throws SQLException SQL実行エラー
+	 */
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSharedParseResult() throws SQLException {
+		List<List<String>> querys = new ArrayList<>();
+		SqlConfig config = UroboroSQL.builder(DriverManager.getConnection("jdbc:h2:mem:SqlAgentSqlIdTest")).build();
+		config.getSqlFilterManager().addSqlFilter(new AbstractSqlFilter() {
+
+			@Override
+			public ResultSet doQuery(final SqlContext sqlContext, final PreparedStatement preparedStatement,
+					final ResultSet resultSet)
+					throws SQLException {
+				querys.add(toLines(sqlContext.getExecutableSql()));
+				return super.doQuery(sqlContext, preparedStatement, resultSet);
+			}
+
+		});
+		ContextTransformerCache cache = config.getSqlManager().getContextTransformerCache();
+		// SQLカバレッジ取得時は解析結果をキャッシュしないため、一時的に無効にする
+		CoverageHandler coverageHandler = AbstractAgent.coverageHandlerRef.getAndSet(null);
+		try (SqlAgent agent = config.agent()) {
+			agent.update("ddl/create_tables").count();
+			agent.query("sqlid_test/select_product").sqlId("ID_1").collect();
+			agent.query("sqlid_test/select_product").sqlId("ID_2").collect();
+			agent.query("sqlid_test/select_product").collect();
+		} finally {
+			AbstractAgent.coverageHandlerRef.set(coverageHandler);
+		}
+		assertThat(querys, is(contains(
+				Arrays.asList("SELECT /* ID_1 */", "\t*", "FROM", "\tPRODUCT", "WHERE 1 = 1", "ORDER BY PRODUCT_ID"),
+				Arrays.asList("SELECT /* ID_2 */", "\t*", "FROM", "\tPRODUCT", "WHERE 1 = 1", "ORDER BY PRODUCT_ID"),
+				Arrays.asList("SELECT /* sqlid_test/select_product */", "\t*", "FROM", "\tPRODUCT", "WHERE 1 = 1",
+						"ORDER BY PRODUCT_ID"))));
+		// DDLとSELECTの解析はそれぞれ1回のみ
+		assertThat(cache.getMissCount(), is(2L));
+		assertThat(cache.getHitCount(), is(2L));
+	}
+
+	/**
+	 * SQL解析結果のキャッシュを持たないSQL管理クラスのテスト
+	 *
+	 * @throws SQLException SQL実行エラー
+	 */
+	@Test
+	public void testSqlManagerWithoutCache() throws SQLException {
+		SqlConfig config = UroboroSQL.builder(DriverManager.getConnection("jdbc:h2:mem:SqlAgentSqlIdTest"))
+				.setSqlManager(new SqlManagerImpl() {
+					@Override
+					public ContextTransformerCache getContextTransformerCache() {
+						// キャッシュを持たない独自のSQL管理クラスと同じ動作にする
+						return null;
+					}
+				}).build();
+		CoverageHandler coverageHandler = AbstractAgent.coverageHandlerRef.getAndSet(null);
+		try (SqlAgent agent = config.agent()) {
+			agent.update("ddl/create_tables").count();
+			assertThat(agent.query("sqlid_test/select_product").sqlId("ID_1").collect(), is(empty()));
+		} finally {
+			AbstractAgent.coverageHandlerRef.set(coverageHandler);
+		}
+	}
+
 	private List<String> toLines(final String s) {
 		return new BufferedReader(new StringReader(s)).lines().collect(Collectors.toList());
 	}
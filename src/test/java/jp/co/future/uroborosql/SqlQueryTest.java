@@ -1014,6 +1014,61 @@ public class SqlQueryTest extends AbstractDbTest {
 		assertThat(collect.size(), is(2));
 	}
 
+	/**
+	 * SQLコンテキストを再利用してクエリを繰り返し実行するテストケース(Fluent API)。
+	 */
+	@Test
+	public void testQueryFluentReset() throws Exception {
+		// 事前条件
+		cleanInsert(Paths.get("src/test/resources/data/setup", "testExecuteQuery.ltsv"));
+
+		SqlQuery query = agent.query("example/select_product");
+		SqlContext ctx = query.context();
+		for (int i = 0; i < 2; i++) {
+			List<Map<String, Object>> collect = query.reset().param("product_id", Arrays.asList(i)).collect();
+			assertThat(collect.size(), is(1));
+			assertThat(collect.get(0).get("PRODUCT_ID"), is(new BigDecimal(i)));
+			assertThat(query.context(), is(sameInstance(ctx)));
+		}
+
+		// パラメータもクリアされるため、IF句は再評価される
+		assertThat(query.reset().collect().size(), is(2));
+		assertThat(ctx.getSqlName(), is("example/select_product"));
+	}
+
+	/**
+	 * SQLを変換するSQLフィルタを登録した状態でSQLコンテキストを再利用するテストケース(Fluent API)。
+	 */
+	@Test
+	public void testQueryFluentResetWithSqlFilter() throws Exception {
+		// 事前条件
+		cleanInsert(Paths.get("src/test/resources/data/setup", "testExecuteQuery.ltsv"));
+
+		SqlFilterManager manager = config.getSqlFilterManager();
+		WrapContextSqlFilter filter = new WrapContextSqlFilter("select count(*) as cnt from (", ") t", ".*FOR\\sUPDATE.*");
+		filter.initialize();
+		manager.addSqlFilter(filter);
+
+		// SQL名から生成した場合
+		SqlQuery query = agent.query("example/select_product");
+		for (int i = 0; i < 2; i++) {
+			List<Map<String, Object>> collect = query.reset().param("product_id", Arrays.asList(0, 1)).collect();
+			assertThat(collect.size(), is(1));
+			assertThat(collect.get(0).get("CNT"), is(2L));
+		}
+		assertThat(query.reset().context().getSql(), is(nullValue()));
+
+		// SQL文から生成した場合
+		String sql = "select * from product where product_id = /*product_id*/0";
+		SqlQuery queryWith = agent.queryWith(sql);
+		for (int i = 0; i < 2; i++) {
+			List<Map<String, Object>> collect = queryWith.reset().param("product_id", i).collect();
+			assertThat(collect.size(), is(1));
+			assertThat(collect.get(0).get("CNT"), is(1L));
+		}
+		assertThat(queryWith.reset().context().getSql(), is(sql));
+	}
+
 	/**
 	 * SQLファイルが存在しない場合のテストケース。
 	 */
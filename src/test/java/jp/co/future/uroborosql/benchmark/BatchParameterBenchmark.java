@@ -0,0 +1,119 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.context.SqlContext;
+
+/**
+ * バッチパラメータのバッファリングとバッチ実行のベンチマーク<br>
+ * 10,000行のパラメータをSQLコンテキストに追加する処理と、SqlBatchによる登録処理（MapとBeanのStream）を計測する。<br>
+ * 行ごとの割り当て量は <code>mvn -P benchmark -Dbenchmark="BatchParameterBenchmark -prof gc"</code> で確認する
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchParameterBenchmark {
+	private static final int ROWS = 10000;
+
+	private static final String SQL = "merge into emp key(id) values (/*id*/0, /*name*/'', /*age*/0, /*birthday*/'')";
+
+	private static final LocalDate BIRTHDAY = LocalDate.of(2000, 1, 1);
+
+	public static class Emp {
+		private final int id;
+		private final String name;
+		private final int age;
+		private final LocalDate birthday;
+
+		public Emp(final int id) {
+			this.id = id;
+			this.name = "name";
+			this.age = id % 100;
+			this.birthday = BIRTHDAY;
+		}
+	}
+
+	private SqlConfig config;
+
+	private SqlAgent agent;
+
+	@Setup
+	public void setUp() {
+		config = UroboroSQL.builder("jdbc:h2:mem:BatchParameterBenchmark;DB_CLOSE_DELAY=-1", "sa", "").build();
+		agent = config.agent();
+		agent.updateWith(
+				"create table if not exists emp (id int primary key, name varchar(20), age int, birthday date)")
+				.count();
+	}
+
+	@TearDown
+	public void tearDown() {
+		agent.close();
+	}
+
+	@Benchmark
+	public int buffer() {
+		SqlContext ctx = agent.contextWith(SQL);
+		for (int i = 0; i < ROWS; i++) {
+			ctx.param("id", i).param("name", "name").param("age", i % 100).param("birthday", BIRTHDAY).addBatch();
+		}
+		return ctx.batchCount();
+	}
+
+	@Benchmark
+	public int bufferBean() {
+		SqlContext ctx = agent.contextWith(SQL);
+		for (int i = 0; i < ROWS; i++) {
+			ctx.addBatch(new Emp(i));
+		}
+		return ctx.batchCount();
+	}
+
+	@Benchmark
+	public int bufferBeanParam() {
+		SqlContext ctx = agent.contextWith(SQL);
+		for (int i = 0; i < ROWS; i++) {
+			ctx.paramBean(new Emp(i)).addBatch();
+		}
+		return ctx.batchCount();
+	}
+
+	@Benchmark
+	public int batch() {
+		return agent.batchWith(SQL).paramStream(IntStream.range(0, ROWS).mapToObj(i -> {
+			Map<String, Object> row = new HashMap<>();
+			row.put("id", i);
+			row.put("name", "name");
+			row.put("age", i % 100);
+			row.put("birthday", BIRTHDAY);
+			return row;
+		})).count();
+	}
+
+	@Benchmark
+	public int batchBean() {
+		return agent.batchWith(SQL).paramStream(IntStream.range(0, ROWS).mapToObj(Emp::new)).count();
+	}
+}
@@ -0,0 +1,59 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jp.co.future.uroborosql.parameter.Parameter;
+import jp.co.future.uroborosql.utils.BeanAccessor;
+
+/**
+ * Beanのプロパティアクセスのベンチマーク<br>
+ * SqlBatchのBean変換（{@link BeanAccessor#asMap(Object)}）と、テンプレートの<code>bean.property</code>参照
+ * （{@link Parameter#createSubParameter(String)}）を計測する。<br>
+ * <code>mvn -P benchmark -Dbenchmark=BeanAccessBenchmark</code> で実行する
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanAccessBenchmark {
+	public static class Emp {
+		private int id = 1;
+		private String name = "name";
+		private int age = 20;
+		private LocalDate birthday = LocalDate.of(2000, 1, 1);
+		private String dept = "DEV";
+	}
+
+	private final Emp emp = new Emp();
+
+	private final Parameter parameter = new Parameter("emp", emp);
+
+	@Benchmark
+	public void asMap(final Blackhole bh) {
+		for (Map.Entry<String, Object> entry : BeanAccessor.asMap(emp).entrySet()) {
+			bh.consume(entry.getValue());
+		}
+	}
+
+	@Benchmark
+	public void createSubParameter(final Blackhole bh) {
+		bh.consume(parameter.createSubParameter("id"));
+		bh.consume(parameter.createSubParameter("name"));
+		bh.consume(parameter.createSubParameter("birthday"));
+	}
+}
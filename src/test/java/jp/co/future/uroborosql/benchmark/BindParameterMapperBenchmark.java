@@ -0,0 +1,57 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+
+/**
+ * パラメータ変換のベンチマーク<br>
+ * LocalDate、列挙型、Optionalなど、Mapperによる変換が必要な値の変換を計測する。<br>
+ * <code>mvn -P benchmark -Dbenchmark=BindParameterMapperBenchmark</code> で実行する
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BindParameterMapperBenchmark {
+	private static final Object[] VALUES = { LocalDate.of(2000, 1, 1), Month.APRIL, Optional.of("abc"), "abc", 1,
+			new java.util.Date(0) };
+
+	private BindParameterMapperManager parameterMapperManager;
+
+	@Setup
+	public void setUp() {
+		parameterMapperManager = new BindParameterMapperManager(new BindParameterMapperManager());
+	}
+
+	@Benchmark
+	public void toJdbc(final Blackhole bh) {
+		for (Object value : VALUES) {
+			bh.consume(parameterMapperManager.toJdbc(value, null));
+		}
+	}
+
+	@Benchmark
+	public void canAcceptByStandard(final Blackhole bh) {
+		for (Object value : VALUES) {
+			bh.consume(parameterMapperManager.canAcceptByStandard(value));
+		}
+	}
+}
@@ -0,0 +1,216 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.mapping.ColumnAccessStrategy;
+import jp.co.future.uroborosql.mapping.EntityHandler;
+import jp.co.future.uroborosql.mapping.MappingUtils;
+
+/**
+ * エンティティのフィールドアクセス方式ごとのベンチマーク<br>
+ * 検索結果のエンティティへの変換と、INSERT時のエンティティからのパラメータ取得を計測する。
+ * 比較のため、コンストラクタで生成するエンティティへの変換も計測する。<br>
+ * <code>mvn -P benchmark -Dbenchmark=ColumnAccessorBenchmark</code> で実行する
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnAccessorBenchmark {
+	public static class AccessorEntity {
+		private int id;
+		private String name;
+		private int age;
+		private long amount;
+		private String dept;
+		private int col01;
+		private int col02;
+		private int col03;
+		private int col04;
+		private int col05;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(final int id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(final int age) {
+			this.age = age;
+		}
+
+		public long getAmount() {
+			return amount;
+		}
+
+		public void setAmount(final long amount) {
+			this.amount = amount;
+		}
+
+		public String getDept() {
+			return dept;
+		}
+
+		public void setDept(final String dept) {
+			this.dept = dept;
+		}
+
+		public int getCol01() {
+			return col01;
+		}
+
+		public void setCol01(final int col01) {
+			this.col01 = col01;
+		}
+
+		public int getCol02() {
+			return col02;
+		}
+
+		public void setCol02(final int col02) {
+			this.col02 = col02;
+		}
+
+		public int getCol03() {
+			return col03;
+		}
+
+		public void setCol03(final int col03) {
+			this.col03 = col03;
+		}
+
+		public int getCol04() {
+			return col04;
+		}
+
+		public void setCol04(final int col04) {
+			this.col04 = col04;
+		}
+
+		public int getCol05() {
+			return col05;
+		}
+
+		public void setCol05(final int col05) {
+			this.col05 = col05;
+		}
+	}
+
+	public static class AccessorRecord {
+		private final int id;
+		private final String name;
+		private final int age;
+		private final long amount;
+		private final String dept;
+		private final int col01;
+		private final int col02;
+		private final int col03;
+		private final int col04;
+		private final int col05;
+
+		public AccessorRecord(final int id, final String name, final int age, final long amount, final String dept,
+				final int col01, final int col02, final int col03, final int col04, final int col05) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+			this.amount = amount;
+			this.dept = dept;
+			this.col01 = col01;
+			this.col02 = col02;
+			this.col03 = col03;
+			this.col04 = col04;
+			this.col05 = col05;
+		}
+	}
+
+	@Param({ "REFLECTION", "METHOD_HANDLE", "GENERATED" })
+	public String strategy;
+
+	@Param({ "10000" })
+	public int rows;
+
+	private SqlConfig config;
+
+	private SqlAgent agent;
+
+	private EntityHandler<Object> entityHandler;
+
+	private final AccessorEntity entity = new AccessorEntity();
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setUp() {
+		MappingUtils.setColumnAccessorFactory(ColumnAccessStrategy.valueOf(strategy));
+		config = UroboroSQL.builder("jdbc:h2:mem:ColumnAccessorBenchmark;DB_CLOSE_DELAY=-1", "sa", "").build();
+		entityHandler = (EntityHandler<Object>) config.getEntityHandler();
+		agent = config.agent();
+		agent.updateWith("drop table if exists accessor").count();
+		agent.updateWith("create table accessor (id int primary key, name varchar(20), age int, amount bigint, dept varchar(10), col01 int, col02 int, col03 int, col04 int, col05 int)").count();
+		agent.updateWith("insert into accessor select x, 'name' || x, x % 100, x * 1000, 'DEPT', x, x, x, x, x from system_range(1, /*rows*/0)")
+				.param("rows", rows).count();
+		agent.commit();
+
+		entity.setId(rows + 1);
+		entity.setName("name");
+		entity.setDept("DEPT");
+		// テーブルメタ情報を取得させる
+		agent.insert(entity);
+		agent.rollback();
+	}
+
+	@TearDown
+	public void tearDown() {
+		agent.updateWith("drop table accessor").count();
+		agent.close();
+	}
+
+	@Benchmark
+	public long mapping() {
+		return agent.queryWith("select * from accessor").stream(AccessorEntity.class).count();
+	}
+
+	@Benchmark
+	public long constructorMapping() {
+		return agent.queryWith("select * from accessor").stream(AccessorRecord.class).count();
+	}
+
+	@Benchmark
+	public SqlContext insertParams() {
+		SqlContext context = config.context();
+		entityHandler.setInsertParams(context, entity);
+		return context;
+	}
+}
@@ -0,0 +1,76 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.fluent.SqlQuery;
+
+/**
+ * SQLコンテキストを再利用した繰り返し実行のベンチマーク<br>
+ * 1件を返すクエリを、実行ごとにSQLコンテキストを生成する場合と<code>reset()</code>で再利用する場合で比較する。<br>
+ * 実行ごとの割り当て量は <code>mvn -P benchmark -Dbenchmark="ContextReuseBenchmark -prof gc"</code> で確認する
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ContextReuseBenchmark {
+	private static final String SQL = "select * from emp where 1 = 1" + System.lineSeparator()
+			+ "/*IF id != null*/ and id = /*id*/1 /*END*/" + System.lineSeparator()
+			+ "/*IF name != null*/ and name = /*name*/'' /*END*/";
+
+	/** SQLコンテキストを再利用するかどうか */
+	@Param({ "false", "true" })
+	public boolean reuse;
+
+	private SqlConfig config;
+
+	private SqlAgent agent;
+
+	private SqlQuery query;
+
+	private int id = 0;
+
+	@Setup
+	public void setUp() {
+		config = UroboroSQL.builder("jdbc:h2:mem:ContextReuseBenchmark;DB_CLOSE_DELAY=-1", "sa", "").build();
+		agent = config.agent();
+		agent.updateWith("create table if not exists emp (id int primary key, name varchar(20))").count();
+		for (int i = 0; i < 100; i++) {
+			agent.updateWith("merge into emp key(id) values (/*id*/0, /*name*/'')").param("id", i)
+					.param("name", "name" + i).count();
+		}
+		query = agent.queryWith(SQL);
+	}
+
+	@TearDown
+	public void tearDown() {
+		agent.close();
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> query() {
+		id = (id + 1) % 100;
+		SqlQuery q = reuse ? query.reset() : agent.queryWith(SQL);
+		return q.param("id", id).param("name", "name" + id).collect();
+	}
+}
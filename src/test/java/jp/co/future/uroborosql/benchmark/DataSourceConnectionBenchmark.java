@@ -0,0 +1,122 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.connection.DataSourceConnectionSupplierImpl;
+
+/**
+ * データソースを使用したコネクション取得のベンチマーク<br>
+ * スレッドごとにコネクションを払い出す（排他制御のない）データソースを使用し、
+ * {@link DataSourceConnectionSupplierImpl#getConnection()}のスループットをスレッド数ごとに計測する。<br>
+ * <code>mvn -P benchmark -Dbenchmark=DataSourceConnectionBenchmark</code> で実行する
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataSourceConnectionBenchmark {
+	/**
+	 * スレッドごとに同じコネクションを払い出すデータソース
+	 */
+	public static class ThreadLocalDataSource implements DataSource {
+		private final ThreadLocal<Connection> connections = ThreadLocal.withInitial(() -> {
+			try {
+				return DriverManager.getConnection("jdbc:h2:mem:DataSourceConnectionBenchmark;DB_CLOSE_DELAY=-1",
+						"sa", "");
+			} catch (SQLException ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return connections.get();
+		}
+
+		@Override
+		public Connection getConnection(final String username, final String password) throws SQLException {
+			return getConnection();
+		}
+
+		@Override
+		public PrintWriter getLogWriter() throws SQLException {
+			return null;
+		}
+
+		@Override
+		public void setLogWriter(final PrintWriter out) throws SQLException {
+		}
+
+		@Override
+		public void setLoginTimeout(final int seconds) throws SQLException {
+		}
+
+		@Override
+		public int getLoginTimeout() throws SQLException {
+			return 0;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+
+		@Override
+		public <T> T unwrap(final Class<T> iface) throws SQLException {
+			throw new SQLException();
+		}
+
+		@Override
+		public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+			return false;
+		}
+	}
+
+	private DataSourceConnectionSupplierImpl supplier;
+
+	@Setup
+	public void setUp() {
+		supplier = new DataSourceConnectionSupplierImpl(new ThreadLocalDataSource());
+		supplier.setDefaultAutoCommit(false);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Connection threads1() {
+		return supplier.getConnection();
+	}
+
+	@Benchmark
+	@Threads(2)
+	public Connection threads2() {
+		return supplier.getConnection();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Connection threads4() {
+		return supplier.getConnection();
+	}
+}
@@ -0,0 +1,125 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+
+/**
+ * 検索結果をエンティティに変換する処理のベンチマーク<br>
+ * 50列のテーブルを検索し、全行をエンティティ、またはMapに変換する。<br>
+ * <code>mvn -P benchmark -Dbenchmark=EntityMappingBenchmark</code> で実行する。
+ * 行数は <code>-Dbenchmark="EntityMappingBenchmark -p rows=1000000"</code> のように指定できる
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityMappingBenchmark {
+	public static class WideEntity {
+		private int id;
+		private int col01;
+		private int col02;
+		private int col03;
+		private int col04;
+		private int col05;
+		private int col06;
+		private int col07;
+		private int col08;
+		private int col09;
+		private int col10;
+		private int col11;
+		private int col12;
+		private int col13;
+		private int col14;
+		private int col15;
+		private int col16;
+		private int col17;
+		private int col18;
+		private int col19;
+		private int col20;
+		private int col21;
+		private int col22;
+		private int col23;
+		private int col24;
+		private int col25;
+		private int col26;
+		private int col27;
+		private int col28;
+		private int col29;
+		private int col30;
+		private int col31;
+		private int col32;
+		private int col33;
+		private int col34;
+		private int col35;
+		private int col36;
+		private int col37;
+		private int col38;
+		private int col39;
+		private int col40;
+		private int col41;
+		private int col42;
+		private int col43;
+		private int col44;
+		private int col45;
+		private int col46;
+		private int col47;
+		private int col48;
+		private int col49;
+	}
+
+	@Param({ "10000" })
+	public int rows;
+
+	private SqlConfig config;
+
+	private SqlAgent agent;
+
+	@Setup
+	public void setUp() {
+		config = UroboroSQL.builder("jdbc:h2:mem:EntityMappingBenchmark;DB_CLOSE_DELAY=-1", "sa", "").build();
+		agent = config.agent();
+		agent.updateWith("drop table if exists wide_entity").count();
+		agent.updateWith("create table wide_entity (id int primary key, col01 int, col02 int, col03 int, col04 int, col05 int, col06 int, col07 int, col08 int, col09 int, col10 int, col11 int, col12 int, col13 int, col14 int, col15 int, col16 int, col17 int, col18 int, col19 int, col20 int, col21 int, col22 int, col23 int, col24 int, col25 int, col26 int, col27 int, col28 int, col29 int, col30 int, col31 int, col32 int, col33 int, col34 int, col35 int, col36 int, col37 int, col38 int, col39 int, col40 int, col41 int, col42 int, col43 int, col44 int, col45 int, col46 int, col47 int, col48 int, col49 int)").count();
+		StringBuilder values = new StringBuilder("x");
+		for (int i = 1; i < 50; i++) {
+			values.append(", x + ").append(i);
+		}
+		agent.updateWith("insert into wide_entity select " + values + " from system_range(1, /*rows*/0)")
+				.param("rows", rows).count();
+		agent.commit();
+	}
+
+	@TearDown
+	public void tearDown() {
+		agent.updateWith("drop table wide_entity").count();
+		agent.close();
+	}
+
+	@Benchmark
+	public long mapping() {
+		return agent.queryWith("select * from wide_entity").stream(WideEntity.class).count();
+	}
+
+	@Benchmark
+	public long mapMapping() {
+		return agent.queryWith("select * from wide_entity").stream().count();
+	}
+}
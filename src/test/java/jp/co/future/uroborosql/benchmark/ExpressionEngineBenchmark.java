@@ -0,0 +1,116 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
+import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
+import jp.co.future.uroborosql.dialect.DefaultDialect;
+import jp.co.future.uroborosql.expr.ExpressionEngine;
+import jp.co.future.uroborosql.expr.OgnlExpressionEngine;
+import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
+import jp.co.future.uroborosql.parser.ContextTransformer;
+import jp.co.future.uroborosql.parser.SqlParserImpl;
+import jp.co.future.uroborosql.store.SqlLoaderImpl;
+import jp.co.future.uroborosql.utils.StringFunction;
+
+/**
+ * 評価式エンジンごとのSQL変換処理のベンチマーク<br>
+ * 分岐の多いSQLと、テスト用のSQLテンプレートすべての変換を評価式エンジンを切り替えて計測する。<br>
+ * <code>mvn -P benchmark -Dbenchmark=ExpressionEngineBenchmark</code> で実行する
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionEngineBenchmark {
+	private static final String SQL = "select * from emp where 1 = 1" + System.lineSeparator()
+			+ "/*IF id != null*/ and id = /*id*/1 /*END*/" + System.lineSeparator()
+			+ "/*IF name != null and name != ''*/ and name = /*name*/'' /*END*/" + System.lineSeparator()
+			+ "/*IF age > 20 and age < 60*/ and age = /*age*/0 /*END*/" + System.lineSeparator()
+			+ "/*IF dept == 'SALES'*/ and dept = /*dept*/'' /*ELIF dept == 'DEV'*/ and dept = 'DEV' /*END*/"
+			+ System.lineSeparator()
+			+ "/*IF status != null*/ and status = /*status*/'' /*ELSE*/ and status is null /*END*/"
+			+ System.lineSeparator()
+			+ "/*IF flag == true*/ and flag = /*flag*/false /*END*/" + System.lineSeparator()
+			+ "/*IF SF.isNotEmpty(name)*/ and upper(name) = /*SF.trimToEmpty(name)*/'' /*END*/";
+
+	/** 評価式エンジン */
+	@Param({ "ognl", "simple" })
+	public String engine;
+
+	private SqlContextFactory sqlContextFactory;
+
+	private ContextTransformer transformer;
+
+	private final List<ContextTransformer> templates = new ArrayList<>();
+
+	private StringFunction expressionFunction;
+
+	@Setup
+	public void setUp() {
+		sqlContextFactory = new SqlContextFactoryImpl();
+		((SqlContextFactoryImpl) sqlContextFactory).setSqlFilterManager(new SqlFilterManagerImpl());
+		sqlContextFactory.setExpressionEngine(
+				"ognl".equals(engine) ? new OgnlExpressionEngine() : ExpressionEngine.getDefault());
+		sqlContextFactory.initialize();
+
+		expressionFunction = new DefaultDialect().getExpressionFunction();
+		transformer = new SqlParserImpl(SQL).parse();
+
+		// 変換できるテスト用のSQLテンプレートを対象とする
+		SqlLoaderImpl sqlLoader = new SqlLoaderImpl();
+		sqlLoader.setSqlEncoding("UTF-8");
+		for (Map.Entry<String, String> entry : sqlLoader.load().entrySet()) {
+			try {
+				ContextTransformer template = new SqlParserImpl(entry.getValue()).parse();
+				template.transform(createContext());
+				templates.add(template);
+			} catch (RuntimeException ex) {
+				// 変換できないSQLテンプレートは対象外
+			}
+		}
+	}
+
+	private SqlContext createContext() {
+		SqlContext ctx = sqlContextFactory.createSqlContext();
+		ctx.param("id", 10).param("name", "abc").param("age", 30).param("dept", "DEV").param("status", "A")
+				.param("flag", true).param("product_id", 1).param("productName", "abc").param("param1", "1")
+				.param(StringFunction.SHORT_NAME, expressionFunction);
+		return ctx;
+	}
+
+	@Benchmark
+	public String transform() {
+		SqlContext ctx = createContext();
+		transformer.transform(ctx);
+		return ctx.getExecutableSql();
+	}
+
+	@Benchmark
+	public void transformTemplates(final Blackhole bh) {
+		for (ContextTransformer template : templates) {
+			SqlContext ctx = createContext();
+			template.transform(ctx);
+			bh.consume(ctx.getExecutableSql());
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import jp.co.future.uroborosql.parser.ContextTransformer;
+import jp.co.future.uroborosql.parser.SqlParserImpl;
+import jp.co.future.uroborosql.parser.SqlTokenizer;
+import jp.co.future.uroborosql.parser.SqlTokenizerImpl;
+
+/**
+ * 大きなSQLの解析処理のベンチマーク<br>
+ * <code>mvn -P benchmark -Dbenchmark="ParseBenchmark -prof gc"</code> で実行すると、gc.alloc.rate.normでメモリ割り当て量を比較できる。<br>
+ * <code>tokenize</code>の<code>materialize=true</code>は、すべてのトークン文字列を生成する従来のトークン分割と同等の割り当てとなる。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+	private static final String BLOCK = "/*IF id != null*/ and id = /*id*/1 /*END*/" + System.lineSeparator()
+			+ "/*IF name != null*/ and name = /*name*/'' /*ELSE*/ and name is null /*END*/" + System.lineSeparator()
+			+ "-- 部署での絞り込み" + System.lineSeparator()
+			+ "/*IF dept == 'SALES'*/ or dept = /*dept*/'' /*ELIF dept == 'DEV'*/ and dept = 'DEV' /*END*/"
+			+ System.lineSeparator()
+			+ "/*BEGIN*/ and (/*IF ids != null*/ id in /*ids*/(1, 2) /*END*/) /*END*/" + System.lineSeparator()
+			+ "/* 通常のコメント */ and status = ?" + System.lineSeparator();
+
+	/** SQLに含める条件ブロックの数 */
+	@Param({ "10", "300" })
+	public int blocks;
+
+	/** トークン文字列を生成するかどうか */
+	@Param({ "false", "true" })
+	public boolean materialize;
+
+	private String sql;
+
+	@Setup
+	public void setUp() {
+		StringBuilder builder = new StringBuilder("select * from emp where 1 = 1").append(System.lineSeparator());
+		for (int i = 0; i < blocks; i++) {
+			builder.append(BLOCK);
+		}
+		sql = builder.toString();
+	}
+
+	@Benchmark
+	public void tokenize(final Blackhole bh) {
+		SqlTokenizer tokenizer = new SqlTokenizerImpl(sql);
+		// EOFの場合はトークンの開始位置が-1となる
+		tokenizer.next();
+		while (tokenizer.getTokenStart() >= 0) {
+			if (materialize) {
+				bh.consume(tokenizer.getToken());
+			} else {
+				bh.consume(tokenizer.getTokenStart());
+				bh.consume(tokenizer.getTokenEnd());
+			}
+			tokenizer.next();
+		}
+	}
+
+	@Benchmark
+	public ContextTransformer parse() {
+		return new SqlParserImpl(sql).parse();
+	}
+}
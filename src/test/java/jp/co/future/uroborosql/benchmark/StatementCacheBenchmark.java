@@ -0,0 +1,70 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+
+/**
+ * トランザクション単位のPreparedStatementキャッシュのベンチマーク<br>
+ * 1トランザクションの中で同じ検索・更新SQLを繰り返し実行する処理を、キャッシュサイズごとに計測する。<br>
+ * <code>mvn -P benchmark -Dbenchmark=StatementCacheBenchmark</code> で実行する
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StatementCacheBenchmark {
+	private static final int LOOP = 10;
+
+	@Param({ "0", "8" })
+	public int statementCacheSize;
+
+	private SqlConfig config;
+
+	private SqlAgent agent;
+
+	@Setup
+	public void setUp() {
+		config = UroboroSQL.builder("jdbc:h2:mem:StatementCacheBenchmark;DB_CLOSE_DELAY=-1", "sa", "").build();
+		config.getSqlAgentFactory().setStatementCacheSize(statementCacheSize);
+		agent = config.agent();
+		agent.updateWith("create table if not exists emp (id int primary key, name varchar(20), age int)").count();
+		agent.updateWith("merge into emp key(id) values (1, 'name', 20)").count();
+		agent.commit();
+	}
+
+	@TearDown
+	public void tearDown() {
+		agent.close();
+	}
+
+	@Benchmark
+	public int transaction() {
+		return agent.required(() -> {
+			int count = 0;
+			for (int i = 0; i < LOOP; i++) {
+				count += agent.queryWith("select * from emp where id = /*id*/0").param("id", 1).collect().size();
+				count += agent.updateWith("update emp set age = /*age*/0 where id = /*id*/0")
+						.param("age", i).param("id", 1).count();
+			}
+			return count;
+		});
+	}
+}
@@ -0,0 +1,78 @@
+package jp.co.future.uroborosql.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
+import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
+import jp.co.future.uroborosql.dialect.DefaultDialect;
+import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
+import jp.co.future.uroborosql.parser.ContextTransformer;
+import jp.co.future.uroborosql.parser.SqlParserImpl;
+import jp.co.future.uroborosql.utils.StringFunction;
+
+/**
+ * 分岐の多いSQLの変換処理（OGNL式の評価）のベンチマーク<br>
+ * <code>mvn -P benchmark</code> で実行する
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransformBenchmark {
+	private static final String SQL = "select * from emp where 1 = 1" + System.lineSeparator()
+			+ "/*IF id != null*/ and id = /*id*/1 /*END*/" + System.lineSeparator()
+			+ "/*IF name != null and name != ''*/ and name = /*name*/'' /*END*/" + System.lineSeparator()
+			+ "/*IF age > 20 and age < 60*/ and age = /*age*/0 /*END*/" + System.lineSeparator()
+			+ "/*IF dept == 'SALES'*/ and dept = /*dept*/'' /*ELIF dept == 'DEV'*/ and dept = 'DEV' /*END*/"
+			+ System.lineSeparator()
+			+ "/*IF status != null*/ and status = /*status*/'' /*ELSE*/ and status is null /*END*/"
+			+ System.lineSeparator()
+			+ "/*IF SF.isNotEmpty(name)*/ and upper(name) = /*name.toUpperCase()*/'' /*END*/";
+
+	/** OGNL式をコンパイルするかどうか */
+	@Param({ "false", "true" })
+	public boolean compile;
+
+	private SqlContextFactory sqlContextFactory;
+
+	private ContextTransformer transformer;
+
+	private StringFunction expressionFunction;
+
+	@Setup
+	public void setUp() {
+		// OGNL式のコンパイル有無はノード生成前に指定する（@Param毎に別プロセスで実行される）
+		System.setProperty("uroborosql.ognl.compile", String.valueOf(compile));
+
+		sqlContextFactory = new SqlContextFactoryImpl();
+		((SqlContextFactoryImpl) sqlContextFactory).setSqlFilterManager(new SqlFilterManagerImpl());
+		sqlContextFactory.initialize();
+
+		expressionFunction = new DefaultDialect().getExpressionFunction();
+		transformer = new SqlParserImpl(SQL).parse();
+	}
+
+	@Benchmark
+	public String transform() {
+		SqlContext ctx = sqlContextFactory.createSqlContext();
+		ctx.param("id", 10).param("name", "abc").param("age", 30).param("dept", "DEV").param("status", "A")
+				.param(StringFunction.SHORT_NAME, expressionFunction);
+		transformer.transform(ctx);
+		return ctx.getExecutableSql();
+	}
+}
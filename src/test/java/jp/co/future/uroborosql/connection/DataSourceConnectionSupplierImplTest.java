@@ -0,0 +1,117 @@
+package jp.co.future.uroborosql.connection;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.h2.jdbcx.JdbcConnectionPool;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DataSourceConnectionSupplierImplTest {
+	private JdbcConnectionPool pool;
+
+	private DataSourceConnectionSupplierImpl supplier;
+
+	@Before
+	public void setUp() {
+		pool = JdbcConnectionPool.create("jdbc:h2:mem:DataSourceConnectionSupplierImplTest;DB_CLOSE_DELAY=-1", "sa",
+				"");
+		pool.setMaxConnections(10);
+		supplier = new DataSourceConnectionSupplierImpl(pool);
+	}
+
+	@After
+	public void tearDown() {
+		pool.dispose();
+	}
+
+	@Test
+	public void testSettings() throws Exception {
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.getAutoCommit(), is(false));
+			assertThat(conn.getTransactionIsolation(), is(Connection.TRANSACTION_READ_COMMITTED));
+		}
+
+		// 設定変更後に取得したコネクションには変更後の設定を適用する
+		supplier.setDefaultAutoCommit(true);
+		supplier.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.getAutoCommit(), is(true));
+			assertThat(conn.getTransactionIsolation(), is(Connection.TRANSACTION_SERIALIZABLE));
+		}
+
+		supplier.setDefaultAutoCommit(false);
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.getAutoCommit(), is(false));
+		}
+	}
+
+	@Test
+	public void testSettingsChangedWhileBuilding() throws Exception {
+		CountDownLatch building = new CountDownLatch(1);
+		DataSourceConnectionSupplierImpl slowSupplier = new DataSourceConnectionSupplierImpl(pool) {
+			@Override
+			protected boolean getAutoCommit(final String dataSourceName) {
+				boolean autoCommit = super.getAutoCommit(dataSourceName);
+				if (building.getCount() > 0) {
+					// 設定値の生成中に設定を変更させる
+					building.countDown();
+					try {
+						Thread.sleep(200);
+					} catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return autoCommit;
+			}
+		};
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Boolean> first = executor.submit(() -> {
+				try (Connection conn = slowSupplier.getConnection()) {
+					return conn.getAutoCommit();
+				}
+			});
+			assertThat(building.await(5, TimeUnit.SECONDS), is(true));
+			slowSupplier.setDefaultAutoCommit(true);
+			assertThat(first.get(), is(false));
+		} finally {
+			executor.shutdown();
+		}
+		// 生成中の設定値で変更後の設定が上書きされない
+		try (Connection conn = slowSupplier.getConnection()) {
+			assertThat(conn.getAutoCommit(), is(true));
+		}
+	}
+
+	@Test
+	public void testConcurrentAcquisition() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				results.add(executor.submit(() -> {
+					try (Connection conn = supplier.getConnection()) {
+						return conn.getAutoCommit();
+					}
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get(), is(false));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(pool.getActiveConnections(), is(0));
+	}
+}
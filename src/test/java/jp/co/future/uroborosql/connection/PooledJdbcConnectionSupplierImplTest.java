@@ -0,0 +1,331 @@
+package jp.co.future.uroborosql.connection;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+public class PooledJdbcConnectionSupplierImplTest {
+	private static final String URL = "jdbc:h2:mem:PooledJdbcConnectionSupplierImplTest;DB_CLOSE_DELAY=-1";
+
+	private PooledJdbcConnectionSupplierImpl supplier;
+
+	@Before
+	public void setUp() {
+		supplier = new PooledJdbcConnectionSupplierImpl(URL, "sa", "");
+		supplier.setMaxPoolSize(2);
+		supplier.setMaxWaitMillis(100);
+	}
+
+	@After
+	public void tearDown() {
+		supplier.close();
+	}
+
+	@Test
+	public void testReuse() throws Exception {
+		Connection physical;
+		try (Connection conn = supplier.getConnection()) {
+			physical = conn.unwrap(Connection.class);
+			assertThat(conn.getAutoCommit(), is(false));
+			assertThat(supplier.getActiveCount(), is(1));
+		}
+		assertThat(supplier.getActiveCount(), is(0));
+		assertThat(supplier.getIdleCount(), is(1));
+		assertThat(physical.isClosed(), is(false));
+
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.unwrap(Connection.class), is(sameInstance(physical)));
+		}
+		assertThat(supplier.getTotalCount(), is(1));
+		assertThat(supplier.getBorrowWaitHistogram().getCount(), is(2L));
+	}
+
+	@Test
+	public void testCloseTwice() throws Exception {
+		Connection conn = supplier.getConnection();
+		conn.close();
+		assertThat(conn.isClosed(), is(true));
+		// 返却済みのコネクションをクローズしても二重に返却しない
+		conn.close();
+		assertThat(supplier.getIdleCount(), is(1));
+	}
+
+	@Test
+	public void testUseAfterClose() throws Exception {
+		Connection conn = supplier.getConnection();
+		conn.close();
+		// 返却済みのコネクションは他の呼び出し元に貸し出されている可能性があるため使用できない
+		try (Connection other = supplier.getConnection()) {
+			try {
+				conn.createStatement();
+				fail();
+			} catch (SQLException ex) {
+				assertThat(ex.getMessage(), is("Connection is closed"));
+			}
+			try {
+				conn.setAutoCommit(true);
+				fail();
+			} catch (SQLException ex) {
+				assertThat(ex.getMessage(), is("Connection is closed"));
+			}
+			assertThat(other.getAutoCommit(), is(false));
+		}
+	}
+
+	@Test
+	public void testConcurrentClose() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int i = 0; i < 50; i++) {
+				Connection conn = supplier.getConnection();
+				CountDownLatch latch = new CountDownLatch(1);
+				List<Future<?>> results = new ArrayList<>();
+				for (int j = 0; j < 4; j++) {
+					results.add(executor.submit(() -> {
+						latch.await();
+						conn.close();
+						return null;
+					}));
+				}
+				latch.countDown();
+				for (Future<?> result : results) {
+					result.get();
+				}
+				// 同時にクローズしても返却は1回だけ行う
+				assertThat(supplier.getIdleCount(), is(1));
+				assertThat(supplier.getActiveCount(), is(0));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		try (Connection conn1 = supplier.getConnection(); Connection conn2 = supplier.getConnection()) {
+			assertThat(conn1.unwrap(Connection.class), is(not(sameInstance(conn2.unwrap(Connection.class)))));
+		}
+	}
+
+	@Test
+	public void testMinIdleRange() throws Exception {
+		supplier.setMinIdle(2);
+		assertThat(supplier.getMinIdle(), is(2));
+		try {
+			supplier.setMinIdle(3);
+			fail();
+		} catch (IllegalArgumentException ex) {
+			// OK
+		}
+		try {
+			supplier.setMinIdle(-1);
+			fail();
+		} catch (IllegalArgumentException ex) {
+			// OK
+		}
+	}
+
+	@Test
+	public void testSettings() throws Exception {
+		try (Connection conn = supplier.getConnection()) {
+			conn.setAutoCommit(true);
+			conn.setReadOnly(true);
+		}
+		supplier.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+		// 返却時に変更された状態は、次の貸し出し時に設定値に戻す
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.getAutoCommit(), is(false));
+			assertThat(conn.isReadOnly(), is(false));
+			assertThat(conn.getTransactionIsolation(), is(Connection.TRANSACTION_SERIALIZABLE));
+		}
+	}
+
+	@Test
+	public void testMaxPoolSize() throws Exception {
+		Connection conn1 = supplier.getConnection();
+		Connection conn2 = supplier.getConnection();
+		try {
+			supplier.getConnection();
+			fail();
+		} catch (UroborosqlRuntimeException ex) {
+			assertThat(ex.getMessage(), containsString("can not be acquired within 100ms"));
+		}
+		conn1.close();
+		try (Connection conn3 = supplier.getConnection()) {
+			assertThat(conn3.isClosed(), is(false));
+		}
+		conn2.close();
+		assertThat(supplier.getTotalCount(), is(2));
+
+		long[] counts = supplier.getBorrowWaitHistogram().getCounts();
+		long[] bounds = supplier.getBorrowWaitHistogram().getBucketBounds();
+		assertThat(counts.length, is(bounds.length + 1));
+		// タイムアウトした取得要求は100ms以上の区間に記録される
+		assertThat(counts[5] + counts[6], is(1L));
+	}
+
+	@Test
+	public void testValidation() throws Exception {
+		try (Connection conn = supplier.getConnection()) {
+			conn.unwrap(Connection.class).close();
+		}
+		assertThat(supplier.getTotalCount(), is(0));
+
+		Connection physical;
+		try (Connection conn = supplier.getConnection()) {
+			physical = conn.unwrap(Connection.class);
+		}
+		physical.close();
+		// 無効になった空きコネクションは貸し出し時に破棄する
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(conn.unwrap(Connection.class), is(not(sameInstance(physical))));
+			assertThat(conn.isValid(1), is(true));
+		}
+		assertThat(supplier.getTotalCount(), is(1));
+	}
+
+	@Test
+	public void testIdleEviction() throws Exception {
+		supplier.setIdleTimeoutMillis(0);
+		Connection conn1 = supplier.getConnection();
+		Connection conn2 = supplier.getConnection();
+		conn1.close();
+		conn2.close();
+		assertThat(supplier.getIdleCount(), is(2));
+
+		supplier.setMinIdle(1);
+		supplier.housekeep();
+		assertThat(supplier.getIdleCount(), is(1));
+		assertThat(supplier.getTotalCount(), is(1));
+
+		supplier.setMinIdle(2);
+		supplier.housekeep();
+		assertThat(supplier.getIdleCount(), is(2));
+		assertThat(supplier.getTotalCount(), is(2));
+	}
+
+	@Test
+	public void testLeakDetection() throws Exception {
+		supplier.setLeakDetectionThresholdMillis(1);
+		try (Connection conn = supplier.getConnection()) {
+			Thread.sleep(10);
+			supplier.housekeep();
+			assertThat(supplier.getLeakedCount(), is(1));
+		}
+		assertThat(supplier.getLeakedCount(), is(0));
+	}
+
+	@Test
+	public void testRollbackOnReturn() throws Exception {
+		try (Connection conn = supplier.getConnection()) {
+			conn.createStatement().execute("create table if not exists pool_test (id int)");
+			conn.commit();
+		}
+		try (Connection conn = supplier.getConnection()) {
+			conn.createStatement().execute("insert into pool_test values (1)");
+		}
+		try (Connection conn = supplier.getConnection()) {
+			try (ResultSet rs = conn.createStatement().executeQuery("select count(*) from pool_test")) {
+				rs.next();
+				assertThat(rs.getInt(1), is(0));
+			}
+		}
+	}
+
+	@Test
+	public void testConcurrent() throws Exception {
+		supplier.setMaxWaitMillis(5000);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				results.add(executor.submit(() -> {
+					try (Connection conn = supplier.getConnection()) {
+						try (ResultSet rs = conn.createStatement().executeQuery("select 1")) {
+							rs.next();
+							return rs.getInt(1);
+						}
+					}
+				}));
+			}
+			for (Future<Integer> result : results) {
+				assertThat(result.get(), is(1));
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(supplier.getActiveCount(), is(0));
+		assertThat(supplier.getTotalCount() <= 2, is(true));
+		assertThat(supplier.getBorrowWaitHistogram().getCount(), is(200L));
+	}
+
+	@Test
+	public void testHousekeepConcurrent() throws Exception {
+		supplier.setMaxWaitMillis(5000);
+		supplier.setMinIdle(2);
+		supplier.setIdleTimeoutMillis(0);
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger maxTotalCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(5);
+		try {
+			// 最小空き数までの生成と貸し出し時の生成が競合しても最大接続数を超えない
+			Future<?> housekeeper = executor.submit(() -> {
+				while (running.get()) {
+					supplier.housekeep();
+					maxTotalCount.accumulateAndGet(supplier.getTotalCount(), Math::max);
+				}
+			});
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 200; i++) {
+				results.add(executor.submit(() -> {
+					try (Connection conn = supplier.getConnection()) {
+						maxTotalCount.accumulateAndGet(supplier.getTotalCount(), Math::max);
+						try (ResultSet rs = conn.createStatement().executeQuery("select 1")) {
+							rs.next();
+							return rs.getInt(1);
+						}
+					}
+				}));
+			}
+			for (Future<Integer> result : results) {
+				assertThat(result.get(), is(1));
+			}
+			running.set(false);
+			housekeeper.get();
+		} finally {
+			running.set(false);
+			executor.shutdown();
+		}
+		assertThat(maxTotalCount.get() <= 2, is(true));
+		assertThat(supplier.getTotalCount() <= 2, is(true));
+		assertThat(supplier.getActiveCount(), is(0));
+	}
+
+	@Test
+	public void testSqlAgent() throws Exception {
+		SqlConfig config = UroboroSQL.builder().setConnectionSupplier(supplier).build();
+		for (int i = 0; i < 3; i++) {
+			try (SqlAgent agent = config.agent()) {
+				assertThat(agent.queryWith("select 1 as num").collect().size(), is(1));
+			}
+		}
+		assertThat(supplier.getActiveCount(), is(0));
+		assertThat(supplier.getTotalCount(), is(1));
+	}
+}
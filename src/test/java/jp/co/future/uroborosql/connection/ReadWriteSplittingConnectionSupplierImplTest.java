@@ -0,0 +1,212 @@
+package jp.co.future.uroborosql.connection;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.connection.ReadWriteSplittingConnectionSupplierImpl.BalanceStrategy;
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.exception.UroborosqlSQLException;
+
+public class ReadWriteSplittingConnectionSupplierImplTest {
+	private static final String PRIMARY_URL = "jdbc:h2:mem:RwPrimary;DB_CLOSE_DELAY=-1";
+	private static final String REPLICA1_URL = "jdbc:h2:mem:RwReplica1;DB_CLOSE_DELAY=-1";
+	private static final String REPLICA2_URL = "jdbc:h2:mem:RwReplica2;DB_CLOSE_DELAY=-1";
+	private static final String BROKEN_URL = "jdbc:h2:mem:RwBroken;IFEXISTS=TRUE";
+
+	private ConnectionSupplier primary;
+	private ConnectionSupplier replica1;
+	private ConnectionSupplier replica2;
+
+	@Before
+	public void setUp() throws Exception {
+		setUpDatabase(PRIMARY_URL, "primary");
+		setUpDatabase(REPLICA1_URL, "replica1");
+		setUpDatabase(REPLICA2_URL, "replica2");
+		primary = new UrlConnectionSupplier(PRIMARY_URL);
+		replica1 = new UrlConnectionSupplier(REPLICA1_URL);
+		replica2 = new UrlConnectionSupplier(REPLICA2_URL);
+	}
+
+	private void setUpDatabase(final String url, final String name) throws SQLException {
+		try (Connection conn = DriverManager.getConnection(url, "sa", "");
+				Statement stmt = conn.createStatement()) {
+			stmt.execute("drop table if exists rw_test");
+			stmt.execute("create table rw_test (id int primary key, src varchar(20))");
+			stmt.execute("insert into rw_test values (1, '" + name + "')");
+		}
+	}
+
+	private String source(final Connection conn) throws SQLException {
+		try (Statement stmt = conn.createStatement();
+				ResultSet rs = stmt.executeQuery("select src from rw_test where id = 1")) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+
+	private String source(final SqlAgent agent) {
+		return agent.queryWith("select src from rw_test where id = 1").first().get("SRC").toString();
+	}
+
+	@Test
+	public void testRouting() {
+		ReadWriteSplittingConnectionSupplierImpl supplier = new ReadWriteSplittingConnectionSupplierImpl(primary,
+				Collections.singletonList(replica1));
+		SqlConfig config = UroboroSQL.builder().setConnectionSupplier(supplier).build();
+		try (SqlAgent agent = config.agent()) {
+			assertThat(source(agent), is("replica1"));
+			assertThat(agent.updateWith("insert into rw_test values (2, 'new')").count(), is(1));
+			// 更新後の検索はプライマリで行う
+			assertThat(agent.queryWith("select src from rw_test where id = 2").collect().size(), is(1));
+			assertThat(source(agent), is("primary"));
+			agent.commit();
+			assertThat(source(agent), is("replica1"));
+			// 行ロックを取得する検索はプライマリで行う
+			assertThat(agent.queryWith("select src from rw_test where id = 1 for update").first().get("SRC"),
+					is("primary"));
+			assertThat(supplier.getInFlightCount(0), is(1));
+		}
+		assertThat(supplier.getInFlightCount(0), is(0));
+	}
+
+	@Test
+	public void testRequired() {
+		ReadWriteSplittingConnectionSupplierImpl supplier = new ReadWriteSplittingConnectionSupplierImpl(primary,
+				Collections.singletonList(replica1));
+		SqlConfig config = UroboroSQL.builder().setConnectionSupplier(supplier).build();
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				assertThat(source(agent), is("replica1"));
+				agent.updateWith("update rw_test set src = 'updated' where id = 1").count();
+				assertThat(source(agent), is("updated"));
+				agent.setRollbackOnly();
+			});
+			agent.required(() -> {
+				assertThat(source(agent), is("replica1"));
+			});
+		}
+		assertThat(supplier.getInFlightCount(0), is(0));
+	}
+
+	@Test
+	public void testRoundRobin() throws Exception {
+		ReadWriteSplittingConnectionSupplierImpl supplier = new ReadWriteSplittingConnectionSupplierImpl(primary,
+				Arrays.asList(replica1, replica2));
+		assertThat(supplier.getStrategy(), is(BalanceStrategy.ROUND_ROBIN));
+		for (int i = 0; i < 4; i++) {
+			try (Connection conn = supplier.getReadConnection()) {
+				assertThat(source(conn), is(i % 2 == 0 ? "replica1" : "replica2"));
+			}
+		}
+		try (Connection conn = supplier.getConnection()) {
+			assertThat(source(conn), is("primary"));
+		}
+	}
+
+	@Test
+	public void testLeastInFlight() throws Exception {
+		ReadWriteSplittingConnectionSupplierImpl supplier = new ReadWriteSplittingConnectionSupplierImpl(primary,
+				Arrays.asList(replica1, replica2), BalanceStrategy.LEAST_IN_FLIGHT);
+		Connection conn1 = supplier.getReadConnection();
+		Connection conn2 = supplier.getReadConnection();
+		assertThat(source(conn1), is("replica1"));
+		assertThat(source(conn2), is("replica2"));
+		conn1.close();
+		assertThat(conn1.isClosed(), is(true));
+		// 2回目のクローズでは使用中のコネクション数を減らさない
+		conn1.close();
+		assertThat(supplier.getInFlightCount(0), is(0));
+		assertThat(supplier.getInFlightCount(1), is(1));
+
+		// 開始位置に関わらず使用中のコネクションが少ないリードレプリカを選択する
+		for (int i = 0; i < 2; i++) {
+			try (Connection conn = supplier.getReadConnection()) {
+				assertThat(source(conn), is("replica1"));
+			}
+		}
+		conn2.close();
+		assertThat(supplier.getInFlightCount(1), is(0));
+	}
+
+	@Test
+	public void testFailover() throws Exception {
+		ConnectionSupplier broken = new UrlConnectionSupplier(BROKEN_URL);
+		ReadWriteSplittingConnectionSupplierImpl supplier = new ReadWriteSplittingConnectionSupplierImpl(primary,
+				Arrays.asList(broken, replica2));
+		supplier.setRetryIntervalMillis(0);
+		for (int i = 0; i < 3; i++) {
+			try (Connection conn = supplier.getReadConnection()) {
+				assertThat(source(conn), is("replica2"));
+			}
+		}
+		// 除外時間を過ぎたリードレプリカは再び振り分け対象となる
+		assertThat(supplier.isAvailable(0), is(true));
+
+		supplier.setRetryIntervalMillis(60000);
+		for (int i = 0; i < 2; i++) {
+			try (Connection conn = supplier.getReadConnection()) {
+				assertThat(source(conn), is("replica2"));
+			}
+		}
+		assertThat(supplier.isAvailable(0), is(false));
+		assertThat(supplier.isAvailable(1), is(true));
+		assertThat(supplier.getFallbackCount(), is(0L));
+	}
+
+	@Test
+	public void testFallbackToPrimary() throws Exception {
+		ConnectionSupplier broken = new UrlConnectionSupplier(BROKEN_URL);
+		ReadWriteSplittingConnectionSupplierImpl supplier = new ReadWriteSplittingConnectionSupplierImpl(primary,
+				Collections.singletonList(broken));
+		try (Connection conn = supplier.getReadConnection()) {
+			assertThat(source(conn), is("primary"));
+		}
+		assertThat(supplier.getFallbackCount(), is(1L));
+
+		supplier.setFallbackToPrimary(false);
+		try {
+			supplier.getReadConnection();
+			fail();
+		} catch (UroborosqlRuntimeException ex) {
+			assertThat(ex.getMessage(), is("No read replica is available."));
+		}
+	}
+
+	private static class UrlConnectionSupplier implements ConnectionSupplier {
+		private final String url;
+
+		UrlConnectionSupplier(final String url) {
+			this.url = url;
+		}
+
+		@Override
+		public Connection getConnection() {
+			try {
+				Connection conn = DriverManager.getConnection(url, "sa", "");
+				conn.setAutoCommit(false);
+				return conn;
+			} catch (SQLException ex) {
+				throw new UroborosqlSQLException(ex);
+			}
+		}
+
+		@Override
+		public Connection getConnection(final String alias) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package jp.co.future.uroborosql.context;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import jp.co.future.uroborosql.parameter.Parameter;
+import jp.co.future.uroborosql.parameter.mapper.BindParameterMapper;
+import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+
+public class BatchParameterBufferTest {
+
+	private static Map<String, Parameter> row(final Parameter... parameters) {
+		Map<String, Parameter> map = new HashMap<>();
+		for (Parameter parameter : parameters) {
+			map.put(parameter.getParameterName(), parameter);
+		}
+		return map;
+	}
+
+	@Test
+	public void testIntColumn() throws Exception {
+		BatchParameterBuffer buffer = new BatchParameterBuffer();
+		for (int i = 0; i < 100; i++) {
+			buffer.addRow(row(new Parameter("id", i % 10 == 0 ? null : i)));
+		}
+		assertThat(buffer.size(), is(100));
+		int column = buffer.getColumnIndex("id");
+		assertThat(column, is(0));
+		assertThat(buffer.getParameter(column, 0).getValue(), is(nullValue()));
+		assertThat(buffer.getParameter(column, 99).getValue(), is((Object) 99));
+		assertThat(buffer.getParameter(column, 99).getParameterName(), is("id"));
+	}
+
+	@Test
+	public void testWidenColumn() throws Exception {
+		BatchParameterBuffer buffer = new BatchParameterBuffer();
+		buffer.addRow(row(new Parameter("id", null), new Parameter("no", 1)));
+		buffer.addRow(row(new Parameter("id", 1L), new Parameter("no", 2L)));
+		int id = buffer.getColumnIndex("id");
+		int no = buffer.getColumnIndex("no");
+		assertThat(buffer.getParameter(id, 0).getValue(), is(nullValue()));
+		assertThat(buffer.getParameter(id, 1).getValue(), is((Object) 1L));
+		// 値の型は変わらない
+		assertThat(buffer.getParameter(no, 0).getValue(), is((Object) 1));
+		assertThat(buffer.getParameter(no, 1).getValue(), is((Object) 2L));
+
+		buffer.addRow(row(new Parameter("id", "abc")));
+		assertThat(buffer.getParameter(id, 0).getValue(), is(nullValue()));
+		assertThat(buffer.getParameter(id, 1).getValue(), is((Object) 1L));
+		assertThat(buffer.getParameter(id, 2).getValue(), is((Object) "abc"));
+	}
+
+	@Test
+	public void testObjectColumn() throws Exception {
+		BatchParameterBuffer buffer = new BatchParameterBuffer();
+		Parameter typed = new Parameter("amount", BigDecimal.ONE, JDBCType.DECIMAL);
+		buffer.addRow(row(new Parameter("amount", BigDecimal.TEN)));
+		buffer.addRow(row(typed));
+		int column = buffer.getColumnIndex("amount");
+		assertThat(buffer.getParameter(column, 0).getValue(), is((Object) BigDecimal.TEN));
+		assertThat(buffer.getParameter(column, 1), is(sameInstance(typed)));
+	}
+
+	@Test
+	public void testBind() throws Exception {
+		List<String> calls = new ArrayList<>();
+		PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(
+				Thread.currentThread().getContextClassLoader(), new Class<?>[] { PreparedStatement.class },
+				(proxy, method, args) -> {
+					if ("getConnection".equals(method.getName())) {
+						return null;
+					}
+					calls.add(method.getName() + Arrays.toString(args));
+					return null;
+				});
+		BindParameterMapperManager parameterMapperManager = new BindParameterMapperManager();
+
+		BatchParameterBuffer buffer = new BatchParameterBuffer();
+		buffer.addRow(row(new Parameter("id", 1), new Parameter("no", 2L), new Parameter("name", "a"),
+				new Parameter("date", LocalDate.of(2000, Month.JANUARY, 1)),
+				new Parameter("amount", BigDecimal.ONE, JDBCType.DECIMAL)));
+		buffer.addRow(row(new Parameter("id", null), new Parameter("no", null), new Parameter("name", null)));
+		int id = buffer.getColumnIndex("id");
+		int no = buffer.getColumnIndex("no");
+		int name = buffer.getColumnIndex("name");
+		int date = buffer.getColumnIndex("date");
+		int amount = buffer.getColumnIndex("amount");
+
+		// パラメータオブジェクトを生成せずに、列の型に応じたメソッドでバインドする
+		assertThat(buffer.bind(id, 0, ps, 1, parameterMapperManager), is(true));
+		assertThat(buffer.bind(no, 0, ps, 2, parameterMapperManager), is(true));
+		assertThat(buffer.bind(name, 0, ps, 3, parameterMapperManager), is(true));
+		assertThat(buffer.bind(id, 1, ps, 1, parameterMapperManager), is(true));
+		assertThat(buffer.bind(no, 1, ps, 2, parameterMapperManager), is(true));
+		assertThat(buffer.bind(name, 1, ps, 3, parameterMapperManager), is(true));
+		assertThat(calls, is(Arrays.asList("setInt[1, 1]", "setLong[2, 2]", "setObject[3, a]",
+				"setObject[1, null]", "setObject[2, null]", "setObject[3, null]")));
+
+		// 変換が必要な値、パラメータオブジェクトで保持する値、設定されていない値はバインドしない
+		calls.clear();
+		assertThat(buffer.bind(date, 0, ps, 1, parameterMapperManager), is(false));
+		assertThat(buffer.bind(amount, 0, ps, 1, parameterMapperManager), is(false));
+		assertThat(buffer.bind(date, 1, ps, 1, parameterMapperManager), is(false));
+		assertThat(calls.isEmpty(), is(true));
+
+		// 変換Mapperが登録された型はバインドしない
+		parameterMapperManager.addMapper(new BindParameterMapper<Integer>() {
+			@Override
+			public Class<Integer> targetType() {
+				return Integer.class;
+			}
+
+			@Override
+			public Object toJdbc(final Integer original, final Connection connection,
+					final BindParameterMapperManager parameterMapperManager) {
+				return original.toString();
+			}
+		});
+		assertThat(buffer.bind(id, 0, ps, 1, parameterMapperManager), is(false));
+		assertThat(buffer.bind(no, 0, ps, 1, parameterMapperManager), is(true));
+	}
+
+	@Test
+	public void testMissingParameter() throws Exception {
+		BatchParameterBuffer buffer = new BatchParameterBuffer();
+		buffer.addRow(row(new Parameter("id", 1), new Parameter("name", null)));
+		buffer.addRow(row(new Parameter("id", 2)));
+		int column = buffer.getColumnIndex("name");
+		assertThat(buffer.getParameter(column, 0), is(notNullValue()));
+		assertThat(buffer.getParameter(column, 0).getValue(), is(nullValue()));
+		assertThat(buffer.getParameter(column, 1), is(nullValue()));
+		assertThat(buffer.getColumnIndex("age"), is(-1));
+
+		Map<String, Parameter> row0 = buffer.getRow(0);
+		assertThat(row0.containsKey("name"), is(true));
+		assertThat(row0.size(), is(2));
+		Map<String, Parameter> row1 = buffer.getRow(1);
+		assertThat(row1.containsKey("name"), is(false));
+		assertThat(row1.get("name"), is(nullValue()));
+		assertThat(row1.size(), is(1));
+		assertThat(row1.keySet().iterator().next(), is("id"));
+	}
+
+	public static class Bean {
+		private final Integer id;
+		private final String name;
+
+		public Bean(final Integer id, final String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Test
+	public void testBeanRow() throws Exception {
+		BatchParameterBuffer buffer = new BatchParameterBuffer();
+		buffer.addRow(row(new Parameter("name", "param"), new Parameter("dept", "DEV")), new Bean(1, "bean1"));
+		buffer.addRow(row(), new Bean(null, "bean2"));
+		buffer.addRow(row(new Parameter("id", 3)));
+		assertThat(buffer.size(), is(3));
+
+		int id = buffer.getColumnIndex("id");
+		int name = buffer.getColumnIndex("name");
+		int dept = buffer.getColumnIndex("dept");
+		assertThat(buffer.getParameter(id, 0).getValue(), is((Object) 1));
+		// Beanのフィールド値が優先される
+		assertThat(buffer.getParameter(name, 0).getValue(), is("bean1"));
+		assertThat(buffer.getParameter(dept, 0).getValue(), is("DEV"));
+		assertThat(buffer.getParameter(id, 1).getValue(), is(nullValue()));
+		assertThat(buffer.getParameter(name, 1).getValue(), is("bean2"));
+		assertThat(buffer.getParameter(dept, 1), is(nullValue()));
+		assertThat(buffer.getParameter(id, 2).getValue(), is((Object) 3));
+		assertThat(buffer.getParameter(name, 2), is(nullValue()));
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		BatchParameterBuffer buffer = new BatchParameterBuffer();
+		buffer.addRow(row(new Parameter("id", 1)));
+		buffer.clear();
+		assertThat(buffer.size(), is(0));
+		assertThat(buffer.getColumnIndex("id"), is(-1));
+	}
+}
@@ -0,0 +1,97 @@
+package jp.co.future.uroborosql.context;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class ExecutableSqlCleanerTest {
+	private static final String[] TOKENS = { "WHERE", "where", " ", "  ", "\n", "\r\n", "\r", "\t", "AND", "and",
+			"OR", "or", "ORDER", ",", "(", ")", "--", "/*", "*/", "SELECT", "select", "GROUP", "BY", "SET", "x",
+			" ", "*", "/", "-", "1", " = ", "ANDx" };
+
+	/**
+	 * 正規表現による整形（従来の処理）
+	 */
+	private static String cleanWithPattern(final String sql) {
+		String result = sql;
+		StringBuffer buff = new StringBuffer();
+		Matcher matcher = SqlContextImpl.WHERE_CLAUSE_PATTERN.matcher(result);
+		while (matcher.find()) {
+			matcher.appendReplacement(buff, Matcher.quoteReplacement(matcher.group(1)));
+		}
+		matcher.appendTail(buff);
+		result = buff.toString();
+
+		buff = new StringBuffer();
+		matcher = SqlContextImpl.REMOVE_FIRST_COMMA_PATTERN.matcher(result);
+		while (matcher.find()) {
+			matcher.appendReplacement(buff, Matcher.quoteReplacement(matcher.group(1)));
+		}
+		matcher.appendTail(buff);
+		result = buff.toString();
+
+		return SqlContextImpl.CLEAR_BLANK_PATTERN.matcher(result).replaceAll("");
+	}
+
+	@Test
+	public void testRemoveWhereClauseAndOr() throws Exception {
+		assertThat(ExecutableSqlCleaner.removeWhereClauseAndOr("select * from emp where and id = 1"),
+				is("select * from emp where id = 1"));
+		assertThat(ExecutableSqlCleaner.removeWhereClauseAndOr("select * from emp WHERE\n  -- comment\n OR id = 1"),
+				is("select * from emp WHERE\n  -- comment\n id = 1"));
+		assertThat(ExecutableSqlCleaner.removeWhereClauseAndOr("select * from emp where /* a */ and id = 1"),
+				is("select * from emp where /* a */ id = 1"));
+		assertThat(ExecutableSqlCleaner.removeWhereClauseAndOr("select * from emp where id = 1 and name = 'a'"),
+				is("select * from emp where id = 1 and name = 'a'"));
+	}
+
+	@Test
+	public void testRemoveFirstComma() throws Exception {
+		assertThat(ExecutableSqlCleaner.removeFirstComma("select\n, id\n, name from emp order by , id"),
+				is("select\n id\n, name from emp order by  id"));
+		assertThat(ExecutableSqlCleaner.removeFirstComma("update emp set /* a */ , name = 'a'"),
+				is("update emp set /* a */  name = 'a'"));
+		assertThat(ExecutableSqlCleaner.removeFirstComma("insert into emp (, id, name) values (, 1, 'a')"),
+				is("insert into emp ( id, name) values ( 1, 'a')"));
+	}
+
+	@Test
+	public void testRemoveBlankLines() throws Exception {
+		assertThat(ExecutableSqlCleaner.removeBlankLines("select\n  \n\n  id\r\n\r\nfrom emp\n"),
+				is("select\n  id\r\nfrom emp\n"));
+		assertThat(ExecutableSqlCleaner.removeBlankLines("\n\nselect"), is("select"));
+	}
+
+	@Test
+	public void testCleanSameAsPattern() throws Exception {
+		try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources/sql"))) {
+			List<Path> files = paths.filter(p -> p.toString().endsWith(".sql")).collect(Collectors.toList());
+			for (Path file : files) {
+				String sql = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+				assertThat(file.toString(), ExecutableSqlCleaner.clean(sql), is(cleanWithPattern(sql)));
+			}
+		}
+
+		Random random = new Random(0);
+		for (int i = 0; i < 10000; i++) {
+			StringBuilder builder = new StringBuilder();
+			int len = random.nextInt(30);
+			for (int j = 0; j < len; j++) {
+				builder.append(TOKENS[random.nextInt(TOKENS.length)]);
+			}
+			String sql = builder.toString();
+			assertThat(sql, ExecutableSqlCleaner.clean(sql), is(cleanWithPattern(sql)));
+		}
+	}
+}
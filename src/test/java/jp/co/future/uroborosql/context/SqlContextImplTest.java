@@ -7,7 +7,11 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -20,6 +24,7 @@ import org.junit.Test;
 
 import jp.co.future.uroborosql.UroboroSQL;
 import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.exception.ParameterNotFoundRuntimeException;
 import jp.co.future.uroborosql.parameter.ReaderParameter;
 import jp.co.future.uroborosql.parameter.StreamParameter;
 import jp.co.future.uroborosql.parser.ContextTransformer;
@@ -499,6 +504,99 @@ public class SqlContextImplTest {
 		assertThat(ctx.getSqlId(), is(testSqlId));
 	}
 
+	@Test
+	public void testBindParamsWithBindSlots() throws Exception {
+		String sql = "select /*id*/1 as a, /*name*/'' as b, /*id*/1 as c, /*val*/'' as d";
+		ContextTransformer transformer = new ContextTransformer(new SqlParserImpl(sql).parse().getRoot(), 10);
+		try (Connection conn = DriverManager.getConnection("jdbc:h2:mem:testBindParamsWithBindSlots")) {
+			// 変換経路の初回（ミス）と2回目（ヒット）の両方でスロット単位にパラメータが解決されること
+			for (int i = 0; i < 2; i++) {
+				SqlContext ctx = config.contextWith(sql).param("id", i).param("name", "abc" + i).param("val", "v");
+				transformer.transform(ctx);
+				try (PreparedStatement st = conn.prepareStatement(ctx.getExecutableSql())) {
+					ctx.bindParams(st);
+					try (ResultSet rs = st.executeQuery()) {
+						assertThat(rs.next(), is(true));
+						assertThat(rs.getInt("A"), is(i));
+						assertThat(rs.getString("B"), is("abc" + i));
+						assertThat(rs.getInt("C"), is(i));
+						assertThat(rs.getString("D"), is("v"));
+					}
+				}
+			}
+
+			SqlContext ctx = config.contextWith(sql).param("name", "abc");
+			transformer.transform(ctx);
+			try (PreparedStatement st = conn.prepareStatement(ctx.getExecutableSql())) {
+				ctx.bindParams(st);
+				fail();
+			} catch (ParameterNotFoundRuntimeException ex) {
+				assertThat(ex.getMessage(), is("Parameter [id, val] is not bound."));
+			}
+		}
+	}
+
+	@Test
+	public void testReset() throws Exception {
+		SqlContext ctx = config.contextFrom("example/select_product").setSql("select * from test where id = /*id*/1")
+				.sqlId("TEST_SQL_ID").param("id", 1);
+		ctx.contextAttrs().put("key", "value");
+		transform(ctx);
+		ctx.addBatch();
+		assertThat(ctx.getBindNames().size(), is(1));
+
+		assertThat(ctx.reset(), is(sameInstance(ctx)));
+		assertThat(ctx.getExecutableSql(), is(""));
+		assertThat(ctx.getBindNames().isEmpty(), is(true));
+		assertThat(ctx.getBindVariables().length, is(0));
+		assertThat(ctx.hasParam("id"), is(false));
+		assertThat(ctx.batchCount(), is(0));
+		assertThat(ctx.contextAttrs().isEmpty(), is(true));
+		// SQLの設定と定数パラメータは保持する
+		assertThat(ctx.getSqlName(), is("example/select_product"));
+		assertThat(ctx.getSql(), is("select * from test where id = /*id*/1"));
+		assertThat(ctx.getSqlId(), is("TEST_SQL_ID"));
+		assertThat(((SqlContextImpl) ctx).getConstParameterMap(), is(notNullValue()));
+
+		ctx.param("id", 2);
+		transform(ctx);
+		assertThat(ctx.getExecutableSql(), is("select * from test where id = ?/*id*/"));
+		assertThat(ctx.getBindVariables(), is(new Object[] { 2 }));
+	}
+
+	@Test
+	public void testCopy() throws Exception {
+		SqlContext ctx = config.contextFrom("example/select_product").setSql("select * from test where id = /*id*/1")
+				.sqlId("TEST_SQL_ID").param("id", 1);
+		ctx.contextAttrs().put("key", "value");
+		ctx.addBatch();
+		ctx.param("id", 2);
+
+		SqlContext copy = ctx.copy();
+		assertThat(copy, is(not(sameInstance(ctx))));
+		assertThat(copy.getSqlName(), is("example/select_product"));
+		assertThat(copy.getSql(), is("select * from test where id = /*id*/1"));
+		assertThat(copy.getSqlId(), is("TEST_SQL_ID"));
+		assertThat(copy.getParam("id").getValue(), is(2));
+		assertThat(copy.batchCount(), is(1));
+		assertThat(copy.contextAttrs().get("key"), is("value"));
+		// SQL変換用のコピーはバッチパラメータを持たない
+		assertThat(((SqlContext) ctx.copyTransformContext()).batchCount(), is(0));
+
+		// 複製後の変更は互いに影響しない
+		ctx.param("id", 3).param("name", "name");
+		ctx.contextAttrs().put("key", "changed");
+		copy.param("id", 4);
+		assertThat(copy.getParam("id").getValue(), is(4));
+		assertThat(copy.hasParam("name"), is(false));
+		assertThat(copy.contextAttrs().get("key"), is("value"));
+		assertThat(ctx.getParam("id").getValue(), is(3));
+
+		transform(copy);
+		assertThat(copy.getExecutableSql(), is("select * from test where id = ?/*id*/"));
+		assertThat(ctx.getExecutableSql(), is(""));
+	}
+
 	private void transform(final SqlContext ctx) {
 		SqlParser sqlParser = new SqlParserImpl(ctx.getSql(), config.getDialect().isRemoveTerminator());
 		ContextTransformer contextTransformer = sqlParser.parse();
@@ -4,11 +4,16 @@ import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.*;
 
 import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import jp.co.future.uroborosql.SqlAgent;
 import jp.co.future.uroborosql.UroboroSQL;
 import jp.co.future.uroborosql.config.SqlConfig;
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.mapping.annotations.Column;
+import jp.co.future.uroborosql.mapping.annotations.EntityCreator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.After;
@@ -101,6 +106,70 @@ public class EntityResultSetConverterTest {
 
 	}
 
+	public static class ImmutableEmp {
+		private final int id;
+		private final String name;
+		private final LocalDate birthday;
+
+		public ImmutableEmp(final int id, final String name, final LocalDate birthday) {
+			this.id = id;
+			this.name = name;
+			this.birthday = birthday;
+		}
+	}
+
+	public static class FactoryEmp {
+		private final long id;
+		private final String name;
+
+		private FactoryEmp(final long id, final String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@EntityCreator
+		public static FactoryEmp of(@Column(name = "EMP_ID") final long id,
+				@Column(name = "EMP_NAME") final String name) {
+			return new FactoryEmp(id, name.toUpperCase());
+		}
+	}
+
+	public static class MixedEmp {
+		private final int id;
+		private String name;
+
+		public MixedEmp() {
+			this(-1);
+		}
+
+		@EntityCreator
+		public MixedEmp(@Column(name = "ID") final int id) {
+			this.id = id;
+		}
+	}
+
+	public static class AmbiguousEmp {
+		private int id;
+
+		public AmbiguousEmp(final int id) {
+			this.id = id;
+		}
+
+		public AmbiguousEmp(final String id) {
+			this.id = Integer.parseInt(id);
+		}
+	}
+
+	public static class SwappedEmp {
+		private final String firstName;
+		private final String lastName;
+
+		public SwappedEmp(final String lastName, final String firstName) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+		}
+	}
+
 	@Before
 	public void setUp() throws Exception {
 		config = UroboroSQL.builder(DriverManager.getConnection("jdbc:h2:mem:EntityResultSetConverterTest")).build();
@@ -149,4 +218,72 @@ public class EntityResultSetConverterTest {
 
 	}
 
+	@Test
+	public void testCreateRecordPartialColumns() {
+		List<ColumnTypeTest2> rows = agent
+				.queryWith("select 1 as extra_col, 'a' as col_nclob, 'b' as COL_CLOB from dual"
+						+ " union all select 2, 'c', 'd' from dual")
+				.collect(ColumnTypeTest2.class);
+		assertThat(rows.size(), is(2));
+		assertThat(rows.get(0).getColNclob(), is("a"));
+		assertThat(rows.get(0).getColClob(), is("b"));
+		assertThat(rows.get(0).getColBlob(), is(nullValue()));
+		assertThat(rows.get(1).getColNclob(), is("c"));
+		assertThat(rows.get(1).getColClob(), is("d"));
+		assertThat(rows.get(1).getColArray(), is(nullValue()));
+	}
+
+	@Test
+	public void testCreateRecordByConstructor() {
+		List<ImmutableEmp> rows = agent
+				.queryWith("select 1 as id, 'name1' as name, date '2000-01-01' as birthday from dual"
+						+ " union all select 2, null, null from dual")
+				.collect(ImmutableEmp.class);
+		assertThat(rows.size(), is(2));
+		assertThat(rows.get(0).id, is(1));
+		assertThat(rows.get(0).name, is("name1"));
+		assertThat(rows.get(0).birthday, is(LocalDate.of(2000, 1, 1)));
+		assertThat(rows.get(1).id, is(2));
+		assertThat(rows.get(1).name, is(nullValue()));
+
+		// 検索結果に存在しないプリミティブ型の引数には初期値を渡す
+		ImmutableEmp emp = agent.queryWith("select 'name3' as name from dual").first(ImmutableEmp.class);
+		assertThat(emp.id, is(0));
+		assertThat(emp.name, is("name3"));
+	}
+
+	@Test
+	public void testCreateRecordByFactoryMethod() {
+		FactoryEmp emp = agent.queryWith("select 10 as emp_id, 'name' as emp_name from dual").first(FactoryEmp.class);
+		assertThat(emp.id, is(10L));
+		assertThat(emp.name, is("NAME"));
+	}
+
+	@Test
+	public void testCreateRecordByConstructorAndFields() {
+		MixedEmp emp = agent.queryWith("select 'name' as name, 5 as id from dual").first(MixedEmp.class);
+		assertThat(emp.id, is(5));
+		assertThat(emp.name, is("name"));
+	}
+
+	@Test
+	public void testNoCreator() {
+		try {
+			agent.queryWith("select 1 as id from dual").collect(AmbiguousEmp.class);
+			fail();
+		} catch (UroborosqlRuntimeException ex) {
+			assertThat(ex.getMessage(), containsString("No constructor to create the entity is found."));
+		}
+	}
+
+	@Test
+	public void testSameTypeArgumentsWithoutNames() {
+		// 引数名を取得できない場合、同じ型の引数は宣言順のフィールドと対応付けない
+		try {
+			agent.queryWith("select 'first' as first_name, 'last' as last_name from dual").first(SwappedEmp.class);
+			fail();
+		} catch (UroborosqlRuntimeException ex) {
+			assertThat(ex.getMessage(), containsString("Column names of the arguments can not be resolved."));
+		}
+	}
 }
@@ -13,6 +13,9 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -257,4 +260,43 @@ public class MapResultSetConverterTest {
 		}
 	}
 
+	@Test
+	public void testCreateRecordSharedKeys() {
+		List<Map<String, Object>> rows = agent
+				.queryWith("select 1 as id, 'a' as col_name, 'x' as id from dual union all select 2, 'b', 'y' from dual")
+				.collect(CaseFormat.CAMEL_CASE);
+		assertThat(rows.size(), is(2));
+		// 重複するキーは最初の列の位置に後の列の値を格納する
+		assertThat(new ArrayList<>(rows.get(0).keySet()), is(Arrays.asList("id", "colName")));
+		assertThat(rows.get(0).get("id"), is("x"));
+		assertThat(rows.get(1).get("colName"), is("b"));
+		assertThat(rows.get(1).toString(), is("{id=y, colName=b}"));
+
+		Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("id", "x");
+		expected.put("colName", "a");
+		assertThat(rows.get(0), is(expected));
+		assertThat(rows.get(0).hashCode(), is(expected.hashCode()));
+	}
+
+	@Test
+	public void testCreateRecordReuseConverter() throws Exception {
+		MapResultSetConverter converter = new MapResultSetConverter(config.getDialect(), CaseFormat.CAMEL_CASE);
+		String sql = "select 1 as id, 'a' as col_name from dual union all select 2, 'b' from dual";
+		List<Map<String, Object>> rows1 = agent.queryWith(sql).stream(converter).collect(Collectors.toList());
+		List<Map<String, Object>> rows2 = agent.queryWith(sql).stream(converter).collect(Collectors.toList());
+		assertThat(rows1.get(1).get("colName"), is("b"));
+		assertThat(rows2.get(0).get("id"), is(1));
+		// 列構成が同じ別の検索結果に再利用できる
+		assertThat(new ArrayList<>(rows2.get(0).keySet()), is(Arrays.asList("id", "colName")));
+
+		// 列構成が異なる検索結果では列を解決しなおす
+		List<Map<String, Object>> rows3 = agent.queryWith("select 'x' as col_name, 3 as other_id from dual")
+				.stream(converter).collect(Collectors.toList());
+		assertThat(new ArrayList<>(rows3.get(0).keySet()), is(Arrays.asList("colName", "otherId")));
+		assertThat(rows3.get(0).get("otherId"), is(3));
+		List<Map<String, Object>> rows4 = agent.queryWith("select 'x' as col_name, 'y' as other_id from dual")
+				.stream(converter).collect(Collectors.toList());
+		assertThat(rows4.get(0).get("otherId"), is("y"));
+	}
 }
@@ -0,0 +1,124 @@
+package jp.co.future.uroborosql.converter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class RowMapTest {
+	private final RowMap.Keys keys = new RowMap.Keys(new String[] { "ID", "NAME", "AGE" });
+
+	private RowMap row() {
+		return new RowMap(keys, new Object[] { 1, "name", null });
+	}
+
+	@Test
+	public void testGet() {
+		RowMap row = row();
+		assertThat(row.size(), is(3));
+		assertThat(row.get("ID"), is(1));
+		assertThat(row.get("NAME"), is("name"));
+		assertThat(row.get("AGE"), is(nullValue()));
+		assertThat(row.get("NONE"), is(nullValue()));
+		assertThat(row.containsKey("AGE"), is(true));
+		assertThat(row.containsKey("NONE"), is(false));
+		assertThat(row.containsValue("name"), is(true));
+		assertThat(new ArrayList<>(row.keySet()), is(Arrays.asList("ID", "NAME", "AGE")));
+		assertThat(new ArrayList<>(row.values()), is(Arrays.asList(1, "name", null)));
+	}
+
+	@Test
+	public void testReplaceValue() {
+		RowMap row = row();
+		RowMap other = row();
+		assertThat(row.put("NAME", "changed"), is("name"));
+		Iterator<Map.Entry<String, Object>> it = row.entrySet().iterator();
+		assertThat(it.next().setValue(2), is(1));
+		assertThat(row.get("ID"), is(2));
+		assertThat(row.get("NAME"), is("changed"));
+		// 値は行ごとに保持する
+		assertThat(other.get("NAME"), is("name"));
+	}
+
+	@Test
+	public void testAddAndRemoveKey() {
+		RowMap row = row();
+		assertThat(row.remove("NONE"), is(nullValue()));
+		assertThat(row.put("EXTRA", "extra"), is(nullValue()));
+		assertThat(row.remove("AGE"), is(nullValue()));
+		assertThat(row.size(), is(3));
+		assertThat(new ArrayList<>(row.keySet()), is(Arrays.asList("ID", "NAME", "EXTRA")));
+		assertThat(row.put("ID", 3), is(1));
+		assertThat(row.get("ID"), is(3));
+		// 同じキーを共有する他の行には影響しない
+		assertThat(row().containsKey("EXTRA"), is(false));
+
+		row.clear();
+		assertThat(row.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testRemoveThroughViews() {
+		RowMap row = row();
+		assertThat(row.keySet().remove("NAME"), is(true));
+		assertThat(row.keySet().remove("NONE"), is(false));
+		assertThat(new ArrayList<>(row.keySet()), is(Arrays.asList("ID", "AGE")));
+
+		row = row();
+		assertThat(row.values().removeIf(v -> v == null), is(true));
+		assertThat(new ArrayList<>(row.keySet()), is(Arrays.asList("ID", "NAME")));
+
+		row = row();
+		assertThat(row.entrySet().removeIf(e -> "ID".equals(e.getKey())), is(true));
+		assertThat(new ArrayList<>(row.keySet()), is(Arrays.asList("NAME", "AGE")));
+		assertThat(row.get("NAME"), is("name"));
+
+		// 削除後も同じイテレータで残りの要素を走査できる
+		row = row();
+		Iterator<Map.Entry<String, Object>> it = row.entrySet().iterator();
+		try {
+			it.remove();
+			fail();
+		} catch (IllegalStateException ex) {
+			// OK
+		}
+		assertThat(it.next().getKey(), is("ID"));
+		assertThat(it.next().getKey(), is("NAME"));
+		it.remove();
+		try {
+			it.remove();
+			fail();
+		} catch (IllegalStateException ex) {
+			// OK
+		}
+		assertThat(it.next().getKey(), is("AGE"));
+		assertThat(it.hasNext(), is(false));
+		assertThat(row.size(), is(2));
+		assertThat(new ArrayList<>(row.values()), is(Arrays.asList(1, null)));
+		// 同じキーを共有する他の行には影響しない
+		assertThat(row().containsKey("NAME"), is(true));
+	}
+
+	@Test
+	public void testSerialize() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+			oos.writeObject(row());
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			Object obj = ois.readObject();
+			assertThat(obj, is(instanceOf(LinkedHashMap.class)));
+			assertThat(obj, is((Object) row()));
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package jp.co.future.uroborosql.expr;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
+import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
+import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
+
+public class OgnlExpressionTest {
+	private SqlContextFactory sqlContextFactory;
+
+	@Before
+	public void setUp() throws Exception {
+		sqlContextFactory = new SqlContextFactoryImpl();
+		((SqlContextFactoryImpl) sqlContextFactory).setSqlFilterManager(new SqlFilterManagerImpl());
+		sqlContextFactory.initialize();
+	}
+
+	@Test
+	public void testGetParsedExpression() throws Exception {
+		OgnlExpression expression = new OgnlExpression("id != null", false);
+		assertThat(expression.getParsedExpression(), is(sameInstance(expression.getParsedExpression())));
+	}
+
+	@Test
+	public void testGetValue() throws Exception {
+		OgnlExpression expression = new OgnlExpression("id != null and name == 'abc'", false);
+
+		SqlContext ctx = sqlContextFactory.createSqlContext();
+		ctx.param("id", 1).param("name", "abc");
+		assertThat(expression.getValue(ctx), is(true));
+
+		ctx = sqlContextFactory.createSqlContext();
+		ctx.param("name", "abc");
+		assertThat(expression.getValue(ctx), is(false));
+		assertThat(expression.isCompiled(), is(false));
+	}
+
+	@Test
+	public void testGetValueWithCompile() throws Exception {
+		// コンパイルできない環境の場合も通常の評価結果が返ること
+		OgnlExpression expression = new OgnlExpression("id != null and name == 'abc'", true);
+
+		SqlContext ctx = sqlContextFactory.createSqlContext();
+		ctx.param("id", 1).param("name", "abc");
+		assertThat(expression.getValue(ctx), is(true));
+
+		ctx = sqlContextFactory.createSqlContext();
+		ctx.param("name", "abc");
+		assertThat(expression.getValue(ctx), is(false));
+
+		ctx = sqlContextFactory.createSqlContext();
+		ctx.param("id", "1").param("name", "xyz");
+		assertThat(expression.getValue(ctx), is(false));
+	}
+}
@@ -0,0 +1,144 @@
+package jp.co.future.uroborosql.expr;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
+import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
+import jp.co.future.uroborosql.context.SqlContextImpl;
+import jp.co.future.uroborosql.dialect.DefaultDialect;
+import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
+import jp.co.future.uroborosql.parser.SqlParserImpl;
+import jp.co.future.uroborosql.utils.StringFunction;
+
+public class SimpleExpressionEngineTest {
+	private SqlContextFactory sqlContextFactory;
+
+	private final ExpressionEngine simple = new SimpleExpressionEngine();
+
+	private final ExpressionEngine ognl = new OgnlExpressionEngine();
+
+	@Before
+	public void setUp() throws Exception {
+		sqlContextFactory = new SqlContextFactoryImpl();
+		((SqlContextFactoryImpl) sqlContextFactory).setSqlFilterManager(new SqlFilterManagerImpl());
+		sqlContextFactory.initialize();
+	}
+
+	private SqlContext createContext(final Object id, final Object name, final Object flag) {
+		SqlContext ctx = sqlContextFactory.createSqlContext();
+		ctx.param(StringFunction.SHORT_NAME, new DefaultDialect().getExpressionFunction());
+		if (id != null) {
+			ctx.param("id", id);
+		}
+		if (name != null) {
+			ctx.param("name", name);
+		}
+		if (flag != null) {
+			ctx.param("flag", flag);
+		}
+		return ctx;
+	}
+
+	private Object ognlValue(final String expression, final SqlContext ctx) {
+		try {
+			return ognl.parse(expression).getValue(ctx);
+		} catch (RuntimeException ex) {
+			return ex.getClass();
+		}
+	}
+
+	private Object simpleValue(final String expression, final SqlContext ctx) {
+		try {
+			return simple.parse(expression).getValue(ctx);
+		} catch (RuntimeException ex) {
+			return ex.getClass();
+		}
+	}
+
+	@Test
+	public void testParseSupported() throws Exception {
+		List<String> expressions = Arrays.asList("id != null", "id == null", "flag == true", "flag",
+				"!flag", "not flag", "name == 'abc'", "\"1\" == name", "id > 10 and id <= 100",
+				"id lt 10 or id gte 100", "SF.isNotEmpty(name)", "SF.isBlank(name) || !(id eq 1)",
+				"(id != null && name != null) || flag", "true");
+		for (String expression : expressions) {
+			assertThat(expression, simple.parse(expression),
+					is(instanceOf(SimpleExpressionEngine.SimpleExpression.class)));
+		}
+	}
+
+	@Test
+	public void testParseUnsupported() throws Exception {
+		List<String> expressions = Arrays.asList("name.length() > 0", "name == 'a'", "id == 1.5", "id == 10L",
+				"#this", "id in {1, 2}", "SF.capitalize(name) == 'Abc'", "id + 1 == 2", "id == 1 == true",
+				"name == 'a\\'b'", "@java.lang.Math@max(id, 1) > 0", "id = 1", "");
+		for (String expression : expressions) {
+			assertThat(expression, simple.parse(expression), is(instanceOf(OgnlExpression.class)));
+		}
+	}
+
+	@Test
+	public void testSameResultAsOgnl() throws Exception {
+		List<String> expressions = Arrays.asList("id != null", "id == null", "flag == true", "flag",
+				"!flag", "name == 'abc'", "name != \"abc\"", "\"1\" == name", "id > 10 and id <= 100",
+				"id lt 10 or id gte 100", "id == 20", "SF.isNotEmpty(name)", "SF.isEmpty(name)",
+				"SF.isBlank(name) || !(id eq 1)", "(id != null && name != null) || flag", "flag and id",
+				"flag or name", "not (id == null)");
+		List<Object> ids = Arrays.asList(null, 1, 20, 200L, (short) 5, "20", 20.0d);
+		List<Object> names = Arrays.asList(null, "abc", "", " ", "1", 1);
+		List<Object> flags = Arrays.asList(null, true, false, "true");
+
+		for (String expression : expressions) {
+			for (Object id : ids) {
+				for (Object name : names) {
+					for (Object flag : flags) {
+						String message = expression + " id=" + id + ", name=" + name + ", flag=" + flag;
+						assertThat(message, simpleValue(expression, createContext(id, name, flag)),
+								is(ognlValue(expression, createContext(id, name, flag))));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFallback() throws Exception {
+		// 直接評価できない型の場合はOGNLで評価する
+		Expression expression = simple.parse("id == 20");
+		assertThat(expression.getValue(createContext(20.0d, null, null)), is(true));
+		assertThat(expression.getValue(createContext("20", null, null)), is(true));
+
+		// 委譲先の評価式エンジンを指定できる
+		ExpressionEngine delegate = expr -> ctx -> "delegated";
+		ExpressionEngine engine = new SimpleExpressionEngine(delegate);
+		assertThat(engine.parse("id == 1.5").getValue(createContext(1, null, null)), is("delegated"));
+		assertThat(engine.parse("id == 1").getValue(createContext(1, null, null)), is(true));
+		assertThat(engine.parse("id == 1").getValue(createContext("1", null, null)), is("delegated"));
+	}
+
+	@Test
+	public void testTransformWithEngine() throws Exception {
+		String sql = "select * from test where 1 = 1 /*IF id != null*/ and id = /*id*/1 /*END*/"
+				+ " /*IF SF.isNotEmpty(name)*/ and name = /*SF.trimToEmpty(name)*/'' /*END*/";
+		for (ExpressionEngine engine : Arrays.asList(simple, ognl)) {
+			SqlContext ctx = createContext(1, "abc", null);
+			((SqlContextImpl) ctx).setExpressionEngine(engine);
+			new SqlParserImpl(sql).parse().transform(ctx);
+			assertThat(ctx.getExecutableSql(),
+					is("select * from test where 1 = 1  and id = ?/*id*/   and name = ?/*SF.trimToEmpty(name)*/ "));
+		}
+
+		// ファクトリに設定した評価式エンジンが生成したSQLコンテキストに設定される
+		sqlContextFactory.setExpressionEngine(ognl);
+		assertThat(sqlContextFactory.createSqlContext().getExpressionEngine(), is(sameInstance(ognl)));
+		assertThat(new SqlContextFactoryImpl().getExpressionEngine(), is(sameInstance(ExpressionEngine.getDefault())));
+	}
+}
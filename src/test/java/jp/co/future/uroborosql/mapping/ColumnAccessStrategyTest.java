@@ -0,0 +1,172 @@
+package jp.co.future.uroborosql.mapping;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+
+public class ColumnAccessStrategyTest {
+
+	public static class BaseEntity {
+		private long id;
+
+		public long getId() {
+			return id;
+		}
+
+		public void setId(final long id) {
+			this.id = id;
+		}
+	}
+
+	public static class AccessorEntity extends BaseEntity {
+		private int age;
+		private String name;
+		private boolean active;
+		private Integer score;
+		private String memo;
+		private int setterCalls;
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(final int age) {
+			this.setterCalls++;
+			this.age = age;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			this.setterCalls++;
+			this.name = name;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(final boolean active) {
+			this.setterCalls++;
+			this.active = active;
+		}
+
+		public Integer getScore() {
+			return score;
+		}
+
+		public void setScore(final Integer score) {
+			this.setterCalls++;
+			this.score = score;
+		}
+
+		public String getMemo() {
+			return memo;
+		}
+	}
+
+	@After
+	public void tearDown() {
+		MappingUtils.setColumnAccessorFactory(ColumnAccessStrategy.METHOD_HANDLE);
+	}
+
+	private static ColumnAccessor accessor(final ColumnAccessStrategy strategy, final Class<?> type,
+			final String name) throws Exception {
+		Field field = type.getDeclaredField(name);
+		return strategy.create(field);
+	}
+
+	@Test
+	public void testGetAndSet() throws Exception {
+		for (ColumnAccessStrategy strategy : ColumnAccessStrategy.values()) {
+			AccessorEntity entity = new AccessorEntity();
+			ColumnAccessor id = accessor(strategy, BaseEntity.class, "id");
+			ColumnAccessor age = accessor(strategy, AccessorEntity.class, "age");
+			ColumnAccessor name = accessor(strategy, AccessorEntity.class, "name");
+			ColumnAccessor active = accessor(strategy, AccessorEntity.class, "active");
+			ColumnAccessor score = accessor(strategy, AccessorEntity.class, "score");
+			ColumnAccessor memo = accessor(strategy, AccessorEntity.class, "memo");
+
+			id.set(entity, 10L);
+			age.set(entity, 20);
+			name.set(entity, "name");
+			active.set(entity, true);
+			score.set(entity, null);
+			memo.set(entity, "memo");
+
+			assertThat(strategy.name(), id.get(entity), is(10L));
+			assertThat(strategy.name(), age.get(entity), is(20));
+			assertThat(strategy.name(), name.get(entity), is("name"));
+			assertThat(strategy.name(), active.get(entity), is(true));
+			assertThat(strategy.name(), score.get(entity), is(nullValue()));
+			assertThat(strategy.name(), memo.get(entity), is("memo"));
+			// GENERATEDはsetterメソッドを呼び出す（setterのないmemoはフィールドに直接設定する）
+			assertThat(strategy.name(), entity.setterCalls, is(ColumnAccessStrategy.GENERATED.equals(strategy) ? 4 : 0));
+		}
+	}
+
+	@Test
+	public void testIllegalValue() throws Exception {
+		for (ColumnAccessStrategy strategy : ColumnAccessStrategy.values()) {
+			AccessorEntity entity = new AccessorEntity();
+			ColumnAccessor age = accessor(strategy, AccessorEntity.class, "age");
+			try {
+				age.set(entity, null);
+				fail(strategy.name());
+			} catch (UroborosqlRuntimeException ex) {
+				// OK
+			}
+			try {
+				age.set(entity, "20");
+				fail(strategy.name());
+			} catch (UroborosqlRuntimeException ex) {
+				// OK
+			}
+			try {
+				age.get(new BaseEntity());
+				fail(strategy.name());
+			} catch (UroborosqlRuntimeException ex) {
+				// OK
+			}
+		}
+	}
+
+	@Test
+	public void testColumnAccessorFactory() throws Exception {
+		assertThat(MappingUtils.getColumnAccessorFactory(), is(ColumnAccessStrategy.METHOD_HANDLE));
+
+		MappingUtils.setColumnAccessorFactory(ColumnAccessStrategy.GENERATED);
+		AccessorEntity entity = new AccessorEntity();
+		MappingUtils.getMappingColumn(AccessorEntity.class, "name").setValue(entity, "generated");
+		assertThat(entity.getName(), is("generated"));
+		assertThat(entity.setterCalls, is(1));
+
+		// ファクトリを変更するとマッピング情報を再生成する
+		MappingUtils.setColumnAccessorFactory(field -> new ColumnAccessor() {
+			@Override
+			public Object get(final Object entity) {
+				return "custom";
+			}
+
+			@Override
+			public void set(final Object entity, final Object value) {
+			}
+		});
+		assertThat(MappingUtils.getMappingColumn(AccessorEntity.class, "name").getValue(entity), is("custom"));
+
+		try {
+			MappingUtils.setColumnAccessorFactory(null);
+			fail();
+		} catch (IllegalArgumentException ex) {
+			// OK
+		}
+	}
+}
@@ -151,4 +151,50 @@ public class PropertyMapperManagerTest {
 
 	}
 
+	@Test
+	public void testColumnReader() throws NoSuchMethodException, SecurityException, SQLException {
+		PropertyMapperManager mapper = new PropertyMapperManager();
+
+		ColumnReader intReader = mapper.getColumnReader(JavaType.of(int.class));
+		assertThat(intReader.read(newResultSet("getInt", 1), 1), is(1));
+		assertThat(intReader.read(newResultSet("getInt", 0, "wasNull", true), 1), is(0));
+		// 同じ型には同じColumnReaderを返す
+		assertThat(mapper.getColumnReader(JavaType.of(int.class)), is(intReader));
+
+		ColumnReader longReader = mapper.getColumnReader(JavaType.of(Long.class));
+		assertThat(longReader.read(newResultSet("getLong", 1L), 1), is(1L));
+		assertThat(longReader.read(newResultSet("getLong", 0L, "wasNull", true), 1), nullValue());
+
+		assertThat(mapper.getColumnReader(JavaType.of(Date.class)).read(newResultSet("getTimestamp", null), 1),
+				nullValue());
+		assertThat(mapper.getColumnReader(JavaType.of(OptionalInt.class))
+				.read(newResultSet("getInt", 0, "wasNull", true), 1), is(OptionalInt.empty()));
+		assertThat(mapper.getColumnReader(JavaType.of(Object.class)).read(newResultSet("getObject", "value"), 1),
+				is("value"));
+
+		mapper.addMapper(new PropertyMapper<String>() {
+			@Override
+			public boolean canAccept(final Class<?> type) {
+				return String.class.equals(type);
+			}
+
+			@Override
+			public boolean canAcceptTest(final JavaType type, final ResultSet rs, final int columnIndex,
+					final PropertyMapperManager mapperManager) throws SQLException {
+				return rs.getString(columnIndex) != null;
+			}
+
+			@Override
+			public String getValue(final JavaType type, final ResultSet rs, final int columnIndex,
+					final PropertyMapperManager mapperManager) throws SQLException {
+				return rs.getString(columnIndex).toUpperCase();
+			}
+		});
+		// 行ごとの判定が必要なMapperは、行ごとに判定してから組み込みの読み込み処理を行う
+		ColumnReader stringReader = mapper.getColumnReader(JavaType.of(String.class));
+		assertThat(stringReader.read(newResultSet("getString", "value"), 1), is("VALUE"));
+		assertThat(stringReader.read(newResultSet("getString", null), 1), nullValue());
+		assertThat(mapper.getColumnReader(JavaType.of(int.class)), is(intReader));
+	}
+
 }
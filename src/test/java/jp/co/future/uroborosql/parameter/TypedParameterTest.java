@@ -0,0 +1,79 @@
+package jp.co.future.uroborosql.parameter;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.parameter.mapper.BindParameterMapperManager;
+
+public class TypedParameterTest {
+	private final List<String> calls = new ArrayList<>();
+
+	private PreparedStatement ps;
+
+	private final BindParameterMapperManager parameterMapperManager = new BindParameterMapperManager();
+
+	@Before
+	public void setUp() {
+		calls.clear();
+		ps = (PreparedStatement) Proxy.newProxyInstance(Thread.currentThread().getContextClassLoader(),
+				new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+					if ("getConnection".equals(method.getName())) {
+						return null;
+					}
+					calls.add(method.getName() + Arrays.toString(args));
+					return null;
+				});
+	}
+
+	private int bind(final Object value, final int sqlType, final Class<?> javaType) throws Exception {
+		return new TypedParameter("p", value, sqlType, TypedParameter.Binder.of(javaType)).setParameter(ps, 1,
+				parameterMapperManager);
+	}
+
+	@Test
+	public void testTypedSetter() throws Exception {
+		assertThat(bind(1, Types.INTEGER, int.class), is(2));
+		bind(2L, Types.BIGINT, Long.class);
+		bind("abc", Types.VARCHAR, String.class);
+		bind(BigDecimal.ONE, Types.DECIMAL, BigDecimal.class);
+		bind(LocalDate.of(2000, Month.JANUARY, 1), Types.DATE, LocalDate.class);
+		assertThat(calls, is(Arrays.asList("setInt[1, 1]", "setLong[1, 2]", "setString[1, abc]",
+				"setBigDecimal[1, 1]", "setDate[1, 2000-01-01]")));
+	}
+
+	@Test
+	public void testNull() throws Exception {
+		bind(null, Types.INTEGER, Integer.class);
+		bind(null, Types.VARCHAR, String.class);
+		assertThat(calls, is(Arrays.asList("setNull[1, " + Types.INTEGER + "]", "setNull[1, " + Types.VARCHAR + "]")));
+	}
+
+	@Test
+	public void testFallback() throws Exception {
+		// 想定外の型の値やバインド方法が決まっていない型はsetObjectでバインドする
+		bind("abc", Types.INTEGER, Integer.class);
+		bind(Month.APRIL, Types.INTEGER, Month.class);
+		assertThat(calls, is(Arrays.asList("setObject[1, abc]", "setObject[1, 4]")));
+	}
+
+	@Test
+	public void testSqlType() throws Exception {
+		TypedParameter parameter = new TypedParameter("p", 1, Types.INTEGER, TypedParameter.Binder.of(int.class));
+		assertThat(parameter.getSqlType(), is(JDBCType.INTEGER));
+		assertThat(parameter.toString(), is("Parameter name[p], Value[1], Class[Integer], SQL type[INTEGER]"));
+	}
+}
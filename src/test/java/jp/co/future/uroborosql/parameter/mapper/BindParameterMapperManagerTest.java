@@ -82,6 +82,92 @@ public class BindParameterMapperManagerTest {
 
 	}
 
+	@Test
+	public void testCustomAddAndRemove() {
+		BindParameterMapperManager parameterMapperManager = new BindParameterMapperManager();
+		assertThat(parameterMapperManager.toJdbc("S", null), is("S"));
+		assertThat(parameterMapperManager.canAcceptByStandard(new StringBuilder("S")), is(false));
+
+		BindParameterMapper<CharSequence> mapper = new BindParameterMapper<CharSequence>() {
+
+			@Override
+			public Class<CharSequence> targetType() {
+				return CharSequence.class;
+			}
+
+			@Override
+			public Object toJdbc(final CharSequence original, final Connection connection,
+					final BindParameterMapperManager parameterMapperManager) {
+				return original.toString().toLowerCase();
+			}
+		};
+		parameterMapperManager.addMapper(mapper);
+		BindParameterMapperManager copy = new BindParameterMapperManager(parameterMapperManager);
+		assertThat(parameterMapperManager.toJdbc("S", null), is("s"));
+		assertThat(parameterMapperManager.canAcceptByStandard(new StringBuilder("S")), is(true));
+		assertThat(copy.toJdbc(new StringBuilder("S"), null), is("s"));
+
+		parameterMapperManager.removeMapper(mapper);
+		assertThat(parameterMapperManager.toJdbc("S", null), is("S"));
+		assertThat(parameterMapperManager.canAcceptByStandard(new StringBuilder("S")), is(false));
+		// コピーしたインスタンスには影響しない
+		assertThat(copy.toJdbc("S", null), is("s"));
+	}
+
+	@Test
+	public void testCachePerManager() {
+		BindParameterMapperManager standard = new BindParameterMapperManager();
+		BindParameterMapperManager custom = new BindParameterMapperManager();
+		custom.addMapper(new BindParameterMapper<String>() {
+
+			@Override
+			public Class<String> targetType() {
+				return String.class;
+			}
+
+			@Override
+			public Object toJdbc(final String original, final Connection connection,
+					final BindParameterMapperManager parameterMapperManager) {
+				return original.toLowerCase();
+			}
+		});
+		// JDKのクラスの変換方法はインスタンスごとに保持する
+		assertThat(standard.toJdbc("S", null), is("S"));
+		assertThat(custom.toJdbc("S", null), is("s"));
+		assertThat(standard.toJdbc("S", null), is("S"));
+		assertThat(standard.isPassThrough(String.class), is(true));
+		assertThat(custom.isPassThrough(String.class), is(false));
+	}
+
+	@Test
+	public void testCustomCanAccept() {
+		BindParameterMapperManager parameterMapperManager = new BindParameterMapperManager();
+
+		// 値によって変換可否が変わるMapper
+		parameterMapperManager.addMapper(new BindParameterMapper<String>() {
+
+			@Override
+			public Class<String> targetType() {
+				return String.class;
+			}
+
+			@Override
+			public boolean canAccept(final Object object) {
+				return object instanceof String && ((String) object).startsWith("@");
+			}
+
+			@Override
+			public Object toJdbc(final String original, final Connection connection,
+					final BindParameterMapperManager parameterMapperManager) {
+				return original.substring(1);
+			}
+		});
+		assertThat(parameterMapperManager.toJdbc("@S", null), is("S"));
+		assertThat(parameterMapperManager.toJdbc("S", null), is("S"));
+		assertThat(parameterMapperManager.toJdbc("@T", null), is("T"));
+		assertThat(parameterMapperManager.toJdbc(Month.APRIL, null), is(4));
+	}
+
 	interface ProxyContainer {
 		Object getOriginal();
 	}
@@ -0,0 +1,34 @@
+package jp.co.future.uroborosql.parser;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class BindSlotsTest {
+
+	@Test
+	public void testOf() throws Exception {
+		BindSlots slots = BindSlots.of(Arrays.asList("id", "name", "id", "product.name", "name"));
+		assertThat(slots.size(), is(5));
+		assertThat(slots.getSlotCount(), is(3));
+		assertThat(slots.getName(0), is("id"));
+		assertThat(slots.getName(1), is("name"));
+		assertThat(slots.getName(2), is("product.name"));
+		assertThat(slots.getSlot(0), is(0));
+		assertThat(slots.getSlot(1), is(1));
+		assertThat(slots.getSlot(2), is(0));
+		assertThat(slots.getSlot(3), is(2));
+		assertThat(slots.getSlot(4), is(1));
+	}
+
+	@Test
+	public void testOfEmpty() throws Exception {
+		BindSlots slots = BindSlots.of(Collections.emptyList());
+		assertThat(slots.size(), is(0));
+		assertThat(slots.getSlotCount(), is(0));
+	}
+}
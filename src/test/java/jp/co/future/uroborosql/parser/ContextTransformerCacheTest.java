@@ -0,0 +1,97 @@
+package jp.co.future.uroborosql.parser;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class ContextTransformerCacheTest {
+	private static final String SQL = "select * from test where 1 = 1 /*IF id != null*/ and id = /*id*/1 /*END*/";
+
+	@Test
+	public void testGet() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache(10);
+
+		ContextTransformer transformer1 = cache.get("test/select", SQL, true, true);
+		ContextTransformer transformer2 = cache.get("test/select", SQL, true, true);
+		assertThat(transformer2, is(sameInstance(transformer1)));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(1L));
+
+		// フラグが異なる場合は別の解析結果となる
+		ContextTransformer transformer3 = cache.get("test/select", SQL, true, false);
+		assertThat(transformer3, is(not(sameInstance(transformer1))));
+		assertThat(cache.getMissCount(), is(2L));
+		assertThat(cache.size(), is(2));
+
+		// SQLが異なる場合は解析し直して同じSQL名の解析結果を置き換える
+		ContextTransformer transformer4 = cache.get("test/select", SQL + " order by id", true, true);
+		assertThat(transformer4, is(not(sameInstance(transformer1))));
+		assertThat(cache.size(), is(2));
+		assertThat(cache.get("test/select", SQL + " order by id", true, true), is(sameInstance(transformer4)));
+		assertThat(cache.get("test/select", new String(SQL), true, true), is(not(sameInstance(transformer1))));
+		assertThat(cache.getMissCount(), is(4L));
+
+		// SQL名を指定しない場合はSQL文字列をキーとする
+		ContextTransformer transformer5 = cache.get(null, SQL, true, true);
+		assertThat(cache.get(null, SQL + " order by id", true, true), is(not(sameInstance(transformer5))));
+		assertThat(cache.get(null, SQL, true, true), is(sameInstance(transformer5)));
+		assertThat(cache.size(), is(4));
+	}
+
+	@Test
+	public void testInvalidate() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache(10);
+
+		ContextTransformer transformer1 = cache.get("test/select", SQL, true, true);
+		cache.get(null, SQL, true, true);
+		assertThat(cache.size(), is(2));
+
+		cache.invalidate("test/select");
+		assertThat(cache.size(), is(1));
+		assertThat(cache.get("test/select", SQL, true, true), is(not(sameInstance(transformer1))));
+
+		cache.clear();
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test
+	public void testCacheSize() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache(2);
+
+		ContextTransformer transformer1 = cache.get("test/select1", SQL, true, true);
+		cache.get("test/select2", SQL, true, true);
+		// 最近参照された解析結果は残る
+		cache.get("test/select1", SQL, true, true);
+		cache.get("test/select3", SQL, true, true);
+		assertThat(cache.size(), is(2));
+		assertThat(cache.get("test/select1", SQL, true, true), is(sameInstance(transformer1)));
+	}
+
+	@Test
+	public void testNoCache() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache(0);
+
+		ContextTransformer transformer1 = cache.get("test/select", SQL, true, true);
+		ContextTransformer transformer2 = cache.get("test/select", SQL, true, true);
+		assertThat(transformer2, is(not(sameInstance(transformer1))));
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getHitCount(), is(0L));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+
+	@Test
+	public void testRenderedSqlCacheSize() throws Exception {
+		ContextTransformerCache cache = new ContextTransformerCache(10, 5);
+		assertThat(cache.getRenderedSqlCacheSize(), is(5));
+		assertThat(cache.get("test/select", SQL, true, true).isRenderedSqlCacheEnabled(), is(true));
+
+		cache = new ContextTransformerCache(10);
+		assertThat(cache.get("test/select", SQL, true, true).isRenderedSqlCacheEnabled(), is(false));
+
+		// 解析結果をキャッシュしない場合は変換結果も保持しない
+		cache = new ContextTransformerCache(0, 5);
+		assertThat(cache.getRenderedSqlCacheSize(), is(0));
+		assertThat(cache.get("test/select", SQL, true, true).isRenderedSqlCacheEnabled(), is(false));
+	}
+}
@@ -0,0 +1,203 @@
+package jp.co.future.uroborosql.parser;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
+import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
+import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
+import jp.co.future.uroborosql.parameter.Parameter;
+
+public class ContextTransformerTest {
+	private static final String SQL = "select * from test where" + System.lineSeparator()
+			+ "/*IF id != null*/ and id = /*id*/1 /*END*/" + System.lineSeparator()
+			+ "/*IF name != null*/ and name = /*name*/'' /*ELSE*/ and name is null /*END*/" + System.lineSeparator()
+			+ "/*BEGIN*/ and (/*IF flag*/ flag = 1 /*END*/) /*END*/" + System.lineSeparator()
+			+ "/*IF ids != null*/ and id in /*ids*/(1, 2) /*END*/" + System.lineSeparator()
+			+ "order by /*$order*/id";
+
+	/**
+	 * 必須のメソッドのみ実装したTransformコンテキスト
+	 */
+	private static class SimpleTransformContext implements TransformContext {
+		private final Map<String, Parameter> params;
+		private final StringBuilder sql = new StringBuilder();
+		private final List<String> bindNames = new ArrayList<>();
+		private final List<Object> bindVariables = new ArrayList<>();
+		private boolean enabled = true;
+
+		SimpleTransformContext(final Map<String, Parameter> params) {
+			this.params = params;
+		}
+
+		@Override
+		public TransformContext copyTransformContext() {
+			return new SimpleTransformContext(params);
+		}
+
+		@Override
+		public Parameter getParam(final String paramName) {
+			return params.get(paramName);
+		}
+
+		@Override
+		public <V> TransformContext param(final String paramName, final V value) {
+			params.put(paramName, new Parameter(paramName, value));
+			return this;
+		}
+
+		@Override
+		public String getExecutableSql() {
+			return sql.toString();
+		}
+
+		@Override
+		public TransformContext addSqlPart(final String sqlPart) {
+			sql.append(sqlPart);
+			return this;
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		@Override
+		public void setEnabled(final boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Override
+		public TransformContext addBindName(final String bindName) {
+			bindNames.add(bindName);
+			return this;
+		}
+
+		@Override
+		public TransformContext addBindNames(final List<String> bindNames) {
+			this.bindNames.addAll(bindNames);
+			return this;
+		}
+
+		@Override
+		public List<String> getBindNames() {
+			return bindNames;
+		}
+
+		@Override
+		public TransformContext addBindVariable(final Object bindValiable) {
+			bindVariables.add(bindValiable);
+			return this;
+		}
+
+		@Override
+		public TransformContext addBindVariables(final Object[] bindValiables) {
+			bindVariables.addAll(Arrays.asList(bindValiables));
+			return this;
+		}
+
+		@Override
+		public Object[] getBindVariables() {
+			return bindVariables.toArray();
+		}
+	}
+
+	private SqlContextFactory sqlContextFactory;
+
+	@Before
+	public void setUp() throws Exception {
+		sqlContextFactory = new SqlContextFactoryImpl();
+		((SqlContextFactoryImpl) sqlContextFactory).setSqlFilterManager(new SqlFilterManagerImpl());
+		sqlContextFactory.initialize();
+	}
+
+	private SqlContext transform(final ContextTransformer transformer, final Object id, final Object name,
+			final boolean flag, final Object ids, final String order) {
+		SqlContext ctx = sqlContextFactory.createSqlContext();
+		ctx.param("id", id).param("name", name).param("flag", flag).param("ids", ids).param("order", order);
+		transformer.transform(ctx);
+		return ctx;
+	}
+
+	private void assertSameResult(final ContextTransformer transformer, final Object id, final Object name,
+			final boolean flag, final Object ids, final String order) {
+		ContextTransformer expectedTransformer = new SqlParserImpl(SQL).parse();
+		SqlContext expected = transform(expectedTransformer, id, name, flag, ids, order);
+		SqlContext actual = transform(transformer, id, name, flag, ids, order);
+		assertThat(actual.getExecutableSql(), is(expected.getExecutableSql()));
+		assertThat(actual.getBindNames(), is(expected.getBindNames()));
+		assertThat(actual.getBindVariables(), is(expected.getBindVariables()));
+	}
+
+	@Test
+	public void testTransformWithRenderedSqlCache() throws Exception {
+		ContextTransformer transformer = new ContextTransformer(new SqlParserImpl(SQL).parse().getRoot(), 10);
+		assertThat(transformer.isRenderedSqlCacheEnabled(), is(true));
+
+		assertSameResult(transformer, 1, "abc", true, null, "id");
+		assertThat(transformer.getRenderedSqlMissCount(), is(1L));
+		assertThat(transformer.getRenderedSqlHitCount(), is(0L));
+
+		// 同じ変換経路の場合はバインド変数の値のみ変わる
+		assertSameResult(transformer, 2, "xyz", true, null, "id");
+		assertThat(transformer.getRenderedSqlMissCount(), is(1L));
+		assertThat(transformer.getRenderedSqlHitCount(), is(1L));
+
+		// 分岐の評価結果が異なる場合は別の変換経路となる
+		assertSameResult(transformer, null, null, false, null, "id");
+		assertSameResult(transformer, 3, null, false, null, "id");
+		assertThat(transformer.getRenderedSqlMissCount(), is(3L));
+		assertSameResult(transformer, 4, null, false, null, "id");
+		assertThat(transformer.getRenderedSqlHitCount(), is(2L));
+
+		// IN句の要素数が異なる場合は別の変換経路となる
+		assertSameResult(transformer, 1, "abc", true, Arrays.asList(1, 2), "id");
+		assertSameResult(transformer, 1, "abc", true, Arrays.asList(1, 2, 3), "id");
+		assertThat(transformer.getRenderedSqlMissCount(), is(5L));
+		assertSameResult(transformer, 1, "abc", true, Arrays.asList(4, 5, 6), "id");
+		assertThat(transformer.getRenderedSqlHitCount(), is(3L));
+
+		// 埋め込み文字の値が異なる場合は別の変換経路となる
+		assertSameResult(transformer, 1, "abc", true, null, "name");
+		assertThat(transformer.getRenderedSqlMissCount(), is(6L));
+	}
+
+	@Test
+	public void testTransformWithRenderedSqlCacheCustomContext() throws Exception {
+		ContextTransformer transformer = new ContextTransformer(
+				new SqlParserImpl("select * from test where id = /*id*/1").parse().getRoot(), 10);
+		for (int id = 1; id <= 2; id++) {
+			Map<String, Parameter> params = new HashMap<>();
+			params.put("id", new Parameter("id", id));
+			SimpleTransformContext ctx = new SimpleTransformContext(params);
+			transformer.transform(ctx);
+			// setExecutableSqlを実装していない場合も保持した変換結果を利用できる
+			assertThat(ctx.getExecutableSql(), is("select * from test where id = ?/*id*/"));
+			assertThat(ctx.getBindNames(), is(Arrays.asList("id")));
+			assertThat(ctx.getBindVariables(), is(new Object[] { id }));
+		}
+		assertThat(transformer.getRenderedSqlMissCount(), is(1L));
+		assertThat(transformer.getRenderedSqlHitCount(), is(1L));
+	}
+
+	@Test
+	public void testTransformWithoutRenderedSqlCache() throws Exception {
+		ContextTransformer transformer = new SqlParserImpl(SQL).parse();
+		assertThat(transformer.isRenderedSqlCacheEnabled(), is(false));
+
+		assertSameResult(transformer, 1, "abc", true, null, "id");
+		assertSameResult(transformer, 1, "abc", true, null, "id");
+		assertThat(transformer.getRenderedSqlMissCount(), is(0L));
+		assertThat(transformer.getRenderedSqlHitCount(), is(0L));
+	}
+}
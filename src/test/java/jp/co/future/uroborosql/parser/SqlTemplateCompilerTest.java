@@ -0,0 +1,283 @@
+package jp.co.future.uroborosql.parser;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.context.SqlContext;
+import jp.co.future.uroborosql.context.SqlContextFactory;
+import jp.co.future.uroborosql.context.SqlContextFactoryImpl;
+import jp.co.future.uroborosql.dialect.H2Dialect;
+import jp.co.future.uroborosql.filter.SqlFilterManagerImpl;
+import jp.co.future.uroborosql.node.ExpressionNode;
+import jp.co.future.uroborosql.node.IfNode;
+import jp.co.future.uroborosql.node.Node;
+import jp.co.future.uroborosql.node.SqlNode;
+import jp.co.future.uroborosql.store.NioSqlManagerImpl;
+import jp.co.future.uroborosql.store.SqlLoaderImpl;
+import jp.co.future.uroborosql.store.SqlManagerImpl;
+
+public class SqlTemplateCompilerTest {
+	private static final Path SQL_DIR = Paths.get("src/test/resources/sql");
+
+	private static Path outputDir;
+
+	private static URLClassLoader classLoader;
+
+	private static Map<String, String> classNames;
+
+	@BeforeClass
+	public static void setUpClass() throws Exception {
+		Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+
+		outputDir = Files.createTempDirectory("uroborosql-compiled-sql");
+		classNames = new SqlTemplateCompiler(SQL_DIR, outputDir.resolve("java"), outputDir.resolve("classes"),
+				"test.compiled.SqlTemplateIndex", StandardCharsets.UTF_8).compile();
+		classLoader = compileSources(outputDir.resolve("java"), outputDir.resolve("classes"));
+	}
+
+	private static URLClassLoader compileSources(final Path javaDir, final Path resourceDir) throws Exception {
+		JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+		List<String> sources;
+		try (Stream<Path> paths = Files.walk(javaDir)) {
+			sources = paths.filter(p -> p.toString().endsWith(".java")).map(Path::toString)
+					.collect(Collectors.toList());
+		}
+		String classpath = Paths.get(CompiledSqlTemplate.class.getProtectionDomain().getCodeSource().getLocation()
+				.toURI()).toString();
+		sources.add(0, "-encoding");
+		sources.add(1, "UTF-8");
+		sources.add(2, "-classpath");
+		sources.add(3, classpath);
+		sources.add(4, "-source");
+		sources.add(5, "1.8");
+		sources.add(6, "-target");
+		sources.add(7, "1.8");
+		sources.add(8, "-d");
+		sources.add(9, resourceDir.toString());
+		assertThat(javac.run(null, null, null, sources.toArray(new String[sources.size()])), is(0));
+
+		return new URLClassLoader(new URL[] { resourceDir.toUri().toURL() },
+				SqlTemplateCompilerTest.class.getClassLoader());
+	}
+
+	/**
+	 * SQLファイルが存在しないSQLテンプレートだけをコンパイルする
+	 */
+	private static URLClassLoader compileOnlyTemplates() throws Exception {
+		Path sqlDir = outputDir.resolve("compiled_only_sql");
+		Files.createDirectories(sqlDir.resolve("compiled_only"));
+		Files.write(sqlDir.resolve("compiled_only/select_one.sql"),
+				"select /* _SQL_ID_ */ 1 as id from dual where 1 = /*id*/0".getBytes(StandardCharsets.UTF_8));
+		new SqlTemplateCompiler(sqlDir, outputDir.resolve("compiled_only_java"),
+				outputDir.resolve("compiled_only_classes"), "test.compiled.CompiledOnlyIndex",
+				StandardCharsets.UTF_8).compile();
+		return compileSources(outputDir.resolve("compiled_only_java"), outputDir.resolve("compiled_only_classes"));
+	}
+
+	@AfterClass
+	public static void tearDownClass() throws Exception {
+		if (classLoader != null) {
+			classLoader.close();
+		}
+		if (outputDir != null) {
+			try (Stream<Path> paths = Files.walk(outputDir)) {
+				paths.sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+			}
+		}
+	}
+
+	private void assertSameNode(final String message, final Node expected, final Node actual,
+			final boolean comparePosition) {
+		assertThat(message, actual.getClass(), is((Object) expected.getClass()));
+		if (comparePosition) {
+			assertThat(message, actual.getPosition(), is(expected.getPosition()));
+			assertThat(message, actual.getLength(), is(expected.getLength()));
+		}
+		if (expected instanceof SqlNode) {
+			assertThat(message, ((SqlNode) actual).getSql(), is(((SqlNode) expected).getSql()));
+		}
+		if (expected instanceof ExpressionNode) {
+			assertThat(message, ((ExpressionNode) actual).getExpression(),
+					is(((ExpressionNode) expected).getExpression()));
+			assertThat(message, ((ExpressionNode) actual).getTokenValue(),
+					is(((ExpressionNode) expected).getTokenValue()));
+		}
+		if (expected instanceof IfNode) {
+			IfNode expectedIf = (IfNode) expected;
+			IfNode actualIf = (IfNode) actual;
+			assertThat(message, actualIf.getExpression(), is(expectedIf.getExpression()));
+			assertThat(message, actualIf.getElseIfNode() == null, is(expectedIf.getElseIfNode() == null));
+			if (expectedIf.getElseIfNode() != null) {
+				assertSameNode(message, expectedIf.getElseIfNode(), actualIf.getElseIfNode(), comparePosition);
+			}
+			assertThat(message, actualIf.getElseNode() == null, is(expectedIf.getElseNode() == null));
+			if (expectedIf.getElseNode() != null) {
+				assertSameNode(message, expectedIf.getElseNode(), actualIf.getElseNode(), comparePosition);
+			}
+		}
+		assertThat(message, actual.getChildSize(), is(expected.getChildSize()));
+		for (int i = 0; i < expected.getChildSize(); i++) {
+			assertSameNode(message, expected.getChild(i), actual.getChild(i), comparePosition);
+		}
+	}
+
+	@Test
+	public void testCompile() throws Exception {
+		assertThat(classNames.containsKey("example/select_product"), is(true));
+
+		CompiledSqlTemplates templates = CompiledSqlTemplates.load(classLoader);
+		assertThat(templates.getSqlNames(), is(classNames.keySet()));
+
+		SqlLoaderImpl sqlLoader = new SqlLoaderImpl();
+		sqlLoader.setSqlEncoding("UTF-8");
+		Map<String, String> loadedSqls = sqlLoader.load();
+		// 位置情報は改行文字が"\n"の場合のみ一致する
+		boolean comparePosition = "\n".equals(System.lineSeparator());
+		for (String sqlName : classNames.keySet()) {
+			CompiledSqlTemplate template = templates.getTemplate(sqlName);
+			assertThat(template.getSqlName(), is(sqlName));
+			assertThat(sqlName, template.getSql(), is(loadedSqls.get(sqlName)));
+
+			for (boolean removeTerminator : new boolean[] { true, false }) {
+				for (boolean outputBindComment : new boolean[] { true, false }) {
+					Node expected = new SqlParserImpl(template.getSql(), removeTerminator, outputBindComment).parse()
+							.getRoot();
+					Node actual = template.createContextTransformer(removeTerminator, outputBindComment).getRoot();
+					assertSameNode(sqlName, expected, actual, comparePosition);
+				}
+			}
+		}
+		assertThat(templates.getTemplate("example.select_product"), is(templates.getTemplate("example/select_product")));
+		assertThat(templates.getTemplate("example/not_exists"), is(nullValue()));
+	}
+
+	@Test
+	public void testContextTransformerCache() throws Exception {
+		SqlContextFactory sqlContextFactory = new SqlContextFactoryImpl();
+		((SqlContextFactoryImpl) sqlContextFactory).setSqlFilterManager(new SqlFilterManagerImpl());
+		sqlContextFactory.initialize();
+
+		ContextTransformerCache cache = new ContextTransformerCache(10);
+		cache.setCompiledSqlTemplates(CompiledSqlTemplates.load(classLoader));
+		CompiledSqlTemplate template = cache.getCompiledSqlTemplates().getTemplate("example/select_product");
+
+		SqlContext expected = sqlContextFactory.createSqlContext();
+		expected.param("product_id", 1);
+		new SqlParserImpl(template.getSql(), true, true).parse().transform(expected);
+
+		SqlContext actual = sqlContextFactory.createSqlContext();
+		actual.param("product_id", 1);
+		ContextTransformer transformer = cache.get("example/select_product", template.getSql(), true, true);
+		transformer.transform(actual);
+		assertThat(actual.getExecutableSql(), is(expected.getExecutableSql()));
+		assertThat(actual.getBindNames(), is(expected.getBindNames()));
+
+		// SQLがコンパイル元と異なる場合はSQLを解析する
+		ContextTransformer parsed = cache.get("example/select_product", "select 1", true, true);
+		assertThat(parsed.getRoot().getChildSize(), is(1));
+	}
+
+	@Test
+	public void testContextTransformerCacheWithSqlId() throws Exception {
+		SqlContextFactory sqlContextFactory = new SqlContextFactoryImpl();
+		((SqlContextFactoryImpl) sqlContextFactory).setSqlFilterManager(new SqlFilterManagerImpl());
+		sqlContextFactory.initialize();
+
+		AtomicInteger parseCount = new AtomicInteger();
+		ContextTransformerCache cache = new ContextTransformerCache(10) {
+			@Override
+			protected ContextTransformer parse(final String sql, final boolean removeTerminator,
+					final boolean outputBindComment) {
+				parseCount.incrementAndGet();
+				return super.parse(sql, removeTerminator, outputBindComment);
+			}
+		};
+		cache.setCompiledSqlTemplates(CompiledSqlTemplates.load(classLoader));
+		String sql = new SqlLoaderImpl().load("sqlid_test/select_product");
+		assertThat(sql.contains("_SQL_ID_"), is(true));
+
+		// SQL_IDを置換する前のSQLで取得するため、コンパイル済みSQLテンプレートを使用する
+		SqlContext ctx = sqlContextFactory.createSqlContext();
+		cache.get("sqlid_test/select_product", sql, true, true).transform(ctx);
+		assertThat(parseCount.get(), is(0));
+
+		SqlContext expected = sqlContextFactory.createSqlContext();
+		new SqlParserImpl(sql.replace("_SQL_ID_", "ID_1"), true, true).parse().transform(expected);
+		assertThat(ctx.getExecutableSql().replace("_SQL_ID_", "ID_1"), is(expected.getExecutableSql()));
+	}
+
+	@Test
+	public void testFileExtension() throws Exception {
+		Path sqlDir = outputDir.resolve("extension_sql");
+		Files.createDirectories(sqlDir.resolve("ext"));
+		Files.write(sqlDir.resolve("ext/select_lower.sql"), "select 1 from dual".getBytes(StandardCharsets.UTF_8));
+		Files.write(sqlDir.resolve("ext/select_upper.SQL"), "select 2 from dual".getBytes(StandardCharsets.UTF_8));
+
+		// 拡張子は大文字・小文字を区別し、SQL名から拡張子を取り除く
+		SqlTemplateCompiler compiler = new SqlTemplateCompiler(sqlDir, outputDir.resolve("extension_java"),
+				outputDir.resolve("extension_classes"), "test.compiled.ExtensionIndex", StandardCharsets.UTF_8);
+		assertThat(compiler.compile().keySet(), is(Collections.singleton("ext/select_lower")));
+
+		compiler.setFileExtension(".SQL");
+		assertThat(compiler.compile().keySet(), is(Collections.singleton("ext/select_upper")));
+	}
+
+	@Test
+	public void testCompiledOnlyTemplate() throws Exception {
+		try (URLClassLoader onlyClassLoader = compileOnlyTemplates()) {
+			CompiledSqlTemplates templates = CompiledSqlTemplates.load(onlyClassLoader);
+			assertThat(templates.contains("compiled_only.select_one"), is(true));
+			assertThat(templates.contains("compiled_only/not_exists"), is(false));
+
+			for (boolean cache : new boolean[] { true, false }) {
+				SqlManagerImpl sqlManager = new SqlManagerImpl(cache);
+				sqlManager.getContextTransformerCache().setCompiledSqlTemplates(templates);
+				sqlManager.initialize();
+				assertThat(sqlManager.existSql("compiled_only/select_one"), is(true));
+				assertThat(sqlManager.getSql("compiled_only/select_one"), is(templates.getSql("compiled_only/select_one")));
+				// SQLファイルが存在するSQLはSQLファイルの内容を使用する
+				assertThat(sqlManager.getSql("example/select_product"),
+						is(new SqlLoaderImpl().load("example/select_product")));
+				if (cache) {
+					assertThat(sqlManager.getSqlPathList().contains("compiled_only/select_one"), is(true));
+				}
+			}
+
+			NioSqlManagerImpl nioSqlManager = new NioSqlManagerImpl();
+			nioSqlManager.setDialect(new H2Dialect());
+			nioSqlManager.getContextTransformerCache().setCompiledSqlTemplates(templates);
+			nioSqlManager.initialize();
+			try {
+				assertThat(nioSqlManager.existSql("compiled_only/select_one"), is(true));
+				assertThat(nioSqlManager.getSql("compiled_only/select_one"),
+						is(templates.getSql("compiled_only/select_one")));
+				assertThat(nioSqlManager.getSqlPathList().contains("compiled_only/select_one"), is(true));
+				assertThat(nioSqlManager.existSql("compiled_only/not_exists"), is(false));
+			} finally {
+				nioSqlManager.shutdown();
+			}
+		}
+	}
+}
@@ -171,6 +171,8 @@ public class NioSqlManagerTest {
 			Thread.sleep(WAIT_TIME);
 
 			assertThat(manager.existSql(sqlName), is(true));
+			manager.getContextTransformerCache().get(sqlName, manager.getSql(sqlName), true, true);
+			assertThat(manager.getContextTransformerCache().size(), is(1));
 
 			Thread.sleep(WAIT_TIME);
 
@@ -179,6 +181,7 @@ public class NioSqlManagerTest {
 			Thread.sleep(WAIT_TIME);
 
 			assertThat(manager.existSql(sqlName), is(false));
+			assertThat(manager.getContextTransformerCache().size(), is(0));
 		} finally {
 			manager.shutdown();
 		}
@@ -0,0 +1,110 @@
+package jp.co.future.uroborosql.store;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.Test;
+
+import jp.co.future.uroborosql.dialect.H2Dialect;
+import jp.co.future.uroborosql.exception.EndCommentNotFoundRuntimeException;
+import jp.co.future.uroborosql.exception.UroborosqlRuntimeException;
+import jp.co.future.uroborosql.parser.ContextTransformerCache;
+
+public class SqlTemplatePreWarmerTest {
+
+	/**
+	 * 構文エラーのSQLを含むSQLローダー
+	 */
+	private static class InvalidSqlLoader extends SqlLoaderImpl {
+		@Override
+		public ConcurrentHashMap<String, String> load() {
+			ConcurrentHashMap<String, String> sqls = super.load();
+			sqls.put("invalid/no_end1", "select * from test where /*IF id != null*/ id = /*id*/1");
+			sqls.put("invalid/no_end2", "select * from test where /*BEGIN*/ and id = /*id*/1");
+			return sqls;
+		}
+	}
+
+	@Test
+	public void testWarmUp() throws Exception {
+		SqlManagerImpl sqlManager = new SqlManagerImpl();
+		sqlManager.setPreWarmer(new SqlTemplatePreWarmer(true, 4, true));
+		sqlManager.initialize();
+
+		int count = sqlManager.getSqlPathList().size();
+		assertThat(sqlManager.getContextTransformerCache().size(), is(count));
+		assertThat(sqlManager.getContextTransformerCache().getMissCount(), is((long) count));
+
+		// 事前解析と同じキーで取得した場合はキャッシュにヒットする
+		String sql = sqlManager.getSql("example/select_product");
+		sqlManager.getContextTransformerCache().get("example/select_product", sql, true, true);
+		assertThat(sqlManager.getContextTransformerCache().getHitCount(), is(1L));
+	}
+
+	@Test
+	public void testWarmUpNioSqlManager() throws Exception {
+		NioSqlManagerImpl sqlManager = new NioSqlManagerImpl();
+		sqlManager.setDialect(new H2Dialect());
+		sqlManager.setPreWarmer(new SqlTemplatePreWarmer(true, 2, true));
+		sqlManager.initialize();
+		try {
+			assertThat(sqlManager.getContextTransformerCache().size(), is(sqlManager.getSqlPathList().size()));
+		} finally {
+			sqlManager.shutdown();
+		}
+	}
+
+	@Test
+	public void testWarmUpDisabled() throws Exception {
+		SqlManagerImpl sqlManager = new SqlManagerImpl();
+		sqlManager.setPreWarmer(new SqlTemplatePreWarmer(false, 4, true));
+		sqlManager.initialize();
+		assertThat(sqlManager.getContextTransformerCache().size(), is(0));
+	}
+
+	@Test
+	public void testWarmUpWithoutCache() throws Exception {
+		SqlManagerImpl sqlManager = new SqlManagerImpl() {
+			@Override
+			public ContextTransformerCache getContextTransformerCache() {
+				return null;
+			}
+		};
+		sqlManager.initialize();
+		assertThat(new SqlTemplatePreWarmer(true, 4, true).warmUp(sqlManager).isEmpty(), is(true));
+	}
+
+	@Test
+	public void testWarmUpWithErrors() throws Exception {
+		SqlManagerImpl sqlManager = new SqlManagerImpl(new InvalidSqlLoader());
+		sqlManager.setPreWarmer(new SqlTemplatePreWarmer(true, 4, false));
+		sqlManager.initialize();
+
+		Map<String, RuntimeException> errors = new SqlTemplatePreWarmer(true, 4, false).warmUp(sqlManager);
+		assertThat(errors.keySet().toString(), is("[invalid/no_end1, invalid/no_end2]"));
+		assertThat(errors.get("invalid/no_end1"), is(instanceOf(EndCommentNotFoundRuntimeException.class)));
+		assertThat(sqlManager.getContextTransformerCache().size(), is(sqlManager.getSqlPathList().size() - 2));
+	}
+
+	@Test
+	public void testWarmUpFailFast() throws Exception {
+		SqlManagerImpl sqlManager = new SqlManagerImpl(new InvalidSqlLoader());
+		sqlManager.setPreWarmer(new SqlTemplatePreWarmer(true, 1, true));
+		try {
+			sqlManager.initialize();
+			fail();
+		} catch (UroborosqlRuntimeException ex) {
+			assertThat(ex.getMessage(), containsString("invalid/no_end"));
+			assertThat(ex.getSuppressed().length > 0, is(true));
+		}
+	}
+
+	@Test
+	public void testParallelism() throws Exception {
+		assertThat(new SqlTemplatePreWarmer(true, 0, false).getParallelism(), is(1));
+		assertThat(new SqlTemplatePreWarmer().isEnabled(), is(false));
+	}
+}
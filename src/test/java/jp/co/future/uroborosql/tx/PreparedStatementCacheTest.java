@@ -0,0 +1,197 @@
+package jp.co.future.uroborosql.tx;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jp.co.future.uroborosql.SqlAgent;
+import jp.co.future.uroborosql.UroboroSQL;
+import jp.co.future.uroborosql.config.SqlConfig;
+
+public class PreparedStatementCacheTest {
+	private static final String URL = "jdbc:h2:mem:PreparedStatementCacheTest;DB_CLOSE_DELAY=-1";
+
+	private SqlConfig config;
+
+	private StatementCacheStatistics statistics;
+
+	@Before
+	public void setUp() {
+		config = UroboroSQL.builder(URL, "sa", null).build();
+		config.getSqlAgentFactory().setStatementCacheSize(2);
+		statistics = config.getSqlAgentFactory().getStatementCacheStatistics();
+		try (SqlAgent agent = config.agent()) {
+			agent.updateWith("create table if not exists emp ( id integer, name VARCHAR(30), PRIMARY KEY (id) )")
+					.count();
+			agent.updateWith("delete from emp").count();
+			agent.commit();
+		}
+		statistics.reset();
+	}
+
+	@After
+	public void tearDown() {
+		statistics.reset();
+	}
+
+	@Test
+	public void testReuseInTransaction() {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				for (int i = 1; i <= 3; i++) {
+					agent.updateWith("insert into emp (id, name) values (/*id*/0, /*name*/'')")
+							.param("id", i).param("name", "name" + i).count();
+				}
+				for (int i = 1; i <= 3; i++) {
+					Map<String, Object> row = agent.queryWith("select * from emp where id = /*id*/0")
+							.param("id", i).first();
+					assertThat(row.get("NAME"), is("name" + i));
+				}
+			});
+		}
+		assertThat(statistics.getMissCount(), is(2L));
+		assertThat(statistics.getHitCount(), is(4L));
+		assertThat(statistics.getHitRate(), is(4.0 / 6.0));
+		assertThat(statistics.getEvictionCount(), is(0L));
+	}
+
+	@Test
+	public void testEviction() {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				for (int i = 0; i < 2; i++) {
+					agent.queryWith("select 1 from dual").collect();
+					agent.queryWith("select 2 from dual").collect();
+					agent.queryWith("select 3 from dual").collect();
+				}
+			});
+		}
+		assertThat(statistics.getHitCount(), is(0L));
+		assertThat(statistics.getMissCount(), is(6L));
+		assertThat(statistics.getEvictionCount(), is(4L));
+	}
+
+	@Test
+	public void testNestedQuery() {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				agent.updateWith("insert into emp (id, name) values (1, 'name1')").count();
+				agent.updateWith("insert into emp (id, name) values (2, 'name2')").count();
+				try (Stream<Map<String, Object>> outer = agent.queryWith("select * from emp order by id").stream()) {
+					outer.forEach(row -> {
+						// 貸し出し中のステートメントは再利用しない
+						List<Map<String, Object>> inner = agent.queryWith("select * from emp order by id").collect();
+						assertThat(inner.size(), is(2));
+					});
+				}
+			});
+		}
+		assertThat(statistics.getMissCount(), is(4L));
+		assertThat(statistics.getHitCount(), is(1L));
+	}
+
+	@Test
+	public void testRollbackToSavepoint() {
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				agent.updateWith("insert into emp (id, name) values (1, 'name1')").count();
+				agent.setSavepoint("sp");
+				agent.updateWith("insert into emp (id, name) values (2, 'name2')").count();
+				assertThat(agent.queryWith("select * from emp").collect().size(), is(2));
+				agent.rollback("sp");
+				assertThat(agent.queryWith("select * from emp").collect().size(), is(1));
+			});
+		}
+		assertThat(statistics.getHitCount(), is(0L));
+	}
+
+	@Test
+	public void testCloseOnCommit() throws Exception {
+		try (Connection conn = DriverManager.getConnection(URL, "sa", null)) {
+			PreparedStatementCache cache = new PreparedStatementCache(2, statistics);
+			PreparedStatementCache.Key key = PreparedStatementCache.Key.ofQuery("select 1 from dual",
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+			PreparedStatement stmt1 = cache.get(conn, key);
+			PreparedStatement original = stmt1.unwrap(PreparedStatement.class);
+			stmt1.closeOnCompletion();
+			try (ResultSet rs = stmt1.executeQuery()) {
+				assertThat(rs.next(), is(true));
+			}
+			stmt1.close();
+			assertThat(stmt1.isClosed(), is(true));
+			assertThat(original.isClosed(), is(false));
+			assertThat(cache.size(), is(1));
+
+			PreparedStatement stmt2 = cache.get(conn, key);
+			assertThat(stmt2.unwrap(PreparedStatement.class), is(sameInstance(original)));
+			assertThat(cache.size(), is(0));
+
+			// 貸し出し中にクリアされた場合は返却時にクローズする
+			cache.clear();
+			stmt2.close();
+			assertThat(original.isClosed(), is(true));
+			assertThat(cache.size(), is(0));
+
+			PreparedStatement stmt3 = cache.get(conn, key);
+			stmt3.close();
+			assertThat(cache.size(), is(1));
+			cache.clear();
+			assertThat(stmt3.unwrap(PreparedStatement.class).isClosed(), is(true));
+			assertThat(cache.size(), is(0));
+		}
+	}
+
+	@Test
+	public void testRestoreSettings() throws Exception {
+		try (Connection conn = DriverManager.getConnection(URL, "sa", null)) {
+			PreparedStatementCache cache = new PreparedStatementCache(2, statistics);
+			PreparedStatementCache.Key key = PreparedStatementCache.Key.ofQuery("select 1 from dual",
+					ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+
+			PreparedStatement stmt1 = cache.get(conn, key);
+			int fetchSize = stmt1.getFetchSize();
+			int queryTimeout = stmt1.getQueryTimeout();
+			int maxRows = stmt1.getMaxRows();
+			stmt1.setMaxRows(maxRows + 1000);
+			stmt1.setQueryTimeout(queryTimeout + 10);
+			stmt1.setFetchSize(fetchSize + 10);
+			stmt1.setFetchSize(fetchSize + 20);
+			stmt1.close();
+
+			// 貸し出し中に変更した設定は返却時に変更前の値に戻す
+			PreparedStatement stmt2 = cache.get(conn, key);
+			assertThat(stmt2.unwrap(PreparedStatement.class), is(sameInstance(stmt1.unwrap(PreparedStatement.class))));
+			assertThat(stmt2.getFetchSize(), is(fetchSize));
+			assertThat(stmt2.getQueryTimeout(), is(queryTimeout));
+			assertThat(stmt2.getMaxRows(), is(maxRows));
+			stmt2.close();
+			cache.clear();
+		}
+	}
+
+	@Test
+	public void testDisabled() {
+		config.getSqlAgentFactory().setStatementCacheSize(0);
+		try (SqlAgent agent = config.agent()) {
+			agent.required(() -> {
+				agent.queryWith("select 1 from dual").collect();
+				agent.queryWith("select 1 from dual").collect();
+			});
+		}
+		assertThat(statistics.getHitCount(), is(0L));
+		assertThat(statistics.getMissCount(), is(0L));
+		assertThat(statistics.getHitRate(), is(0.0));
+	}
+}
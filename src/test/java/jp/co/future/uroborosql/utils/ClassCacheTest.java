@@ -0,0 +1,46 @@
+package jp.co.future.uroborosql.utils;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ClassCacheTest {
+
+	private final AtomicInteger count = new AtomicInteger();
+
+	private final ClassCache<Object> cache = new ClassCache<Object>() {
+		@Override
+		protected Object computeValue(final Class<?> type) {
+			count.incrementAndGet();
+			return new Object();
+		}
+	};
+
+	@Test
+	public void testGet() throws Exception {
+		// 同じクラスローダのクラス
+		Object value = cache.get(ClassCacheTest.class);
+		assertThat(cache.get(ClassCacheTest.class), is(sameInstance(value)));
+		// 祖先のクラスローダのクラス
+		Object jdkValue = cache.get(String.class);
+		assertThat(cache.get(String.class), is(sameInstance(jdkValue)));
+		assertThat(count.get(), is(2));
+	}
+
+	@Test
+	public void testGetUnrelatedLoader() throws Exception {
+		URL location = ClassCacheTest.class.getProtectionDomain().getCodeSource().getLocation();
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { location }, null)) {
+			Class<?> type = loader.loadClass(ClassCacheTest.class.getName());
+			assertThat(type, is(not(sameInstance(ClassCacheTest.class))));
+			// 関係のないクラスローダのクラスはキャッシュしない
+			assertThat(cache.get(type), is(not(sameInstance(cache.get(type)))));
+			assertThat(count.get(), is(2));
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package jp.co.future.uroborosql.utils;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class PropertyAccessorTest {
+
+	public static class Parent {
+		private final String parentName = "parent";
+		private static final String CONSTANT = "constant";
+	}
+
+	public static class Child extends Parent {
+		private int id = 1;
+		private String name = "child";
+
+		public String getDisplayName() {
+			return "[" + name + "]";
+		}
+
+		public boolean isEnabled() {
+			return true;
+		}
+
+		public Boolean isVisible() {
+			return Boolean.TRUE;
+		}
+
+		public Boolean getSelected() {
+			return Boolean.FALSE;
+		}
+	}
+
+	@Test
+	public void testOf() throws Exception {
+		Child child = new Child();
+		PropertyAccessor id = PropertyAccessor.of(Child.class, "id");
+		assertThat(id.getName(), is("id"));
+		assertThat(id.get(child), is((Object) 1));
+		assertThat(PropertyAccessor.of(Child.class, "name").get(child), is("child"));
+		assertThat(PropertyAccessor.of(Child.class, "displayName").get(child), is("[child]"));
+		assertThat(PropertyAccessor.of(Child.class, "id"), is(sameInstance(id)));
+	}
+
+	@Test
+	public void testOfBooleanGetter() throws Exception {
+		Child child = new Child();
+		// booleanはisから始まるメソッド、Booleanはgetから始まるメソッドを利用する
+		assertThat(PropertyAccessor.of(Child.class, "enabled").get(child), is((Object) true));
+		assertThat(PropertyAccessor.of(Child.class, "selected").get(child), is((Object) false));
+		assertThat(PropertyAccessor.of(Child.class, "visible"), is(nullValue()));
+	}
+
+	@Test
+	public void testOfNotAccessible() throws Exception {
+		assertThat(PropertyAccessor.of(Child.class, "unknown"), is(nullValue()));
+		assertThat(PropertyAccessor.of(Child.class, "unknown"), is(nullValue()));
+	}
+
+	@Test
+	public void testFieldsOf() throws Exception {
+		Child child = new Child();
+		List<PropertyAccessor> accessors = PropertyAccessor.fieldsOf(Child.class);
+		List<String> names = accessors.stream().map(PropertyAccessor::getName).collect(Collectors.toList());
+		assertThat(names, is(BeanAccessor.fields(Child.class).stream().map(f -> f.getName())
+				.collect(Collectors.toList())));
+		assertThat(names.contains("parentName"), is(true));
+		assertThat(names.contains("CONSTANT"), is(false));
+		assertThat(PropertyAccessor.fieldsOf(Child.class), is(sameInstance(accessors)));
+		for (PropertyAccessor accessor : accessors) {
+			if ("parentName".equals(accessor.getName())) {
+				assertThat(accessor.get(child), is("parent"));
+			}
+		}
+	}
+}